@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+#
+# Sobe várias réplicas na mesma máquina compartilhando o cache de traduções.
+#
+# Uso: scripts/cache-cluster.sh [réplicas]
+#
+# Pré-requisito: ./mvnw -DskipTests package
+#
+# As réplicas usam o backend echo e as portas 18081, 18082, ...; Ctrl+C encerra todas.
+# Para conferir o cache, traduza os mesmos termos em réplicas diferentes e compare
+# translate.cache.lookups em /actuator/metrics (com management.endpoints.web.exposure.include=health,metrics).
+set -euo pipefail
+
+REPLICAS="${1:-3}"
+BASE_PORT="${BASE_PORT:-18080}"
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="${ROOT_DIR}/target/translate-0.0.1-SNAPSHOT.jar"
+
+if [[ ! -f "${JAR}" ]]; then
+    echo "Jar não encontrado em ${JAR}. Execute ./mvnw -DskipTests package" >&2
+    exit 1
+fi
+
+PEERS=""
+for ((i = 1; i <= REPLICAS; i++)); do
+    PEERS+="${PEERS:+,}http://127.0.0.1:$((BASE_PORT + i))"
+done
+
+PIDS=()
+trap 'kill "${PIDS[@]}" 2>/dev/null || true' EXIT INT TERM
+
+for ((i = 1; i <= REPLICAS; i++)); do
+    PORT=$((BASE_PORT + i))
+    java -jar "${JAR}" \
+        --server.port="${PORT}" \
+        --translate.grpc.enabled=false \
+        --aws.bedrock.backend=echo \
+        --translate.cache.peers="${PEERS}" \
+        --management.endpoints.web.exposure.include=health,metrics \
+        > "${ROOT_DIR}/target/cache-replica-${PORT}.log" 2>&1 &
+    PIDS+=("$!")
+    echo "Réplica ${i}: http://127.0.0.1:${PORT} (log em target/cache-replica-${PORT}.log)"
+done
+
+wait
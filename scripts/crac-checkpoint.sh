@@ -0,0 +1,41 @@
+#!/usr/bin/env bash
+#
+# Gera um checkpoint CRaC da aplicação depois do aquecimento.
+#
+# Uso: scripts/crac-checkpoint.sh
+#
+# Requer um JDK com suporte a CRaC (por exemplo Azul Zulu CRaC) e ./mvnw -DskipTests package.
+# Antes do checkpoint o Spring para os beans Lifecycle: o Tomcat libera a porta e o
+# BedrockClientProvider fecha o cliente. No restore ambos são reiniciados, de modo que
+# nenhuma conexão TCP gravada na imagem é reutilizada.
+#
+# Restore: java -XX:CRaCRestoreFrom=target/startup/crac
+set -euo pipefail
+
+PORT="${PORT:-8080}"
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="${ROOT_DIR}/target/translate-0.0.1-SNAPSHOT.jar"
+CRAC_DIR="${ROOT_DIR}/target/startup/crac"
+PROBE_URL="http://localhost:${PORT}/actuator/health/readiness"
+
+if ! java -XX:CRaCCheckpointTo="${CRAC_DIR}-probe" -version > /dev/null 2>&1; then
+    echo "O JDK atual não suporta CRaC" >&2
+    exit 1
+fi
+
+rm -rf "${CRAC_DIR}"
+mkdir -p "${CRAC_DIR}"
+
+java -XX:CRaCCheckpointTo="${CRAC_DIR}" -jar "${JAR}" --server.port="${PORT}" > "${CRAC_DIR}.log" 2>&1 &
+PID=$!
+
+until curl -sf -o /dev/null "${PROBE_URL}"; do
+    sleep 0.1
+done
+
+# O readiness só responde 200 depois do aquecimento (WarmupRunner), então o checkpoint já sai aquecido
+
+jcmd "${PID}" JDK.checkpoint
+wait "${PID}" || true
+
+echo "Checkpoint gravado em ${CRAC_DIR}"
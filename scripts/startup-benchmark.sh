@@ -0,0 +1,90 @@
+#!/usr/bin/env bash
+#
+# Mede o tempo até a primeira resposta HTTP em cada modo de inicialização da JVM.
+#
+# Uso: scripts/startup-benchmark.sh [iterações]
+#
+# Pré-requisito: ./mvnw -Pjvm-aot -DskipTests package
+#
+# Modos medidos:
+#   jar      - java -jar sem otimizações
+#   cds      - jar extraído + arquivo AppCDS gerado no treino (spring.context.exit=onRefresh)
+#   cds-aot  - como cds, com o código AOT do Spring habilitado
+#   crac     - restore de um checkpoint CRaC (somente quando o JDK suporta CRaC e o checkpoint existe)
+set -euo pipefail
+
+ITERATIONS="${1:-5}"
+PORT="${PORT:-18080}"
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="${ROOT_DIR}/target/translate-0.0.1-SNAPSHOT.jar"
+WORK_DIR="${ROOT_DIR}/target/startup"
+APP_DIR="${WORK_DIR}/application"
+CRAC_DIR="${WORK_DIR}/crac"
+PROBE_URL="http://localhost:${PORT}/api-docs"
+
+if [[ ! -f "${JAR}" ]]; then
+    echo "Jar não encontrado em ${JAR}. Execute ./mvnw -Pjvm-aot -DskipTests package" >&2
+    exit 1
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+# Inicia o processo, espera a primeira resposta HTTP e imprime o tempo decorrido em ms.
+measure() {
+    local start pid elapsed
+    start=$(now_ms)
+    "$@" > "${WORK_DIR}/last-run.log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "${PROBE_URL}"; do
+        if ! kill -0 "${pid}" 2>/dev/null; then
+            echo "Processo encerrou antes de responder; veja ${WORK_DIR}/last-run.log" >&2
+            return 1
+        fi
+        sleep 0.02
+    done
+    elapsed=$(( $(now_ms) - start ))
+    kill "${pid}" && wait "${pid}" 2>/dev/null || true
+    echo "${elapsed}"
+}
+
+# Executa N medições e imprime a mediana.
+run_mode() {
+    local name="$1"
+    shift
+    local samples=()
+    for _ in $(seq "${ITERATIONS}"); do
+        samples+=("$(measure "$@")")
+    done
+    local median
+    median=$(printf '%s\n' "${samples[@]}" | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')
+    printf '%-8s mediana=%6s ms  amostras=%s\n' "${name}" "${median}" "${samples[*]}"
+}
+
+mkdir -p "${WORK_DIR}"
+rm -rf "${APP_DIR}"
+
+java -Djarmode=tools -jar "${JAR}" extract --destination "${APP_DIR}" > /dev/null
+(
+    cd "${APP_DIR}"
+    java -XX:ArchiveClassesAtExit=application.jsa -Dspring.context.exit=onRefresh \
+        -jar translate-0.0.1-SNAPSHOT.jar > "${WORK_DIR}/training.log" 2>&1
+    java -XX:ArchiveClassesAtExit=application-aot.jsa -Dspring.context.exit=onRefresh -Dspring.aot.enabled=true \
+        -jar translate-0.0.1-SNAPSHOT.jar > "${WORK_DIR}/training-aot.log" 2>&1
+)
+
+run_mode jar java -jar "${JAR}" --server.port="${PORT}"
+run_mode cds java -XX:SharedArchiveFile="${APP_DIR}/application.jsa" \
+    -jar "${APP_DIR}/translate-0.0.1-SNAPSHOT.jar" --server.port="${PORT}"
+run_mode cds-aot java -XX:SharedArchiveFile="${APP_DIR}/application-aot.jsa" -Dspring.aot.enabled=true \
+    -jar "${APP_DIR}/translate-0.0.1-SNAPSHOT.jar" --server.port="${PORT}"
+
+if [[ -d "${CRAC_DIR}" ]] && java -XX:CRaCCheckpointTo="${WORK_DIR}/crac-probe" -version > /dev/null 2>&1; then
+    # O restore reutiliza a porta gravada no checkpoint; veja scripts/crac-checkpoint.sh
+    PORT="${CRAC_PORT:-8080}"
+    PROBE_URL="http://localhost:${PORT}/api-docs"
+    run_mode crac java -XX:CRaCRestoreFrom="${CRAC_DIR}"
+else
+    echo "crac     ignorado (JDK sem CRaC ou checkpoint ausente em ${CRAC_DIR})"
+fi
@@ -0,0 +1,289 @@
+package sample_bedrock.translate.admission;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import sample_bedrock.translate.deadline.Deadline;
+import sample_bedrock.translate.exception.DeadlineExceededException;
+import sample_bedrock.translate.exception.OverloadedException;
+import sample_bedrock.translate.latency.LatencyContext;
+import sample_bedrock.translate.warmup.WarmupContext;
+
+/**
+ * Caps concurrent translations and queues the excess in a bounded, two-class queue. Requests are
+ * shed early instead of waiting for the client to give up:
+ * <ul>
+ *   <li>the queue is full (an interactive request evicts the newest waiting batch request first);</li>
+ *   <li>the expected wait, from recent service times, already exceeds {@code max-queue-time};</li>
+ *   <li>CoDel-style: while the queue has not drained for a whole {@code codel.interval}, a waiter
+ *       gives up after {@code codel.target} instead of {@code max-queue-time}.</li>
+ * </ul>
+ */
+@Component
+public class AdmissionController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionController.class);
+
+    private static final String METRIC_REJECTED = "translate.admission.rejected";
+    private static final String METRIC_QUEUE_TIME = "translate.admission.queue-time";
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    @Value("${translate.admission.enabled:false}")
+    private boolean enabled;
+
+    @Value("${translate.admission.max-concurrent:16}")
+    private int maxConcurrent;
+
+    @Value("${translate.admission.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${translate.admission.max-queue-time:2s}")
+    private Duration maxQueueTime;
+
+    @Value("${translate.admission.codel.target:100ms}")
+    private Duration codelTarget;
+
+    @Value("${translate.admission.codel.interval:1s}")
+    private Duration codelInterval;
+
+    @Value("${translate.admission.min-retry-after:1s}")
+    private Duration minRetryAfter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Waiter> interactive = new ArrayDeque<>();
+    private final Deque<Waiter> batch = new ArrayDeque<>();
+
+    private int inFlight;
+    private long lastEmptyNanos = System.nanoTime();
+    private double serviceTimeNanos;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("translate.admission.in-flight", this, controller -> controller.snapshot(() -> controller.inFlight))
+                .register(meterRegistry);
+        Gauge.builder("translate.admission.queued", this, controller -> controller.snapshot(controller.interactive::size))
+                .tag("priority", Priority.INTERACTIVE.tag())
+                .register(meterRegistry);
+        Gauge.builder("translate.admission.queued", this, controller -> controller.snapshot(controller.batch::size))
+                .tag("priority", Priority.BATCH.tag())
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Priority priority, Supplier<T> task) {
+        try (Permit permit = acquire(priority)) {
+            return task.get();
+        }
+    }
+
+    /**
+     * Blocks until a slot is free or the request is shed with {@link OverloadedException}.
+     * The returned permit must be closed when the work finishes.
+     */
+    public Permit acquire(Priority priority) {
+        if (!enabled || WarmupContext.isActive()) {
+            return Permit.NOOP;
+        }
+
+        long now = System.nanoTime();
+        Waiter waiter;
+        long timeoutNanos;
+        lock.lock();
+        try {
+            if (queued() == 0) {
+                lastEmptyNanos = now;
+                if (inFlight < maxConcurrent) {
+                    inFlight++;
+                    LatencyContext.queued(0);
+                    return new Permit(this, now);
+                }
+            }
+
+            long expectedWait = expectedWaitNanos(priority);
+            if (expectedWait > maxQueueTime.toNanos()) {
+                throw reject(priority, "latency", expectedWait);
+            }
+            if (queued() >= queueCapacity) {
+                Waiter victim = priority == Priority.INTERACTIVE ? batch.pollLast() : null;
+                if (victim == null) {
+                    throw reject(priority, "queue_full", expectedWait);
+                }
+                victim.state = WaiterState.EVICTED;
+                victim.condition.signal();
+            }
+
+            waiter = new Waiter(lock.newCondition());
+            queueOf(priority).addLast(waiter);
+            // Fila sem esvaziar há um intervalo inteiro: é fila permanente, não rajada
+            timeoutNanos = now - lastEmptyNanos > codelInterval.toNanos()
+                    ? codelTarget.toNanos()
+                    : maxQueueTime.toNanos();
+            // Não adianta esperar além do prazo do cliente
+            Deadline deadline = Deadline.current();
+            if (deadline != null && deadline.isBounded()) {
+                timeoutNanos = Math.min(timeoutNanos, deadline.remaining().toNanos());
+            }
+
+            long remaining = timeoutNanos;
+            while (waiter.state == WaiterState.WAITING && remaining > 0) {
+                try {
+                    remaining = waiter.condition.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+
+            long queueTime = System.nanoTime() - now;
+            Timer.builder(METRIC_QUEUE_TIME).tag("priority", priority.tag()).register(meterRegistry)
+                    .record(queueTime, TimeUnit.NANOSECONDS);
+            LatencyContext.queued(queueTime);
+            switch (waiter.state) {
+                case GRANTED -> {
+                    return new Permit(this, System.nanoTime());
+                }
+                case EVICTED -> throw reject(priority, "evicted", expectedWaitNanos(priority));
+                default -> {
+                    queueOf(priority).remove(waiter);
+                    markIfEmpty(System.nanoTime());
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new IllegalStateException("Espera por admissão interrompida");
+                    }
+                    if (deadline != null && deadline.isExpired()) {
+                        meterRegistry.counter(METRIC_REJECTED, "priority", priority.tag(), "reason", "deadline").increment();
+                        throw new DeadlineExceededException("Prazo da requisição esgotado na fila de admissão");
+                    }
+                    throw reject(priority, "queue_timeout", expectedWaitNanos(priority));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long serviceNanos) {
+        lock.lock();
+        try {
+            serviceTimeNanos = serviceTimeNanos == 0
+                    ? serviceNanos
+                    : serviceTimeNanos + LATENCY_SMOOTHING * (serviceNanos - serviceTimeNanos);
+
+            // O slot passa direto para o próximo da fila, interativos primeiro
+            Waiter next = interactive.pollFirst();
+            if (next == null) {
+                next = batch.pollFirst();
+            }
+            if (next != null) {
+                next.state = WaiterState.GRANTED;
+                next.condition.signal();
+            } else {
+                inFlight--;
+            }
+            markIfEmpty(System.nanoTime());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Time until a new request of this class would start: the requests ahead of it, drained
+     * {@code max-concurrent} at a time at the recent average service time.
+     */
+    private long expectedWaitNanos(Priority priority) {
+        int ahead = priority == Priority.INTERACTIVE ? interactive.size() : queued();
+        return (long) ((ahead + 1) * serviceTimeNanos / Math.max(1, maxConcurrent));
+    }
+
+    private OverloadedException reject(Priority priority, String reason, long expectedWaitNanos) {
+        meterRegistry.counter(METRIC_REJECTED, "priority", priority.tag(), "reason", reason).increment();
+        Duration retryAfter = Duration.ofNanos(expectedWaitNanos);
+        if (retryAfter.compareTo(minRetryAfter) < 0) {
+            retryAfter = minRetryAfter;
+        }
+        logger.warn("Requisição {} rejeitada pelo controle de admissão ({}): {} em execução, {} na fila",
+                   priority.tag(), reason, inFlight, queued());
+        return new OverloadedException("Serviço sobrecarregado, tente novamente mais tarde", retryAfter);
+    }
+
+    private void markIfEmpty(long now) {
+        if (queued() == 0) {
+            lastEmptyNanos = now;
+        }
+    }
+
+    private int queued() {
+        return interactive.size() + batch.size();
+    }
+
+    private Deque<Waiter> queueOf(Priority priority) {
+        return priority == Priority.INTERACTIVE ? interactive : batch;
+    }
+
+    private double snapshot(Supplier<Integer> value) {
+        lock.lock();
+        try {
+            return value.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private enum WaiterState {
+        WAITING,
+        GRANTED,
+        EVICTED
+    }
+
+    private static final class Waiter {
+
+        private final Condition condition;
+        private WaiterState state = WaiterState.WAITING;
+
+        private Waiter(Condition condition) {
+            this.condition = condition;
+        }
+    }
+
+    /**
+     * A granted slot; closing it hands the slot to the next waiter. Closing twice has no effect.
+     */
+    public static final class Permit implements AutoCloseable {
+
+        static final Permit NOOP = new Permit(null, 0);
+
+        private final AdmissionController controller;
+        private final long startNanos;
+        private boolean released;
+
+        private Permit(AdmissionController controller, long startNanos) {
+            this.controller = controller;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void close() {
+            if (controller == null || released) {
+                return;
+            }
+            released = true;
+            controller.release(System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package sample_bedrock.translate.admission;
+
+import java.util.Locale;
+
+/**
+ * Admission class chosen by the {@code X-Request-Priority} header. Interactive requests are always
+ * dequeued before batch requests and may take a full queue's slot from a waiting batch request.
+ */
+public enum Priority {
+    INTERACTIVE,
+    BATCH;
+
+    public static final String HEADER = "X-Request-Priority";
+
+    /**
+     * Unknown or missing values are treated as interactive, the behaviour clients had before priorities.
+     */
+    public static Priority fromHeader(String value) {
+        if (value != null && value.strip().toLowerCase(Locale.ROOT).equals("batch")) {
+            return BATCH;
+        }
+        return INTERACTIVE;
+    }
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,46 @@
+package sample_bedrock.translate.admission;
+
+/**
+ * Admission class of the current request for work admitted piece by piece instead of once per
+ * request (streaming, file and bundle-sync chunks). Requests that did not set it are interactive.
+ */
+public final class PriorityContext {
+
+    private static final ThreadLocal<Priority> CURRENT = new ThreadLocal<>();
+
+    private PriorityContext() {
+    }
+
+    public static Priority current() {
+        Priority priority = CURRENT.get();
+        return priority != null ? priority : Priority.INTERACTIVE;
+    }
+
+    public static Scope attach(Priority priority) {
+        Priority previous = CURRENT.get();
+        set(priority);
+        return new Scope(previous);
+    }
+
+    private static void set(Priority priority) {
+        if (priority == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(priority);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Priority previous;
+
+        private Scope(Priority previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            set(previous);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package sample_bedrock.translate.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Background revalidation for stale cache entries. Keys are queued (deduplicated, bounded) when a
+ * stale entry is served; every {@code interval} at most {@code batchSize} of them are re-translated,
+ * one model call per locale pair, so a model or prompt version bump spreads over time instead of
+ * hitting the model all at once.
+ */
+final class CacheRefresher {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheRefresher.class);
+
+    static final String METRIC_REFRESH = "translate.cache.refresh";
+
+    private final int batchSize;
+    private final int queueCapacity;
+    private final Duration interval;
+    private final MeterRegistry meterRegistry;
+    private final Target target;
+
+    // Ordem de chegada: as chaves mais antigas são revalidadas primeiro
+    private final LinkedHashMap<String, Task> pending = new LinkedHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    CacheRefresher(int batchSize, int queueCapacity, Duration interval, MeterRegistry meterRegistry, Target target) {
+        this.batchSize = Math.max(1, batchSize);
+        this.queueCapacity = queueCapacity;
+        this.interval = interval;
+        this.meterRegistry = meterRegistry;
+        this.target = target;
+    }
+
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("cache-refresh").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::refreshBatch, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    void enqueue(String key, String originLocale, String destinationLocale, String term) {
+        boolean queued;
+        synchronized (pending) {
+            if (pending.containsKey(key)) {
+                return;
+            }
+            queued = pending.size() < queueCapacity;
+            if (queued) {
+                pending.put(key, new Task(key, originLocale, destinationLocale, term));
+            }
+        }
+        meterRegistry.counter(METRIC_REFRESH, "result", queued ? "queued" : "dropped").increment();
+    }
+
+    /**
+     * Re-translates up to {@code batchSize} queued keys. A failed group is dropped: its keys are
+     * queued again the next time a stale entry is served.
+     */
+    void refreshBatch() {
+        Map<String, List<Task>> byPair = new LinkedHashMap<>();
+        synchronized (pending) {
+            Iterator<Task> tasks = pending.values().iterator();
+            for (int taken = 0; taken < batchSize && tasks.hasNext(); taken++) {
+                Task task = tasks.next();
+                tasks.remove();
+                byPair.computeIfAbsent(task.originLocale() + '\u0000' + task.destinationLocale(), pair -> new ArrayList<>())
+                        .add(task);
+            }
+        }
+
+        for (List<Task> group : byPair.values()) {
+            Task first = group.get(0);
+            List<String> terms = group.stream().map(Task::term).toList();
+            try {
+                List<String> translated = target.translate(first.originLocale(), first.destinationLocale(), terms);
+                if (translated.size() != terms.size()) {
+                    logger.warn("Revalidação de {} termos devolveu {} traduções; mantendo os valores atuais",
+                               terms.size(), translated.size());
+                    meterRegistry.counter(METRIC_REFRESH, "result", "failed").increment(terms.size());
+                    continue;
+                }
+                for (int index = 0; index < group.size(); index++) {
+                    target.store(group.get(index).key(), translated.get(index));
+                }
+                meterRegistry.counter(METRIC_REFRESH, "result", "refreshed").increment(terms.size());
+                logger.debug("{} traduções revalidadas de {} para {}", terms.size(),
+                            first.originLocale(), first.destinationLocale());
+            } catch (RuntimeException e) {
+                meterRegistry.counter(METRIC_REFRESH, "result", "failed").increment(terms.size());
+                logger.warn("Falha ao revalidar {} traduções de {} para {}: {}", terms.size(),
+                           first.originLocale(), first.destinationLocale(), e.getMessage());
+            }
+        }
+    }
+
+    int size() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * Where refreshed values come from and go to.
+     */
+    interface Target {
+
+        List<String> translate(String originLocale, String destinationLocale, List<String> terms);
+
+        void store(String key, String value);
+    }
+
+    private record Task(String key, String originLocale, String destinationLocale, String term) {
+    }
+}
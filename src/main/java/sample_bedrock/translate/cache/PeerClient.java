@@ -0,0 +1,90 @@
+package sample_bedrock.translate.cache;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import sample_bedrock.translate.deadline.Deadline;
+import sample_bedrock.translate.deadline.DeadlineInterceptor;
+import sample_bedrock.translate.dto.PeerTranslateRequest;
+import sample_bedrock.translate.dto.TranslateResponse;
+import sample_bedrock.translate.tenant.TenantContext;
+
+/**
+ * Asks the peer that owns a set of cache keys for their translations. A bounded request deadline
+ * caps the HTTP timeout and is forwarded as {@code X-Request-Timeout}.
+ */
+@Component
+public class PeerClient {
+
+    static final String PATH = "/internal/v1/cache/translations";
+    static final String HEADER_PEER_TOKEN = "X-Peer-Token";
+
+    @Value("${translate.cache.peer-timeout:30s}")
+    private Duration timeout;
+
+    @Value("${translate.cache.peer-token:}")
+    private String peerToken;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+
+    public List<String> translate(String peer, PeerTranslateRequest request) throws IOException, InterruptedException {
+        // O prazo do cliente segue para o dono da chave, que para de trabalhar quando o cliente desiste
+        Duration requestTimeout = timeout;
+        Deadline deadline = Deadline.current();
+        if (deadline != null && deadline.isBounded()) {
+            Deadline.throwIfExpired();
+            Duration remaining = deadline.remaining();
+            requestTimeout = remaining.compareTo(timeout) < 0 ? remaining : timeout;
+        }
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(peer + PATH))
+                .timeout(requestTimeout)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(request)));
+        if (StringUtils.hasText(peerToken)) {
+            builder.header(HEADER_PEER_TOKEN, peerToken);
+        }
+        if (deadline != null && deadline.isBounded()) {
+            builder.header(DeadlineInterceptor.HEADER, Math.max(1, requestTimeout.toMillis()) + "ms");
+        }
+        String requestId = MDC.get("requestId");
+        if (StringUtils.hasText(requestId)) {
+            builder.header("X-Request-Id", requestId);
+        }
+        // O dono da chave chama o modelo: os tokens são contabilizados lá, para o mesmo tenant
+        String tenant = TenantContext.current();
+        if (tenant != null) {
+            builder.header(TenantContext.HEADER, tenant);
+        }
+
+        HttpResponse<byte[]> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("Par " + peer + " respondeu com status " + response.statusCode());
+        }
+        TranslateResponse body = objectMapper.readValue(response.body(), TranslateResponse.class);
+        if (body.termsTranslated() == null || body.termsTranslated().size() != request.terms().size()) {
+            throw new IOException("Par " + peer + " devolveu quantidade de traduções diferente da pedida");
+        }
+        return body.termsTranslated();
+    }
+}
@@ -0,0 +1,168 @@
+package sample_bedrock.translate.cache;
+
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Tracks the replicas that share the translation cache. Peers come from a static list
+ * ({@code translate.cache.peers}) and/or the A records of a DNS name (e.g. a Kubernetes headless
+ * service), re-resolved periodically. The ring is only published once the local port is known.
+ * With peers configured, {@code translate.cache.peer-token} is required: the replica-to-replica
+ * endpoints share the public port.
+ */
+@Component
+public class PeerDirectory implements ApplicationListener<WebServerInitializedEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PeerDirectory.class);
+
+    @Value("${translate.cache.peers:}")
+    private List<String> staticPeers;
+
+    @Value("${translate.cache.peers-dns-name:}")
+    private String dnsName;
+
+    @Value("${translate.cache.peers-dns-port:8080}")
+    private int dnsPort;
+
+    @Value("${translate.cache.self-url:}")
+    private String selfUrl;
+
+    @Value("${translate.cache.virtual-nodes:64}")
+    private int virtualNodes;
+
+    @Value("${translate.cache.peers-refresh-interval:30s}")
+    private Duration refreshInterval;
+
+    @Value("${translate.cache.peer-token:}")
+    private String peerToken;
+
+    private final AtomicReference<PeerRing> ring = new AtomicReference<>(PeerRing.localOnly("local"));
+
+    private ScheduledExecutorService scheduler;
+    private volatile int localPort;
+
+    @PostConstruct
+    void validate() {
+        boolean peersConfigured = StringUtils.hasText(dnsName) || staticPeers.stream().anyMatch(StringUtils::hasText);
+        if (peersConfigured && !StringUtils.hasText(peerToken)) {
+            throw new IllegalStateException("translate.cache.peer-token é obrigatório com translate.cache.peers ou "
+                    + "translate.cache.peers-dns-name configurados: sem ele /internal/v1/** fica aberto na porta pública");
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(WebServerInitializedEvent event) {
+        if (StringUtils.hasText(event.getApplicationContext().getServerNamespace())) {
+            // Porta de management não participa do cache
+            return;
+        }
+        localPort = event.getWebServer().getPort();
+        refresh();
+        if (StringUtils.hasText(dnsName) && !refreshInterval.isZero() && !refreshInterval.isNegative()) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("cache-peers-refresh").daemon().factory());
+            scheduler.scheduleWithFixedDelay(this::refresh,
+                    refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public PeerRing ring() {
+        return ring.get();
+    }
+
+    /**
+     * Rebuilds the ring from the current peer list. A DNS failure keeps the previous ring.
+     */
+    public synchronized void refresh() {
+        try {
+            List<String> peers = discoverPeers();
+            String self = StringUtils.hasText(selfUrl) ? PeerRing.normalize(selfUrl) : resolveSelf(peers);
+            PeerRing candidate = new PeerRing(self, peers, virtualNodes);
+            PeerRing previous = ring.getAndSet(candidate);
+            if (!candidate.peers().equals(previous.peers())) {
+                logger.info("Pares do cache de traduções: {} (esta réplica: {})", candidate.peers(), candidate.self());
+            }
+        } catch (UnknownHostException | RuntimeException e) {
+            logger.warn("Falha ao descobrir os pares do cache; mantendo a lista anterior: {}", e.getMessage());
+        }
+    }
+
+    private List<String> discoverPeers() throws UnknownHostException {
+        List<String> peers = new ArrayList<>();
+        for (String peer : staticPeers) {
+            if (StringUtils.hasText(peer)) {
+                peers.add(PeerRing.normalize(peer));
+            }
+        }
+        if (StringUtils.hasText(dnsName)) {
+            for (InetAddress address : InetAddress.getAllByName(dnsName)) {
+                peers.add(toUrl(address, dnsPort));
+            }
+        }
+        return peers;
+    }
+
+    /**
+     * Finds this replica in the peer list: same port and a host that resolves to a local interface.
+     * Falls back to the first local address, which then joins the ring as an extra member.
+     */
+    private String resolveSelf(List<String> peers) throws UnknownHostException {
+        for (String peer : peers) {
+            try {
+                URI uri = URI.create(peer);
+                if (uri.getPort() == localPort && isLocalAddress(InetAddress.getByName(uri.getHost()))) {
+                    return peer;
+                }
+            } catch (IllegalArgumentException | UnknownHostException e) {
+                logger.debug("Par ignorado na identificação desta réplica: {}", peer);
+            }
+        }
+        if (!peers.isEmpty()) {
+            logger.warn("Esta réplica não aparece na lista de pares; configure translate.cache.self-url");
+        }
+        return toUrl(InetAddress.getLocalHost(), localPort);
+    }
+
+    private boolean isLocalAddress(InetAddress address) {
+        if (address.isLoopbackAddress() || address.isAnyLocalAddress()) {
+            return true;
+        }
+        try {
+            return NetworkInterface.getByInetAddress(address) != null;
+        } catch (SocketException e) {
+            return false;
+        }
+    }
+
+    private String toUrl(InetAddress address, int port) {
+        String host = address.getHostAddress();
+        return "http://" + (host.contains(":") ? "[" + host + "]" : host) + ":" + port;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package sample_bedrock.translate.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Consistent-hash ring over the cache peers. Each peer is placed at {@code virtualNodes} points, so
+ * adding or removing a replica only moves the keys adjacent to its points. Immutable: membership
+ * changes build a new ring.
+ */
+public final class PeerRing {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final String self;
+    private final List<String> peers;
+    private final NavigableMap<Long, String> points = new TreeMap<>();
+
+    public PeerRing(String self, Collection<String> peers, int virtualNodes) {
+        this.self = normalize(self);
+        // Ordenado: a mesma membresia produz o mesmo anel, qualquer que seja a ordem da descoberta
+        Set<String> members = new TreeSet<>();
+        for (String peer : peers) {
+            members.add(normalize(peer));
+        }
+        members.add(this.self);
+        this.peers = List.copyOf(members);
+
+        int replicas = Math.max(1, virtualNodes);
+        for (String peer : this.peers) {
+            for (int replica = 0; replica < replicas; replica++) {
+                points.putIfAbsent(hash(peer + '#' + replica), peer);
+            }
+        }
+    }
+
+    public static PeerRing localOnly(String self) {
+        return new PeerRing(self, List.of(), 1);
+    }
+
+    public String ownerOf(String key) {
+        if (peers.size() == 1) {
+            return self;
+        }
+        Map.Entry<Long, String> entry = points.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : points.firstEntry().getValue();
+    }
+
+    public boolean isSelf(String peer) {
+        return self.equals(peer);
+    }
+
+    public boolean isLocalOnly() {
+        return peers.size() == 1;
+    }
+
+    public String self() {
+        return self;
+    }
+
+    public List<String> peers() {
+        return peers;
+    }
+
+    public List<String> remotePeers() {
+        List<String> remote = new ArrayList<>(peers);
+        remote.remove(self);
+        return remote;
+    }
+
+    static String normalize(String url) {
+        String value = url.trim();
+        while (value.endsWith("/")) {
+            value = value.substring(0, value.length() - 1);
+        }
+        return value;
+    }
+
+    /**
+     * 64-bit FNV-1a followed by the MurmurHash3 finalizer, which spreads short, similar keys
+     * (peer#0, peer#1, ...) evenly around the ring.
+     */
+    static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,536 @@
+package sample_bedrock.translate.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import sample_bedrock.translate.dto.PeerTranslateRequest;
+import sample_bedrock.translate.jfr.CacheLookupEvent;
+import sample_bedrock.translate.service.ContextSnapshot;
+import sample_bedrock.translate.warmup.WarmupContext;
+
+/**
+ * Translation cache shared by all replicas, in the style of groupcache. Every key
+ * (locale pair, term) has exactly one owning replica on the consistent-hash ring; a local
+ * miss asks the owner over HTTP, and the owner collapses concurrent misses for the same key into a
+ * single model call. Values fetched from peers are kept in a small, short-lived hot cache so popular
+ * keys do not hammer their owner. Every value is also kept, for much longer, in a stale store that
+ * answers requests while the model is unavailable.
+ *
+ * <p>Entries are tagged with the model and prompt version that produced them. An entry older than
+ * {@code refresh-after}, or from another version, is still served immediately and queued for
+ * background re-translation, so a version bump revalidates the cache gradually. The prompt version
+ * can be changed at runtime with {@link #changePromptVersion}, keeping the entries already cached.
+ */
+@Component
+public class TranslationCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslationCache.class);
+
+    private static final String METRIC_LOOKUPS = "translate.cache.lookups";
+
+    @Value("${translate.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${translate.cache.max-entries:100000}")
+    private long maxEntries;
+
+    @Value("${translate.cache.ttl:24h}")
+    private Duration ttl;
+
+    @Value("${translate.cache.hot-max-entries:10000}")
+    private long hotMaxEntries;
+
+    @Value("${translate.cache.hot-ttl:10m}")
+    private Duration hotTtl;
+
+    @Value("${translate.cache.refresh-after:12h}")
+    private Duration refreshAfter;
+
+    @Value("${translate.cache.prompt-version:1}")
+    private volatile String promptVersion;
+
+    @Value("${translate.cache.refresh.enabled:true}")
+    private boolean refreshEnabled;
+
+    @Value("${translate.cache.refresh.interval:1s}")
+    private Duration refreshInterval;
+
+    @Value("${translate.cache.refresh.batch-size:20}")
+    private int refreshBatchSize;
+
+    @Value("${translate.cache.refresh.queue-capacity:10000}")
+    private int refreshQueueCapacity;
+
+    @Value("${translate.cache.stale-max-entries:200000}")
+    private long staleMaxEntries;
+
+    @Value("${translate.cache.stale-ttl:7d}")
+    private Duration staleTtl;
+
+    @Value("${aws.bedrock.model-id:anthropic.claude-3-sonnet-20240229-v1:0}")
+    private String modelId;
+
+    @Value("${translate.tiering.fast.model-id:anthropic.claude-3-haiku-20240307-v1:0}")
+    private String fastModelId;
+
+    @Autowired
+    private PeerDirectory peerDirectory;
+
+    @Autowired
+    private PeerClient peerClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private Cache<String, Entry> owned;
+    private Cache<String, Entry> hot;
+    private Cache<String, String> stale;
+    private volatile String version;
+    private CacheRefresher refresher;
+    private volatile RefreshLoader refreshLoader;
+
+    @PostConstruct
+    void init() {
+        owned = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(ttl).build();
+        hot = Caffeine.newBuilder().maximumSize(hotMaxEntries).expireAfterWrite(hotTtl).build();
+        stale = Caffeine.newBuilder().maximumSize(staleMaxEntries).expireAfterWrite(staleTtl).build();
+        version = version(promptVersion);
+        refresher = new CacheRefresher(refreshBatchSize, refreshQueueCapacity, refreshInterval, meterRegistry,
+                new CacheRefresher.Target() {
+                    @Override
+                    public List<String> translate(String originLocale, String destinationLocale, List<String> terms) {
+                        RefreshLoader loader = refreshLoader;
+                        if (loader == null) {
+                            throw new IllegalStateException("Nenhum carregador de revalidação registrado");
+                        }
+                        return loader.translate(originLocale, destinationLocale, terms);
+                    }
+
+                    @Override
+                    public void store(String key, String value) {
+                        TranslationCache.this.store(owned, key, value);
+                    }
+                });
+        Gauge.builder(CacheRefresher.METRIC_REFRESH + ".pending", this, cache -> cache.refresher.size())
+                .register(meterRegistry);
+        if (enabled && refreshEnabled) {
+            refresher.start();
+        }
+    }
+
+    /**
+     * Tags new entries with {@code promptVersion}. Entries of the previous version keep being served
+     * and are re-translated in the background as they are requested.
+     */
+    public void changePromptVersion(String promptVersion) {
+        String previous = this.promptVersion;
+        this.promptVersion = promptVersion;
+        version = version(promptVersion);
+        logger.info("Versão do prompt do cache trocada de {} para {}; entradas antigas serão revalidadas aos poucos",
+                   previous, promptVersion);
+    }
+
+    public String promptVersion() {
+        return promptVersion;
+    }
+
+    private String version(String promptVersion) {
+        return modelId + '+' + fastModelId + '@' + promptVersion;
+    }
+
+    /**
+     * Registers how stale entries are re-translated in the background.
+     */
+    public void registerRefreshLoader(RefreshLoader loader) {
+        this.refreshLoader = loader;
+    }
+
+    /**
+     * Returns one translation per term, in order. Misses owned by this replica (or every miss when
+     * {@code routeToPeers} is false) go through {@code loader}; the rest are fetched from their owners,
+     * falling back to {@code loader} if the owner is unreachable.
+     */
+    public List<String> translate(String originLocale, String destinationLocale, List<String> terms,
+                                  boolean routeToPeers, Function<List<String>, List<String>> loader) {
+        if (!enabled || terms.isEmpty() || WarmupContext.isActive()) {
+            return loader.apply(terms);
+        }
+
+        CacheLookupEvent lookup = new CacheLookupEvent();
+        lookup.begin();
+        PeerRing ring = peerDirectory.ring();
+        String[] results = new String[terms.size()];
+        String[] keys = new String[terms.size()];
+        List<Integer> local = new ArrayList<>();
+        Map<String, List<Integer>> remote = new LinkedHashMap<>();
+
+        for (int index = 0; index < terms.size(); index++) {
+            String key = key(originLocale, destinationLocale, terms.get(index));
+            keys[index] = key;
+            Entry cached = lookup(key, originLocale, destinationLocale, terms.get(index));
+            if (cached != null) {
+                results[index] = cached.value();
+                continue;
+            }
+            String owner = ring.ownerOf(key);
+            if (routeToPeers && !ring.isSelf(owner)) {
+                remote.computeIfAbsent(owner, peer -> new ArrayList<>()).add(index);
+            } else {
+                local.add(index);
+            }
+        }
+
+        int peerMisses = remote.values().stream().mapToInt(List::size).sum();
+        int hits = terms.size() - local.size() - peerMisses;
+        lookup.end();
+        if (lookup.shouldCommit()) {
+            lookup.terms = terms.size();
+            lookup.hits = hits;
+            lookup.localMisses = local.size();
+            lookup.peerMisses = peerMisses;
+            lookup.commit();
+        }
+        count("hit", hits);
+        if (hits == terms.size()) {
+            return List.of(results);
+        }
+
+        // Pares consultados em paralelo enquanto esta réplica resolve as chaves que lhe pertencem
+        ContextSnapshot context = ContextSnapshot.capture();
+        Map<String, CompletableFuture<List<String>>> remoteCalls = new LinkedHashMap<>();
+        remote.forEach((peer, indices) -> remoteCalls.put(peer, CompletableFuture.supplyAsync(context.wrap(
+                () -> fetchFromPeer(peer, originLocale, destinationLocale, distinctTerms(terms, indices))), executor)));
+
+        LocalLoad load = loadLocally(terms, keys, local, owned, loader, true);
+        if (load.rawOutput() != null && remote.isEmpty() && hits == 0) {
+            // Saída desalinhada do modelo: mantém o comportamento de quando não havia cache
+            return load.rawOutput();
+        }
+        load.copyInto(results);
+
+        List<Integer> fallback = new ArrayList<>();
+        remoteCalls.forEach((peer, call) -> {
+            List<Integer> indices = remote.get(peer);
+            List<String> translated = call.join();
+            if (translated == null) {
+                fallback.addAll(indices);
+                return;
+            }
+            List<String> distinct = distinctTerms(terms, indices);
+            Map<String, String> byTerm = new LinkedHashMap<>();
+            for (int position = 0; position < distinct.size(); position++) {
+                byTerm.put(distinct.get(position), translated.get(position));
+            }
+            for (int index : indices) {
+                String value = byTerm.get(terms.get(index));
+                results[index] = value;
+                store(hot, keys[index], value);
+            }
+            count("remote", indices.size());
+        });
+        if (!fallback.isEmpty()) {
+            count("remote_fallback", fallback.size());
+            loadLocally(terms, keys, fallback, hot, loader, true).copyInto(results);
+        }
+        return List.of(results);
+    }
+
+    /**
+     * Returns the translation of each term this replica already holds, or {@code null} where it has
+     * none. Nothing is loaded or fetched from peers; hits are counted and stale entries revalidated as
+     * in {@link #translate}.
+     */
+    public List<String> cachedTranslations(String originLocale, String destinationLocale, List<String> terms) {
+        List<String> results = new ArrayList<>(terms.size());
+        int hits = 0;
+        for (String term : terms) {
+            Entry cached = enabled && !WarmupContext.isActive()
+                    ? lookup(key(originLocale, destinationLocale, term), originLocale, destinationLocale, term)
+                    : null;
+            if (cached != null) {
+                hits++;
+            }
+            results.add(cached != null ? cached.value() : null);
+        }
+        count("hit", hits);
+        return results;
+    }
+
+    /**
+     * Stores translations produced outside {@link #translate}, such as the combined multi-locale call.
+     * Keys this replica owns go to the main tier and the others to the hot tier, as a peer answer
+     * would; a count mismatch stores nothing.
+     */
+    public void storeAll(String originLocale, String destinationLocale, List<String> terms, List<String> translations) {
+        if (!enabled || WarmupContext.isActive() || terms.size() != translations.size()) {
+            return;
+        }
+        PeerRing ring = peerDirectory.ring();
+        for (int index = 0; index < terms.size(); index++) {
+            String key = key(originLocale, destinationLocale, terms.get(index));
+            store(ring.isSelf(ring.ownerOf(key)) ? owned : hot, key, translations.get(index));
+        }
+    }
+
+    private Entry lookup(String key, String originLocale, String destinationLocale, String term) {
+        Entry cached = owned.getIfPresent(key);
+        if (cached != null && isStale(cached)) {
+            // Stale-while-revalidate: responde já com o valor atual e revalida em segundo plano
+            revalidate(key, originLocale, destinationLocale, term);
+        }
+        return cached != null ? cached : hot.getIfPresent(key);
+    }
+
+    /**
+     * Translates ahead of demand, through {@code loader}, up to {@code maxTerms} of {@code terms} that
+     * this replica owns and has no translation for, and stores them as a request would. Keys another
+     * replica owns are left to it, and keys a request is already loading are skipped. Returns how many
+     * terms were sent to {@code loader}.
+     */
+    public int prefetch(String originLocale, String destinationLocale, List<String> terms, int maxTerms,
+                        Function<List<String>, List<String>> loader) {
+        if (!enabled || terms.isEmpty()) {
+            return 0;
+        }
+        PeerRing ring = peerDirectory.ring();
+        List<String> missing = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        for (String term : terms) {
+            if (missing.size() >= maxTerms) {
+                break;
+            }
+            String key = key(originLocale, destinationLocale, term);
+            if (owned.getIfPresent(key) == null && !inFlight.containsKey(key) && ring.isSelf(ring.ownerOf(key))) {
+                missing.add(term);
+                keys.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return 0;
+        }
+        List<Integer> indices = new ArrayList<>(missing.size());
+        for (int index = 0; index < missing.size(); index++) {
+            indices.add(index);
+        }
+        return loadLocally(missing, keys.toArray(String[]::new), indices, owned, loader, false).values.size();
+    }
+
+    /**
+     * Loads the given positions through {@code loader}, with single-flight per key: a key already being
+     * loaded by another request (or earlier in this batch) is awaited instead of requested again.
+     * Speculative loads ({@code countLookups} false) stay out of the lookup metrics.
+     */
+    private LocalLoad loadLocally(List<String> terms, String[] keys, List<Integer> indices, Cache<String, Entry> target,
+                                  Function<List<String>, List<String>> loader, boolean countLookups) {
+        LocalLoad load = new LocalLoad(terms, keys, indices);
+        if (indices.isEmpty()) {
+            return load;
+        }
+
+        Map<String, CompletableFuture<String>> leading = new LinkedHashMap<>();
+        List<String> leaderTerms = new ArrayList<>();
+        for (int index : indices) {
+            String key = keys[index];
+            if (leading.containsKey(key)) {
+                continue;
+            }
+            CompletableFuture<String> future = new CompletableFuture<>();
+            CompletableFuture<String> existing = inFlight.putIfAbsent(key, future);
+            if (existing == null) {
+                leading.put(key, future);
+                leaderTerms.add(terms.get(index));
+            } else {
+                load.awaiting.put(key, existing);
+            }
+        }
+
+        if (!leading.isEmpty()) {
+            if (countLookups) {
+                count("miss", leading.size());
+            }
+            try {
+                List<String> translated = loader.apply(leaderTerms);
+                boolean aligned = translated.size() == leaderTerms.size();
+                if (!aligned) {
+                    logger.warn("Modelo devolveu {} traduções para {} termos; resultado não será armazenado no cache",
+                               translated.size(), leaderTerms.size());
+                    if (leaderTerms.size() == indices.size()) {
+                        load.rawOutput = translated;
+                    }
+                }
+                int position = 0;
+                for (Map.Entry<String, CompletableFuture<String>> entry : leading.entrySet()) {
+                    String value = position < translated.size() ? translated.get(position) : leaderTerms.get(position);
+                    if (aligned) {
+                        store(target, entry.getKey(), value);
+                    }
+                    load.values.put(entry.getKey(), value);
+                    entry.getValue().complete(value);
+                    position++;
+                }
+            } catch (RuntimeException e) {
+                leading.values().forEach(future -> future.completeExceptionally(e));
+                throw e;
+            } finally {
+                leading.forEach(inFlight::remove);
+            }
+        }
+
+        if (countLookups && !load.awaiting.isEmpty()) {
+            count("coalesced", load.awaiting.size());
+        }
+        return load;
+    }
+
+    /**
+     * Returns the last known translation of each term, fresh or expired, or {@code null} where none
+     * is stored. Used while the model is unavailable.
+     */
+    public List<String> staleTranslations(String originLocale, String destinationLocale, List<String> terms) {
+        List<String> results = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            String key = key(originLocale, destinationLocale, term);
+            Entry entry = owned.getIfPresent(key);
+            if (entry == null) {
+                entry = hot.getIfPresent(key);
+            }
+            results.add(entry != null ? entry.value() : stale.getIfPresent(key));
+        }
+        return results;
+    }
+
+    private void store(Cache<String, Entry> target, String key, String value) {
+        target.put(key, new Entry(value, version, System.nanoTime()));
+        stale.put(key, value);
+    }
+
+    private boolean isStale(Entry entry) {
+        return !version.equals(entry.version()) || System.nanoTime() - entry.storedAtNanos() >= refreshAfter.toNanos();
+    }
+
+    private void revalidate(String key, String originLocale, String destinationLocale, String term) {
+        if (refreshEnabled && refreshLoader != null) {
+            refresher.enqueue(key, originLocale, destinationLocale, term);
+        }
+    }
+
+    /**
+     * Runs one refresh batch right away; the scheduler does the same every {@code refresh.interval}.
+     */
+    void refreshNow() {
+        refresher.refreshBatch();
+    }
+
+    private List<String> fetchFromPeer(String peer, String originLocale, String destinationLocale, List<String> terms) {
+        try {
+            return peerClient.translate(peer, new PeerTranslateRequest(modelId, originLocale, destinationLocale, terms));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            logger.warn("Falha ao consultar o par {} do cache; traduzindo localmente: {}", peer, e.getMessage());
+            return null;
+        }
+    }
+
+    private List<String> distinctTerms(List<String> terms, List<Integer> indices) {
+        return indices.stream().map(terms::get).distinct().toList();
+    }
+
+    // Sem modelo na chave: após uma troca de versão a entrada antiga continua servindo até ser revalidada
+    String key(String originLocale, String destinationLocale, String term) {
+        return originLocale.toLowerCase(Locale.ROOT) + '\u0000' + destinationLocale.toLowerCase(Locale.ROOT) + '\u0000' + term;
+    }
+
+    private void count(String result, int amount) {
+        if (amount > 0) {
+            meterRegistry.counter(METRIC_LOOKUPS, "result", result).increment(amount);
+        }
+    }
+
+    public String modelId() {
+        return modelId;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.stop();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Re-translates terms of one locale pair outside any request.
+     */
+    @FunctionalInterface
+    public interface RefreshLoader {
+        List<String> translate(String originLocale, String destinationLocale, List<String> terms);
+    }
+
+    private record Entry(String value, String version, long storedAtNanos) {
+    }
+
+    private static final class LocalLoad {
+
+        private final List<String> terms;
+        private final String[] keys;
+        private final List<Integer> indices;
+        private final Map<String, String> values = new LinkedHashMap<>();
+        private final Map<String, CompletableFuture<String>> awaiting = new LinkedHashMap<>();
+        private List<String> rawOutput;
+
+        private LocalLoad(List<String> terms, String[] keys, List<Integer> indices) {
+            this.terms = terms;
+            this.keys = keys;
+            this.indices = indices;
+        }
+
+        private List<String> rawOutput() {
+            return awaiting.isEmpty() ? rawOutput : null;
+        }
+
+        private void copyInto(String[] results) {
+            for (int index : indices) {
+                String key = keys[index];
+                String value = values.get(key);
+                if (value == null) {
+                    value = await(awaiting.get(key));
+                }
+                results[index] = value != null ? value : terms.get(index);
+            }
+        }
+
+        private String await(CompletableFuture<String> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package sample_bedrock.translate.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Content-hash ETags for {@code GET /api/v1/translate}. The last ETag sent for each canonical request
+ * is kept for {@code max-age}, so a conditional request is answered with 304 before any translation
+ * work; the same window the HTTP caches in front of the service already tolerate.
+ */
+@Component
+public class TranslationEtags {
+
+    static final String METRIC_RESPONSES = "translate.http-cache.responses";
+
+    @Value("${translate.http-cache.max-terms:20}")
+    private int maxTerms;
+
+    @Value("${translate.http-cache.max-age:1h}")
+    private Duration maxAge;
+
+    @Value("${translate.http-cache.max-entries:50000}")
+    private long maxEntries;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache<String, String> sent;
+
+    @PostConstruct
+    void init() {
+        sent = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(maxAge).build();
+    }
+
+    /**
+     * Canonical form of a GET request: locales compared case-insensitively, terms kept in order since
+     * the response is positional.
+     */
+    public String canonicalKey(String originLocale, String destinationLocale, List<String> terms) {
+        if (terms.size() > maxTerms) {
+            throw new IllegalArgumentException("Máximo de " + maxTerms + " termos por requisição GET; use POST para listas maiores");
+        }
+        StringBuilder key = new StringBuilder()
+                .append(originLocale.trim().toLowerCase(Locale.ROOT)).append('\u0000')
+                .append(destinationLocale.trim().toLowerCase(Locale.ROOT));
+        terms.forEach(term -> key.append('\u0000').append(term));
+        return key.toString();
+    }
+
+    /**
+     * The ETag last sent for this request within {@code max-age}, or {@code null}.
+     */
+    public String lastSent(String key) {
+        return sent.getIfPresent(key);
+    }
+
+    /**
+     * Weak ETag over the translated terms: the body bytes also depend on the negotiated content
+     * encoding, so only the content is compared.
+     */
+    public String etag(String key, List<String> translations) {
+        MessageDigest digest = sha256();
+        for (String translation : translations) {
+            digest.update(translation.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        String etag = "W/\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest.digest(), 16)) + '"';
+        sent.put(key, etag);
+        return etag;
+    }
+
+    public boolean matches(String etag, String ifNoneMatch) {
+        if (!StringUtils.hasText(ifNoneMatch)) {
+            return false;
+        }
+        String opaque = opaque(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || opaque(value).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public CacheControl cacheControl() {
+        return CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    public void count(String status) {
+        meterRegistry.counter(METRIC_RESPONSES, "status", status).increment();
+    }
+
+    // Comparação fraca (RFC 9110): ignora o prefixo W/
+    private static String opaque(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
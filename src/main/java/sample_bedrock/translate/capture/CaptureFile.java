@@ -0,0 +1,166 @@
+package sample_bedrock.translate.capture;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Binary format of traffic captures: a gzip stream holding the magic {@code TCAP}, a version byte
+ * and one record per request ({@code R}) or model call ({@code M}). Numbers are unsigned varints
+ * and strings are varint-length-prefixed UTF-8. The writer flushes after each batch, so a capture cut
+ * short by a crash is read up to its last complete record.
+ */
+public final class CaptureFile {
+
+    private static final byte[] MAGIC = {'T', 'C', 'A', 'P'};
+    private static final int VERSION = 1;
+    private static final int REQUEST = 'R';
+    private static final int MODEL_CALL = 'M';
+
+    private CaptureFile() {
+    }
+
+    /**
+     * Everything read from a capture file, in recording order.
+     */
+    public record Capture(List<CapturedRequest> requests, List<CapturedModelCall> modelCalls) {
+    }
+
+    public static Capture read(Path file) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            return read(input);
+        }
+    }
+
+    public static Capture read(InputStream input) throws IOException {
+        List<CapturedRequest> requests = new ArrayList<>();
+        List<CapturedModelCall> modelCalls = new ArrayList<>();
+        DataInputStream data = new DataInputStream(new BufferedInputStream(new GZIPInputStream(input)));
+        byte[] magic = new byte[MAGIC.length];
+        data.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC) || data.readUnsignedByte() != VERSION) {
+            throw new IllegalArgumentException("Arquivo de captura inválido ou de versão não suportada");
+        }
+        try {
+            int type;
+            while ((type = data.read()) != -1) {
+                switch (type) {
+                    case REQUEST -> requests.add(readRequest(data));
+                    case MODEL_CALL -> modelCalls.add(readModelCall(data));
+                    default -> throw new IllegalArgumentException("Registro de captura desconhecido: " + type);
+                }
+            }
+        } catch (EOFException e) {
+            // Captura interrompida no meio de um registro: vale o que foi lido até o último completo
+        }
+        return new Capture(requests, modelCalls);
+    }
+
+    private static CapturedRequest readRequest(DataInputStream data) throws IOException {
+        long offset = readVarLong(data);
+        String origin = readString(data);
+        String destination = readString(data);
+        int count = (int) readVarLong(data);
+        List<String> terms = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            terms.add(readString(data));
+        }
+        return new CapturedRequest(offset, origin, destination, List.copyOf(terms));
+    }
+
+    private static CapturedModelCall readModelCall(DataInputStream data) throws IOException {
+        return new CapturedModelCall(readVarLong(data), readVarLong(data), readString(data), readString(data),
+                (int) readVarLong(data), (int) readVarLong(data));
+    }
+
+    private static long readVarLong(DataInputStream data) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int current = data.readUnsignedByte();
+            value |= (long) (current & 0x7f) << shift;
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint inválido no arquivo de captura");
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+        byte[] bytes = new byte[(int) readVarLong(data)];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Appends records to a new capture file. Not thread-safe: owned by the capture writer thread.
+     */
+    public static final class Writer implements Closeable {
+
+        private final DataOutputStream data;
+
+        public Writer(OutputStream output) throws IOException {
+            this.data = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(output, true)));
+            data.write(MAGIC);
+            data.writeByte(VERSION);
+        }
+
+        public void write(CapturedRequest request) throws IOException {
+            data.writeByte(REQUEST);
+            writeVarLong(request.offsetMicros());
+            writeString(request.originLocale());
+            writeString(request.destinationLocale());
+            writeVarLong(request.terms().size());
+            for (String term : request.terms()) {
+                writeString(term);
+            }
+        }
+
+        public void write(CapturedModelCall call) throws IOException {
+            data.writeByte(MODEL_CALL);
+            writeVarLong(call.offsetMicros());
+            writeVarLong(call.latencyMicros());
+            writeString(call.terms());
+            writeString(call.response());
+            writeVarLong(call.inputTokens());
+            writeVarLong(call.outputTokens());
+        }
+
+        public void flush() throws IOException {
+            data.flush();
+        }
+
+        private void writeVarLong(long value) throws IOException {
+            long remaining = Math.max(0, value);
+            while ((remaining & ~0x7fL) != 0) {
+                data.writeByte((int) ((remaining & 0x7f) | 0x80));
+                remaining >>>= 7;
+            }
+            data.writeByte((int) remaining);
+        }
+
+        private void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            data.write(bytes);
+        }
+
+        @Override
+        public void close() throws IOException {
+            data.close();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package sample_bedrock.translate.capture;
+
+/**
+ * A Converse call made while capturing: the sanitized terms of the user message (the replay lookup
+ * key), the sanitized answer, its token usage and how long Bedrock took.
+ */
+public record CapturedModelCall(long offsetMicros, long latencyMicros, String terms, String response,
+                                int inputTokens, int outputTokens) {
+}
@@ -0,0 +1,10 @@
+package sample_bedrock.translate.capture;
+
+import java.util.List;
+
+/**
+ * A sanitized {@code POST /api/v1/translate} request and when it arrived, relative to the start of
+ * the capture.
+ */
+public record CapturedRequest(long offsetMicros, String originLocale, String destinationLocale, List<String> terms) {
+}
@@ -0,0 +1,226 @@
+package sample_bedrock.translate.capture;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import sample_bedrock.translate.service.backend.EchoBedrockHttpClient;
+import sample_bedrock.translate.service.terms.TermSanitizer;
+import sample_bedrock.translate.warmup.WarmupContext;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.services.bedrockruntime.model.ContentBlock;
+import software.amazon.awssdk.services.bedrockruntime.model.ConverseRequest;
+import software.amazon.awssdk.services.bedrockruntime.model.ConverseResponse;
+import software.amazon.awssdk.services.bedrockruntime.model.Message;
+
+/**
+ * Opt-in capture of production traffic for replay benchmarks: translation requests and the
+ * Converse calls they cause, with arrival offsets and Bedrock latencies, written to a
+ * {@link CaptureFile}. The request path only enqueues; a single writer thread sanitizes the terms
+ * with a {@link TermSanitizer} and writes them, and records are dropped when the queue is full.
+ */
+@Component
+public class TrafficCapture {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficCapture.class);
+
+    static final String METRIC_RECORDS = "translate.capture.records";
+
+    private static final Object STOP = new Object();
+
+    private static final ExecutionAttribute<Long> CALL_START = new ExecutionAttribute<>("TrafficCaptureCallStart");
+
+    @Value("${translate.capture.enabled:false}")
+    private boolean enabled;
+
+    @Value("${translate.capture.file:data/capture.tcap}")
+    private String file;
+
+    @Value("${translate.capture.max-records:100000}")
+    private long maxRecords;
+
+    @Value("${translate.capture.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final TermSanitizer sanitizer = new TermSanitizer();
+    private BlockingQueue<Object> queue;
+    private CaptureFile.Writer writer;
+    private Thread writerThread;
+    private volatile boolean capturing;
+    private long startNanos;
+    private long written;
+
+    @PostConstruct
+    void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Path path = Path.of(file);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        OutputStream output = Files.newOutputStream(path);
+        writer = new CaptureFile.Writer(output);
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        startNanos = System.nanoTime();
+        capturing = true;
+        writerThread = Thread.ofPlatform().name("traffic-capture").daemon().start(this::drain);
+        logger.warn("Captura de tráfego ativa em {} (até {} registros)", path.toAbsolutePath(), maxRecords);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (writerThread == null) {
+            return;
+        }
+        capturing = false;
+        try {
+            // Sem interrupt: interromper a thread no meio de uma escrita fecharia o canal do arquivo
+            if (queue.offer(STOP, 5, TimeUnit.SECONDS)) {
+                writerThread.join(TimeUnit.SECONDS.toMillis(5));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void request(String originLocale, String destinationLocale, List<String> terms) {
+        // Requisições de aquecimento não são tráfego de produção
+        if (!capturing || WarmupContext.isActive()) {
+            return;
+        }
+        enqueue(new RawRequest(elapsedMicros(), originLocale, destinationLocale, List.copyOf(terms)));
+    }
+
+    /**
+     * SDK interceptor to add to the Bedrock client: records every Converse call with its latency.
+     */
+    public ExecutionInterceptor interceptor() {
+        return new ExecutionInterceptor() {
+            @Override
+            public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes attributes) {
+                attributes.putAttribute(CALL_START, System.nanoTime());
+            }
+
+            @Override
+            public void afterExecution(Context.AfterExecution context, ExecutionAttributes attributes) {
+                Long start = attributes.getAttribute(CALL_START);
+                if (capturing && start != null && context.request() instanceof ConverseRequest request
+                        && context.response() instanceof ConverseResponse response) {
+                    modelCall(request, response, System.nanoTime() - start);
+                }
+            }
+        };
+    }
+
+    void modelCall(ConverseRequest request, ConverseResponse response, long latencyNanos) {
+        String userMessage = "";
+        for (Message message : request.messages()) {
+            for (ContentBlock block : message.content()) {
+                if (block.text() != null) {
+                    userMessage = block.text();
+                }
+            }
+        }
+        String answer = response.output() == null || response.output().message() == null ? "" :
+                response.output().message().content().stream()
+                        .map(ContentBlock::text)
+                        .filter(text -> text != null)
+                        .collect(Collectors.joining());
+        int inputTokens = response.usage() != null && response.usage().inputTokens() != null ? response.usage().inputTokens() : 0;
+        int outputTokens = response.usage() != null && response.usage().outputTokens() != null ? response.usage().outputTokens() : 0;
+        long now = elapsedMicros();
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+        enqueue(new RawModelCall(Math.max(0, now - latencyMicros), latencyMicros,
+                EchoBedrockHttpClient.termsOf(userMessage), answer, inputTokens, outputTokens));
+    }
+
+    private void enqueue(Object record) {
+        if (!queue.offer(record)) {
+            meterRegistry.counter(METRIC_RECORDS, "result", "dropped").increment();
+        }
+    }
+
+    private long elapsedMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+    }
+
+    private void drain() {
+        List<Object> batch = new ArrayList<>();
+        try (CaptureFile.Writer output = writer) {
+            boolean stopped = false;
+            while (!stopped) {
+                batch.add(queue.take());
+                queue.drainTo(batch);
+                for (Object record : batch) {
+                    if (record == STOP) {
+                        stopped = true;
+                    } else {
+                        write(output, record);
+                    }
+                }
+                batch.clear();
+                output.flush();
+                if (written >= maxRecords && capturing) {
+                    capturing = false;
+                    logger.warn("Captura de tráfego encerrada: limite de {} registros atingido", maxRecords);
+                }
+            }
+        } catch (InterruptedException e) {
+            capturing = false;
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            capturing = false;
+            logger.error("Falha ao gravar a captura de tráfego; captura encerrada: {}", e.getMessage(), e);
+        }
+    }
+
+    // A sanitização acontece aqui, fora do caminho da requisição
+    private void write(CaptureFile.Writer output, Object record) throws IOException {
+        if (written >= maxRecords) {
+            return;
+        }
+        if (record instanceof RawRequest request) {
+            output.write(new CapturedRequest(request.offsetMicros(), request.originLocale(), request.destinationLocale(),
+                    request.terms().stream().map(sanitizer::sanitize).toList()));
+        } else if (record instanceof RawModelCall call) {
+            output.write(new CapturedModelCall(call.offsetMicros(), call.latencyMicros(), sanitizer.sanitize(call.terms()),
+                    sanitizer.sanitize(call.response()), call.inputTokens(), call.outputTokens()));
+        }
+        written++;
+        meterRegistry.counter(METRIC_RECORDS, "result", "written").increment();
+    }
+
+    private record RawRequest(long offsetMicros, String originLocale, String destinationLocale, List<String> terms) {
+    }
+
+    private record RawModelCall(long offsetMicros, long latencyMicros, String terms, String response,
+                                int inputTokens, int outputTokens) {
+    }
+}
@@ -0,0 +1,64 @@
+package sample_bedrock.translate.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import sample_bedrock.translate.exception.ErrorResponse;
+
+/**
+ * Guards {@code /admin/v1/**} with the {@code X-Admin-Token} header. Fails closed: without
+ * {@code translate.admin.token} the admin API answers 404, and a missing or wrong token gets 403.
+ */
+@Component
+public class AdminTokenInterceptor implements HandlerInterceptor {
+
+    static final String HEADER = "X-Admin-Token";
+
+    @Value("${translate.admin.token:}")
+    private String adminToken;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        // Endpoints que mudam estado (ex.: versão do prompt) nunca ficam abertos por falta de configuração
+        if (!StringUtils.hasText(adminToken)) {
+            reject(request, response, HttpStatus.NOT_FOUND, "API de administração desabilitada: defina translate.admin.token");
+            return false;
+        }
+        String token = request.getHeader(HEADER);
+        if (token == null || !MessageDigest.isEqual(
+                adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            reject(request, response, HttpStatus.FORBIDDEN, "Token de administração inválido");
+            return false;
+        }
+        return true;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message)
+            throws IOException {
+        ErrorResponse errorResponse = new ErrorResponse(
+                status.value(),
+                status.getReasonPhrase(),
+                message,
+                request.getRequestURI()
+        );
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
@@ -0,0 +1,42 @@
+package sample_bedrock.translate.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Resolves the originating client address. Forwarding headers are client-controlled, so they are
+ * only read behind {@code trustedProxies} proxies: the client is the hop appended by the outermost
+ * trusted proxy, counted from the right of {@code X-Forwarded-For} plus the peer address. Entries
+ * further left were written by the client and are ignored. {@code X-Real-IP} is only read when no
+ * {@code X-Forwarded-For} is present.
+ */
+public final class ClientIpResolver {
+
+    private ClientIpResolver() {
+    }
+
+    public static String resolve(HttpServletRequest request, int trustedProxies) {
+        if (trustedProxies <= 0) {
+            return request.getRemoteAddr();
+        }
+        List<String> hops = new ArrayList<>();
+        for (String header : Collections.list(request.getHeaders("X-Forwarded-For"))) {
+            for (String hop : header.split(",")) {
+                if (StringUtils.hasText(hop)) {
+                    hops.add(hop.trim());
+                }
+            }
+        }
+        if (hops.isEmpty()) {
+            String realIp = request.getHeader("X-Real-IP");
+            return StringUtils.hasText(realIp) ? realIp.trim() : request.getRemoteAddr();
+        }
+        hops.add(request.getRemoteAddr());
+        return hops.get(Math.max(0, hops.size() - 1 - trustedProxies));
+    }
+}
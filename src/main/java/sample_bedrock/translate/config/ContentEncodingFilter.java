@@ -0,0 +1,437 @@
+package sample_bedrock.translate.config;
+
+import java.io.BufferedReader;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+
+import sample_bedrock.translate.exception.ErrorResponse;
+import sample_bedrock.translate.exception.PayloadTooLargeException;
+
+/**
+ * Decodes gzip/zstd request bodies and encodes responses according to {@code Accept-Encoding}.
+ * Encoding is streaming in both directions, so large bodies are never buffered in full. For bodies
+ * whose size is not known up front (compressed or chunked), the bytes read by the application are
+ * counted in the {@link #BODY_BYTES} request attribute, and reading past
+ * {@code translate.request.max-decoded-size} fails with 413 so a small compressed body cannot
+ * expand without bound.
+ */
+@Component
+public class ContentEncodingFilter extends OncePerRequestFilter {
+
+    public static final String BODY_BYTES = ContentEncodingFilter.class.getName() + ".bodyBytes";
+
+    @Value("${translate.request.max-decoded-size:32MB}")
+    private DataSize maxDecodedSize;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        HttpServletRequest effectiveRequest = request;
+        String contentEncoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        if (StringUtils.hasText(contentEncoding) && !"identity".equalsIgnoreCase(contentEncoding.trim())) {
+            Encoding encoding = Encoding.fromToken(contentEncoding.trim());
+            if (encoding == null) {
+                writeUnsupportedEncoding(request, response, contentEncoding);
+                return;
+            }
+            effectiveRequest = new DecodingRequestWrapper(request, encoding, maxDecodedSize.toBytes());
+        } else if (request.getContentLengthLong() < 0 && request.getHeader(HttpHeaders.TRANSFER_ENCODING) != null) {
+            // Corpo chunked sem compressão: só passa pela contagem de bytes
+            effectiveRequest = new DecodingRequestWrapper(request, null, maxDecodedSize.toBytes());
+        }
+
+        Encoding responseEncoding = "HEAD".equals(request.getMethod())
+                ? null
+                : negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (responseEncoding == null) {
+            doFilter(effectiveRequest, response, filterChain);
+            return;
+        }
+
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        EncodingResponseWrapper responseWrapper = new EncodingResponseWrapper(response, responseEncoding);
+        try {
+            doFilter(effectiveRequest, responseWrapper, filterChain);
+        } finally {
+            responseWrapper.finish();
+        }
+    }
+
+    // Dentro do MVC o GlobalExceptionHandler responde 413; aqui cobre leituras feitas fora dele
+    private void doFilter(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } catch (PayloadTooLargeException e) {
+            if (response.isCommitted()) {
+                throw e;
+            }
+            response.reset();
+            ErrorResponse errorResponse = new ErrorResponse(
+                    HttpStatus.PAYLOAD_TOO_LARGE.value(),
+                    "Payload Too Large",
+                    e.getMessage(),
+                    request.getRequestURI()
+            );
+            response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), errorResponse);
+        }
+    }
+
+    /**
+     * Picks zstd over gzip when both are acceptable; ignores tokens with {@code q=0}.
+     */
+    static Encoding negotiate(String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return null;
+        }
+        boolean gzip = false;
+        boolean zstd = false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String name = tokens[0].trim().toLowerCase(Locale.ROOT);
+            boolean acceptable = true;
+            for (int index = 1; index < tokens.length; index++) {
+                String parameter = tokens[index].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        acceptable = Double.parseDouble(parameter.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        acceptable = false;
+                    }
+                }
+            }
+            if (acceptable && name.equals("zstd")) {
+                zstd = true;
+            } else if (acceptable && (name.equals("gzip") || name.equals("x-gzip"))) {
+                gzip = true;
+            }
+        }
+        return zstd ? Encoding.ZSTD : gzip ? Encoding.GZIP : null;
+    }
+
+    private void writeUnsupportedEncoding(HttpServletRequest request, HttpServletResponse response, String contentEncoding)
+            throws IOException {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.UNSUPPORTED_MEDIA_TYPE.value(),
+                "Unsupported Media Type",
+                "Content-Encoding não suportado: " + contentEncoding,
+                request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.UNSUPPORTED_MEDIA_TYPE.value());
+        response.setHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, zstd");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    enum Encoding {
+        GZIP("gzip"),
+        ZSTD("zstd");
+
+        private final String token;
+
+        Encoding(String token) {
+            this.token = token;
+        }
+
+        static Encoding fromToken(String token) {
+            String normalized = token.toLowerCase(Locale.ROOT);
+            if (normalized.equals("gzip") || normalized.equals("x-gzip")) {
+                return GZIP;
+            }
+            if (normalized.equals("zstd")) {
+                return ZSTD;
+            }
+            return null;
+        }
+
+        static InputStream decode(Encoding encoding, InputStream source) throws IOException {
+            return encoding == null ? source : encoding.decode(source);
+        }
+
+        InputStream decode(InputStream source) throws IOException {
+            return this == GZIP ? new GZIPInputStream(source, 8192) : new ZstdInputStream(source);
+        }
+
+        OutputStream encode(OutputStream target) throws IOException {
+            // syncFlush: flush() entrega ao cliente o que já foi comprimido (respostas em streaming)
+            return this == GZIP ? new GZIPOutputStream(target, 8192, true) : new ZstdOutputStream(target);
+        }
+    }
+
+    private static final class DecodingRequestWrapper extends HttpServletRequestWrapper {
+
+        private final Encoding encoding;
+        private final long maxBytes;
+        private final AtomicLong bodyBytes = new AtomicLong();
+        private ServletInputStream inputStream;
+        private BufferedReader reader;
+
+        // encoding nulo: corpo sem compressão, apenas contado
+        private DecodingRequestWrapper(HttpServletRequest request, Encoding encoding, long maxBytes) {
+            super(request);
+            this.encoding = encoding;
+            this.maxBytes = maxBytes;
+            request.setAttribute(BODY_BYTES, bodyBytes);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                InputStream decoded = Encoding.decode(encoding, super.getInputStream());
+                inputStream = new ServletInputStream() {
+                    private boolean finished;
+
+                    @Override
+                    public int read() throws IOException {
+                        int value = decoded.read();
+                        finished = value < 0;
+                        if (!finished) {
+                            count(1);
+                        }
+                        return value;
+                    }
+
+                    @Override
+                    public int read(byte[] buffer, int offset, int length) throws IOException {
+                        int count = decoded.read(buffer, offset, length);
+                        finished = count < 0;
+                        if (count > 0) {
+                            count(count);
+                        }
+                        return count;
+                    }
+
+                    private void count(int bytes) {
+                        if (bodyBytes.addAndGet(bytes) > maxBytes) {
+                            throw new PayloadTooLargeException("Corpo da requisição excede " + maxBytes
+                                    + " bytes depois de descomprimido");
+                        }
+                    }
+
+                    @Override
+                    public boolean isFinished() {
+                        return finished;
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setReadListener(ReadListener readListener) {
+                        throw new UnsupportedOperationException("Leitura não bloqueante não suportada em corpo comprimido");
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        decoded.close();
+                    }
+                };
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            if (reader == null) {
+                String encodingName = getCharacterEncoding();
+                Charset charset = encodingName != null ? Charset.forName(encodingName) : StandardCharsets.UTF_8;
+                reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+            }
+            return reader;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return isHiddenHeader(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+
+        private boolean isHiddenHeader(String name) {
+            return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+        }
+    }
+
+    private static final class EncodingResponseWrapper extends HttpServletResponseWrapper {
+
+        private final Encoding encoding;
+        private OutputStream encoded;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        private EncodingResponseWrapper(HttpServletResponse response, Encoding encoding) {
+            super(response);
+            this.encoding = encoding;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream target = super.getOutputStream();
+                if (!isEncodable()) {
+                    outputStream = target;
+                    return outputStream;
+                }
+                super.setHeader(HttpHeaders.CONTENT_ENCODING, encoding.token);
+                // O fechamento apenas finaliza o frame comprimido; o stream do container continua com o Tomcat
+                encoded = encoding.encode(new FilterOutputStream(target) {
+                    @Override
+                    public void write(byte[] buffer, int offset, int length) throws IOException {
+                        out.write(buffer, offset, length);
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        flush();
+                    }
+                });
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int value) throws IOException {
+                        encoded.write(value);
+                    }
+
+                    @Override
+                    public void write(byte[] buffer, int offset, int length) throws IOException {
+                        encoded.write(buffer, offset, length);
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        encoded.flush();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return target.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        target.setWriteListener(writeListener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), Charset.forName(getCharacterEncoding())));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (encoded != null) {
+                encoded.flush();
+            }
+            super.flushBuffer();
+        }
+
+        @Override
+        public void setContentLength(int length) {
+            if (!suppressesContentLength()) {
+                super.setContentLength(length);
+            }
+        }
+
+        @Override
+        public void setContentLengthLong(long length) {
+            if (!suppressesContentLength()) {
+                super.setContentLengthLong(length);
+            }
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) || !suppressesContentLength()) {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) || !suppressesContentLength()) {
+                super.addHeader(name, value);
+            }
+        }
+
+        // O tamanho informado pela aplicação é o do corpo sem compressão
+        private boolean suppressesContentLength() {
+            return encoded != null || isEncodable();
+        }
+
+        private boolean isEncodable() {
+            int status = getStatus();
+            return status != HttpServletResponse.SC_NO_CONTENT && status != HttpServletResponse.SC_NOT_MODIFIED
+                    && getHeader(HttpHeaders.CONTENT_ENCODING) == null;
+        }
+
+        private void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (encoded != null) {
+                encoded.close();
+            }
+        }
+    }
+}
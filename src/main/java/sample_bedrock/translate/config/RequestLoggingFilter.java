@@ -12,12 +12,17 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpServletResponseWrapper;
 
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import sample_bedrock.translate.jfr.RequestEvent;
+import sample_bedrock.translate.tenant.TenantContext;
+
 /**
- * Populates MDC with HTTP-centric data so Logback can render structured JSON logs consistently.
+ * Populates MDC with HTTP-centric data so Logback can render structured JSON logs consistently, and
+ * records a {@link RequestEvent} per request for Flight Recorder.
  */
 @Component
 public class RequestLoggingFilter extends OncePerRequestFilter {
@@ -25,6 +30,9 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
     private static final String HEADER_REQUEST_ID = "X-Request-Id";
     private static final String HEADER_CORRELATION_ID = "X-Correlation-Id";
 
+    @Value("${translate.trusted-proxies:0}")
+    private int trustedProxies;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -36,7 +44,7 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
         context.put("http.method", request.getMethod());
         context.put("http.path", resolveFullPath(request));
 
-        String clientIp = resolveClientIp(request);
+        String clientIp = ClientIpResolver.resolve(request, trustedProxies);
         if (StringUtils.hasText(clientIp)) {
             context.put("http.clientIp", clientIp);
         }
@@ -55,9 +63,20 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
             }
         });
 
+        RequestEvent event = new RequestEvent();
+        event.begin();
         try {
             filterChain.doFilter(request, responseWrapper);
         } finally {
+            if (event.shouldCommit()) {
+                event.protocol = "http";
+                event.method = request.getMethod();
+                event.path = request.getRequestURI();
+                event.status = String.valueOf(responseWrapper.currentStatus());
+                event.tenant = request.getHeader(TenantContext.HEADER);
+                event.requestId = context.get("requestId");
+                event.commit();
+            }
             MDC.put("http.status", String.valueOf(responseWrapper.currentStatus()));
             context.keySet().forEach(MDC::remove);
             MDC.remove("http.status");
@@ -92,19 +111,6 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
         return path.toString();
     }
 
-    private String resolveClientIp(HttpServletRequest request) {
-        String forwarded = request.getHeader("X-Forwarded-For");
-        if (StringUtils.hasText(forwarded)) {
-            int commaIndex = forwarded.indexOf(',');
-            return commaIndex > -1 ? forwarded.substring(0, commaIndex).trim() : forwarded.trim();
-        }
-        String realIp = request.getHeader("X-Real-IP");
-        if (StringUtils.hasText(realIp)) {
-            return realIp.trim();
-        }
-        return request.getRemoteAddr();
-    }
-
     private String firstNonBlank(String... candidates) {
         if (candidates == null) {
             return null;
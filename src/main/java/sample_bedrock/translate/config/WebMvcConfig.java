@@ -0,0 +1,62 @@
+package sample_bedrock.translate.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import sample_bedrock.translate.admission.AdmissionInterceptor;
+import sample_bedrock.translate.deadline.DeadlineInterceptor;
+import sample_bedrock.translate.latency.LatencyInterceptor;
+import sample_bedrock.translate.ratelimit.RateLimitInterceptor;
+import sample_bedrock.translate.tenant.TenantInterceptor;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private static final String CONTINUATIONS = "/api/v1/translate/continuations/**";
+    private static final String PEER_CACHE = "/internal/v1/cache/**";
+    private static final String[] CHUNKED = {
+        "/api/v1/translate/stream", "/api/v1/translate/file", "/api/v1/translate/bundles/**"
+    };
+
+    @Autowired
+    private AdminTokenInterceptor adminTokenInterceptor;
+
+    @Autowired
+    private LatencyInterceptor latencyInterceptor;
+
+    @Autowired
+    private DeadlineInterceptor deadlineInterceptor;
+
+    @Autowired
+    private TenantInterceptor tenantInterceptor;
+
+    @Autowired
+    private RateLimitInterceptor rateLimitInterceptor;
+
+    @Autowired
+    private AdmissionInterceptor admissionInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(adminTokenInterceptor).addPathPatterns("/admin/v1/**");
+        // Latência antes de tudo: a etapa HTTP inclui a espera por admissão e as recusas
+        // Long-poll de continuações fica fora: a espera não é latência de tradução nem deve ocupar vaga de admissão
+        registry.addInterceptor(latencyInterceptor).addPathPatterns("/api/v1/translate", "/api/v1/translate/**")
+                .excludePathPatterns(CONTINUATIONS);
+        // Prazo primeiro: requisições sem tempo restante não consomem limite nem vaga na fila
+        // Também entre réplicas do cache: o dono da chave recebe o prazo restante do cliente original
+        registry.addInterceptor(deadlineInterceptor).addPathPatterns("/api/v1/translate", "/api/v1/translate/**", PEER_CACHE);
+        // Tenant também nas chamadas entre réplicas do cache: o dono da chave contabiliza os tokens
+        registry.addInterceptor(tenantInterceptor).addPathPatterns("/api/v1/translate", "/api/v1/translate/**", PEER_CACHE);
+        // Limite por cliente antes da fila: um cliente ruidoso não ocupa vagas de admissão
+        // O endpoint entre réplicas divide a porta pública e também chama o modelo: mesmas proteções
+        registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/api/v1/translate", "/api/v1/translate/**", PEER_CACHE);
+        // Streaming, arquivos e sync de bundles pedem uma vaga por bloco (StreamingTranslationService):
+        // segurar uma vaga durante toda a transferência travaria a fila e distorceria o tempo de serviço
+        registry.addInterceptor(admissionInterceptor).addPathPatterns("/api/v1/translate", "/api/v1/translate/**", PEER_CACHE)
+                .excludePathPatterns(CONTINUATIONS)
+                .excludePathPatterns(CHUNKED);
+    }
+}
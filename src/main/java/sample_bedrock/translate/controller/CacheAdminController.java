@@ -0,0 +1,41 @@
+package sample_bedrock.translate.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import sample_bedrock.translate.cache.TranslationCache;
+import sample_bedrock.translate.dto.PromptVersion;
+
+/**
+ * Admin control of the translation cache version on this replica; guarded by {@link
+ * sample_bedrock.translate.config.AdminTokenInterceptor}.
+ */
+@RestController
+@RequestMapping("/admin/v1/cache")
+@Tag(name = "Admin API", description = "Versão do prompt usada pelo cache de traduções")
+public class CacheAdminController {
+
+    @Autowired
+    private TranslationCache translationCache;
+
+    @GetMapping("/prompt-version")
+    @Operation(summary = "Versão do prompt atual do cache")
+    public ResponseEntity<PromptVersion> promptVersion() {
+        return ResponseEntity.ok(new PromptVersion(translationCache.promptVersion()));
+    }
+
+    @PutMapping("/prompt-version")
+    @Operation(summary = "Troca a versão do prompt", description = "Entradas de outra versão continuam sendo servidas e são revalidadas em segundo plano")
+    public ResponseEntity<PromptVersion> changePromptVersion(@Valid @RequestBody PromptVersion request) {
+        translationCache.changePromptVersion(request.promptVersion());
+        return ResponseEntity.ok(new PromptVersion(translationCache.promptVersion()));
+    }
+}
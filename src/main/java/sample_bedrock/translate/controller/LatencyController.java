@@ -0,0 +1,60 @@
+package sample_bedrock.translate.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import sample_bedrock.translate.dto.LatencyResponse;
+import sample_bedrock.translate.exception.ErrorResponse;
+import sample_bedrock.translate.latency.LatencyHistograms;
+import sample_bedrock.translate.latency.LatencyStage;
+
+/**
+ * Internal view of this replica's latency histograms; the compressed histograms of several replicas
+ * can be decoded and added together for fleet-wide percentiles.
+ */
+@Hidden
+@RestController
+@RequestMapping("/internal/v1/latency")
+public class LatencyController {
+
+    private static final String PATH = "/internal/v1/latency";
+
+    @Value("${translate.cache.peer-token:}")
+    private String peerToken;
+
+    @Autowired
+    private LatencyHistograms latencyHistograms;
+
+    @GetMapping
+    public ResponseEntity<?> latency(@RequestHeader(value = "X-Peer-Token", required = false) String token,
+                                     @RequestParam(required = false) String stage) {
+        if (StringUtils.hasText(peerToken) && !matches(peerToken, token)) {
+            return error(HttpStatus.FORBIDDEN, "Token de par inválido");
+        }
+        LatencyStage filter = StringUtils.hasText(stage) ? LatencyStage.fromTag(stage) : null;
+        return ResponseEntity.ok(new LatencyResponse(latencyHistograms.window().toSeconds(),
+                latencyHistograms.snapshot(filter)));
+    }
+
+    private boolean matches(String expected, String actual) {
+        return actual != null && MessageDigest.isEqual(
+                expected.getBytes(StandardCharsets.UTF_8), actual.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ResponseEntity<ErrorResponse> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .body(new ErrorResponse(status.value(), status.getReasonPhrase(), message, PATH));
+    }
+}
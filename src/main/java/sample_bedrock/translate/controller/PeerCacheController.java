@@ -0,0 +1,76 @@
+package sample_bedrock.translate.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.validation.Valid;
+import sample_bedrock.translate.cache.TranslationCache;
+import sample_bedrock.translate.dto.PeerTranslateRequest;
+import sample_bedrock.translate.dto.TranslateResponse;
+import sample_bedrock.translate.exception.ErrorResponse;
+import sample_bedrock.translate.service.TranslationService;
+
+/**
+ * Replica-to-replica endpoint of the distributed translation cache: serves keys this replica owns.
+ */
+@Hidden
+@RestController
+@RequestMapping("/internal/v1/cache")
+public class PeerCacheController {
+
+    private static final Logger logger = LoggerFactory.getLogger(PeerCacheController.class);
+
+    private static final String PATH = "/internal/v1/cache/translations";
+
+    @Value("${translate.cache.peer-token:}")
+    private String peerToken;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private TranslationCache translationCache;
+
+    @PostMapping("/translations")
+    public ResponseEntity<?> translate(@RequestHeader(value = "X-Peer-Token", required = false) String token,
+                                       @Valid @RequestBody PeerTranslateRequest request) {
+        if (StringUtils.hasText(peerToken) && !matches(peerToken, token)) {
+            return error(HttpStatus.FORBIDDEN, "Token de par inválido");
+        }
+        if (!translationCache.modelId().equals(request.modelId())) {
+            // Réplicas com modelos diferentes (ex.: durante um deploy) não compartilham traduções
+            return error(HttpStatus.CONFLICT, "Modelo divergente: " + request.modelId());
+        }
+
+        logger.info("Requisição de par do cache: {} termos de {} para {}",
+                   request.terms().size(), request.originLocale(), request.destinationLocale());
+        List<String> translated = translationService.translateOwnedTerms(
+                request.originLocale(), request.destinationLocale(), request.terms());
+        return ResponseEntity.ok(new TranslateResponse(translated));
+    }
+
+    private boolean matches(String expected, String actual) {
+        return actual != null && MessageDigest.isEqual(
+                expected.getBytes(StandardCharsets.UTF_8), actual.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ResponseEntity<ErrorResponse> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .body(new ErrorResponse(status.value(), status.getReasonPhrase(), message, PATH));
+    }
+}
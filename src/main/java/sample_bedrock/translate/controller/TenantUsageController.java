@@ -0,0 +1,55 @@
+package sample_bedrock.translate.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import sample_bedrock.translate.dto.TenantUsageResponse;
+import sample_bedrock.translate.exception.ErrorResponse;
+import sample_bedrock.translate.tenant.TenantUsage;
+
+/**
+ * Admin view of per-tenant Bedrock token usage on this replica; guarded by {@link
+ * sample_bedrock.translate.config.AdminTokenInterceptor}.
+ */
+@RestController
+@RequestMapping("/admin/v1/tenants")
+@Tag(name = "Admin API", description = "Consumo de tokens do Bedrock por tenant")
+public class TenantUsageController {
+
+    private static final String PATH = "/admin/v1/tenants";
+
+    @Autowired
+    private TenantUsage tenantUsage;
+
+    @GetMapping("/usage")
+    @Operation(summary = "Consumo de todos os tenants", description = "Tokens de entrada, saída e cache por tenant, e uso da cota no período corrente")
+    public ResponseEntity<List<TenantUsageResponse>> usage() {
+        List<TenantUsageResponse> usage = tenantUsage.snapshot();
+        return ResponseEntity.ok(usage);
+    }
+
+    @GetMapping("/{tenant}/usage")
+    @Operation(summary = "Consumo de um tenant")
+    public ResponseEntity<?> usage(@PathVariable String tenant) {
+        String path = PATH + "/" + tenant + "/usage";
+        TenantUsageResponse usage = tenantUsage.snapshot(tenant);
+        if (usage == null) {
+            return error(HttpStatus.NOT_FOUND, "Tenant sem consumo registrado: " + tenant, path);
+        }
+        return ResponseEntity.ok(usage);
+    }
+
+    private ResponseEntity<ErrorResponse> error(HttpStatus status, String message, String path) {
+        return ResponseEntity.status(status)
+                .body(new ErrorResponse(status.value(), status.getReasonPhrase(), message, path));
+    }
+}
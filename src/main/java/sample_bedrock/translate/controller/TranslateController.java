@@ -1,15 +1,29 @@
 package sample_bedrock.translate.controller;
 
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,11 +32,27 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import sample_bedrock.translate.admission.Priority;
+import sample_bedrock.translate.admission.PriorityContext;
+import sample_bedrock.translate.cache.TranslationEtags;
+import sample_bedrock.translate.capture.TrafficCapture;
+import sample_bedrock.translate.dto.LocaleTranslation;
+import sample_bedrock.translate.dto.MultiTargetTranslateRequest;
+import sample_bedrock.translate.dto.MultiTargetTranslateResponse;
 import sample_bedrock.translate.dto.TranslateRequest;
 import sample_bedrock.translate.dto.TranslateResponse;
 import sample_bedrock.translate.exception.ErrorResponse;
+import sample_bedrock.translate.resilience.StaleContext;
+import sample_bedrock.translate.service.MultiTargetTranslationService;
+import sample_bedrock.translate.service.PartialTranslationService;
+import sample_bedrock.translate.service.StreamingTranslationService;
 import sample_bedrock.translate.service.TranslationService;
+import sample_bedrock.translate.service.files.FileTranslationService;
+import sample_bedrock.translate.service.files.ResourceFormat;
+import sample_bedrock.translate.sync.BundleSyncService;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -35,10 +65,33 @@ public class TranslateController {
     @Autowired
     private TranslationService translationService;
 
+    @Autowired
+    private MultiTargetTranslationService multiTargetTranslationService;
+
+    @Autowired
+    private StreamingTranslationService streamingTranslationService;
+
+    @Autowired
+    private FileTranslationService fileTranslationService;
+
+    @Autowired
+    private BundleSyncService bundleSyncService;
+
+    @Autowired
+    private TranslationEtags translationEtags;
+
+    @Autowired
+    private TrafficCapture trafficCapture;
+
+    @Autowired
+    private PartialTranslationService partialTranslationService;
+
     @PostMapping("/translate")
     @Operation(
         summary = "Traduzir termos",
-        description = "Traduz uma lista de termos de um idioma para outro usando AWS Bedrock"
+        description = "Traduz uma lista de termos de um idioma para outro usando AWS Bedrock. Com partial=true, " +
+                      "responde na hora as traduções já disponíveis localmente e devolve pending e continuation_token " +
+                      "para buscar as demais em GET /translate/continuations/{token}"
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -64,6 +117,14 @@ public class TranslateController {
                 mediaType = "application/json",
                 schema = @Schema(implementation = ErrorResponse.class)
             )
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Modelo indisponível e sem traduções armazenadas para todos os termos",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
         )
     })
     public ResponseEntity<TranslateResponse> translate(@Valid @RequestBody TranslateRequest request) {
@@ -72,14 +133,28 @@ public class TranslateController {
                        request.getOriginLocale(), 
                        request.getDestinationLocale(), 
                        request.getTerms().size());
+            trafficCapture.request(request.getOriginLocale(), request.getDestinationLocale(), request.getTerms());
 
-            List<String> translatedTerms = translationService.translateTerms(
-                request.getOriginLocale(),
-                request.getDestinationLocale(),
-                request.getTerms()
-            );
+            if (request.isPartial()) {
+                return ResponseEntity.ok(partialTranslationService.translate(
+                    request.getOriginLocale(),
+                    request.getDestinationLocale(),
+                    request.getTerms()
+                ));
+            }
 
-            TranslateResponse response = new TranslateResponse(translatedTerms);
+            List<String> translatedTerms;
+            boolean stale;
+            try (StaleContext.Scope scope = StaleContext.open()) {
+                translatedTerms = translationService.translateTerms(
+                    request.getOriginLocale(),
+                    request.getDestinationLocale(),
+                    request.getTerms()
+                );
+                stale = scope.isStale();
+            }
+
+            TranslateResponse response = TranslateResponse.of(translatedTerms, stale);
             
             logger.info("Tradução concluída com sucesso para {} termos", translatedTerms.size());
             return ResponseEntity.ok(response);
@@ -89,4 +164,308 @@ public class TranslateController {
             throw e; // Será tratado pelo GlobalExceptionHandler
         }
     }
-}
\ No newline at end of file
+
+    @GetMapping("/translate")
+    @Operation(
+        summary = "Traduzir poucos termos com cache HTTP",
+        description = "Forma idempotente de POST /translate para listas pequenas: um parâmetro term por termo. " +
+                      "A resposta leva ETag e Cache-Control; com If-None-Match ainda válido responde 304 sem traduzir."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Tradução realizada com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TranslateResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "A tradução não mudou desde o ETag informado em If-None-Match"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Parâmetros ausentes ou termos demais para GET",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<TranslateResponse> translateCacheable(
+            @RequestParam(name = "origin_locale", required = false) String originLocale,
+            @RequestParam(name = "destination_locale", required = false) String destinationLocale,
+            @RequestParam(name = "term", required = false) List<String> terms,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (!StringUtils.hasText(originLocale) || !StringUtils.hasText(destinationLocale)) {
+            throw new IllegalArgumentException("Parâmetros origin_locale e destination_locale são obrigatórios");
+        }
+        if (terms == null || terms.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um parâmetro term");
+        }
+        String key = translationEtags.canonicalKey(originLocale, destinationLocale, terms);
+
+        // Revalidação: o ETag enviado por último para esta requisição ainda vale, nada a traduzir
+        String lastSent = translationEtags.lastSent(key);
+        if (lastSent != null && translationEtags.matches(lastSent, ifNoneMatch)) {
+            translationEtags.count("304");
+            return notModified(lastSent);
+        }
+
+        // Sem o ETag guardado (expirou ou outra réplica): o cache local costuma responder tudo, e então
+        // o ETag sai sem tradução nem chamada ao Bedrock
+        List<String> translatedTerms = translationService.translateLocally(originLocale.trim(), destinationLocale.trim(), terms);
+        boolean stale = false;
+        if (translatedTerms.size() != terms.size() || translatedTerms.contains(null)) {
+            try (StaleContext.Scope scope = StaleContext.open()) {
+                translatedTerms = translationService.translateTerms(originLocale.trim(), destinationLocale.trim(), terms);
+                stale = scope.isStale();
+            }
+        }
+        if (stale) {
+            // Resposta de contingência: não deve ficar em cache depois que o modelo voltar
+            translationEtags.count("200");
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(TranslateResponse.of(translatedTerms, true));
+        }
+
+        String etag = translationEtags.etag(key, translatedTerms);
+        if (translationEtags.matches(etag, ifNoneMatch)) {
+            translationEtags.count("304");
+            return notModified(etag);
+        }
+        translationEtags.count("200");
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(translationEtags.cacheControl())
+                .body(TranslateResponse.of(translatedTerms, false));
+    }
+
+    @GetMapping("/translate/continuations/{token}")
+    @Operation(
+        summary = "Buscar as traduções pendentes do modo parcial",
+        description = "Long-poll: espera até wait (limitado por translate.partial.max-wait) as posições pendentes " +
+                      "de uma resposta com partial=true. Pronto, devolve a lista completa sem token; senão, a mesma " +
+                      "resposta parcial e o mesmo token para uma nova tentativa."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lista completa, ou ainda parcial com pending e continuation_token",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TranslateResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Token desconhecido, expirado ou de outro tenant",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "A tradução em segundo plano falhou com o modelo indisponível",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<TranslateResponse> continueTranslation(
+            @PathVariable String token,
+            @RequestParam(name = "wait", required = false) String wait) {
+        Duration timeout;
+        try {
+            timeout = StringUtils.hasText(wait) ? DurationStyle.detectAndParse(wait.trim()) : null;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Parâmetro wait inválido: " + wait);
+        }
+        TranslateResponse response = partialTranslationService.await(token, timeout);
+        // Resultado parcial muda a cada consulta: nunca em cache
+        return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(response);
+    }
+
+    private ResponseEntity<TranslateResponse> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(translationEtags.cacheControl())
+                .build();
+    }
+
+    @PostMapping("/translate/multi")
+    @Operation(
+        summary = "Traduzir termos para vários idiomas",
+        description = "Traduz uma lista de termos para vários idiomas de destino; cada idioma tem sucesso ou falha de forma independente"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Resultado por idioma de destino",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = MultiTargetTranslateResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<MultiTargetTranslateResponse> translateMulti(@Valid @RequestBody MultiTargetTranslateRequest request) {
+        logger.info("Recebida requisição de tradução: {} -> {}, {} termos",
+                   request.getOriginLocale(),
+                   request.getDestinationLocales(),
+                   request.getTerms().size());
+
+        Map<String, LocaleTranslation> translations = multiTargetTranslationService.translate(
+            request.getOriginLocale(),
+            request.getDestinationLocales(),
+            request.getTerms()
+        );
+
+        logger.info("Tradução concluída para {} idiomas", translations.size());
+        return ResponseEntity.ok(new MultiTargetTranslateResponse(translations));
+    }
+
+    @PostMapping(value = "/translate/stream", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Traduzir listas grandes em streaming",
+        description = "Lê os termos de forma incremental e devolve as traduções à medida que cada bloco fica pronto. " +
+                      "origin_locale e destination_locale devem vir antes de terms no corpo. " +
+                      "Se um bloco falhar depois do início da resposta, o corpo termina com o campo error."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Traduções em streaming",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TranslateResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados de entrada inválidos",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public void translateStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        logger.info("Recebida requisição de tradução em streaming");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        try (PriorityContext.Scope priority = attachPriority(request)) {
+            streamingTranslationService.translate(request.getInputStream(), response.getOutputStream());
+        }
+    }
+
+    @PostMapping("/translate/file")
+    @Operation(
+        summary = "Traduzir arquivo de recursos i18n em streaming",
+        description = "Traduz um arquivo JSON, .properties, PO ou XLIFF lido de forma incremental e devolve o arquivo " +
+                      "traduzido com as mesmas chaves, estrutura e comentários. O formato vem do parâmetro format ou " +
+                      "do Content-Type. Se um bloco falhar depois do início da resposta, o arquivo sai truncado."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Arquivo traduzido em streaming"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Formato não suportado ou arquivo malformado",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public void translateFile(
+            @RequestParam("origin_locale") String originLocale,
+            @RequestParam("destination_locale") String destinationLocale,
+            @RequestParam(value = "format", required = false) String format,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        ResourceFormat resourceFormat = resolveFile(format, originLocale, destinationLocale, request);
+        logger.info("Recebida requisição de tradução de arquivo {}: {} -> {}", resourceFormat, originLocale, destinationLocale);
+
+        Charset requestCharset = startFileResponse(resourceFormat, request, response);
+        try (PriorityContext.Scope priority = attachPriority(request)) {
+            fileTranslationService.translate(resourceFormat, originLocale, destinationLocale,
+                                             request.getInputStream(), requestCharset, response.getOutputStream());
+        }
+    }
+
+    @PostMapping("/translate/bundles/{bundle}/sync")
+    @Operation(
+        summary = "Sincronizar bundle traduzindo apenas chaves novas ou alteradas",
+        description = "Recebe a versão atual do bundle de origem e devolve o bundle traduzido completo. Só as chaves " +
+                      "novas ou com texto alterado desde o último sync do mesmo bundle e idioma de destino vão para o " +
+                      "modelo; as demais vêm do manifesto guardado. full=true ignora o manifesto e retraduz tudo."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Bundle traduzido em streaming"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Nome de bundle, formato ou arquivo inválido",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public void syncBundle(
+            @PathVariable String bundle,
+            @RequestParam("origin_locale") String originLocale,
+            @RequestParam("destination_locale") String destinationLocale,
+            @RequestParam(value = "format", required = false) String format,
+            @RequestParam(value = "full", defaultValue = "false") boolean full,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        ResourceFormat resourceFormat = resolveFile(format, originLocale, destinationLocale, request);
+        logger.info("Recebida requisição de sync do bundle {} ({}): {} -> {}", bundle, resourceFormat, originLocale, destinationLocale);
+
+        Charset requestCharset = startFileResponse(resourceFormat, request, response);
+        try (PriorityContext.Scope priority = attachPriority(request)) {
+            bundleSyncService.sync(bundle, resourceFormat, originLocale, destinationLocale, full,
+                                   request.getInputStream(), requestCharset, response.getOutputStream());
+        }
+    }
+
+    // Endpoints de transferência longa ficam fora do AdmissionInterceptor: cada bloco pede a sua vaga
+    private static PriorityContext.Scope attachPriority(HttpServletRequest request) {
+        return PriorityContext.attach(Priority.fromHeader(request.getHeader(Priority.HEADER)));
+    }
+
+    private static ResourceFormat resolveFile(String format, String originLocale, String destinationLocale,
+                                              HttpServletRequest request) {
+        ResourceFormat resourceFormat = ResourceFormat.resolve(format, request.getContentType());
+        if (!StringUtils.hasText(originLocale) || !StringUtils.hasText(destinationLocale)) {
+            throw new IllegalArgumentException("origin_locale e destination_locale são obrigatórios");
+        }
+        return resourceFormat;
+    }
+
+    /**
+     * Sets the response content type for {@code format} and returns the request charset, if any.
+     */
+    private static Charset startFileResponse(ResourceFormat format, HttpServletRequest request,
+                                             HttpServletResponse response) {
+        Charset requestCharset = request.getCharacterEncoding() != null ? Charset.forName(request.getCharacterEncoding()) : null;
+        response.setContentType(format.contentType());
+        response.setCharacterEncoding(format.outputCharset(requestCharset).name());
+        return requestCharset;
+    }
+}
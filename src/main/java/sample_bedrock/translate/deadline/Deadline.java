@@ -0,0 +1,122 @@
+package sample_bedrock.translate.deadline;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import sample_bedrock.translate.exception.DeadlineExceededException;
+
+/**
+ * The time budget and cancellation state of one client request. Bound to the request thread and
+ * carried into worker threads by {@link sample_bedrock.translate.service.ContextSnapshot}, so every
+ * model call made for the request sees the same budget and is aborted when the request is cancelled.
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+    private final boolean bounded;
+    private final List<Runnable> cancelListeners = new CopyOnWriteArrayList<>();
+    private volatile boolean cancelled;
+
+    private Deadline(long expiresAtNanos, boolean bounded) {
+        this.expiresAtNanos = expiresAtNanos;
+        this.bounded = bounded;
+    }
+
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos(), true);
+    }
+
+    /**
+     * No time limit, but still cancellable.
+     */
+    public static Deadline unbounded() {
+        return new Deadline(0, false);
+    }
+
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    public static Scope attach(Deadline deadline) {
+        Deadline previous = CURRENT.get();
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+        return new Scope(previous);
+    }
+
+    /**
+     * Fails fast when the current request is already past its deadline or was cancelled.
+     */
+    public static void throwIfExpired() {
+        Deadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return;
+        }
+        if (deadline.isCancelled()) {
+            throw new DeadlineExceededException("Requisição cancelada pelo cliente");
+        }
+        if (deadline.isExpired()) {
+            throw new DeadlineExceededException("Prazo da requisição esgotado");
+        }
+    }
+
+    public boolean isBounded() {
+        return bounded;
+    }
+
+    public Duration remaining() {
+        return bounded ? Duration.ofNanos(expiresAtNanos - System.nanoTime()) : Duration.ofNanos(Long.MAX_VALUE);
+    }
+
+    public boolean isExpired() {
+        return bounded && expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public void cancel() {
+        if (cancelled) {
+            return;
+        }
+        cancelled = true;
+        cancelListeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Runs {@code listener} on cancellation (right away if already cancelled). The returned handle
+     * removes the listener.
+     */
+    public Runnable onCancel(Runnable listener) {
+        cancelListeners.add(listener);
+        if (cancelled) {
+            listener.run();
+        }
+        return () -> cancelListeners.remove(listener);
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Deadline previous;
+
+        private Scope(Deadline previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
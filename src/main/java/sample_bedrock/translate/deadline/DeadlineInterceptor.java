@@ -0,0 +1,64 @@
+package sample_bedrock.translate.deadline;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import sample_bedrock.translate.exception.DeadlineExceededException;
+
+/**
+ * Turns the client's {@code X-Request-Timeout} (milliseconds, or a duration such as {@code 1500ms}
+ * or {@code 2s}) into the request's {@link Deadline}. A request that arrives with no budget left is
+ * rejected before any other work is done.
+ */
+@Component
+public class DeadlineInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER = "X-Request-Timeout";
+
+    private static final String SCOPE_ATTRIBUTE = DeadlineInterceptor.class.getName() + ".scope";
+
+    @Value("${translate.deadline.default-timeout:}")
+    private Duration defaultTimeout;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Duration timeout = parse(request.getHeader(HEADER));
+        if (timeout != null && (timeout.isZero() || timeout.isNegative())) {
+            meterRegistry.counter("translate.deadline.rejected", "protocol", "http").increment();
+            throw new DeadlineExceededException("Prazo da requisição esgotado antes do processamento");
+        }
+        Deadline deadline = timeout != null ? Deadline.after(timeout) : Deadline.unbounded();
+        request.setAttribute(SCOPE_ATTRIBUTE, Deadline.attach(deadline));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(SCOPE_ATTRIBUTE) instanceof Deadline.Scope scope) {
+            scope.close();
+        }
+    }
+
+    private Duration parse(String header) {
+        if (!StringUtils.hasText(header)) {
+            return defaultTimeout;
+        }
+        try {
+            return DurationStyle.detectAndParse(header.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Header " + HEADER + " inválido: " + header);
+        }
+    }
+}
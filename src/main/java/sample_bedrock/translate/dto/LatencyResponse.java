@@ -0,0 +1,17 @@
+package sample_bedrock.translate.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Latência por etapa, par de idiomas e modelo desta réplica")
+public record LatencyResponse(
+    @Schema(description = "Duração da janela coberta pelos histogramas, em segundos", example = "300")
+    @JsonProperty("window_seconds")
+    long windowSeconds,
+
+    @Schema(description = "Séries com amostras na janela")
+    List<LatencySnapshot> series
+) {}
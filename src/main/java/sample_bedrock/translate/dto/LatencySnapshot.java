@@ -0,0 +1,49 @@
+package sample_bedrock.translate.dto;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Latência de uma etapa para um par de idiomas e modelo, na janela corrente")
+public record LatencySnapshot(
+    @Schema(description = "Etapa: http, queue, bedrock ou parse", example = "bedrock")
+    String stage,
+
+    @Schema(description = "Par de idiomas; * quando não identificado e other acima do limite de séries", example = "pt-BR->en-US")
+    @JsonProperty("locale_pair")
+    String localePair,
+
+    @Schema(description = "Modelo; * nas etapas http e queue", example = "anthropic.claude-3-sonnet-20240229-v1:0")
+    String model,
+
+    @Schema(description = "Amostras na janela", example = "1520")
+    long count,
+
+    @JsonProperty("p50_ms")
+    double p50Ms,
+
+    @JsonProperty("p90_ms")
+    double p90Ms,
+
+    @JsonProperty("p99_ms")
+    double p99Ms,
+
+    @JsonProperty("p999_ms")
+    double p999Ms,
+
+    @JsonProperty("max_ms")
+    double maxMs,
+
+    @Schema(description = "Início do primeiro intervalo da janela")
+    @JsonProperty("window_start")
+    Instant windowStart,
+
+    @Schema(description = "Fim do último intervalo da janela")
+    @JsonProperty("window_end")
+    Instant windowEnd,
+
+    @Schema(description = "Histograma HdrHistogram comprimido, em microssegundos, codificado em Base64; mesclável entre réplicas")
+    String histogram
+) {}
@@ -0,0 +1,51 @@
+package sample_bedrock.translate.dto;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resultado da tradução para um idioma de destino")
+public record LocaleTranslation(
+    @Schema(description = "Situação da tradução neste idioma", example = "success", allowableValues = {"success", "error"})
+    String status,
+
+    @Schema(description = "Lista de termos traduzidos", example = "[\"Hi, Chafy\", \"How are you?\"]")
+    @JsonProperty("terms_translated")
+    List<String> termsTranslated,
+
+    @Schema(description = "Mensagem de erro quando a tradução deste idioma falha", example = "Falha na tradução")
+    String error,
+
+    @Schema(description = "Presente e verdadeiro quando as traduções deste idioma vieram do armazenamento de traduções anteriores", example = "true")
+    Boolean stale,
+
+    @Schema(description = "Status HTTP que este idioma teria sozinho, quando a falha é temporária (429, 503 ou 504)", example = "503")
+    @JsonProperty("http_status")
+    Integer httpStatus,
+
+    @Schema(description = "Segundos até valer a pena tentar este idioma de novo", example = "30")
+    @JsonProperty("retry_after")
+    Long retryAfter
+) {
+
+    public static LocaleTranslation success(List<String> termsTranslated) {
+        return new LocaleTranslation("success", termsTranslated, null, null, null, null);
+    }
+
+    public static LocaleTranslation success(List<String> termsTranslated, boolean stale) {
+        return new LocaleTranslation("success", termsTranslated, null, stale ? Boolean.TRUE : null, null, null);
+    }
+
+    public static LocaleTranslation failure(String error) {
+        return new LocaleTranslation("error", null, error, null, null, null);
+    }
+
+    public static LocaleTranslation failure(String error, int httpStatus, Duration retryAfter) {
+        // Retry-After em segundos inteiros, arredondado para cima, como nos headers
+        Long seconds = retryAfter != null ? Math.max(1, (retryAfter.toMillis() + 999) / 1000) : null;
+        return new LocaleTranslation("error", null, error, null, httpStatus, seconds);
+    }
+}
@@ -0,0 +1,76 @@
+package sample_bedrock.translate.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Request para tradução de termos em vários idiomas de destino")
+public class MultiTargetTranslateRequest {
+
+    @NotBlank(message = "Origin locale é obrigatório")
+    @Schema(description = "Idioma de origem, ou \"auto\" para detectar por termo", example = "pt-BR", required = true)
+    @JsonProperty("origin_locale")
+    private String originLocale;
+
+    @NotNull(message = "Lista de idiomas de destino não pode ser nula")
+    @NotEmpty(message = "Lista de idiomas de destino não pode estar vazia")
+    @Size(max = 50, message = "Máximo de 50 idiomas de destino por requisição")
+    @Schema(description = "Idiomas de destino", example = "[\"en-US\", \"es-ES\", \"fr-FR\"]", required = true)
+    @JsonProperty("destination_locales")
+    private List<@NotBlank(message = "Destination locale não pode estar em branco") String> destinationLocales;
+
+    @NotNull(message = "Lista de termos não pode ser nula")
+    @NotEmpty(message = "Lista de termos não pode estar vazia")
+    @Size(max = 100, message = "Máximo de 100 termos por requisição")
+    @Schema(description = "Lista de termos para traduzir", example = "[\"Olá Chafy\", \"Como você está?\"]", required = true)
+    private List<String> terms;
+
+    // Constructors
+    public MultiTargetTranslateRequest() {}
+
+    public MultiTargetTranslateRequest(String originLocale, List<String> destinationLocales, List<String> terms) {
+        this.originLocale = originLocale;
+        this.destinationLocales = destinationLocales;
+        this.terms = terms;
+    }
+
+    // Getters and Setters
+    public String getOriginLocale() {
+        return originLocale;
+    }
+
+    public void setOriginLocale(String originLocale) {
+        this.originLocale = originLocale;
+    }
+
+    public List<String> getDestinationLocales() {
+        return destinationLocales;
+    }
+
+    public void setDestinationLocales(List<String> destinationLocales) {
+        this.destinationLocales = destinationLocales;
+    }
+
+    public List<String> getTerms() {
+        return terms;
+    }
+
+    public void setTerms(List<String> terms) {
+        this.terms = terms;
+    }
+
+    @Override
+    public String toString() {
+        return "MultiTargetTranslateRequest{" +
+                "originLocale='" + originLocale + '\'' +
+                ", destinationLocales=" + destinationLocales +
+                ", terms=" + terms +
+                '}';
+    }
+}
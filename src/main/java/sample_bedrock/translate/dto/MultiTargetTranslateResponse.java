@@ -0,0 +1,11 @@
+package sample_bedrock.translate.dto;
+
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Response da tradução de termos em vários idiomas, indexada pelo idioma de destino")
+public record MultiTargetTranslateResponse(
+    @Schema(description = "Resultado por idioma de destino", required = true)
+    Map<String, LocaleTranslation> translations
+) {}
@@ -0,0 +1,28 @@
+package sample_bedrock.translate.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+/**
+ * Request sent between replicas to the owner of a set of translation cache keys.
+ */
+public record PeerTranslateRequest(
+    @NotBlank
+    @JsonProperty("model_id")
+    String modelId,
+
+    @NotBlank
+    @JsonProperty("origin_locale")
+    String originLocale,
+
+    @NotBlank
+    @JsonProperty("destination_locale")
+    String destinationLocale,
+
+    @NotEmpty
+    List<String> terms
+) {}
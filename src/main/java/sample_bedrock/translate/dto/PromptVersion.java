@@ -0,0 +1,14 @@
+package sample_bedrock.translate.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Prompt version the translation cache tags new entries with.
+ */
+public record PromptVersion(
+    @NotBlank
+    @JsonProperty("prompt_version")
+    String promptVersion
+) {}
@@ -0,0 +1,41 @@
+package sample_bedrock.translate.dto;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Consumo de tokens do Bedrock por tenant")
+public record TenantUsageResponse(
+    @Schema(description = "Identificador do tenant (header X-Tenant-Id)", example = "acme")
+    String tenant,
+
+    @Schema(description = "Tokens de entrada desde o início do ledger", example = "120345")
+    @JsonProperty("input_tokens")
+    long inputTokens,
+
+    @Schema(description = "Tokens de saída desde o início do ledger", example = "98012")
+    @JsonProperty("output_tokens")
+    long outputTokens,
+
+    @Schema(description = "Tokens de entrada lidos do cache de prompt do Bedrock", example = "0")
+    @JsonProperty("cache_read_tokens")
+    long cacheReadTokens,
+
+    @Schema(description = "Chamadas ao modelo", example = "431")
+    @JsonProperty("model_calls")
+    long modelCalls,
+
+    @Schema(description = "Início do período de cota corrente")
+    @JsonProperty("period_start")
+    Instant periodStart,
+
+    @Schema(description = "Tokens de entrada e saída consumidos no período corrente", example = "20500")
+    @JsonProperty("period_tokens")
+    long periodTokens,
+
+    @Schema(description = "Cota de tokens do período; ausente quando ilimitada", example = "1000000")
+    @JsonProperty("quota_tokens")
+    Long quotaTokens
+) {}
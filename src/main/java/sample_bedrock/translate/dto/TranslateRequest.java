@@ -14,7 +14,7 @@ import jakarta.validation.constraints.Size;
 public class TranslateRequest {
 
     @NotBlank(message = "Origin locale é obrigatório")
-    @Schema(description = "Idioma de origem", example = "pt-BR", required = true)
+    @Schema(description = "Idioma de origem, ou \"auto\" para detectar por termo", example = "pt-BR", required = true)
     @JsonProperty("origin_locale")
     private String originLocale;
 
@@ -29,6 +29,9 @@ public class TranslateRequest {
     @Schema(description = "Lista de termos para traduzir", example = "[\"Olá Chafy\", \"Como você está?\"]", required = true)
     private List<String> terms;
 
+    @Schema(description = "Modo parcial: responde na hora as traduções já disponíveis e devolve um continuation_token para as demais", example = "false")
+    private boolean partial;
+
     // Constructors
     public TranslateRequest() {}
 
@@ -63,12 +66,21 @@ public class TranslateRequest {
         this.terms = terms;
     }
 
+    public boolean isPartial() {
+        return partial;
+    }
+
+    public void setPartial(boolean partial) {
+        this.partial = partial;
+    }
+
     @Override
     public String toString() {
         return "TranslateRequest{" +
                 "originLocale='" + originLocale + '\'' +
                 ", destinationLocale='" + destinationLocale + '\'' +
                 ", terms=" + terms +
+                ", partial=" + partial +
                 '}';
     }
 }
\ No newline at end of file
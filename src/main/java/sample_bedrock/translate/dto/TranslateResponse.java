@@ -8,7 +8,41 @@ import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Response da tradução de termos")
 public record TranslateResponse(
-    @Schema(description = "Lista de termos traduzidos", example = "[\"Hi, Chafy\", \"How are you?\"]", required = true)
+    @Schema(description = "Lista de termos traduzidos; no modo parcial, null nas posições ainda pendentes", example = "[\"Hi, Chafy\", \"How are you?\"]", required = true)
     @JsonProperty("terms_translated")
-    List<String> termsTranslated
-) {}
\ No newline at end of file
+    List<String> termsTranslated,
+
+    @Schema(description = "Presente e verdadeiro quando o modelo está indisponível e as traduções vieram do armazenamento de traduções anteriores", example = "true")
+    Boolean stale,
+
+    @Schema(description = "Modo parcial: posições de terms_translated ainda em tradução", example = "[1]")
+    List<Integer> pending,
+
+    @Schema(description = "Modo parcial: token para buscar as posições pendentes em GET /api/v1/translate/continuations/{token}")
+    @JsonProperty("continuation_token")
+    String continuationToken
+) {
+
+    public TranslateResponse(List<String> termsTranslated) {
+        this(termsTranslated, null);
+    }
+
+    public TranslateResponse(List<String> termsTranslated, Boolean stale) {
+        this(termsTranslated, stale, null, null);
+    }
+
+    public static TranslateResponse of(List<String> termsTranslated, boolean stale) {
+        return new TranslateResponse(termsTranslated, stale ? Boolean.TRUE : null);
+    }
+
+    /**
+     * A partial-mode response: {@code null} at the pending positions, which the token fetches later.
+     * Without pending positions the response is complete and carries no token.
+     */
+    public static TranslateResponse partial(List<String> termsTranslated, boolean stale, List<Integer> pending,
+                                            String continuationToken) {
+        return pending.isEmpty()
+                ? of(termsTranslated, stale)
+                : new TranslateResponse(termsTranslated, stale ? Boolean.TRUE : null, pending, continuationToken);
+    }
+}
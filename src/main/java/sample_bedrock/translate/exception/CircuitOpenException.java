@@ -0,0 +1,21 @@
+package sample_bedrock.translate.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown while the Bedrock circuit breaker is open (or the Bedrock client is stopped) and no stale
+ * translation can answer the request; mapped to 503 with {@code Retry-After}.
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public CircuitOpenException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
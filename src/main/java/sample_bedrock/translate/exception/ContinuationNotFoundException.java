@@ -0,0 +1,11 @@
+package sample_bedrock.translate.exception;
+
+/**
+ * Thrown for a continuation token that is unknown, expired or issued to another tenant; mapped to 404.
+ */
+public class ContinuationNotFoundException extends RuntimeException {
+
+    public ContinuationNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package sample_bedrock.translate.exception;
+
+/**
+ * Thrown when a request runs out of its client-supplied time budget or is cancelled by the client;
+ * mapped to 504.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package sample_bedrock.translate.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a request is shed by admission control; mapped to 429 with {@code Retry-After}.
+ */
+public class OverloadedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public OverloadedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,12 @@
+package sample_bedrock.translate.exception;
+
+/**
+ * Thrown while reading a request body that decodes past {@code translate.request.max-decoded-size};
+ * mapped to 413.
+ */
+public class PayloadTooLargeException extends RuntimeException {
+
+    public PayloadTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package sample_bedrock.translate.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown before a model call when the tenant's token quota would be exceeded; mapped to 429 like
+ * {@link OverloadedException}, with {@code Retry-After} set to the start of the next quota period.
+ */
+public class QuotaExceededException extends OverloadedException {
+
+    public QuotaExceededException(String tenant, Duration retryAfter) {
+        super("Cota de tokens do tenant " + tenant + " esgotada no período", retryAfter);
+    }
+}
@@ -0,0 +1,14 @@
+package sample_bedrock.translate.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a single client exceeds its request or token rate; mapped to 429 like
+ * {@link OverloadedException}, with {@code Retry-After} set to when the request would conform.
+ */
+public class RateLimitExceededException extends OverloadedException {
+
+    public RateLimitExceededException(Duration retryAfter) {
+        super("Limite de requisições do cliente excedido", retryAfter);
+    }
+}
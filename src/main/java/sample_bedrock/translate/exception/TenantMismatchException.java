@@ -0,0 +1,12 @@
+package sample_bedrock.translate.exception;
+
+/**
+ * Thrown when {@code X-Tenant-Id} names a tenant other than the one bound to the request's API key;
+ * mapped to 403.
+ */
+public class TenantMismatchException extends RuntimeException {
+
+    public TenantMismatchException(String message) {
+        super(message);
+    }
+}
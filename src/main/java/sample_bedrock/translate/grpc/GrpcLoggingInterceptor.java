@@ -0,0 +1,109 @@
+package sample_bedrock.translate.grpc;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import io.grpc.ForwardingServerCall.SimpleForwardingServerCall;
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import sample_bedrock.translate.jfr.RequestEvent;
+
+/**
+ * gRPC counterpart of {@code RequestLoggingFilter}: puts request id and method into MDC around every
+ * listener callback, since gRPC may run each callback on a different executor thread, and records a
+ * {@link RequestEvent} that ends when the call is closed.
+ */
+@Component
+public class GrpcLoggingInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> REQUEST_ID = Metadata.Key.of("x-request-id", Metadata.ASCII_STRING_MARSHALLER);
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+
+        Map<String, String> context = new LinkedHashMap<>();
+        String requestId = headers.get(REQUEST_ID);
+        context.put("requestId", StringUtils.hasText(requestId) ? requestId.trim() : UUID.randomUUID().toString());
+        context.put("traceId", UUID.randomUUID().toString().replace("-", ""));
+        context.put("grpc.method", call.getMethodDescriptor().getFullMethodName());
+
+        RequestEvent event = new RequestEvent();
+        event.begin();
+        ServerCall<ReqT, RespT> recorded = new SimpleForwardingServerCall<>(call) {
+            @Override
+            public void close(Status status, Metadata trailers) {
+                if (event.shouldCommit()) {
+                    event.protocol = "grpc";
+                    event.method = context.get("grpc.method");
+                    event.status = status.getCode().name();
+                    event.tenant = headers.get(GrpcTenantInterceptor.TENANT_HEADER);
+                    event.requestId = context.get("requestId");
+                    event.commit();
+                }
+                super.close(status, trailers);
+            }
+        };
+        ServerCall.Listener<ReqT> delegate = withContext(context, () -> next.startCall(recorded, headers));
+        return new SimpleForwardingServerCallListener<>(delegate) {
+            @Override
+            public void onMessage(ReqT message) {
+                withContext(context, () -> {
+                    super.onMessage(message);
+                    return null;
+                });
+            }
+
+            @Override
+            public void onHalfClose() {
+                withContext(context, () -> {
+                    super.onHalfClose();
+                    return null;
+                });
+            }
+
+            @Override
+            public void onCancel() {
+                withContext(context, () -> {
+                    super.onCancel();
+                    return null;
+                });
+            }
+
+            @Override
+            public void onComplete() {
+                withContext(context, () -> {
+                    super.onComplete();
+                    return null;
+                });
+            }
+
+            @Override
+            public void onReady() {
+                withContext(context, () -> {
+                    super.onReady();
+                    return null;
+                });
+            }
+        };
+    }
+
+    private <T> T withContext(Map<String, String> context, Supplier<T> action) {
+        context.forEach(MDC::put);
+        try {
+            return action.get();
+        } finally {
+            context.keySet().forEach(MDC::remove);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package sample_bedrock.translate.grpc;
+
+import java.util.Locale;
+
+import org.springframework.stereotype.Component;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import sample_bedrock.translate.admission.Priority;
+
+/**
+ * Reads the {@code x-request-priority} metadata into the call context, as the REST API does with
+ * the {@code X-Request-Priority} header.
+ */
+@Component
+public class GrpcPriorityInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> PRIORITY_HEADER =
+            Metadata.Key.of(Priority.HEADER.toLowerCase(Locale.ROOT), Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final Context.Key<Priority> PRIORITY = Context.keyWithDefault("translate.priority", Priority.INTERACTIVE);
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+        Context context = Context.current().withValue(PRIORITY, Priority.fromHeader(headers.get(PRIORITY_HEADER)));
+        return Contexts.interceptCall(context, call, headers, next);
+    }
+
+    static Priority currentPriority() {
+        return PRIORITY.get();
+    }
+}
@@ -0,0 +1,93 @@
+package sample_bedrock.translate.grpc;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.MeterRegistry;
+import sample_bedrock.translate.grpc.v1.TranslateRequest;
+import sample_bedrock.translate.ratelimit.ClientRateLimiter;
+
+/**
+ * gRPC counterpart of {@code RateLimitInterceptor}. The request message is already decoded when it
+ * is charged, so the token estimate comes from the terms themselves.
+ */
+@Component
+public class GrpcRateLimitInterceptor implements ServerInterceptor {
+
+    private static final int CHARS_PER_TOKEN = 4;
+
+    @Value("${translate.ratelimit.api-key-header:X-Api-Key}")
+    private String apiKeyHeader;
+
+    @Autowired
+    private ClientRateLimiter clientRateLimiter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+        if (!clientRateLimiter.isEnabled()) {
+            return next.startCall(call, headers);
+        }
+        String clientId = clientId(call, headers);
+        return new SimpleForwardingServerCallListener<>(next.startCall(call, headers)) {
+            private boolean rejected;
+
+            @Override
+            public void onMessage(ReqT message) {
+                long waitNanos = clientRateLimiter.tryAcquire(clientId, estimateTokens(message));
+                if (waitNanos > 0) {
+                    rejected = true;
+                    meterRegistry.counter("translate.ratelimit.rejected", "protocol", "grpc").increment();
+                    Metadata trailers = new Metadata();
+                    trailers.put(TranslateGrpcService.RETRY_AFTER,
+                            String.valueOf(Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L)));
+                    call.close(Status.RESOURCE_EXHAUSTED.withDescription("Limite de requisições do cliente excedido"),
+                            trailers);
+                    return;
+                }
+                super.onMessage(message);
+            }
+
+            @Override
+            public void onHalfClose() {
+                if (!rejected) {
+                    super.onHalfClose();
+                }
+            }
+        };
+    }
+
+    // Endereço do transporte: o gRPC não passa por proxies HTTP que anexem X-Forwarded-For
+    private String clientId(ServerCall<?, ?> call, Metadata headers) {
+        String apiKey = headers.get(Metadata.Key.of(apiKeyHeader.toLowerCase(Locale.ROOT), Metadata.ASCII_STRING_MARSHALLER));
+        SocketAddress address = call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR);
+        return clientRateLimiter.clientId(apiKey,
+                address instanceof InetSocketAddress inet ? inet.getAddress().getHostAddress() : String.valueOf(address));
+    }
+
+    private long estimateTokens(Object message) {
+        if (!(message instanceof TranslateRequest request)) {
+            return 0;
+        }
+        long characters = 0;
+        for (String term : request.getTermsList()) {
+            characters += term.length();
+        }
+        return characters / CHARS_PER_TOKEN + request.getTermsCount();
+    }
+}
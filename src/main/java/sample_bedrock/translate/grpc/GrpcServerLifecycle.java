@@ -0,0 +1,113 @@
+package sample_bedrock.translate.grpc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs the gRPC server on its own port next to the servlet container. Being a lifecycle bean, it
+ * is also stopped before a CRaC checkpoint and started again on restore.
+ */
+@Component
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrpcServerLifecycle.class);
+
+    @Value("${translate.grpc.enabled:true}")
+    private boolean enabled;
+
+    @Value("${translate.grpc.port:9090}")
+    private int port;
+
+    @Value("${translate.grpc.shutdown-grace-period:10s}")
+    private Duration shutdownGracePeriod;
+
+    @Autowired
+    private TranslateGrpcService translateGrpcService;
+
+    @Autowired
+    private GrpcLoggingInterceptor loggingInterceptor;
+
+    @Autowired
+    private GrpcPriorityInterceptor priorityInterceptor;
+
+    @Autowired
+    private GrpcRateLimitInterceptor rateLimitInterceptor;
+
+    @Autowired
+    private GrpcTenantInterceptor tenantInterceptor;
+
+    // Chamadas ao Bedrock são bloqueantes: cada RPC ganha sua própria virtual thread
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private volatile Server server;
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            server = NettyServerBuilder.forPort(port)
+                    .executor(executor)
+                    .addService(ServerInterceptors.intercept(translateGrpcService, rateLimitInterceptor, tenantInterceptor, priorityInterceptor, loggingInterceptor))
+                    .build()
+                    .start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao iniciar o servidor gRPC na porta " + port, e);
+        }
+        logger.info("Servidor gRPC iniciado na porta {}", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        Server current = server;
+        if (current == null) {
+            return;
+        }
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(shutdownGracePeriod.toMillis(), TimeUnit.MILLISECONDS)) {
+                current.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            current.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+        logger.info("Servidor gRPC encerrado");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Actual listening port, or -1 when the server is not running (useful with {@code translate.grpc.port=0}).
+     */
+    public int getPort() {
+        Server current = server;
+        return current != null ? current.getPort() : -1;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,60 @@
+package sample_bedrock.translate.grpc;
+
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import sample_bedrock.translate.exception.TenantMismatchException;
+import sample_bedrock.translate.tenant.TenantContext;
+import sample_bedrock.translate.tenant.TenantResolver;
+
+/**
+ * Resolves the call's tenant from the {@code x-tenant-id} and API key metadata into the call context,
+ * as the REST API does with the headers.
+ */
+@Component
+public class GrpcTenantInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> TENANT_HEADER =
+            Metadata.Key.of(TenantContext.HEADER.toLowerCase(Locale.ROOT), Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final Context.Key<String> TENANT = Context.keyWithDefault("translate.tenant", TenantContext.ANONYMOUS);
+
+    @Value("${translate.ratelimit.api-key-header:X-Api-Key}")
+    private String apiKeyHeader;
+
+    @Autowired
+    private TenantResolver tenantResolver;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+        String tenant;
+        try {
+            String apiKey = headers.get(Metadata.Key.of(apiKeyHeader.toLowerCase(Locale.ROOT), Metadata.ASCII_STRING_MARSHALLER));
+            tenant = tenantResolver.resolve(headers.get(TENANT_HEADER), apiKey);
+        } catch (IllegalArgumentException e) {
+            call.close(Status.INVALID_ARGUMENT.withDescription(e.getMessage()), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        } catch (TenantMismatchException e) {
+            call.close(Status.PERMISSION_DENIED.withDescription(e.getMessage()), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+        return Contexts.interceptCall(Context.current().withValue(TENANT, tenant), call, headers, next);
+    }
+
+    static String currentTenant() {
+        return TENANT.get();
+    }
+}
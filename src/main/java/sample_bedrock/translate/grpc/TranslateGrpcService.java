@@ -0,0 +1,186 @@
+package sample_bedrock.translate.grpc;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.grpc.Context;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import sample_bedrock.translate.admission.AdmissionController;
+import sample_bedrock.translate.admission.PriorityContext;
+import sample_bedrock.translate.deadline.Deadline;
+import sample_bedrock.translate.exception.CircuitOpenException;
+import sample_bedrock.translate.exception.DeadlineExceededException;
+import sample_bedrock.translate.exception.OverloadedException;
+import sample_bedrock.translate.grpc.v1.TranslateChunk;
+import sample_bedrock.translate.grpc.v1.TranslateGrpc;
+import sample_bedrock.translate.grpc.v1.TranslateRequest;
+import sample_bedrock.translate.grpc.v1.TranslateResponse;
+import sample_bedrock.translate.resilience.StaleContext;
+import sample_bedrock.translate.service.StreamingTranslationService;
+import sample_bedrock.translate.service.TranslationService;
+import sample_bedrock.translate.tenant.TenantContext;
+
+/**
+ * gRPC binding of the translate operation. Requests are validated with the same constraints as
+ * {@link sample_bedrock.translate.dto.TranslateRequest} and served by the same services as the REST API.
+ */
+@Component
+public class TranslateGrpcService extends TranslateGrpc.TranslateImplBase {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslateGrpcService.class);
+
+    static final Metadata.Key<String> RETRY_AFTER = Metadata.Key.of("retry-after", Metadata.ASCII_STRING_MARSHALLER);
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private StreamingTranslationService streamingTranslationService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private AdmissionController admissionController;
+
+    @Override
+    public void translateTerms(TranslateRequest request, StreamObserver<TranslateResponse> responseObserver) {
+        logger.info("Recebida requisição gRPC de tradução: {} termos de {} para {}",
+                   request.getTermsCount(), request.getOriginLocale(), request.getDestinationLocale());
+        try (Deadline.Scope deadline = attachDeadline();
+             TenantContext.Scope tenant = TenantContext.attach(GrpcTenantInterceptor.currentTenant())) {
+            Deadline.throwIfExpired();
+            validate(toDto(request));
+            List<String> translated;
+            boolean stale;
+            try (StaleContext.Scope scope = StaleContext.open()) {
+                translated = admissionController.execute(GrpcPriorityInterceptor.currentPriority(),
+                        () -> translationService.translateTerms(
+                                request.getOriginLocale(), request.getDestinationLocale(), request.getTermsList()));
+                stale = scope.isStale();
+            }
+            responseObserver.onNext(TranslateResponse.newBuilder().addAllTermsTranslated(translated).setStale(stale).build());
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            responseObserver.onError(toStatus(e));
+        }
+    }
+
+    @Override
+    public void translateTermsStream(TranslateRequest request, StreamObserver<TranslateChunk> responseObserver) {
+        logger.info("Recebida requisição gRPC de tradução em streaming: {} termos de {} para {}",
+                   request.getTermsCount(), request.getOriginLocale(), request.getDestinationLocale());
+        ServerCallStreamObserver<TranslateChunk> serverObserver = (ServerCallStreamObserver<TranslateChunk>) responseObserver;
+        try (Deadline.Scope deadline = attachDeadline();
+             TenantContext.Scope tenant = TenantContext.attach(GrpcTenantInterceptor.currentTenant())) {
+            Deadline.throwIfExpired();
+            // Sem o limite de 100 termos: os blocos são traduzidos e enviados com memória limitada
+            sample_bedrock.translate.dto.TranslateRequest dto = toDto(request);
+            validate(dto, "originLocale", "destinationLocale");
+            // Cada bloco pede a sua vaga de admissão, como no REST
+            try (PriorityContext.Scope priority = PriorityContext.attach(GrpcPriorityInterceptor.currentPriority())) {
+                streamingTranslationService.translate(dto.getOriginLocale(), dto.getDestinationLocale(), dto.getTerms(),
+                        (offset, source, translated, stale) -> {
+                            if (serverObserver.isCancelled()) {
+                                throw Status.CANCELLED.withDescription("Cliente cancelou a chamada").asRuntimeException();
+                            }
+                            serverObserver.onNext(TranslateChunk.newBuilder()
+                                    .setOffset(offset)
+                                    .addAllTermsTranslated(StreamingTranslationService.alignToSource(offset, source, translated))
+                                    .setStale(stale)
+                                    .build());
+                        });
+            }
+            serverObserver.onCompleted();
+        } catch (Exception e) {
+            if (serverObserver.isCancelled()) {
+                logger.info("Tradução gRPC em streaming cancelada pelo cliente");
+                return;
+            }
+            serverObserver.onError(toStatus(e));
+        }
+    }
+
+    /**
+     * Binds the call's gRPC deadline to the request thread. The server context is cancelled when the
+     * client cancels, so in-flight model calls for this RPC are aborted too.
+     */
+    private Deadline.Scope attachDeadline() {
+        Context context = Context.current();
+        io.grpc.Deadline grpcDeadline = context.getDeadline();
+        Deadline deadline = grpcDeadline != null
+                ? Deadline.after(Duration.ofNanos(grpcDeadline.timeRemaining(TimeUnit.NANOSECONDS)))
+                : Deadline.unbounded();
+        context.addListener(cancelled -> {
+            // Prazo esgotado já é tratado pelo próprio Deadline; aqui só o cancelamento pelo cliente
+            if (!deadline.isExpired()) {
+                deadline.cancel();
+            }
+        }, Runnable::run);
+        return Deadline.attach(deadline);
+    }
+
+    private sample_bedrock.translate.dto.TranslateRequest toDto(TranslateRequest request) {
+        return new sample_bedrock.translate.dto.TranslateRequest(
+                request.getOriginLocale(), request.getDestinationLocale(), request.getTermsList());
+    }
+
+    private void validate(sample_bedrock.translate.dto.TranslateRequest dto, String... properties) {
+        Set<ConstraintViolation<sample_bedrock.translate.dto.TranslateRequest>> violations = new LinkedHashSet<>();
+        if (properties.length == 0) {
+            violations.addAll(validator.validate(dto));
+        }
+        for (String property : properties) {
+            violations.addAll(validator.validateProperty(dto, property));
+        }
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException("Dados de entrada inválidos: " + violations.stream()
+                    .map(violation -> violation.getPropertyPath() + "=" + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ", "{", "}")));
+        }
+    }
+
+    private StatusRuntimeException toStatus(Exception e) {
+        if (e instanceof StatusRuntimeException statusException) {
+            return statusException;
+        }
+        if (e instanceof OverloadedException overloaded) {
+            logger.warn("Requisição gRPC rejeitada por sobrecarga");
+            Metadata trailers = new Metadata();
+            trailers.put(RETRY_AFTER, String.valueOf(Math.max(1, overloaded.getRetryAfter().toSeconds())));
+            return Status.RESOURCE_EXHAUSTED.withDescription(e.getMessage()).asRuntimeException(trailers);
+        }
+        if (e instanceof CircuitOpenException circuitOpen) {
+            logger.warn("Requisição gRPC recusada com o circuito do Bedrock aberto");
+            Metadata trailers = new Metadata();
+            trailers.put(RETRY_AFTER, String.valueOf(Math.max(1, circuitOpen.getRetryAfter().toSeconds())));
+            return Status.UNAVAILABLE.withDescription(e.getMessage()).asRuntimeException(trailers);
+        }
+        if (e instanceof DeadlineExceededException) {
+            logger.warn("Requisição gRPC interrompida: {}", e.getMessage());
+            return Status.DEADLINE_EXCEEDED.withDescription(e.getMessage()).asRuntimeException();
+        }
+        if (e instanceof IllegalArgumentException) {
+            logger.error("Argumento inválido: {}", e.getMessage());
+            return Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException();
+        }
+        logger.error("Erro interno: {}", e.getMessage(), e);
+        return Status.INTERNAL.withDescription("Erro interno do servidor").asRuntimeException();
+    }
+}
@@ -0,0 +1,28 @@
+package sample_bedrock.translate.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Lookup of a batch in the translation cache, before misses are loaded locally or from peers.
+ */
+@Name("sample_bedrock.translate.CacheLookup")
+@Label("Cache Lookup")
+@Category({"Translate", "Cache"})
+@StackTrace(false)
+public final class CacheLookupEvent extends jdk.jfr.Event {
+
+    @Label("Terms")
+    public int terms;
+
+    @Label("Hits")
+    public int hits;
+
+    @Label("Local Misses")
+    public int localMisses;
+
+    @Label("Peer Misses")
+    public int peerMisses;
+}
@@ -0,0 +1,42 @@
+package sample_bedrock.translate.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One Bedrock Converse call, including circuit breaker and deadline handling.
+ */
+@Name("sample_bedrock.translate.ModelCall")
+@Label("Bedrock Converse Call")
+@Category({"Translate", "Model"})
+@Description("Chamada Converse ao Bedrock com modelo, região, tokens e request id")
+@StackTrace(false)
+public final class ModelCallEvent extends jdk.jfr.Event {
+
+    @Label("Model")
+    public String model;
+
+    @Label("Region")
+    public String region;
+
+    @Label("Tier")
+    public String tier;
+
+    @Label("Input Tokens")
+    public int inputTokens;
+
+    @Label("Output Tokens")
+    public int outputTokens;
+
+    @Label("Cache Read Tokens")
+    public int cacheReadTokens;
+
+    @Label("Bedrock Request Id")
+    public String bedrockRequestId;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,31 @@
+package sample_bedrock.translate.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Construction of the system prompt and user message of one model call.
+ */
+@Name("sample_bedrock.translate.PromptBuild")
+@Label("Prompt Build")
+@Category({"Translate", "Model"})
+@StackTrace(false)
+public final class PromptBuildEvent extends jdk.jfr.Event {
+
+    @Label("Tier")
+    public String tier;
+
+    @Label("Terms")
+    public int terms;
+
+    @Label("Destination Locales")
+    public int destinationLocales;
+
+    @Label("System Prompt Chars")
+    public int systemPromptChars;
+
+    @Label("User Message Chars")
+    public int userMessageChars;
+}
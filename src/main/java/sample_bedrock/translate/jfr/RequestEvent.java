@@ -0,0 +1,38 @@
+package sample_bedrock.translate.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One HTTP request or gRPC call, from the first filter or interceptor to the response status.
+ */
+@Name("sample_bedrock.translate.Request")
+@Label("Translate Request")
+@Category({"Translate", "Request"})
+@Description("Ciclo de vida de uma requisição HTTP ou chamada gRPC")
+@StackTrace(false)
+public final class RequestEvent extends jdk.jfr.Event {
+
+    @Label("Protocol")
+    public String protocol;
+
+    @Label("Method")
+    @Description("Método HTTP ou nome completo do método gRPC")
+    public String method;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Status")
+    @Description("Status HTTP ou código de status gRPC")
+    public String status;
+
+    @Label("Tenant")
+    public String tenant;
+
+    @Label("Request Id")
+    public String requestId;
+}
@@ -0,0 +1,25 @@
+package sample_bedrock.translate.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Parsing of the model output back into translated terms.
+ */
+@Name("sample_bedrock.translate.ResponseParse")
+@Label("Response Parse")
+@Category({"Translate", "Model"})
+@StackTrace(false)
+public final class ResponseParseEvent extends jdk.jfr.Event {
+
+    @Label("Expected Terms")
+    public int expectedTerms;
+
+    @Label("Parsed Terms")
+    public int parsedTerms;
+
+    @Label("Destination Locales")
+    public int destinationLocales;
+}
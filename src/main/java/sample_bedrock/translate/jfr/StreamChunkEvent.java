@@ -0,0 +1,28 @@
+package sample_bedrock.translate.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Translation of one chunk of a streaming or file translation.
+ */
+@Name("sample_bedrock.translate.StreamChunk")
+@Label("Stream Chunk")
+@Category({"Translate", "Pipeline"})
+@StackTrace(false)
+public final class StreamChunkEvent extends jdk.jfr.Event {
+
+    @Label("Offset")
+    public int offset;
+
+    @Label("Terms")
+    public int terms;
+
+    @Label("Origin Locale")
+    public String originLocale;
+
+    @Label("Destination Locale")
+    public String destinationLocale;
+}
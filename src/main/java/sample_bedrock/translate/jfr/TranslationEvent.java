@@ -0,0 +1,34 @@
+package sample_bedrock.translate.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One {@code translateTerms} batch, from local resolution to the last translated term.
+ */
+@Name("sample_bedrock.translate.Translation")
+@Label("Translation Batch")
+@Category({"Translate", "Pipeline"})
+@Description("Tradução de um lote de termos, incluindo cache, glossário e chamadas ao modelo")
+@StackTrace(false)
+public final class TranslationEvent extends jdk.jfr.Event {
+
+    @Label("Origin Locale")
+    public String originLocale;
+
+    @Label("Destination Locale")
+    public String destinationLocale;
+
+    @Label("Terms")
+    public int terms;
+
+    @Label("Resolved Locally")
+    @Description("Termos resolvidos sem cache nem modelo (números, URLs, glossário)")
+    public int resolvedLocally;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,89 @@
+package sample_bedrock.translate.latency;
+
+/**
+ * Per-request latency tags: the locale pair, learned only once the service starts translating, and
+ * the admission queue wait, measured before it. Bound to the request thread by
+ * {@link LatencyInterceptor} and carried into worker threads by
+ * {@link sample_bedrock.translate.service.ContextSnapshot}; the HTTP and queue stages are recorded
+ * with these tags when the request completes.
+ */
+public final class LatencyContext {
+
+    private static final ThreadLocal<Tags> CURRENT = new ThreadLocal<>();
+
+    private LatencyContext() {
+    }
+
+    public static Tags current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Tags the current request with its locale pair; the first pair translated wins.
+     */
+    public static void localePair(String originLocale, String destinationLocale) {
+        Tags tags = CURRENT.get();
+        if (tags != null && tags.localePair == null) {
+            tags.localePair = LatencyHistograms.localePair(originLocale, destinationLocale);
+        }
+    }
+
+    public static void queued(long nanos) {
+        Tags tags = CURRENT.get();
+        if (tags != null) {
+            tags.queueNanos = nanos;
+        }
+    }
+
+    public static Scope attach(Tags tags) {
+        Tags previous = CURRENT.get();
+        set(tags);
+        return new Scope(previous);
+    }
+
+    private static void set(Tags tags) {
+        if (tags == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(tags);
+        }
+    }
+
+    public static final class Tags {
+
+        private final long startNanos;
+        // Escritos por threads de trabalho (stream, multi-idioma) e lidos na conclusão da requisição
+        private volatile String localePair;
+        private volatile long queueNanos = -1;
+
+        public Tags(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        long startNanos() {
+            return startNanos;
+        }
+
+        String localePair() {
+            return localePair;
+        }
+
+        long queueNanos() {
+            return queueNanos;
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Tags previous;
+
+        private Scope(Tags previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            set(previous);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package sample_bedrock.translate.latency;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import sample_bedrock.translate.dto.LatencySnapshot;
+import sample_bedrock.translate.warmup.WarmupContext;
+
+/**
+ * Latency histograms per stage, locale pair and model. Each series writes into an HdrHistogram
+ * {@link Recorder}, whose {@code recordValue} is wait-free, so the request path never takes a lock.
+ * Every {@code translate.latency.interval} a background thread swaps the recorders' interval
+ * histograms into a ring covering {@code translate.latency.window}; snapshots merge the ring, so
+ * they cover the closed intervals of the window, not the one being recorded. Values are recorded in
+ * microseconds.
+ */
+@Component
+public class LatencyHistograms {
+
+    private static final Logger logger = LoggerFactory.getLogger(LatencyHistograms.class);
+
+    /** Tag of series not split by that dimension (HTTP and queue have no model). */
+    public static final String ANY = "*";
+
+    /** Locale pair of series recorded after {@code translate.latency.max-series} was reached. */
+    public static final String OTHER = "other";
+
+    static final String METRIC_OVERFLOW = "translate.latency.overflow";
+
+    // Precisão de 1% (dois dígitos significativos) mantém cada histograma em poucos KB
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    @Value("${translate.latency.enabled:true}")
+    private boolean enabled;
+
+    @Value("${translate.latency.interval:1m}")
+    private Duration interval;
+
+    @Value("${translate.latency.window:5m}")
+    private Duration window;
+
+    @Value("${translate.latency.max-series:500}")
+    private int maxSeries;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<SeriesKey, Series> series = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("latency-histograms").daemon().factory());
+        scheduler.scheduleAtFixedRate(this::rotateQuietly, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public static String localePair(String originLocale, String destinationLocale) {
+        return originLocale + "->" + destinationLocale;
+    }
+
+    public void record(LatencyStage stage, String localePair, String model, long nanos) {
+        // Latências do backend de aquecimento são quase zero e puxariam os percentis para baixo após cada início
+        if (!enabled || nanos < 0 || WarmupContext.isActive()) {
+            return;
+        }
+        SeriesKey key = new SeriesKey(stage, localePair != null ? localePair : ANY, model != null ? model : ANY);
+        Series target = series.get(key);
+        if (target == null) {
+            target = register(key);
+        }
+        target.recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * Records the HTTP stage of a finished request and, when it went through admission, its queue wait.
+     */
+    public void recordRequest(LatencyContext.Tags tags, long endNanos) {
+        record(LatencyStage.HTTP, tags.localePair(), ANY, endNanos - tags.startNanos());
+        if (tags.queueNanos() >= 0) {
+            record(LatencyStage.QUEUE, tags.localePair(), ANY, tags.queueNanos());
+        }
+    }
+
+    private Series register(SeriesKey key) {
+        // Pares de idioma vêm do cliente: acima do limite as séries novas se juntam em "other"
+        if (series.size() >= maxSeries && !key.localePair().equals(OTHER)) {
+            meterRegistry.counter(METRIC_OVERFLOW).increment();
+            SeriesKey folded = new SeriesKey(key.stage(), OTHER, key.model());
+            Series existing = series.get(folded);
+            return existing != null ? existing : series.computeIfAbsent(folded, ignored -> new Series(slots()));
+        }
+        return series.computeIfAbsent(key, ignored -> new Series(slots()));
+    }
+
+    private int slots() {
+        return (int) Math.max(1, window.toMillis() / Math.max(1, interval.toMillis()));
+    }
+
+    private void rotateQuietly() {
+        try {
+            rotate();
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao rotacionar os histogramas de latência: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Closes the current interval of every series; series with nothing recorded in the whole window
+     * are dropped.
+     */
+    void rotate() {
+        // Série ociosa removida pode perder um valor gravado no mesmo instante; a seguinte cria outra
+        series.forEach((key, current) -> {
+            if (current.rotate()) {
+                series.remove(key, current);
+            }
+        });
+    }
+
+    /**
+     * Percentiles and compressed histogram of every series over the window, optionally of one stage.
+     */
+    public List<LatencySnapshot> snapshot(LatencyStage stage) {
+        List<LatencySnapshot> snapshots = new ArrayList<>();
+        series.forEach((key, current) -> {
+            if (stage != null && key.stage() != stage) {
+                return;
+            }
+            Histogram merged = current.merged();
+            if (merged.getTotalCount() > 0) {
+                snapshots.add(toSnapshot(key, merged));
+            }
+        });
+        snapshots.sort(Comparator.comparing(LatencySnapshot::stage)
+                .thenComparing(LatencySnapshot::localePair)
+                .thenComparing(LatencySnapshot::model));
+        return snapshots;
+    }
+
+    public Duration window() {
+        return Duration.ofMillis(slots() * interval.toMillis());
+    }
+
+    private static LatencySnapshot toSnapshot(SeriesKey key, Histogram histogram) {
+        return new LatencySnapshot(key.stage().tag(), key.localePair(), key.model(), histogram.getTotalCount(),
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()), Instant.ofEpochMilli(histogram.getStartTimeStamp()),
+                Instant.ofEpochMilli(histogram.getEndTimeStamp()), encode(histogram));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * Base64 of the histogram's compressed encoding, the form other replicas can merge.
+     */
+    public static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    public static Histogram decode(String encoded) {
+        try {
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(Base64.getDecoder().decode(encoded)), 0);
+        } catch (DataFormatException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Histograma comprimido inválido: " + e.getMessage(), e);
+        }
+    }
+
+    record SeriesKey(LatencyStage stage, String localePair, String model) {
+    }
+
+    private static final class Series {
+
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        private final Deque<Histogram> intervals = new ArrayDeque<>();
+        private final int slots;
+        private Histogram recycled;
+
+        private Series(int slots) {
+            this.slots = slots;
+        }
+
+        // Só a thread de rotação troca intervalos; leitores de snapshot sincronizam no anel
+        private boolean rotate() {
+            Histogram closed = recorder.getIntervalHistogram(recycled);
+            synchronized (this) {
+                intervals.addLast(closed);
+                recycled = intervals.size() > slots ? intervals.removeFirst() : null;
+                return intervals.stream().allMatch(histogram -> histogram.getTotalCount() == 0);
+            }
+        }
+
+        private synchronized Histogram merged() {
+            Histogram merged = new Histogram(SIGNIFICANT_DIGITS);
+            long start = Long.MAX_VALUE;
+            long end = 0;
+            for (Histogram histogram : intervals) {
+                merged.add(histogram);
+                start = Math.min(start, histogram.getStartTimeStamp());
+                end = Math.max(end, histogram.getEndTimeStamp());
+            }
+            merged.setStartTimeStamp(start == Long.MAX_VALUE ? 0 : start);
+            merged.setEndTimeStamp(end);
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package sample_bedrock.translate.latency;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Opens the request's {@link LatencyContext} and records the HTTP and queue stages on completion.
+ */
+@Component
+public class LatencyInterceptor implements HandlerInterceptor {
+
+    private static final String TAGS_ATTRIBUTE = LatencyInterceptor.class.getName() + ".tags";
+    private static final String SCOPE_ATTRIBUTE = LatencyInterceptor.class.getName() + ".scope";
+
+    @Autowired
+    private LatencyHistograms latencyHistograms;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        LatencyContext.Tags tags = new LatencyContext.Tags(System.nanoTime());
+        request.setAttribute(TAGS_ATTRIBUTE, tags);
+        request.setAttribute(SCOPE_ATTRIBUTE, LatencyContext.attach(tags));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(SCOPE_ATTRIBUTE) instanceof LatencyContext.Scope scope) {
+            scope.close();
+        }
+        if (request.getAttribute(TAGS_ATTRIBUTE) instanceof LatencyContext.Tags tags) {
+            latencyHistograms.recordRequest(tags, System.nanoTime());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package sample_bedrock.translate.latency;
+
+import java.util.Locale;
+
+/**
+ * Stages of a translation whose latency is recorded by {@link LatencyHistograms}.
+ */
+public enum LatencyStage {
+    /** Whole HTTP request, from the first interceptor to completion. */
+    HTTP,
+    /** Wait for an admission slot. */
+    QUEUE,
+    /** Converse call to Bedrock, circuit breaker included. */
+    BEDROCK,
+    /** Parsing the model's answer back into terms. */
+    PARSE;
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static LatencyStage fromTag(String value) {
+        for (LatencyStage stage : values()) {
+            if (stage.tag().equalsIgnoreCase(value.strip())) {
+                return stage;
+            }
+        }
+        throw new IllegalArgumentException("Etapa de latência inválida: " + value);
+    }
+}
@@ -0,0 +1,83 @@
+package sample_bedrock.translate.prefetch;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min sketch: approximate counts of string keys in fixed memory. An estimate never undercounts;
+ * it overcounts by at most {@code 2N / width} with probability {@code 1 - 2^-depth}, where {@code N}
+ * is the total count. Updates are lock-free; {@link #halve()} ages all counts so old traffic fades.
+ */
+final class CountMinSketch {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int depth;
+    private final int mask;
+    private final AtomicLongArray counters;
+
+    CountMinSketch(int width, int depth) {
+        if (width < 1 || Integer.bitCount(width) != 1 || depth < 1) {
+            throw new IllegalArgumentException("Largura do sketch deve ser potência de 2 e profundidade positiva");
+        }
+        this.depth = depth;
+        this.mask = width - 1;
+        this.counters = new AtomicLongArray(width * depth);
+    }
+
+    /**
+     * Adds one occurrence of {@code key} and returns its new estimate.
+     */
+    long add(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(row, h1, h2)));
+        }
+        return estimate;
+    }
+
+    long estimate(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, h1, h2)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Halves every counter. Concurrent {@link #add} calls may land before or after the halving.
+     */
+    void halve() {
+        for (int index = 0; index < counters.length(); index++) {
+            counters.updateAndGet(index, count -> count >>> 1);
+        }
+    }
+
+    // Kirsch-Mitzenmacher: as linhas usam h1 + i*h2, dois hashes bastam para todas
+    private int index(int row, int h1, int h2) {
+        return row * (mask + 1) + ((h1 + row * h2) & mask);
+    }
+
+    private static long hash(String key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte value : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= value & 0xff;
+            hash *= FNV_PRIME;
+        }
+        // Finalizador do MurmurHash3: espalha os bits antes de dividir em h1 e h2
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        // h2 ímpar é invertível módulo a largura: chaves com o mesmo h1 e h2 diferentes se separam nas outras linhas
+        return hash | 1L << 32;
+    }
+}
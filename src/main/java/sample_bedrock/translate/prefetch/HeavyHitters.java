@@ -0,0 +1,139 @@
+package sample_bedrock.translate.prefetch;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Finds the most requested terms of each origin locale and the destinations each origin is usually
+ * translated into. Terms are counted in a {@link CountMinSketch}; a term whose estimate reaches
+ * {@code minCount} becomes a candidate, and {@link #decay()} halves all counts and trims the
+ * candidates to the top {@code maxTerms}. Destination counts are exact: locale pairs are few, and
+ * pairs beyond {@link #MAX_LOCALE_PAIRS} are not tracked.
+ */
+final class HeavyHitters {
+
+    static final int SKETCH_WIDTH = 1 << 14;
+    static final int SKETCH_DEPTH = 4;
+    static final int MAX_LOCALE_PAIRS = 1000;
+
+    private final long minCount;
+    private final int maxTerms;
+    private final CountMinSketch sketch = new CountMinSketch(SKETCH_WIDTH, SKETCH_DEPTH);
+    private final ConcurrentHashMap<String, Candidate> candidates = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, PairCount> pairs = new ConcurrentHashMap<>();
+
+    HeavyHitters(long minCount, int maxTerms) {
+        this.minCount = Math.max(1, minCount);
+        this.maxTerms = Math.max(1, maxTerms);
+    }
+
+    void observe(String originLocale, String destinationLocale, List<String> terms) {
+        String origin = originLocale.toLowerCase(Locale.ROOT);
+        String pairKey = origin + '\u0000' + destinationLocale.toLowerCase(Locale.ROOT);
+        PairCount pair = pairs.get(pairKey);
+        if (pair == null && pairs.size() < MAX_LOCALE_PAIRS) {
+            pair = pairs.computeIfAbsent(pairKey, key -> new PairCount(destinationLocale));
+        }
+        if (pair != null) {
+            pair.count.addAndGet(terms.size());
+        }
+
+        for (String term : terms) {
+            String termKey = origin + '\u0000' + term;
+            long estimate = sketch.add(termKey);
+            if (estimate < minCount) {
+                continue;
+            }
+            Candidate candidate = candidates.get(termKey);
+            // Folga de 2x até o próximo decay; sem ela, candidatos antigos bloqueariam os novos
+            if (candidate == null && candidates.size() < 2 * maxTerms) {
+                candidate = candidates.computeIfAbsent(termKey, key -> new Candidate(originLocale, term));
+            }
+            if (candidate != null) {
+                candidate.estimate = estimate;
+            }
+        }
+    }
+
+    /**
+     * Current candidates, most requested first, at most {@code maxTerms}.
+     */
+    List<HotTerm> hotTerms() {
+        return candidates.values().stream()
+                .map(candidate -> new HotTerm(candidate.originLocale, candidate.term, candidate.estimate))
+                .sorted(Comparator.comparingLong(HotTerm::estimate).reversed())
+                .limit(maxTerms)
+                .toList();
+    }
+
+    /**
+     * The destinations {@code originLocale} is most often translated into, most requested first.
+     */
+    List<String> destinations(String originLocale, int limit) {
+        String origin = originLocale.toLowerCase(Locale.ROOT) + '\u0000';
+        return pairs.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(origin))
+                .map(Map.Entry::getValue)
+                .sorted(Comparator.comparingLong((PairCount pair) -> pair.count.get()).reversed())
+                .limit(limit)
+                .map(pair -> pair.destinationLocale)
+                .toList();
+    }
+
+    /**
+     * Halves every count, drops candidates that fell below {@code minCount} and keeps the top
+     * {@code maxTerms}: a term has to stay popular to stay hot.
+     */
+    void decay() {
+        sketch.halve();
+        pairs.values().removeIf(pair -> pair.count.updateAndGet(count -> count >>> 1) == 0);
+        candidates.forEach((key, candidate) -> {
+            long estimate = sketch.estimate(key);
+            if (estimate < minCount) {
+                candidates.remove(key, candidate);
+            } else {
+                candidate.estimate = estimate;
+            }
+        });
+        if (candidates.size() > maxTerms) {
+            candidates.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().estimate))
+                    .limit(candidates.size() - maxTerms)
+                    .toList()
+                    .forEach(entry -> candidates.remove(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    int size() {
+        return candidates.size();
+    }
+
+    record HotTerm(String originLocale, String term, long estimate) {
+    }
+
+    private static final class Candidate {
+
+        private final String originLocale;
+        private final String term;
+        private volatile long estimate;
+
+        private Candidate(String originLocale, String term) {
+            this.originLocale = originLocale;
+            this.term = term;
+        }
+    }
+
+    private static final class PairCount {
+
+        private final String destinationLocale;
+        private final AtomicLong count = new AtomicLong();
+
+        private PairCount(String destinationLocale) {
+            this.destinationLocale = destinationLocale;
+        }
+    }
+}
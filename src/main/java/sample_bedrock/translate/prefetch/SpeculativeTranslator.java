@@ -0,0 +1,217 @@
+package sample_bedrock.translate.prefetch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import sample_bedrock.translate.cache.TranslationCache;
+import sample_bedrock.translate.resilience.CircuitBreaker;
+import sample_bedrock.translate.warmup.WarmupContext;
+
+/**
+ * Speculative pre-translation of heavy hitters. Requests follow a power law, and a term translated
+ * into one locale is usually asked for in the origin's other common locales soon after. Live
+ * traffic is counted in {@link HeavyHitters}; every {@code interval}, while no model call is in
+ * flight and the circuit is closed, the hottest terms are translated into the most requested
+ * destinations of their origin and stored in the cache, so the next request for them is a hit.
+ *
+ * <p>Only keys owned by this replica and missing from the cache are translated, at most
+ * {@code batch-size} terms per call and {@code max-calls} calls per run, and the idle check is
+ * repeated before every call: the first live model call stops the run.
+ */
+@Component
+public class SpeculativeTranslator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpeculativeTranslator.class);
+
+    static final String METRIC_TERMS = "translate.prefetch.terms";
+    static final String METRIC_SKIPPED = "translate.prefetch.skipped";
+
+    @Value("${translate.prefetch.enabled:false}")
+    private boolean enabled;
+
+    @Value("${translate.prefetch.interval:5s}")
+    private Duration interval;
+
+    @Value("${translate.prefetch.decay-interval:10m}")
+    private Duration decayInterval;
+
+    @Value("${translate.prefetch.min-count:5}")
+    private long minCount;
+
+    @Value("${translate.prefetch.max-hot-terms:500}")
+    private int maxHotTerms;
+
+    @Value("${translate.prefetch.max-targets:3}")
+    private int maxTargets;
+
+    @Value("${translate.prefetch.batch-size:20}")
+    private int batchSize;
+
+    @Value("${translate.prefetch.max-calls:2}")
+    private int maxCalls;
+
+    @Autowired
+    private TranslationCache translationCache;
+
+    @Autowired
+    private CircuitBreaker circuitBreaker;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final AtomicInteger modelCallsInFlight = new AtomicInteger();
+    private HeavyHitters heavyHitters;
+    private ScheduledExecutorService scheduler;
+    private volatile Loader loader;
+
+    @PostConstruct
+    void init() {
+        heavyHitters = new HeavyHitters(minCount, maxHotTerms);
+        Gauge.builder("translate.prefetch.hot-terms", this, translator -> translator.heavyHitters.size())
+                .register(meterRegistry);
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("prefetch").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::prefetchSafely, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(heavyHitters::decay, decayInterval.toMillis(), decayInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Registers how hot terms are translated outside any request.
+     */
+    public void registerLoader(Loader loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Counts terms of a live request. Warmup traffic is ignored.
+     */
+    public void observe(String originLocale, String destinationLocale, List<String> terms) {
+        if (!enabled || terms.isEmpty() || WarmupContext.isActive()) {
+            return;
+        }
+        heavyHitters.observe(originLocale, destinationLocale, terms);
+    }
+
+    // Chamadas especulativas também passam por aqui, mas a execução é síncrona: ao checar, as dela já terminaram
+    public void modelCallStarted() {
+        modelCallsInFlight.incrementAndGet();
+    }
+
+    public void modelCallFinished() {
+        modelCallsInFlight.decrementAndGet();
+    }
+
+    private void prefetchSafely() {
+        try {
+            prefetch();
+        } catch (RuntimeException e) {
+            logger.warn("Falha na pré-tradução especulativa: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Runs one pre-translation round; the scheduler does the same every {@code interval}.
+     * Returns the number of model calls made.
+     */
+    int prefetch() {
+        Loader current = loader;
+        if (current == null) {
+            return 0;
+        }
+        Map<String, Group> groups = groups();
+        int calls = 0;
+        for (Group group : groups.values()) {
+            if (calls >= maxCalls) {
+                break;
+            }
+            if (!idle()) {
+                return calls;
+            }
+            try {
+                int translated = translationCache.prefetch(group.originLocale(), group.destinationLocale(), group.terms(),
+                        batchSize, misses -> current.translate(group.originLocale(), group.destinationLocale(), misses));
+                if (translated > 0) {
+                    calls++;
+                    meterRegistry.counter(METRIC_TERMS, "result", "translated").increment(translated);
+                    logger.debug("{} termos pré-traduzidos de {} para {}", translated,
+                                group.originLocale(), group.destinationLocale());
+                }
+            } catch (RuntimeException e) {
+                calls++;
+                meterRegistry.counter(METRIC_TERMS, "result", "failed").increment();
+                logger.warn("Falha ao pré-traduzir termos de {} para {}: {}", group.originLocale(),
+                           group.destinationLocale(), e.getMessage());
+            }
+        }
+        return calls;
+    }
+
+    /**
+     * Hot terms grouped by locale pair, hottest first, into the {@code max-targets} most requested
+     * destinations of their origin.
+     */
+    private Map<String, Group> groups() {
+        Map<String, Group> groups = new LinkedHashMap<>();
+        Map<String, List<String>> destinationsByOrigin = new LinkedHashMap<>();
+        for (HeavyHitters.HotTerm hot : heavyHitters.hotTerms()) {
+            List<String> destinations = destinationsByOrigin.computeIfAbsent(hot.originLocale(),
+                    origin -> heavyHitters.destinations(origin, maxTargets));
+            for (String destination : destinations) {
+                groups.computeIfAbsent(hot.originLocale() + '\u0000' + destination,
+                        pair -> new Group(hot.originLocale(), destination, new ArrayList<>())).terms().add(hot.term());
+            }
+        }
+        return groups;
+    }
+
+    // Capacidade ociosa: nenhuma chamada ao modelo em andamento e circuito fechado
+    private boolean idle() {
+        if (circuitBreaker.state() != CircuitBreaker.State.CLOSED) {
+            meterRegistry.counter(METRIC_SKIPPED, "reason", "circuit").increment();
+            return false;
+        }
+        if (modelCallsInFlight.get() > 0) {
+            meterRegistry.counter(METRIC_SKIPPED, "reason", "busy").increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Translates terms of one locale pair outside any request.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        List<String> translate(String originLocale, String destinationLocale, List<String> terms);
+    }
+
+    private record Group(String originLocale, String destinationLocale, List<String> terms) {
+    }
+}
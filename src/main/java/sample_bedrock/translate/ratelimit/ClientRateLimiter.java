@@ -0,0 +1,234 @@
+package sample_bedrock.translate.ratelimit;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Per-client token buckets for request count and estimated token volume.
+ * <p>
+ * Each bucket is kept in GCRA form: a single "theoretical arrival time" updated with a CAS, which is
+ * equivalent to a token bucket without a refill thread or lock. Clients are spread over independent
+ * {@link ConcurrentHashMap} stripes; an idle client's buckets are full again, so a periodic sweep drops
+ * them one stripe at a time without blocking lookups.
+ * <p>
+ * Only API keys listed in {@code translate.ratelimit.api-keys} get their own buckets; any other key
+ * is ignored and the client is keyed by address, so minting keys does not mint fresh buckets.
+ */
+@Component
+public class ClientRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientRateLimiter.class);
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Value("${translate.ratelimit.enabled:false}")
+    private boolean enabled;
+
+    @Value("${translate.ratelimit.requests-per-second:20}")
+    private double requestsPerSecond;
+
+    @Value("${translate.ratelimit.request-burst:40}")
+    private long requestBurst;
+
+    @Value("${translate.ratelimit.tokens-per-second:5000}")
+    private double tokensPerSecond;
+
+    @Value("${translate.ratelimit.token-burst:50000}")
+    private long tokenBurst;
+
+    @Value("${translate.ratelimit.api-keys:}")
+    private Set<String> apiKeys = Set.of();
+
+    @Value("${translate.ratelimit.stripes:64}")
+    private int stripeCount;
+
+    @Value("${translate.ratelimit.eviction-interval:60s}")
+    private Duration evictionInterval;
+
+    private LongSupplier clock = System::nanoTime;
+
+    private ConcurrentHashMap<String, ClientBuckets>[] stripes;
+    private long requestInterval;
+    private long requestTolerance;
+    private long tokenInterval;
+    private long tokenTolerance;
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    @SuppressWarnings("unchecked")
+    void init() {
+        int count = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        stripes = new ConcurrentHashMap[count];
+        for (int index = 0; index < count; index++) {
+            stripes[index] = new ConcurrentHashMap<>();
+        }
+        requestInterval = (long) (NANOS_PER_SECOND / requestsPerSecond);
+        requestTolerance = requestInterval * requestBurst;
+        tokenInterval = Math.max(1, (long) (NANOS_PER_SECOND / tokensPerSecond));
+        tokenTolerance = tokenInterval * tokenBurst;
+
+        if (enabled && !evictionInterval.isZero() && !evictionInterval.isNegative()) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("ratelimit-evict").daemon().factory());
+            scheduler.scheduleWithFixedDelay(this::evictIdle,
+                    evictionInterval.toMillis(), evictionInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Bucket key for a caller: its API key when that key is configured, otherwise its address.
+     */
+    public String clientId(String apiKey, String address) {
+        if (apiKey != null && !apiKey.isBlank() && apiKeys.contains(apiKey.trim())) {
+            return "key:" + apiKey.trim();
+        }
+        return "ip:" + address;
+    }
+
+    /**
+     * Charges one request and {@code tokens} estimated tokens to the client. A request larger than
+     * the token burst conforms only against a full bucket and is still charged in full, so the
+     * client waits out the whole volume afterwards.
+     *
+     * @return {@code 0} when allowed, otherwise the nanoseconds until the same request would conform
+     */
+    public long tryAcquire(String clientId, long tokens) {
+        if (!enabled) {
+            return 0;
+        }
+        ClientBuckets buckets = bucketsOf(clientId);
+        long now = clock.getAsLong();
+
+        long requestWait = charge(buckets.requests, now, requestInterval, requestTolerance);
+        if (requestWait > 0) {
+            return requestWait;
+        }
+        long tokenWait = charge(buckets.tokens, now, tokenIncrement(tokens), tokenTolerance);
+        if (tokenWait > 0) {
+            // Devolve a requisição já cobrada: ela não será atendida
+            buckets.requests.addAndGet(-requestInterval);
+        }
+        return tokenWait;
+    }
+
+    /**
+     * Charges tokens found only after the request was admitted (bodies whose size was estimated).
+     * The debit always applies: it delays the client's next requests instead of failing this one.
+     */
+    public void debit(String clientId, long tokens) {
+        if (!enabled || tokens <= 0) {
+            return;
+        }
+        AtomicLong theoreticalArrival = bucketsOf(clientId).tokens;
+        long now = clock.getAsLong();
+        long increment = tokenIncrement(tokens);
+        theoreticalArrival.accumulateAndGet(now, (current, at) -> saturatedAdd(Math.max(current, at), increment));
+    }
+
+    private long tokenIncrement(long tokens) {
+        long count = Math.max(0, tokens);
+        return count > Long.MAX_VALUE / tokenInterval ? Long.MAX_VALUE / 2 : count * tokenInterval;
+    }
+
+    private static long saturatedAdd(long value, long increment) {
+        long sum = value + increment;
+        return ((value ^ sum) & (increment ^ sum)) < 0 ? Long.MAX_VALUE / 2 : sum;
+    }
+
+    /**
+     * GCRA step: the request conforms if the new theoretical arrival time is within the burst
+     * tolerance of now. An increment larger than the tolerance conforms only when the bucket is full.
+     */
+    private long charge(AtomicLong theoreticalArrival, long now, long increment, long tolerance) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = saturatedAdd(Math.max(current, now), increment);
+            long excess = next - now - Math.max(tolerance, increment);
+            if (excess > 0) {
+                return excess;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private ClientBuckets bucketsOf(String clientId) {
+        ConcurrentHashMap<String, ClientBuckets> stripe = stripeOf(clientId);
+        ClientBuckets buckets = stripe.get(clientId);
+        if (buckets == null) {
+            long now = clock.getAsLong();
+            buckets = stripe.computeIfAbsent(clientId, key -> new ClientBuckets(now));
+        }
+        return buckets;
+    }
+
+    private ConcurrentHashMap<String, ClientBuckets> stripeOf(String clientId) {
+        int hash = clientId.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    /**
+     * Drops clients whose buckets have fully refilled; a later request recreates them in the same state.
+     */
+    int evictIdle() {
+        long now = clock.getAsLong();
+        int evicted = 0;
+        for (ConcurrentHashMap<String, ClientBuckets> stripe : stripes) {
+            int before = stripe.size();
+            stripe.values().removeIf(buckets -> buckets.requests.get() <= now && buckets.tokens.get() <= now);
+            evicted += before - stripe.size();
+        }
+        if (evicted > 0) {
+            logger.debug("Limitador de taxa: {} clientes ociosos removidos", evicted);
+        }
+        return evicted;
+    }
+
+    int trackedClients() {
+        int total = 0;
+        for (ConcurrentHashMap<String, ClientBuckets> stripe : stripes) {
+            total += stripe.size();
+        }
+        return total;
+    }
+
+    void setClock(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static final class ClientBuckets {
+
+        private final AtomicLong requests;
+        private final AtomicLong tokens;
+
+        private ClientBuckets(long now) {
+            this.requests = new AtomicLong(now);
+            this.tokens = new AtomicLong(now);
+        }
+    }
+}
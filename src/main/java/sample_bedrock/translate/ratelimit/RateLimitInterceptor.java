@@ -0,0 +1,90 @@
+package sample_bedrock.translate.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import sample_bedrock.translate.config.ClientIpResolver;
+import sample_bedrock.translate.config.ContentEncodingFilter;
+import sample_bedrock.translate.exception.RateLimitExceededException;
+import sample_bedrock.translate.warmup.WarmupContext;
+
+/**
+ * Charges each translation request to its client (configured API key, or client address) before
+ * any body is read. Token volume is estimated from {@code Content-Length}, about four bytes of JSON
+ * per token; bodies of unknown length (chunked or compressed) are charged a fixed estimate up front
+ * and the bytes actually decoded beyond it are debited when the request completes. GET requests are
+ * charged by their query string.
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final int BYTES_PER_TOKEN = 4;
+    private static final String CHARGE_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".charge";
+
+    @Value("${translate.ratelimit.api-key-header:X-Api-Key}")
+    private String apiKeyHeader;
+
+    @Value("${translate.trusted-proxies:0}")
+    private int trustedProxies;
+
+    @Value("${translate.ratelimit.unknown-length-tokens:2000}")
+    private long unknownLengthTokens;
+
+    @Autowired
+    private ClientRateLimiter clientRateLimiter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!clientRateLimiter.isEnabled() || WarmupContext.isActive()) {
+            return true;
+        }
+        long tokens = estimateTokens(request);
+        String clientId = clientRateLimiter.clientId(request.getHeader(apiKeyHeader),
+                ClientIpResolver.resolve(request, trustedProxies));
+        long waitNanos = clientRateLimiter.tryAcquire(clientId, tokens);
+        if (waitNanos > 0) {
+            meterRegistry.counter("translate.ratelimit.rejected", "protocol", "http").increment();
+            throw new RateLimitExceededException(Duration.ofNanos(waitNanos));
+        }
+        request.setAttribute(CHARGE_ATTRIBUTE, new Charge(clientId, tokens));
+        return true;
+    }
+
+    // Corpo de tamanho desconhecido: cobra a diferença entre o que foi decodificado e a estimativa
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(CHARGE_ATTRIBUTE) instanceof Charge charge)
+                || !(request.getAttribute(ContentEncodingFilter.BODY_BYTES) instanceof AtomicLong bodyBytes)) {
+            return;
+        }
+        long actual = (bodyBytes.get() + BYTES_PER_TOKEN - 1) / BYTES_PER_TOKEN;
+        if (actual > charge.tokens()) {
+            meterRegistry.counter("translate.ratelimit.debited.tokens").increment(actual - charge.tokens());
+            clientRateLimiter.debit(charge.clientId(), actual - charge.tokens());
+        }
+    }
+
+    // GET não tem corpo: os termos (ou o token de continuação) vêm na query string
+    private long estimateTokens(HttpServletRequest request) {
+        if ("GET".equals(request.getMethod())) {
+            String query = request.getQueryString();
+            return query != null ? (query.length() + BYTES_PER_TOKEN - 1) / BYTES_PER_TOKEN : 0;
+        }
+        long contentLength = request.getContentLengthLong();
+        return contentLength >= 0 ? (contentLength + BYTES_PER_TOKEN - 1) / BYTES_PER_TOKEN : unknownLengthTokens;
+    }
+
+    private record Charge(String clientId, long tokens) {
+    }
+}
@@ -0,0 +1,273 @@
+package sample_bedrock.translate.resilience;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import sample_bedrock.translate.exception.CircuitOpenException;
+import sample_bedrock.translate.exception.DeadlineExceededException;
+import sample_bedrock.translate.warmup.WarmupContext;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+
+/**
+ * Circuit breaker around the Converse call. The last {@code window-size} calls are kept in a ring;
+ * once {@code minimum-calls} were seen, the circuit opens when the failure rate or the slow-call rate
+ * reaches its threshold. While open, calls fail immediately with {@link CircuitOpenException}. After
+ * {@code open-duration} up to {@code half-open-probes} calls go through: all of them succeeding
+ * closes the circuit, any failure or slow call opens it again.
+ */
+@Component
+public class CircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private static final String METRIC_TRANSITIONS = "translate.breaker.transitions";
+    private static final String METRIC_REJECTED = "translate.breaker.rejected";
+
+    private static final byte OUTCOME_SUCCESS = 0;
+    private static final byte OUTCOME_SLOW = 1;
+    private static final byte OUTCOME_FAILURE = 2;
+    private static final byte OUTCOME_IGNORED = 3;
+
+    @Value("${translate.breaker.enabled:true}")
+    private boolean enabled;
+
+    @Value("${translate.breaker.window-size:50}")
+    private int windowSize;
+
+    @Value("${translate.breaker.minimum-calls:20}")
+    private int minimumCalls;
+
+    @Value("${translate.breaker.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+
+    @Value("${translate.breaker.slow-call-duration:10s}")
+    private Duration slowCallDuration;
+
+    @Value("${translate.breaker.slow-call-rate-threshold:80}")
+    private int slowCallRateThreshold;
+
+    @Value("${translate.breaker.open-duration:30s}")
+    private Duration openDuration;
+
+    @Value("${translate.breaker.half-open-probes:3}")
+    private int halfOpenProbes;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private LongSupplier clock = System::nanoTime;
+
+    private State state = State.CLOSED;
+    private byte[] window;
+    private int windowCount;
+    private int windowNext;
+    private int failures;
+    private int slowCalls;
+    private long openedAtNanos;
+    private int probesInFlight;
+    private int probeSuccesses;
+    // Resultados de chamadas iniciadas antes da última transição são descartados
+    private long generation;
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    @PostConstruct
+    void init() {
+        window = new byte[Math.max(1, windowSize)];
+        Gauge.builder("translate.breaker.state", this, breaker -> breaker.state().ordinal())
+                .description("0 = fechado, 1 = meio-aberto, 2 = aberto")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code call} if the circuit lets it through and records its outcome.
+     *
+     * @throws CircuitOpenException when the circuit is open or all half-open probes are taken
+     */
+    public <T> T execute(Supplier<T> call) {
+        if (!enabled || WarmupContext.isActive()) {
+            return call.get();
+        }
+        long callGeneration = acquire();
+        long startNanos = clock.getAsLong();
+        boolean failed = false;
+        boolean aborted = false;
+        try {
+            return call.get();
+        } catch (DeadlineExceededException e) {
+            aborted = true;
+            throw e;
+        } catch (RuntimeException e) {
+            failed = isFailure(e);
+            throw e;
+        } finally {
+            record(callGeneration, outcome(clock.getAsLong() - startNanos, failed, aborted));
+        }
+    }
+
+    public State state() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long acquire() {
+        lock.lock();
+        try {
+            long now = clock.getAsLong();
+            if (state == State.OPEN) {
+                long remaining = openedAtNanos + openDuration.toNanos() - now;
+                if (remaining > 0) {
+                    throw reject(remaining);
+                }
+                transitionTo(State.HALF_OPEN, now);
+            }
+            if (state == State.HALF_OPEN) {
+                if (probesInFlight + probeSuccesses >= halfOpenProbes) {
+                    throw reject(0);
+                }
+                probesInFlight++;
+            }
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A call cut short by the client's deadline or cancellation says nothing about Bedrock unless it
+     * already ran past {@code slow-call-duration}: it is ignored, so an aborted call never counts as
+     * a success, neither in the window nor as a half-open probe.
+     */
+    private byte outcome(long durationNanos, boolean failed, boolean aborted) {
+        if (failed) {
+            return OUTCOME_FAILURE;
+        }
+        if (durationNanos >= slowCallDuration.toNanos()) {
+            return OUTCOME_SLOW;
+        }
+        return aborted ? OUTCOME_IGNORED : OUTCOME_SUCCESS;
+    }
+
+    private void record(long callGeneration, byte outcome) {
+        lock.lock();
+        try {
+            if (callGeneration != generation) {
+                return;
+            }
+            long now = clock.getAsLong();
+            if (state == State.HALF_OPEN) {
+                probesInFlight--;
+                if (outcome == OUTCOME_IGNORED) {
+                    // Vaga de sondagem liberada sem contar: outra chamada decide
+                    return;
+                }
+                if (outcome != OUTCOME_SUCCESS) {
+                    transitionTo(State.OPEN, now);
+                } else if (++probeSuccesses >= halfOpenProbes) {
+                    transitionTo(State.CLOSED, now);
+                }
+                return;
+            }
+            if (state == State.CLOSED && outcome != OUTCOME_IGNORED) {
+                push(outcome);
+                if (windowCount >= minimumCalls && (rate(failures) >= failureRateThreshold
+                        || rate(slowCalls) >= slowCallRateThreshold)) {
+                    logger.warn("Circuito do Bedrock aberto: {}% de falhas e {}% de chamadas lentas nas últimas {} chamadas",
+                               rate(failures), rate(slowCalls), windowCount);
+                    transitionTo(State.OPEN, now);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void push(byte outcome) {
+        if (windowCount == window.length) {
+            forget(window[windowNext]);
+        } else {
+            windowCount++;
+        }
+        window[windowNext] = outcome;
+        if (outcome == OUTCOME_FAILURE) {
+            failures++;
+        } else if (outcome == OUTCOME_SLOW) {
+            slowCalls++;
+        }
+        windowNext = (windowNext + 1) % window.length;
+    }
+
+    private void forget(byte outcome) {
+        if (outcome == OUTCOME_FAILURE) {
+            failures--;
+        } else if (outcome == OUTCOME_SLOW) {
+            slowCalls--;
+        }
+    }
+
+    private int rate(int count) {
+        return windowCount == 0 ? 0 : count * 100 / windowCount;
+    }
+
+    private void transitionTo(State next, long now) {
+        logger.info("Circuito do Bedrock: {} -> {}", state, next);
+        state = next;
+        generation++;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAtNanos = now;
+        }
+        if (next == State.CLOSED) {
+            windowCount = 0;
+            windowNext = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+        meterRegistry.counter(METRIC_TRANSITIONS, "to", next.name().toLowerCase(Locale.ROOT)).increment();
+    }
+
+    private CircuitOpenException reject(long retryAfterNanos) {
+        meterRegistry.counter(METRIC_REJECTED).increment();
+        return new CircuitOpenException("Serviço de tradução temporariamente indisponível, tente novamente mais tarde",
+                Duration.ofNanos(Math.max(TimeUnit.SECONDS.toNanos(1), retryAfterNanos)));
+    }
+
+    /**
+     * Client errors (4xx other than throttling and timeouts) mean Bedrock answered and do not count as
+     * failures. Deadline and cancellation outcomes never get here: {@link #execute} ignores them.
+     */
+    static boolean isFailure(RuntimeException e) {
+        if (e instanceof AwsServiceException service) {
+            int status = service.statusCode();
+            return status < 400 || status >= 500 || status == 408 || status == 429 || service.isThrottlingException();
+        }
+        return true;
+    }
+
+    void setClock(LongSupplier clock) {
+        this.clock = clock;
+    }
+}
@@ -0,0 +1,62 @@
+package sample_bedrock.translate.resilience;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lets the translation path flag a response as served from stale translations. A caller opens a
+ * scope around the translation; {@link sample_bedrock.translate.service.ContextSnapshot} carries the
+ * same scope into worker threads, so a flag raised on any of them is seen by the caller.
+ */
+public final class StaleContext {
+
+    private static final ThreadLocal<AtomicBoolean> CURRENT = new ThreadLocal<>();
+
+    private StaleContext() {
+    }
+
+    public static Scope open() {
+        AtomicBoolean previous = CURRENT.get();
+        AtomicBoolean flag = new AtomicBoolean();
+        CURRENT.set(flag);
+        return new Scope(flag, previous);
+    }
+
+    public static void markStale() {
+        AtomicBoolean flag = CURRENT.get();
+        if (flag != null) {
+            flag.set(true);
+        }
+    }
+
+    public static AtomicBoolean current() {
+        return CURRENT.get();
+    }
+
+    public static void attach(AtomicBoolean flag) {
+        if (flag == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(flag);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final AtomicBoolean flag;
+        private final AtomicBoolean previous;
+
+        private Scope(AtomicBoolean flag, AtomicBoolean previous) {
+            this.flag = flag;
+            this.previous = previous;
+        }
+
+        public boolean isStale() {
+            return flag.get();
+        }
+
+        @Override
+        public void close() {
+            attach(previous);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package sample_bedrock.translate.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeClient;
+import sample_bedrock.translate.capture.CaptureFile;
+import sample_bedrock.translate.capture.CapturedModelCall;
+import sample_bedrock.translate.capture.TrafficCapture;
+import sample_bedrock.translate.exception.CircuitOpenException;
+import sample_bedrock.translate.service.backend.EchoBedrockHttpClient;
+import sample_bedrock.translate.service.backend.ReplayBedrockHttpClient;
+import sample_bedrock.translate.warmup.WarmupContext;
+
+/**
+ * Owns the Bedrock client so it can be torn down before a CRaC checkpoint and rebuilt after restore.
+ * Warmup requests and the {@code echo} and {@code replay} backends are served by in-process clients
+ * instead of Bedrock; with traffic capture on, the Bedrock client records every Converse call.
+ * <p>
+ * The lifecycle phase is below the web server's, so the client is built before traffic is accepted
+ * and closed only after the graceful shutdown drained in-flight requests. Once stopped, the client
+ * is not rebuilt until {@link #start()}: late callers get {@link CircuitOpenException}.
+ */
+@Component
+public class BedrockClientProvider implements InitializingBean, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(BedrockClientProvider.class);
+
+    @Value("${aws.bedrock.region:us-east-1}")
+    private String awsRegion;
+
+    @Value("${aws.bedrock.backend:bedrock}")
+    private String backend;
+
+    @Value("${translate.replay.file:}")
+    private String replayFile;
+
+    @Autowired
+    private TrafficCapture trafficCapture;
+
+    private volatile BedrockRuntimeClient bedrockClient;
+    private volatile BedrockRuntimeClient echoClient;
+    private volatile BedrockRuntimeClient replayClient;
+    private volatile boolean running;
+    private boolean stopped;
+
+    public BedrockRuntimeClient client() {
+        if (WarmupContext.isActive() || "echo".equals(backend)) {
+            return echoClient();
+        }
+        if ("replay".equals(backend)) {
+            return replayClient();
+        }
+        BedrockRuntimeClient current = bedrockClient;
+        if (current == null) {
+            synchronized (this) {
+                current = bedrockClient;
+                if (current == null) {
+                    if (stopped) {
+                        throw new CircuitOpenException("Cliente Bedrock encerrado, tente novamente mais tarde",
+                                Duration.ofSeconds(1));
+                    }
+                    current = buildClient();
+                    bedrockClient = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        // Criação antecipada para que o treino de CDS (spring.context.exit=onRefresh) carregue as classes do SDK
+        client();
+    }
+
+    @Override
+    public void start() {
+        // Após o restore do CRaC o cliente foi descartado em stop() e é recriado com conexões novas
+        synchronized (this) {
+            stopped = false;
+        }
+        client();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        BedrockRuntimeClient current;
+        synchronized (this) {
+            current = bedrockClient;
+            bedrockClient = null;
+            stopped = true;
+        }
+        if (current != null) {
+            logger.info("Encerrando cliente Bedrock e conexões abertas");
+            current.close();
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Abaixo do servidor web: sobe antes de aceitar tráfego e para depois do graceful shutdown
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+
+    private BedrockRuntimeClient echoClient() {
+        BedrockRuntimeClient current = echoClient;
+        if (current == null) {
+            synchronized (this) {
+                current = echoClient;
+                if (current == null) {
+                    current = buildInProcessClient(new EchoBedrockHttpClient());
+                    echoClient = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private BedrockRuntimeClient replayClient() {
+        BedrockRuntimeClient current = replayClient;
+        if (current == null) {
+            synchronized (this) {
+                current = replayClient;
+                if (current == null) {
+                    current = buildInProcessClient(new ReplayBedrockHttpClient(readCapture()));
+                    replayClient = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private List<CapturedModelCall> readCapture() {
+        try {
+            CaptureFile.Capture capture = CaptureFile.read(Path.of(replayFile));
+            logger.info("Backend de replay com {} chamadas gravadas de {}", capture.modelCalls().size(), replayFile);
+            return capture.modelCalls();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler a captura de replay " + replayFile, e);
+        }
+    }
+
+    private BedrockRuntimeClient buildClient() {
+        return BedrockRuntimeClient.builder()
+                .region(Region.of(awsRegion))
+                .credentialsProvider(DefaultCredentialsProvider.create())
+                .overrideConfiguration(configuration -> {
+                    if (trafficCapture.isEnabled()) {
+                        configuration.addExecutionInterceptor(trafficCapture.interceptor());
+                    }
+                })
+                .build();
+    }
+
+    private BedrockRuntimeClient buildInProcessClient(SdkHttpClient httpClient) {
+        return BedrockRuntimeClient.builder()
+                .region(Region.of(awsRegion))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("in-process", "in-process")))
+                .httpClient(httpClient)
+                .build();
+    }
+}
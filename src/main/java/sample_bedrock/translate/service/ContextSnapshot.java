@@ -0,0 +1,61 @@
+package sample_bedrock.translate.service;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.slf4j.MDC;
+
+import sample_bedrock.translate.deadline.Deadline;
+import sample_bedrock.translate.latency.LatencyContext;
+import sample_bedrock.translate.resilience.StaleContext;
+import sample_bedrock.translate.tenant.TenantContext;
+import sample_bedrock.translate.warmup.WarmupContext;
+
+/**
+ * Carries the request's thread-bound context (MDC, warmup routing, stale flag, deadline, tenant, latency tags) into tasks run on other threads.
+ */
+public final class ContextSnapshot {
+
+    private final Map<String, String> mdc;
+    private final boolean warmup;
+    private final AtomicBoolean stale;
+    private final Deadline deadline;
+    private final String tenant;
+    private final LatencyContext.Tags latency;
+
+    private ContextSnapshot(Map<String, String> mdc, boolean warmup, AtomicBoolean stale, Deadline deadline,
+                            String tenant, LatencyContext.Tags latency) {
+        this.mdc = mdc;
+        this.warmup = warmup;
+        this.stale = stale;
+        this.deadline = deadline;
+        this.tenant = tenant;
+        this.latency = latency;
+    }
+
+    public static ContextSnapshot capture() {
+        return new ContextSnapshot(MDC.getCopyOfContextMap(), WarmupContext.isActive(), StaleContext.current(),
+                Deadline.current(), TenantContext.current(), LatencyContext.current());
+    }
+
+    public <T> Supplier<T> wrap(Supplier<T> task) {
+        return () -> {
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            if (warmup) {
+                WarmupContext.activate();
+            }
+            StaleContext.attach(stale);
+            try (Deadline.Scope scope = Deadline.attach(deadline); TenantContext.Scope tenantScope = TenantContext.attach(tenant);
+                 LatencyContext.Scope latencyScope = LatencyContext.attach(latency)) {
+                return task.get();
+            } finally {
+                WarmupContext.clear();
+                StaleContext.attach(null);
+                MDC.clear();
+            }
+        };
+    }
+}
@@ -0,0 +1,178 @@
+package sample_bedrock.translate.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import sample_bedrock.translate.dto.LocaleTranslation;
+import sample_bedrock.translate.exception.CircuitOpenException;
+import sample_bedrock.translate.exception.DeadlineExceededException;
+import sample_bedrock.translate.exception.OverloadedException;
+import sample_bedrock.translate.resilience.StaleContext;
+import sample_bedrock.translate.service.language.LanguageDetector;
+
+/**
+ * Translates one term list into many locales. Small payloads are packed several locales per Converse
+ * call; large ones fan out one call per locale. Groups run in parallel under a concurrency cap and
+ * every locale succeeds or fails independently.
+ */
+@Service
+public class MultiTargetTranslationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MultiTargetTranslationService.class);
+
+    private static final int CHARS_PER_TOKEN = 4;
+
+    @Value("${translate.multi.combined-max-output-tokens:2500}")
+    private int combinedMaxOutputTokens;
+
+    @Value("${translate.multi.combined-max-locales:8}")
+    private int combinedMaxLocales;
+
+    @Value("${translate.multi.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private LanguageDetector languageDetector;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public Map<String, LocaleTranslation> translate(String originLocale, List<String> destinationLocales, List<String> terms) {
+        List<String> locales = new ArrayList<>(new LinkedHashSet<>(destinationLocales));
+
+        // Com "auto", a chamada combinada só vale quando todos os termos estão no mesmo idioma
+        String sourceLocale = originLocale;
+        boolean combinable = true;
+        if (LanguageDetector.isAuto(originLocale)) {
+            Set<String> detected = languageDetector.groupBySourceLocale(terms).keySet();
+            if (detected.size() == 1) {
+                sourceLocale = detected.iterator().next();
+            } else {
+                combinable = false;
+            }
+        }
+        String resolvedOrigin = sourceLocale;
+
+        List<List<String>> groups = combinable
+                ? planGroups(locales, terms)
+                : locales.stream().map(List::of).toList();
+        logger.info("Tradução para {} idiomas planejada em {} chamadas", locales.size(), groups.size());
+
+        Semaphore permits = new Semaphore(Math.max(1, maxConcurrency));
+        ContextSnapshot context = ContextSnapshot.capture();
+
+        List<CompletableFuture<Map<String, LocaleTranslation>>> futures = new ArrayList<>(groups.size());
+        for (List<String> group : groups) {
+            futures.add(CompletableFuture.supplyAsync(context.wrap(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    return translateGroup(resolvedOrigin, group, terms);
+                } finally {
+                    permits.release();
+                }
+            }), executor));
+        }
+
+        Map<String, LocaleTranslation> byGroup = new LinkedHashMap<>();
+        futures.forEach(future -> byGroup.putAll(future.join()));
+
+        // Resposta na ordem em que os idiomas foram pedidos
+        Map<String, LocaleTranslation> results = new LinkedHashMap<>();
+        for (String locale : locales) {
+            results.put(locale, byGroup.get(locale));
+        }
+        return results;
+    }
+
+    List<List<String>> planGroups(List<String> locales, List<String> terms) {
+        int groupSize = combinedGroupSize(terms);
+        List<List<String>> groups = new ArrayList<>();
+        for (int start = 0; start < locales.size(); start += groupSize) {
+            groups.add(List.copyOf(locales.subList(start, Math.min(start + groupSize, locales.size()))));
+        }
+        return groups;
+    }
+
+    private int combinedGroupSize(List<String> terms) {
+        // Estimativa de tokens de saída por idioma: o tamanho dos termos mais uma quebra de linha por termo
+        int characters = 0;
+        for (String term : terms) {
+            characters += term.length();
+        }
+        int tokensPerLocale = characters / CHARS_PER_TOKEN + terms.size() + 1;
+        int fitting = combinedMaxOutputTokens / Math.max(1, tokensPerLocale);
+        return Math.max(1, Math.min(fitting, combinedMaxLocales));
+    }
+
+    private Map<String, LocaleTranslation> translateGroup(String originLocale, List<String> group, List<String> terms) {
+        Map<String, LocaleTranslation> results = new LinkedHashMap<>();
+        if (group.size() > 1) {
+            try (StaleContext.Scope stale = StaleContext.open()) {
+                translationService.translateTermsToLocales(originLocale, group, terms)
+                        .forEach((locale, translated) -> results.put(locale, LocaleTranslation.success(translated, stale.isStale())));
+            } catch (CircuitOpenException | DeadlineExceededException | OverloadedException e) {
+                // Circuito aberto, prazo ou cota valem para todos os idiomas: refazer um a um falharia igual
+                logger.warn("Chamada combinada para {} recusada: {}", group, e.getMessage());
+                LocaleTranslation failure = failure(e);
+                group.forEach(locale -> results.put(locale, failure));
+                return results;
+            } catch (Exception e) {
+                logger.warn("Chamada combinada para {} falhou, traduzindo cada idioma separadamente: {}", group, e.getMessage());
+            }
+        }
+
+        for (String locale : group) {
+            if (!results.containsKey(locale)) {
+                results.put(locale, translateSingle(originLocale, locale, terms));
+            }
+        }
+        return results;
+    }
+
+    private LocaleTranslation translateSingle(String originLocale, String destinationLocale, List<String> terms) {
+        try (StaleContext.Scope stale = StaleContext.open()) {
+            List<String> translated = translationService.translateTerms(originLocale, destinationLocale, terms);
+            return LocaleTranslation.success(translated, stale.isStale());
+        } catch (Exception e) {
+            logger.error("Erro na tradução para {}: {}", destinationLocale, e.getMessage());
+            return failure(e);
+        }
+    }
+
+    // Mesmos status e Retry-After que a falha teria em /translate, para o cliente decidir quando repetir o idioma
+    private static LocaleTranslation failure(Exception e) {
+        if (e instanceof CircuitOpenException open) {
+            return LocaleTranslation.failure(e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value(), open.getRetryAfter());
+        }
+        if (e instanceof OverloadedException overloaded) {
+            return LocaleTranslation.failure(e.getMessage(), HttpStatus.TOO_MANY_REQUESTS.value(), overloaded.getRetryAfter());
+        }
+        if (e instanceof DeadlineExceededException) {
+            return LocaleTranslation.failure(e.getMessage(), HttpStatus.GATEWAY_TIMEOUT.value(), null);
+        }
+        return LocaleTranslation.failure(e.getMessage());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,192 @@
+package sample_bedrock.translate.service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import sample_bedrock.translate.admission.AdmissionController;
+import sample_bedrock.translate.admission.Priority;
+import sample_bedrock.translate.deadline.Deadline;
+import sample_bedrock.translate.dto.TranslateResponse;
+import sample_bedrock.translate.exception.ContinuationNotFoundException;
+import sample_bedrock.translate.latency.LatencyContext;
+import sample_bedrock.translate.resilience.StaleContext;
+import sample_bedrock.translate.tenant.TenantContext;
+
+/**
+ * Partial-result mode of {@code POST /api/v1/translate}. Everything this replica can answer without
+ * the model or a cache peer is returned at once, with {@code null} at the other positions; those are
+ * translated in the background and fetched with the returned continuation token, by long-poll.
+ *
+ * <p>A continuation lives for {@code ttl} and is only visible to the tenant that created it. With
+ * {@code max-continuations} open, new requests are answered in full, as without the mode. The
+ * background translation takes a batch admission slot like any other request. Continuations are
+ * kept in memory, so the long-poll must reach the replica that issued the token.
+ */
+@Service
+public class PartialTranslationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartialTranslationService.class);
+
+    static final String METRIC_TERMS = "translate.partial.terms";
+    static final String METRIC_FALLBACK = "translate.partial.fallback";
+
+    private static final int TOKEN_BYTES = 16;
+
+    @Value("${translate.partial.ttl:2m}")
+    private Duration ttl;
+
+    @Value("${translate.partial.max-continuations:1000}")
+    private int maxContinuations;
+
+    @Value("${translate.partial.max-wait:30s}")
+    private Duration maxWait;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private AdmissionController admissionController;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final SecureRandom random = new SecureRandom();
+    private Cache<String, Continuation> continuations;
+
+    @PostConstruct
+    void init() {
+        continuations = Caffeine.newBuilder().expireAfterWrite(ttl).build();
+        Gauge.builder("translate.partial.continuations", this, service -> service.continuations.estimatedSize())
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public TranslateResponse translate(String originLocale, String destinationLocale, List<String> terms) {
+        List<String> local = translationService.translateLocally(originLocale, destinationLocale, terms);
+        List<Integer> pending = new ArrayList<>();
+        for (int index = 0; index < local.size(); index++) {
+            if (local.get(index) == null) {
+                pending.add(index);
+            }
+        }
+        meterRegistry.counter(METRIC_TERMS, "result", "immediate").increment(terms.size() - pending.size());
+        if (pending.isEmpty()) {
+            return TranslateResponse.of(local, false);
+        }
+        if (continuations.estimatedSize() >= maxContinuations) {
+            logger.warn("Limite de {} continuações abertas atingido; respondendo a requisição completa", maxContinuations);
+            meterRegistry.counter(METRIC_FALLBACK).increment();
+            try (StaleContext.Scope scope = StaleContext.open()) {
+                List<String> translated = translationService.translateTerms(originLocale, destinationLocale, terms);
+                return TranslateResponse.of(translated, scope.isStale());
+            }
+        }
+
+        List<String> pendingTerms = pending.stream().map(terms::get).toList();
+        ContextSnapshot context = backgroundContext();
+        // Fora da requisição a vaga de admissão dela já foi devolvida: o segundo plano pega a sua, como lote
+        CompletableFuture<Result> translation = CompletableFuture.supplyAsync(context.wrap(
+                () -> admissionController.execute(Priority.BATCH, () -> {
+                    try (StaleContext.Scope scope = StaleContext.open()) {
+                        List<String> translated = translationService.translateTerms(originLocale, destinationLocale, pendingTerms);
+                        return new Result(translated, scope.isStale());
+                    }
+                })), executor);
+
+        String token = newToken();
+        continuations.put(token, new Continuation(TenantContext.current(), terms, local, List.copyOf(pending), translation));
+        meterRegistry.counter(METRIC_TERMS, "result", "deferred").increment(pending.size());
+        logger.info("Modo parcial: {} de {} termos respondidos na hora, {} em tradução em segundo plano",
+                   terms.size() - pending.size(), terms.size(), pending.size());
+        return TranslateResponse.partial(local, false, pending, token);
+    }
+
+    /**
+     * Waits up to {@code wait} (capped at {@code max-wait} and at the request deadline) for the
+     * pending positions of {@code token}. Returns the full result once ready, or the same partial
+     * result and token when the wait runs out; a failed background translation is rethrown.
+     */
+    public TranslateResponse await(String token, Duration wait) {
+        Continuation continuation = continuations.getIfPresent(token);
+        if (continuation == null || !Objects.equals(continuation.tenant(), TenantContext.current())) {
+            throw new ContinuationNotFoundException("Token de continuação desconhecido ou expirado");
+        }
+
+        Duration timeout = wait == null || wait.compareTo(maxWait) > 0 ? maxWait : wait;
+        Deadline deadline = Deadline.current();
+        if (deadline != null && deadline.isBounded() && deadline.remaining().compareTo(timeout) < 0) {
+            timeout = deadline.remaining();
+        }
+        Result result;
+        try {
+            result = continuation.translation().get(Math.max(0, timeout.toNanos()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return TranslateResponse.partial(continuation.local(), false, continuation.pending(), token);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return TranslateResponse.partial(continuation.local(), false, continuation.pending(), token);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new RuntimeException(e.getCause());
+        }
+
+        String[] merged = continuation.local().toArray(String[]::new);
+        List<Integer> pending = continuation.pending();
+        for (int index = 0; index < pending.size(); index++) {
+            int position = pending.get(index);
+            merged[position] = index < result.translated().size()
+                    ? result.translated().get(index)
+                    : continuation.terms().get(position);
+        }
+        return TranslateResponse.of(Arrays.asList(merged), result.stale());
+    }
+
+    // O trabalho em segundo plano sobrevive à requisição: prazo próprio e sem as tags de latência dela
+    private ContextSnapshot backgroundContext() {
+        try (Deadline.Scope deadline = Deadline.attach(Deadline.after(ttl));
+             LatencyContext.Scope latency = LatencyContext.attach(null)) {
+            return ContextSnapshot.capture();
+        }
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private record Continuation(String tenant, List<String> terms, List<String> local, List<Integer> pending,
+                                CompletableFuture<Result> translation) {
+    }
+
+    private record Result(List<String> translated, boolean stale) {
+    }
+}
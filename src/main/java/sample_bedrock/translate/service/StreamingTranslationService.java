@@ -0,0 +1,397 @@
+package sample_bedrock.translate.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import sample_bedrock.translate.admission.AdmissionController;
+import sample_bedrock.translate.admission.Priority;
+import sample_bedrock.translate.admission.PriorityContext;
+import sample_bedrock.translate.deadline.Deadline;
+import sample_bedrock.translate.jfr.StreamChunkEvent;
+import sample_bedrock.translate.resilience.StaleContext;
+
+/**
+ * Translates large term arrays without binding the whole body: terms are read with the Jackson
+ * streaming API, dispatched in chunks as soon as each chunk is complete, and written back in order.
+ * Heap use is bounded by {@code chunk-size * max-in-flight-chunks} regardless of payload size.
+ * Each chunk takes its own admission slot, with the priority bound by {@link PriorityContext}, so a
+ * long transfer neither holds a slot while reading or writing nor skews the service-time estimate.
+ */
+@Service
+public class StreamingTranslationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamingTranslationService.class);
+
+    @Value("${translate.stream.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${translate.stream.max-in-flight-chunks:4}")
+    private int maxInFlightChunks;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AdmissionController admissionController;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public void translate(InputStream body, OutputStream output) throws IOException {
+        try (StaleContext.Scope stale = StaleContext.open()) {
+            translate(body, new JsonChunkWriter(output, stale));
+        }
+    }
+
+    private void translate(InputStream body, JsonChunkWriter writer) throws IOException {
+        ChunkPipeline pipeline = null;
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Corpo da requisição deve ser um objeto JSON");
+            }
+
+            String originLocale = null;
+            String destinationLocale = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "origin_locale" -> originLocale = requireText(parser, value, "Origin locale é obrigatório");
+                    case "destination_locale" -> destinationLocale = requireText(parser, value, "Destination locale é obrigatório");
+                    case "terms" -> {
+                        if (originLocale == null || destinationLocale == null) {
+                            throw new IllegalArgumentException(
+                                    "origin_locale e destination_locale devem preceder terms no modo streaming");
+                        }
+                        if (value != JsonToken.START_ARRAY) {
+                            throw new IllegalArgumentException("Lista de termos não pode ser nula");
+                        }
+                        pipeline = new ChunkPipeline(originLocale, destinationLocale, writer);
+                        consumeTerms(parser, pipeline);
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (pipeline == null) {
+                throw new IllegalArgumentException("Lista de termos não pode ser nula");
+            }
+            pipeline.finish();
+            writer.finish();
+        } catch (JsonProcessingException e) {
+            fail(pipeline, writer, new IllegalArgumentException("JSON inválido: " + e.getOriginalMessage(), e));
+        } catch (RuntimeException e) {
+            fail(pipeline, writer, e);
+        } catch (IOException e) {
+            if (pipeline != null) {
+                // Cliente desconectado ou corpo malformado: não há para quem entregar o restante
+                pipeline.cancelPending();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Translates an in-memory term list through the same bounded chunk window, handing each
+     * completed chunk to {@code sink} in request order.
+     */
+    public void translate(String originLocale, String destinationLocale, List<String> terms, ChunkSink sink)
+            throws IOException {
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("Lista de termos não pode estar vazia");
+        }
+        ChunkPipeline pipeline = new ChunkPipeline(originLocale, destinationLocale, sink);
+        try {
+            for (int start = 0; start < terms.size(); start += chunkSize) {
+                pipeline.submit(List.copyOf(terms.subList(start, Math.min(start + chunkSize, terms.size()))));
+            }
+            pipeline.finish();
+        } catch (IOException | RuntimeException e) {
+            pipeline.cancelPending();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the same bounded chunk window for callers that produce terms incrementally: each chunk
+     * passed to {@link TermStream#submit} is translated in the background and handed to {@code sink}
+     * in submission order.
+     */
+    public TermStream open(String originLocale, String destinationLocale, ChunkSink sink) {
+        return new ChunkPipeline(originLocale, destinationLocale, sink);
+    }
+
+    private void consumeTerms(JsonParser parser, ChunkPipeline pipeline) throws IOException {
+        List<String> chunk = new ArrayList<>(chunkSize);
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.VALUE_STRING) {
+                throw new IllegalArgumentException("Termos devem ser strings");
+            }
+            chunk.add(parser.getText());
+            if (chunk.size() == chunkSize) {
+                pipeline.submit(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            pipeline.submit(chunk);
+        }
+        if (pipeline.termCount == 0) {
+            throw new IllegalArgumentException("Lista de termos não pode estar vazia");
+        }
+    }
+
+    private void fail(ChunkPipeline pipeline, JsonChunkWriter writer, RuntimeException e) throws IOException {
+        if (pipeline != null) {
+            pipeline.cancelPending();
+        }
+        if (!writer.isStarted()) {
+            throw e;
+        }
+        // A resposta já foi confirmada com 200: o erro vai no próprio corpo
+        logger.error("Erro durante a tradução em streaming: {}", e.getMessage(), e);
+        writer.abort(e.getMessage());
+    }
+
+    private String requireText(JsonParser parser, JsonToken value, String message) throws IOException {
+        if (value != JsonToken.VALUE_STRING || parser.getText().isBlank()) {
+            throw new IllegalArgumentException(message);
+        }
+        return parser.getText();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Receives translated chunks in request order; {@code offset} is the index of the chunk's first term,
+     * {@code source} the terms submitted for it and {@code stale} tells whether this chunk was answered
+     * from stored translations. {@code translated} may be shorter or longer than {@code source} when the
+     * model answer was misaligned.
+     */
+    @FunctionalInterface
+    public interface ChunkSink {
+        void accept(int offset, List<String> source, List<String> translated, boolean stale) throws IOException;
+    }
+
+    /**
+     * Returns exactly one value per source term: positions the model left out keep the source term and
+     * surplus lines are dropped, so a short chunk never shifts the chunks after it.
+     */
+    public static List<String> alignToSource(int offset, List<String> source, List<String> translated) {
+        if (translated.size() == source.size()) {
+            return translated;
+        }
+        logger.warn("Bloco na posição {} voltou com {} de {} termos; os faltantes ficam com o texto de origem",
+                   offset, translated.size(), source.size());
+        List<String> aligned = new ArrayList<>(source);
+        for (int index = 0; index < Math.min(source.size(), translated.size()); index++) {
+            aligned.set(index, translated.get(index));
+        }
+        return aligned;
+    }
+
+    /**
+     * Incremental producer side of a chunk window; see {@link #open}.
+     */
+    public interface TermStream {
+
+        /**
+         * Queues one chunk; blocks writing the oldest completed chunks while the window is full.
+         */
+        void submit(List<String> chunk) throws IOException;
+
+        /**
+         * Waits for every queued chunk and hands it to the sink.
+         */
+        void finish() throws IOException;
+
+        /**
+         * Abandons queued chunks and aborts their in-flight model calls.
+         */
+        void cancel();
+    }
+
+    /**
+     * Keeps a bounded window of chunks in flight and hands completed chunks to the sink in request order.
+     * Nothing reaches the sink before the first chunk completes, so early failures still map to an error status.
+     */
+    private final class ChunkPipeline implements TermStream {
+
+        private final String originLocale;
+        private final String destinationLocale;
+        private final ChunkSink sink;
+        private final ContextSnapshot context = ContextSnapshot.capture();
+        private final Deadline deadline = Deadline.current();
+        private final Priority priority = PriorityContext.current();
+        private final Deque<PendingChunk> inFlight = new ArrayDeque<>();
+
+        private int termCount;
+        private int chunkCount;
+
+        private ChunkPipeline(String originLocale, String destinationLocale, ChunkSink sink) {
+            this.originLocale = originLocale;
+            this.destinationLocale = destinationLocale;
+            this.sink = sink;
+        }
+
+        @Override
+        public void submit(List<String> chunk) throws IOException {
+            while (inFlight.size() >= maxInFlightChunks) {
+                writeOldest();
+            }
+            int offset = termCount;
+            inFlight.add(new PendingChunk(offset, chunk, CompletableFuture.supplyAsync(
+                    context.wrap(() -> translateChunk(offset, chunk)), executor)));
+            termCount += chunk.size();
+            chunkCount++;
+        }
+
+        // Escopo próprio por bloco para saber quais vieram de traduções armazenadas; a requisição também é marcada
+        private TranslatedChunk translateChunk(int offset, List<String> chunk) {
+            StreamChunkEvent event = new StreamChunkEvent();
+            event.begin();
+            try {
+                List<String> translated;
+                boolean stale;
+                try (StaleContext.Scope scope = StaleContext.open()) {
+                    translated = admissionController.execute(priority,
+                            () -> translationService.translateTerms(originLocale, destinationLocale, chunk));
+                    stale = scope.isStale();
+                }
+                if (stale) {
+                    StaleContext.markStale();
+                }
+                return new TranslatedChunk(translated, stale);
+            } finally {
+                if (event.shouldCommit()) {
+                    event.offset = offset;
+                    event.terms = chunk.size();
+                    event.originLocale = originLocale;
+                    event.destinationLocale = destinationLocale;
+                    event.commit();
+                }
+            }
+        }
+
+        private void writeOldest() throws IOException {
+            PendingChunk oldest = inFlight.removeFirst();
+            TranslatedChunk translated;
+            try {
+                translated = oldest.future().join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+            }
+            sink.accept(oldest.offset(), oldest.source(), translated.terms(), translated.stale());
+        }
+
+        @Override
+        public void finish() throws IOException {
+            while (!inFlight.isEmpty()) {
+                writeOldest();
+            }
+            logger.info("Tradução em streaming concluída: {} termos em {} blocos de {} para {}",
+                       termCount, chunkCount, originLocale, destinationLocale);
+        }
+
+        @Override
+        public void cancel() {
+            cancelPending();
+        }
+
+        private void cancelPending() {
+            inFlight.forEach(pending -> pending.future().cancel(true));
+            inFlight.clear();
+            // Interrompe também as chamadas ao modelo já em andamento nesses blocos
+            if (deadline != null) {
+                deadline.cancel();
+            }
+        }
+    }
+
+    private record PendingChunk(int offset, List<String> source, CompletableFuture<TranslatedChunk> future) {
+    }
+
+    private record TranslatedChunk(List<String> terms, boolean stale) {
+    }
+
+    /**
+     * Writes {@code {"terms_translated":[...]}} incrementally, starting the document on the first chunk.
+     * {@code "stale": true} is appended when any chunk was answered from stored translations.
+     */
+    private final class JsonChunkWriter implements ChunkSink {
+
+        private final OutputStream output;
+        private final StaleContext.Scope stale;
+        private JsonGenerator generator;
+
+        private JsonChunkWriter(OutputStream output, StaleContext.Scope stale) {
+            this.output = output;
+            this.stale = stale;
+        }
+
+        @Override
+        public void accept(int offset, List<String> source, List<String> translated, boolean chunkStale)
+                throws IOException {
+            if (generator == null) {
+                generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8);
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("terms_translated");
+            }
+            // O cliente só vê um array concatenado: cada bloco precisa ocupar exatamente as suas posições
+            for (String term : alignToSource(offset, source, translated)) {
+                generator.writeString(term);
+            }
+            generator.flush();
+        }
+
+        private void finish() throws IOException {
+            generator.writeEndArray();
+            if (stale.isStale()) {
+                generator.writeBooleanField("stale", true);
+            }
+            generator.writeEndObject();
+            generator.flush();
+        }
+
+        private boolean isStarted() {
+            return generator != null;
+        }
+
+        private void abort(String message) throws IOException {
+            generator.writeEndArray();
+            generator.writeStringField("error", message);
+            generator.writeEndObject();
+            generator.flush();
+        }
+    }
+}
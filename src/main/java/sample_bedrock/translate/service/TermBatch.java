@@ -0,0 +1,129 @@
+package sample_bedrock.translate.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks which terms of a request were answered locally and which still need the model, and merges
+ * the model output back into the original positions.
+ */
+final class TermBatch {
+
+    private static final Logger logger = LoggerFactory.getLogger(TermBatch.class);
+
+    private final List<String> terms;
+    private final String[] results;
+    private int resolvedCount;
+
+    TermBatch(List<String> terms) {
+        this.terms = terms;
+        this.results = new String[terms.size()];
+    }
+
+    String term(int index) {
+        return terms.get(index);
+    }
+
+    int size() {
+        return terms.size();
+    }
+
+    void resolve(int index, String translation) {
+        if (results[index] == null) {
+            resolvedCount++;
+        }
+        results[index] = translation;
+    }
+
+    boolean isResolved(int index) {
+        return results[index] != null;
+    }
+
+    int resolvedCount() {
+        return resolvedCount;
+    }
+
+    boolean hasPending() {
+        return resolvedCount < terms.size();
+    }
+
+    List<String> pendingTerms() {
+        List<String> pending = new ArrayList<>(terms.size() - resolvedCount);
+        for (int index = 0; index < terms.size(); index++) {
+            if (results[index] == null) {
+                pending.add(terms.get(index));
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Fills pending positions with the model output, in order. Without local answers the model output
+     * is returned as-is; otherwise a count mismatch keeps the original term where no translation is left.
+     */
+    List<String> complete(List<String> translatedPending) {
+        if (resolvedCount == 0) {
+            return translatedPending;
+        }
+        int pendingCount = terms.size() - resolvedCount;
+        if (translatedPending.size() != pendingCount) {
+            logger.warn("Número de traduções do modelo ({}) não corresponde aos termos pendentes ({}); mantendo os originais que faltarem",
+                       translatedPending.size(), pendingCount);
+        }
+        String[] merged = Arrays.copyOf(results, results.length);
+        int next = 0;
+        for (int index = 0; index < merged.length; index++) {
+            if (merged[index] == null) {
+                merged[index] = next < translatedPending.size() ? translatedPending.get(next) : terms.get(index);
+                next++;
+            }
+        }
+        return Arrays.asList(merged);
+    }
+
+    /**
+     * Like {@link #complete}, but for results that feed the cache: on a count mismatch the original
+     * terms are not filled in, see {@link #keepMisalignment}.
+     */
+    List<String> completeKeepingMisalignment(List<String> translatedPending) {
+        if (resolvedCount == 0) {
+            return translatedPending;
+        }
+        String[] merged = Arrays.copyOf(results, results.length);
+        int firstMissing = merged.length;
+        int next = 0;
+        for (int index = 0; index < merged.length; index++) {
+            if (merged[index] == null) {
+                if (next < translatedPending.size()) {
+                    merged[index] = translatedPending.get(next);
+                } else {
+                    firstMissing = Math.min(firstMissing, index);
+                }
+                next++;
+            }
+        }
+        return keepMisalignment(merged, firstMissing,
+                translatedPending.subList(Math.min(next, translatedPending.size()), translatedPending.size()));
+    }
+
+    /**
+     * Keeps a misaligned model answer visible after merging, as a plain model call would: the list
+     * stops at the first position left without a translation, or carries the surplus lines at the
+     * end. Either way its size differs from the request, so the cache does not store it.
+     */
+    static List<String> keepMisalignment(String[] results, int firstMissing, List<String> surplus) {
+        if (firstMissing < results.length) {
+            return Arrays.asList(Arrays.copyOf(results, firstMissing));
+        }
+        if (surplus.isEmpty()) {
+            return Arrays.asList(results);
+        }
+        List<String> merged = new ArrayList<>(Arrays.asList(results));
+        merged.addAll(surplus);
+        return merged;
+    }
+}
@@ -1,17 +1,63 @@
 package sample_bedrock.translate.service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
-import software.amazon.awssdk.regions.Region;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import sample_bedrock.translate.cache.TranslationCache;
+import sample_bedrock.translate.deadline.Deadline;
+import sample_bedrock.translate.exception.CircuitOpenException;
+import sample_bedrock.translate.exception.DeadlineExceededException;
+import sample_bedrock.translate.exception.QuotaExceededException;
+import sample_bedrock.translate.jfr.ModelCallEvent;
+import sample_bedrock.translate.jfr.PromptBuildEvent;
+import sample_bedrock.translate.jfr.ResponseParseEvent;
+import sample_bedrock.translate.jfr.TranslationEvent;
+import sample_bedrock.translate.latency.LatencyContext;
+import sample_bedrock.translate.latency.LatencyHistograms;
+import sample_bedrock.translate.latency.LatencyStage;
+import sample_bedrock.translate.prefetch.SpeculativeTranslator;
+import sample_bedrock.translate.resilience.CircuitBreaker;
+import sample_bedrock.translate.resilience.StaleContext;
+import sample_bedrock.translate.service.glossary.AhoCorasickAutomaton;
+import sample_bedrock.translate.service.glossary.GlossaryEntry;
+import sample_bedrock.translate.service.glossary.GlossaryService;
+import sample_bedrock.translate.service.language.LanguageDetector;
+import sample_bedrock.translate.service.memory.TranslationMemory;
+import sample_bedrock.translate.service.terms.PlaceholderMasker;
+import sample_bedrock.translate.service.terms.PlaceholderMasker.MaskedTerm;
+import sample_bedrock.translate.service.terms.TermClassifier;
+import sample_bedrock.translate.service.tiering.ModelTier;
+import sample_bedrock.translate.service.tiering.ModelTierPolicy;
+import sample_bedrock.translate.tenant.TenantContext;
+import sample_bedrock.translate.tenant.TenantUsage;
+import sample_bedrock.translate.warmup.WarmupContext;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
 import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeClient;
 import software.amazon.awssdk.services.bedrockruntime.model.ContentBlock;
 import software.amazon.awssdk.services.bedrockruntime.model.ConversationRole;
@@ -20,72 +66,145 @@ import software.amazon.awssdk.services.bedrockruntime.model.ConverseResponse;
 import software.amazon.awssdk.services.bedrockruntime.model.InferenceConfiguration;
 import software.amazon.awssdk.services.bedrockruntime.model.Message;
 import software.amazon.awssdk.services.bedrockruntime.model.SystemContentBlock;
+import software.amazon.awssdk.services.bedrockruntime.model.TokenUsage;
 
 @Service
 public class TranslationService {
 
     private static final Logger logger = LoggerFactory.getLogger(TranslationService.class);
 
+    private static final String LOCALE_SECTION_PREFIX = "### ";
+
+    private static final String METRIC_LATENCY = "translate.model.latency";
+    private static final String METRIC_TOKENS = "translate.model.tokens";
+    private static final String METRIC_TERMS = "translate.model.terms";
+    private static final String METRIC_STALE = "translate.breaker.stale-terms";
+    private static final String METRIC_WASTED = "translate.model.wasted";
+
+    private static final int CHARS_PER_TOKEN = 4;
+
     @Value("${aws.bedrock.region:us-east-1}")
     private String awsRegion;
 
     @Value("${aws.bedrock.model-id:anthropic.claude-3-sonnet-20240229-v1:0}")
     private String modelId;
 
-    private BedrockRuntimeClient bedrockClient;
+    @Autowired
+    private BedrockClientProvider bedrockClientProvider;
+
+    @Autowired
+    private GlossaryService glossaryService;
+
+    @Autowired
+    private LanguageDetector languageDetector;
+
+    @Autowired
+    private TranslationCache translationCache;
+
+    @Autowired
+    private ModelTierPolicy modelTierPolicy;
+
+    @Autowired
+    private CircuitBreaker circuitBreaker;
+
+    @Autowired
+    private TenantUsage tenantUsage;
+
+    @Autowired
+    private LatencyHistograms latencyHistograms;
+
+    @Autowired
+    private SpeculativeTranslator speculativeTranslator;
+
+    @Autowired
+    private TranslationMemory translationMemory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @PostConstruct
+    void registerLoaders() {
+        translationCache.registerRefreshLoader(this::refreshTerms);
+        speculativeTranslator.registerLoader(this::prefetchTerms);
+    }
 
     private BedrockRuntimeClient getBedrockClient() {
-        if (bedrockClient == null) {
-            bedrockClient = BedrockRuntimeClient.builder()
-                    .region(Region.of(awsRegion))
-                    .credentialsProvider(DefaultCredentialsProvider.create())
-                    .build();
-        }
-        return bedrockClient;
+        return bedrockClientProvider.client();
     }
 
     public List<String> translateTerms(String originLocale, String destinationLocale, List<String> terms) {
+        return translateTerms(originLocale, destinationLocale, terms, true);
+    }
+
+    /**
+     * Entry point for requests from cache peers: this replica owns the keys, so misses are translated
+     * here and never forwarded again.
+     */
+    public List<String> translateOwnedTerms(String originLocale, String destinationLocale, List<String> terms) {
+        return translateTerms(originLocale, destinationLocale, terms, false);
+    }
+
+    /**
+     * The part of a request answered without the model or a cache peer: non-translatable terms, exact
+     * glossary matches and this replica's cache. Positions that still need a translation are {@code null}.
+     */
+    public List<String> translateLocally(String originLocale, String destinationLocale, List<String> terms) {
+        if (LanguageDetector.isAuto(originLocale)) {
+            String[] results = new String[terms.size()];
+            languageDetector.groupBySourceLocale(terms).forEach((sourceLocale, positions) -> {
+                List<String> groupTerms = positions.stream().map(terms::get).toList();
+                List<String> local = sameLanguage(sourceLocale, destinationLocale)
+                        ? groupTerms
+                        : translateLocally(sourceLocale, destinationLocale, groupTerms);
+                for (int index = 0; index < positions.size(); index++) {
+                    results[positions.get(index)] = local.get(index);
+                }
+            });
+            return Arrays.asList(results);
+        }
+        TermBatch batch = new TermBatch(terms);
+        resolveNonTranslatable(batch);
+        applyGlossary(batch, glossaryService.forPair(originLocale, destinationLocale));
+        if (!batch.hasPending()) {
+            return batch.complete(List.of());
+        }
+        return batch.complete(translationCache.cachedTranslations(originLocale, destinationLocale, batch.pendingTerms()));
+    }
+
+    private List<String> translateTerms(String originLocale, String destinationLocale, List<String> terms,
+                                        boolean routeToPeers) {
+        // Requisição que já passou do prazo (inclusive esperando na fila de admissão) não faz nenhum trabalho
+        Deadline.throwIfExpired();
+        if (LanguageDetector.isAuto(originLocale)) {
+            return translateAutoDetected(destinationLocale, terms, routeToPeers);
+        }
+        LatencyContext.localePair(originLocale, destinationLocale);
+
         long startTime = System.nanoTime();
         MDC.put("aws.bedrockModel", modelId);
         MDC.put("aws.region", awsRegion);
+        TranslationEvent event = new TranslationEvent();
+        event.begin();
         try {
             logger.info("Iniciando tradução de {} termos de {} para {}", terms.size(), originLocale, destinationLocale);
 
-            String systemPrompt = buildSystemPrompt(originLocale, destinationLocale);
-            String userMessage = buildUserMessage(terms);
-
-            // Criar mensagens para a Converse API
-            List<Message> messages = new ArrayList<>();
-            messages.add(Message.builder()
-                    .role(ConversationRole.USER)
-                    .content(ContentBlock.fromText(userMessage))
-                    .build());
-
-            // Configurar parâmetros de inferência
-            InferenceConfiguration inferenceConfig = InferenceConfiguration.builder()
-                    .maxTokens(4000)
-                    .temperature(0.1f)
-                    .topP(0.9f)
-                    .build();
-
-            // Criar request para Converse API
-            ConverseRequest converseRequest = ConverseRequest.builder()
-                    .modelId(modelId)
-                    .messages(messages)
-                    .system(SystemContentBlock.fromText(systemPrompt))
-                    .inferenceConfig(inferenceConfig)
-                    .build();
-
-            // Executar a tradução
-            ConverseResponse response = getBedrockClient().converse(converseRequest);
-            String bedrockRequestId = response.responseMetadata() != null ? response.responseMetadata().requestId() : null;
-            if (bedrockRequestId != null && !bedrockRequestId.isBlank()) {
-                MDC.put("aws.bedrockRequestId", bedrockRequestId);
-            }
-
-            // Extrair e processar a resposta
-            String translatedContent = extractTranslatedContent(response);
-            List<String> translatedTerms = parseTranslatedTerms(translatedContent, terms.size());
+            TermBatch batch = new TermBatch(terms);
+            resolveNonTranslatable(batch);
+            Collection<GlossaryEntry> constraints = applyGlossary(batch, glossaryService.forPair(originLocale, destinationLocale));
+            event.resolvedLocally = batch.resolvedCount();
+            if (!terms.isEmpty() && !batch.hasPending()) {
+                logger.info("Todos os {} termos resolvidos localmente, sem chamada ao modelo", terms.size());
+                return batch.complete(List.of());
+            }
+            // Demanda de clientes: pedidos de outras réplicas já foram contados na réplica de origem
+            if (routeToPeers) {
+                speculativeTranslator.observe(originLocale, destinationLocale, batch.pendingTerms());
+            }
+
+            List<String> translatedTerms = batch.complete(
+                    translatePending(originLocale, destinationLocale, batch.pendingTerms(), routeToPeers, constraints));
 
             long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
             MDC.put("durationMs", String.valueOf(durationMs));
@@ -93,13 +212,33 @@ public class TranslationService {
             logger.info("Tradução concluída com sucesso para {} termos", translatedTerms.size());
             return translatedTerms;
 
+        } catch (CircuitOpenException e) {
+            event.outcome = e.getClass().getSimpleName();
+            logger.warn("Tradução recusada com o circuito do Bedrock aberto: {}", e.getMessage());
+            throw e;
+        } catch (DeadlineExceededException e) {
+            event.outcome = e.getClass().getSimpleName();
+            logger.warn("Tradução interrompida: {}", e.getMessage());
+            throw e;
+        } catch (QuotaExceededException e) {
+            event.outcome = e.getClass().getSimpleName();
+            logger.warn("Tradução recusada: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
+            event.outcome = e.getClass().getSimpleName();
             long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
             MDC.put("durationMs", String.valueOf(durationMs));
 
             logger.error("Erro durante a tradução: {}", e.getMessage(), e);
             throw new RuntimeException("Falha na tradução: " + e.getMessage(), e);
         } finally {
+            if (event.shouldCommit()) {
+                event.originLocale = originLocale;
+                event.destinationLocale = destinationLocale;
+                event.terms = terms.size();
+                event.outcome = event.outcome != null ? event.outcome : "ok";
+                event.commit();
+            }
             MDC.remove("durationMs");
             MDC.remove("aws.bedrockRequestId");
             MDC.remove("aws.region");
@@ -107,17 +246,697 @@ public class TranslationService {
         }
     }
 
+    /**
+     * Re-translates stale cache entries in the background. Skipped while the circuit is not closed,
+     * so revalidation never competes with requests for the half-open probes.
+     */
+    List<String> refreshTerms(String originLocale, String destinationLocale, List<String> terms) {
+        if (circuitBreaker.state() != CircuitBreaker.State.CLOSED) {
+            throw new IllegalStateException("Circuito do Bedrock não está fechado");
+        }
+        // Como em translateTerms: glossário e termos sem conteúdo não voltam ao modelo nem entram na memória
+        TermBatch batch = new TermBatch(terms);
+        resolveNonTranslatable(batch);
+        Collection<GlossaryEntry> constraints = applyGlossary(batch, glossaryService.forPair(originLocale, destinationLocale));
+        if (!batch.hasPending()) {
+            return batch.complete(List.of());
+        }
+        List<String> pending = batch.pendingTerms();
+        List<String> translated = translateWithModel(originLocale, destinationLocale, pending, constraints);
+        translationMemory.store(originLocale, destinationLocale, pending, translated);
+        return batch.complete(translated);
+    }
+
+    /**
+     * Translates hot terms ahead of demand for {@link SpeculativeTranslator}. Terms a request would
+     * resolve locally keep their value and cost no model call.
+     */
+    List<String> prefetchTerms(String originLocale, String destinationLocale, List<String> terms) {
+        if (circuitBreaker.state() != CircuitBreaker.State.CLOSED) {
+            throw new IllegalStateException("Circuito do Bedrock não está fechado");
+        }
+        TermBatch batch = new TermBatch(terms);
+        resolveNonTranslatable(batch);
+        Collection<GlossaryEntry> constraints = applyGlossary(batch, glossaryService.forPair(originLocale, destinationLocale));
+        if (!batch.hasPending()) {
+            return batch.complete(List.of());
+        }
+        return batch.complete(translateWithMemory(originLocale, destinationLocale, batch.pendingTerms(), constraints));
+    }
+
+    private List<String> translatePending(String originLocale, String destinationLocale, List<String> pending,
+                                          boolean routeToPeers, Collection<GlossaryEntry> constraints) {
+        try {
+            return translationCache.translate(originLocale, destinationLocale, pending, routeToPeers,
+                    misses -> translateWithMemory(originLocale, destinationLocale, misses, constraints));
+        } catch (CircuitOpenException e) {
+            // Pares do cache só recebem traduções atuais: o stale é decidido pela réplica que atende o cliente
+            if (!routeToPeers) {
+                throw e;
+            }
+            return serveStale(originLocale, destinationLocale, pending, e);
+        }
+    }
+
+    /**
+     * Answers from previously stored translations while the circuit is open. All pending terms must
+     * have one; otherwise the request fails fast with the original exception.
+     */
+    private List<String> serveStale(String originLocale, String destinationLocale, List<String> pending,
+                                    CircuitOpenException cause) {
+        List<String> stale = translationCache.staleTranslations(originLocale, destinationLocale, pending);
+        if (stale.contains(null)) {
+            throw cause;
+        }
+        logger.warn("Circuito do Bedrock aberto: {} termos respondidos com traduções armazenadas", pending.size());
+        meterRegistry.counter(METRIC_STALE).increment(pending.size());
+        StaleContext.markStale();
+        return stale;
+    }
+
+    /**
+     * {@link #serveStale} for the combined call: every locale still missing terms must be completed
+     * from stored translations, otherwise the whole group fails fast with the original exception.
+     */
+    private Map<String, List<String>> serveStaleLocales(String originLocale, List<String> terms,
+                                                        Map<String, List<String>> partial,
+                                                        Map<String, List<String>> translations,
+                                                        CircuitOpenException cause) {
+        Map<String, List<String>> served = new LinkedHashMap<>();
+        int staleTerms = 0;
+        for (Map.Entry<String, List<String>> entry : partial.entrySet()) {
+            List<String> merged = new ArrayList<>(entry.getValue());
+            List<Integer> missing = new ArrayList<>();
+            for (int index = 0; index < merged.size(); index++) {
+                if (merged.get(index) == null) {
+                    missing.add(index);
+                }
+            }
+            List<String> stale = translationCache.staleTranslations(originLocale, entry.getKey(),
+                    missing.stream().map(terms::get).toList());
+            if (stale.size() != missing.size() || stale.stream().anyMatch(Objects::isNull)) {
+                throw cause;
+            }
+            for (int index = 0; index < missing.size(); index++) {
+                merged.set(missing.get(index), stale.get(index));
+            }
+            served.put(entry.getKey(), merged);
+            staleTerms += missing.size();
+        }
+        logger.warn("Circuito do Bedrock aberto: {} idiomas completados com traduções armazenadas", served.size());
+        meterRegistry.counter(METRIC_STALE).increment(staleTerms);
+        StaleContext.markStale();
+        translations.putAll(served);
+        return translations;
+    }
+
+    /**
+     * Model path for cache misses with the translation memory in front: a near-duplicate of a term
+     * translated before is answered from memory, close matches go to the model as references, and
+     * the new translations are added to the memory.
+     */
+    private List<String> translateWithMemory(String originLocale, String destinationLocale, List<String> terms,
+                                             Collection<GlossaryEntry> constraints) {
+        if (!translationMemory.isEnabled()) {
+            return translateWithModel(originLocale, destinationLocale, terms, constraints);
+        }
+        TermBatch batch = new TermBatch(terms);
+        Map<String, TranslationMemory.Match> references = new LinkedHashMap<>();
+        for (int index = 0; index < batch.size(); index++) {
+            TranslationMemory.Match match = translationMemory.lookup(originLocale, destinationLocale, batch.term(index));
+            if (match == null) {
+                continue;
+            }
+            if (match.reused() != null) {
+                batch.resolve(index, match.reused());
+            } else if (references.size() < translationMemory.maxReferences()) {
+                references.putIfAbsent(match.source(), match);
+            }
+        }
+        if (batch.resolvedCount() > 0 || !references.isEmpty()) {
+            logger.info("Memória de tradução: {} termos reaproveitados, {} referências no prompt",
+                       batch.resolvedCount(), references.size());
+        }
+        if (!batch.hasPending()) {
+            return batch.complete(List.of());
+        }
+        List<String> pending = batch.pendingTerms();
+        List<String> translated = translateWithModel(originLocale, destinationLocale, pending, constraints, references.values());
+        translationMemory.store(originLocale, destinationLocale, pending, translated);
+        // Resultado segue para o cache: um desalinhamento precisa continuar visível no tamanho
+        return batch.completeKeepingMisalignment(translated);
+    }
+
+    private List<String> translateWithModel(String originLocale, String destinationLocale, List<String> terms,
+                                            Collection<GlossaryEntry> constraints) {
+        return translateWithModel(originLocale, destinationLocale, terms, constraints, List.of());
+    }
+
+    private List<String> translateWithModel(String originLocale, String destinationLocale, List<String> terms,
+                                            Collection<GlossaryEntry> constraints,
+                                            Collection<TranslationMemory.Match> references) {
+        List<MaskedTerm> maskedTerms = maskPlaceholders(terms);
+        Map<ModelTier, List<Integer>> tiers = modelTierPolicy.partition(originLocale, destinationLocale, maskedTerms);
+        if (tiers.size() <= 1) {
+            ModelTier tier = tiers.isEmpty() ? ModelTier.STANDARD : tiers.keySet().iterator().next();
+            return translateTier(originLocale, destinationLocale, tier, maskedTerms, constraints, references);
+        }
+
+        // Um lote por nível, em paralelo; o resultado volta na ordem original dos termos
+        logger.info("Termos distribuídos por nível de modelo: {} rápidos, {} padrão",
+                   tiers.get(ModelTier.FAST).size(), tiers.get(ModelTier.STANDARD).size());
+        ContextSnapshot context = ContextSnapshot.capture();
+        Map<ModelTier, CompletableFuture<List<String>>> calls = new EnumMap<>(ModelTier.class);
+        tiers.forEach((tier, positions) -> {
+            List<MaskedTerm> tierTerms = positions.stream().map(maskedTerms::get).toList();
+            calls.put(tier, CompletableFuture.supplyAsync(context.wrap(
+                    () -> translateTier(originLocale, destinationLocale, tier, tierTerms, constraints, references)), executor));
+        });
+
+        String[] results = new String[terms.size()];
+        int firstMissing = terms.size();
+        List<String> surplus = new ArrayList<>();
+        for (Map.Entry<ModelTier, CompletableFuture<List<String>>> call : calls.entrySet()) {
+            List<Integer> positions = tiers.get(call.getKey());
+            List<String> translated;
+            try {
+                translated = call.getValue().join();
+            } catch (CompletionException e) {
+                calls.values().forEach(pending -> pending.cancel(true));
+                throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+            }
+            for (int index = 0; index < positions.size(); index++) {
+                if (index < translated.size()) {
+                    results[positions.get(index)] = translated.get(index);
+                } else {
+                    firstMissing = Math.min(firstMissing, positions.get(index));
+                }
+            }
+            surplus.addAll(translated.subList(Math.min(positions.size(), translated.size()), translated.size()));
+        }
+        return TermBatch.keepMisalignment(results, firstMissing, surplus);
+    }
+
+    private List<String> translateTier(String originLocale, String destinationLocale, ModelTier tier,
+                                       List<MaskedTerm> maskedTerms, Collection<GlossaryEntry> constraints,
+                                       Collection<TranslationMemory.Match> references) {
+        PromptBuildEvent promptEvent = new PromptBuildEvent();
+        promptEvent.begin();
+        String systemPrompt = buildSystemPrompt(originLocale, destinationLocale)
+                + buildGlossaryRule(constraints) + buildReferenceRule(references) + buildPlaceholderRule(maskedTerms);
+        String userMessage = buildUserMessage(maskedTerms.stream().map(MaskedTerm::text).toList());
+        commit(promptEvent, tier, maskedTerms.size(), 1, systemPrompt, userMessage);
+
+        // Executar a tradução e processar a resposta
+        String localePair = LatencyHistograms.localePair(originLocale, destinationLocale);
+        String translatedContent = invokeModel(tier, localePair, systemPrompt, userMessage);
+        meterRegistry.counter(METRIC_TERMS, "tier", tier.tag()).increment(maskedTerms.size());
+        ResponseParseEvent parseEvent = new ResponseParseEvent();
+        parseEvent.begin();
+        long parseStart = System.nanoTime();
+        List<String> translated = restorePlaceholders(maskedTerms, parseTranslatedTerms(translatedContent, maskedTerms.size()));
+        latencyHistograms.record(LatencyStage.PARSE, localePair, modelIdOf(tier), System.nanoTime() - parseStart);
+        commit(parseEvent, maskedTerms.size(), translated.size(), 1);
+        return translated;
+    }
+
+    /**
+     * Translates the same terms into several locales with a single Converse call. Each locale is first
+     * resolved locally (non-translatable terms, glossary and cache); only the terms still missing in
+     * some locale go to the model, with each locale's glossary constraints, and the new translations
+     * are cached. Locales whose section is missing or has the wrong number of lines are left out of
+     * the result.
+     */
+    public Map<String, List<String>> translateTermsToLocales(String originLocale, List<String> destinationLocales,
+                                                             List<String> terms) {
+        LatencyContext.localePair(originLocale, LatencyHistograms.ANY);
+        long startTime = System.nanoTime();
+        MDC.put("aws.bedrockModel", modelId);
+        MDC.put("aws.region", awsRegion);
+        try {
+            logger.info("Iniciando tradução de {} termos de {} para {} idiomas em uma chamada",
+                       terms.size(), originLocale, destinationLocales.size());
+
+            Map<String, List<String>> translations = new LinkedHashMap<>();
+            Map<String, List<String>> partial = new LinkedHashMap<>();
+            for (String locale : destinationLocales) {
+                List<String> local = translateLocally(originLocale, locale, terms);
+                (local.stream().anyMatch(Objects::isNull) ? partial : translations).put(locale, local);
+            }
+            if (partial.isEmpty()) {
+                logger.info("Todos os {} idiomas resolvidos localmente, sem chamada ao modelo", translations.size());
+                return translations;
+            }
+
+            // Um termo vai ao modelo se falta em algum idioma; os demais idiomas mantêm o valor local
+            List<Integer> positions = new ArrayList<>();
+            for (int index = 0; index < terms.size(); index++) {
+                int position = index;
+                if (partial.values().stream().anyMatch(local -> local.get(position) == null)) {
+                    positions.add(position);
+                }
+            }
+            List<String> pending = positions.stream().map(terms::get).toList();
+            Map<String, Collection<GlossaryEntry>> constraints = new LinkedHashMap<>();
+            partial.keySet().forEach(locale -> constraints.put(locale,
+                    applyGlossary(new TermBatch(pending), glossaryService.forPair(originLocale, locale))));
+            List<String> locales = List.copyOf(partial.keySet());
+
+            PromptBuildEvent promptEvent = new PromptBuildEvent();
+            promptEvent.begin();
+            List<MaskedTerm> pendingTerms = maskPlaceholders(pending);
+            String systemPrompt = buildMultiTargetSystemPrompt(originLocale, locales)
+                    + buildMultiTargetGlossaryRule(constraints) + buildPlaceholderRule(pendingTerms);
+            String userMessage = buildUserMessage(pendingTerms.stream().map(MaskedTerm::text).toList());
+            commit(promptEvent, ModelTier.STANDARD, pendingTerms.size(), locales.size(), systemPrompt, userMessage);
+
+            String localePair = LatencyHistograms.localePair(originLocale, LatencyHistograms.ANY);
+            String translatedContent;
+            try {
+                translatedContent = invokeModel(ModelTier.STANDARD, localePair, systemPrompt, userMessage);
+            } catch (CircuitOpenException e) {
+                return serveStaleLocales(originLocale, terms, partial, translations, e);
+            }
+            ResponseParseEvent parseEvent = new ResponseParseEvent();
+            parseEvent.begin();
+            long parseStart = System.nanoTime();
+            Map<String, List<String>> sections = parseMultiTargetContent(translatedContent, locales, pendingTerms.size());
+            latencyHistograms.record(LatencyStage.PARSE, localePair, modelId, System.nanoTime() - parseStart);
+            commit(parseEvent, pendingTerms.size() * locales.size(),
+                   sections.values().stream().mapToInt(List::size).sum(), locales.size());
+
+            sections.forEach((locale, section) -> {
+                List<String> translated = restorePlaceholders(pendingTerms, section);
+                List<String> merged = new ArrayList<>(partial.get(locale));
+                List<String> missingTerms = new ArrayList<>();
+                List<String> missingTranslations = new ArrayList<>();
+                for (int index = 0; index < positions.size(); index++) {
+                    int position = positions.get(index);
+                    if (merged.get(position) == null) {
+                        merged.set(position, translated.get(index));
+                        missingTerms.add(terms.get(position));
+                        missingTranslations.add(translated.get(index));
+                    }
+                }
+                translationCache.storeAll(originLocale, locale, missingTerms, missingTranslations);
+                translations.put(locale, merged);
+            });
+
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            MDC.put("durationMs", String.valueOf(durationMs));
+
+            logger.info("Tradução concluída para {} de {} idiomas", translations.size(), destinationLocales.size());
+            return translations;
+
+        } catch (CircuitOpenException e) {
+            logger.warn("Tradução recusada com o circuito do Bedrock aberto: {}", e.getMessage());
+            throw e;
+        } catch (DeadlineExceededException e) {
+            logger.warn("Tradução interrompida: {}", e.getMessage());
+            throw e;
+        } catch (QuotaExceededException e) {
+            logger.warn("Tradução recusada: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            MDC.put("durationMs", String.valueOf(durationMs));
+
+            logger.error("Erro durante a tradução: {}", e.getMessage(), e);
+            throw new RuntimeException("Falha na tradução: " + e.getMessage(), e);
+        } finally {
+            MDC.remove("durationMs");
+            MDC.remove("aws.bedrockRequestId");
+            MDC.remove("aws.region");
+            MDC.remove("aws.bedrockModel");
+        }
+    }
+
+    /**
+     * Splits an {@code auto} request into one sub-batch per detected source locale. Terms already in
+     * the destination language are returned unchanged.
+     */
+    private List<String> translateAutoDetected(String destinationLocale, List<String> terms, boolean routeToPeers) {
+        Map<String, List<Integer>> groups = languageDetector.groupBySourceLocale(terms);
+        Map<String, Integer> summary = new LinkedHashMap<>();
+        groups.forEach((locale, positions) -> summary.put(locale, positions.size()));
+        logger.info("Idiomas de origem detectados para {} termos: {}", terms.size(), summary);
+
+        String[] results = new String[terms.size()];
+        for (Map.Entry<String, List<Integer>> group : groups.entrySet()) {
+            List<Integer> positions = group.getValue();
+            List<String> groupTerms = positions.stream().map(terms::get).toList();
+            List<String> translated = sameLanguage(group.getKey(), destinationLocale)
+                    ? groupTerms
+                    : translateTerms(group.getKey(), destinationLocale, groupTerms, routeToPeers);
+            for (int index = 0; index < positions.size(); index++) {
+                results[positions.get(index)] = index < translated.size() ? translated.get(index) : groupTerms.get(index);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private boolean sameLanguage(String sourceLocale, String destinationLocale) {
+        return languageOf(sourceLocale).equals(languageOf(destinationLocale));
+    }
+
+    private String languageOf(String locale) {
+        String normalized = locale.strip().replace('_', '-').toLowerCase(Locale.ROOT);
+        int separator = normalized.indexOf('-');
+        return separator > 0 ? normalized.substring(0, separator) : normalized;
+    }
+
+    private void resolveNonTranslatable(TermBatch batch) {
+        for (int index = 0; index < batch.size(); index++) {
+            if (TermClassifier.isNonTranslatable(batch.term(index))) {
+                batch.resolve(index, batch.term(index));
+            }
+        }
+        if (batch.resolvedCount() > 0) {
+            logger.info("{} termos sem conteúdo traduzível respondidos localmente", batch.resolvedCount());
+        }
+    }
+
+    private List<MaskedTerm> maskPlaceholders(List<String> terms) {
+        List<MaskedTerm> masked = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            masked.add(PlaceholderMasker.mask(term));
+        }
+        return masked;
+    }
+
+    /**
+     * Restores placeholders line by line. A translation that lost or duplicated a token falls back to
+     * the original term, since a broken placeholder fails at runtime in the client application.
+     */
+    private List<String> restorePlaceholders(List<MaskedTerm> masked, List<String> translated) {
+        List<String> restored = new ArrayList<>(translated.size());
+        for (int index = 0; index < translated.size(); index++) {
+            if (index >= masked.size()) {
+                restored.add(translated.get(index));
+                continue;
+            }
+            MaskedTerm term = masked.get(index);
+            String value = term.restore(translated.get(index));
+            if (value == null) {
+                logger.warn("Tradução alterou os marcadores do termo; mantendo o original: {}", term.original());
+                value = term.original();
+            }
+            restored.add(value);
+        }
+        return restored;
+    }
+
+    /**
+     * Answers whole-term glossary matches locally and collects the entries found inside the remaining
+     * terms, which the model is then required to use.
+     */
+    private Collection<GlossaryEntry> applyGlossary(TermBatch batch, AhoCorasickAutomaton glossary) {
+        Map<String, GlossaryEntry> constraints = new LinkedHashMap<>();
+        if (glossary.size() == 0) {
+            return constraints.values();
+        }
+        for (int index = 0; index < batch.size(); index++) {
+            String exact = glossary.exactMatch(batch.term(index));
+            if (exact != null) {
+                batch.resolve(index, exact);
+            } else {
+                for (AhoCorasickAutomaton.Match match : glossary.findAll(batch.term(index))) {
+                    constraints.putIfAbsent(match.entry().source().toLowerCase(Locale.ROOT), match.entry());
+                }
+            }
+        }
+        if (batch.resolvedCount() > 0 || !constraints.isEmpty()) {
+            logger.info("Glossário: {} termos resolvidos localmente, {} restrições no prompt",
+                       batch.resolvedCount(), constraints.size());
+        }
+        return constraints.values();
+    }
+
+    private String buildGlossaryRule(Collection<GlossaryEntry> constraints) {
+        if (constraints.isEmpty()) {
+            return "";
+        }
+        StringBuilder rule = new StringBuilder(
+                " Use obrigatoriamente estas traduções aprovadas do glossário sempre que o termo de origem aparecer: ");
+        for (GlossaryEntry entry : constraints) {
+            rule.append('"').append(entry.source()).append("\" => \"").append(entry.target()).append("\"; ");
+        }
+        return rule.toString().stripTrailing();
+    }
+
+    // Na chamada combinada cada idioma tem o seu glossário: as restrições saem agrupadas pela seção do idioma
+    private String buildMultiTargetGlossaryRule(Map<String, Collection<GlossaryEntry>> constraints) {
+        StringBuilder rule = new StringBuilder();
+        constraints.forEach((locale, entries) -> {
+            if (!entries.isEmpty()) {
+                rule.append(" Na seção ").append(LOCALE_SECTION_PREFIX).append(locale).append(':')
+                        .append(buildGlossaryRule(entries));
+            }
+        });
+        return rule.toString();
+    }
+
+    private String buildReferenceRule(Collection<TranslationMemory.Match> references) {
+        if (references.isEmpty()) {
+            return "";
+        }
+        StringBuilder rule = new StringBuilder(
+                " Traduções anteriores de termos parecidos, para manter a mesma terminologia: ");
+        for (TranslationMemory.Match reference : references) {
+            rule.append('"').append(reference.source()).append("\" => \"").append(reference.translation()).append("\"; ");
+        }
+        return rule.toString().stripTrailing();
+    }
+
+    private String buildPlaceholderRule(List<MaskedTerm> terms) {
+        for (MaskedTerm term : terms) {
+            if (term.isMasked()) {
+                return " Marcadores no formato {0}, {1}... representam variáveis ou formatação: mantenha cada um exatamente"
+                        + " uma vez na tradução, sem traduzir, alterar ou remover.";
+            }
+        }
+        return "";
+    }
+
+    private String modelIdOf(ModelTier tier) {
+        return tier == ModelTier.FAST ? modelTierPolicy.fastModelId() : modelId;
+    }
+
+    private String invokeModel(ModelTier tier, String localePair, String systemPrompt, String userMessage) {
+        String tierModelId = modelIdOf(tier);
+
+        // Criar mensagens para a Converse API
+        List<Message> messages = new ArrayList<>();
+        messages.add(Message.builder()
+                .role(ConversationRole.USER)
+                .content(ContentBlock.fromText(userMessage))
+                .build());
+
+        // Configurar parâmetros de inferência
+        InferenceConfiguration inferenceConfig = InferenceConfiguration.builder()
+                .maxTokens(4000)
+                .temperature(0.1f)
+                .topP(0.9f)
+                .build();
+
+        // Criar request para Converse API
+        ConverseRequest converseRequest = ConverseRequest.builder()
+                .modelId(tierModelId)
+                .messages(messages)
+                .system(SystemContentBlock.fromText(systemPrompt))
+                .inferenceConfig(inferenceConfig)
+                .build();
+
+        // Cota do tenant verificada antes da chamada, com a estimativa de tokens desta chamada
+        String tenant = TenantContext.current();
+        tenantUsage.checkQuota(tenant, estimateTokens(systemPrompt, userMessage));
+
+        ModelCallEvent event = new ModelCallEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+        ConverseResponse response;
+        speculativeTranslator.modelCallStarted();
+        try {
+            response = circuitBreaker.execute(() -> converse(converseRequest));
+        } catch (RuntimeException e) {
+            commit(event, tier, tierModelId, null, e.getClass().getSimpleName());
+            throw e;
+        } finally {
+            speculativeTranslator.modelCallFinished();
+        }
+        long durationNanos = System.nanoTime() - startTime;
+        commit(event, tier, tierModelId, response, "ok");
+        recordModelCall(tier, tierModelId, durationNanos, response);
+        latencyHistograms.record(LatencyStage.BEDROCK, localePair, tierModelId, durationNanos);
+        tenantUsage.record(tenant, response.usage());
+        String bedrockRequestId = response.responseMetadata() != null ? response.responseMetadata().requestId() : null;
+        if (bedrockRequestId != null && !bedrockRequestId.isBlank()) {
+            MDC.put("aws.bedrockRequestId", bedrockRequestId);
+        }
+
+        return extractTranslatedContent(response);
+    }
+
+    // Campos preenchidos só quando o evento será gravado: com o JFR desligado o custo é o de um objeto vazio
+    private void commit(ModelCallEvent event, ModelTier tier, String tierModelId, ConverseResponse response, String outcome) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.model = tierModelId;
+        event.region = awsRegion;
+        event.tier = tier.tag();
+        event.outcome = outcome;
+        if (response != null) {
+            TokenUsage usage = response.usage();
+            if (usage != null) {
+                event.inputTokens = tokensOf(usage.inputTokens());
+                event.outputTokens = tokensOf(usage.outputTokens());
+                event.cacheReadTokens = usage.getValueForField("CacheReadInputTokens", Integer.class).orElse(0);
+            }
+            event.bedrockRequestId = response.responseMetadata() != null ? response.responseMetadata().requestId() : null;
+        }
+        event.commit();
+    }
+
+    private static void commit(PromptBuildEvent event, ModelTier tier, int terms, int destinationLocales,
+                               String systemPrompt, String userMessage) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.tier = tier.tag();
+            event.terms = terms;
+            event.destinationLocales = destinationLocales;
+            event.systemPromptChars = systemPrompt.length();
+            event.userMessageChars = userMessage.length();
+            event.commit();
+        }
+    }
+
+    private static void commit(ResponseParseEvent event, int expectedTerms, int parsedTerms, int destinationLocales) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.expectedTerms = expectedTerms;
+            event.parsedTerms = parsedTerms;
+            event.destinationLocales = destinationLocales;
+            event.commit();
+        }
+    }
+
+    private static int tokensOf(Integer tokens) {
+        return tokens != null ? tokens : 0;
+    }
+
+    /**
+     * About four characters per token: the prompt as input, and output about as long as the terms.
+     */
+    private static long estimateTokens(String systemPrompt, String userMessage) {
+        return (systemPrompt.length() + 2L * userMessage.length() + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN;
+    }
+
+    /**
+     * Calls Converse within the request's deadline: the remaining budget becomes the SDK's API call
+     * timeout, and cancelling the request interrupts the call. The call runs on a virtual thread,
+     * where blocking socket I/O is interruptible, so a cancelled call releases its connection at once.
+     */
+    private ConverseResponse converse(ConverseRequest converseRequest) {
+        BedrockRuntimeClient client = getBedrockClient();
+        Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            return client.converse(converseRequest);
+        }
+        Deadline.throwIfExpired();
+        ConverseRequest bounded = deadline.isBounded()
+                ? converseRequest.toBuilder()
+                        .overrideConfiguration(override -> override.apiCallTimeout(deadline.remaining()))
+                        .build()
+                : converseRequest;
+
+        Future<ConverseResponse> call = executor.submit(() -> client.converse(bounded));
+        Runnable unregister = deadline.onCancel(() -> call.cancel(true));
+        try {
+            ConverseResponse response = call.get();
+            if (deadline.isExpired() || deadline.isCancelled()) {
+                throw wasted(deadline);
+            }
+            return response;
+        } catch (CancellationException e) {
+            throw wasted(deadline);
+        } catch (InterruptedException e) {
+            call.cancel(true);
+            Thread.currentThread().interrupt();
+            throw wasted(deadline);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ApiCallTimeoutException || deadline.isCancelled()) {
+                throw wasted(deadline);
+            }
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new RuntimeException(e.getCause());
+        } finally {
+            unregister.run();
+        }
+    }
+
+    // Chamada ao Bedrock cujo resultado ninguém vai receber: consumiu cota à toa
+    private DeadlineExceededException wasted(Deadline deadline) {
+        String reason = deadline.isCancelled() ? "cancelled" : "deadline";
+        meterRegistry.counter(METRIC_WASTED, "reason", reason).increment();
+        return new DeadlineExceededException(deadline.isCancelled()
+                ? "Requisição cancelada pelo cliente"
+                : "Prazo da requisição esgotado durante a chamada ao modelo");
+    }
+
+    private void recordModelCall(ModelTier tier, String tierModelId, long durationNanos, ConverseResponse response) {
+        if (WarmupContext.isActive()) {
+            return;
+        }
+        Timer.builder(METRIC_LATENCY)
+                .tag("tier", tier.tag())
+                .tag("model", tierModelId)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        TokenUsage usage = response.usage();
+        if (usage != null) {
+            if (usage.inputTokens() != null) {
+                meterRegistry.counter(METRIC_TOKENS, "tier", tier.tag(), "direction", "input").increment(usage.inputTokens());
+            }
+            if (usage.outputTokens() != null) {
+                meterRegistry.counter(METRIC_TOKENS, "tier", tier.tag(), "direction", "output").increment(usage.outputTokens());
+            }
+        }
+    }
+
     private String buildSystemPrompt(String originLocale, String destinationLocale) {
         return String.format(
                 "Você é um tradutor profissional especializado em tradução precisa e contextual. " +
-                "Sua tarefa é traduzir termos do idioma '%s' para o idioma '%s'. " +
+                "Sua tarefa é traduzir termos %s para o idioma '%s'. " +
                 "Regras importantes: " +
                 "1. Mantenha o contexto e o tom original " +
                 "2. Para nomes próprios, mantenha-os inalterados a menos que tenham uma tradução estabelecida " +
                 "3. Retorne APENAS as traduções, uma por linha, na mesma ordem dos termos originais " +
                 "4. Não adicione explicações, numeração ou formatação extra " +
                 "5. Se um termo não puder ser traduzido, mantenha o termo original",
-                originLocale, destinationLocale
+                describeSource(originLocale), destinationLocale
+        );
+    }
+
+    // Termos que a detecção local não decidiu: o modelo identifica o idioma de cada um
+    private static String describeSource(String originLocale) {
+        return LanguageDetector.isUndetermined(originLocale)
+                ? "de idioma não informado (identifique o idioma de cada termo; termos já no idioma de destino ficam inalterados)"
+                : "do idioma '" + originLocale + "'";
+    }
+
+    private String buildMultiTargetSystemPrompt(String originLocale, List<String> destinationLocales) {
+        return String.format(
+                "Você é um tradutor profissional especializado em tradução precisa e contextual. " +
+                "Sua tarefa é traduzir termos %s para cada um dos idiomas: %s. " +
+                "Regras importantes: " +
+                "1. Mantenha o contexto e o tom original " +
+                "2. Para nomes próprios, mantenha-os inalterados a menos que tenham uma tradução estabelecida " +
+                "3. Para cada idioma, escreva uma linha '%s<idioma>' seguida das traduções, uma por linha, na mesma ordem dos termos originais " +
+                "4. Não adicione explicações, numeração ou formatação extra " +
+                "5. Se um termo não puder ser traduzido, mantenha o termo original",
+                describeSource(originLocale), String.join(", ", destinationLocales), LOCALE_SECTION_PREFIX
         );
     }
 
@@ -161,4 +980,35 @@ public class TranslationService {
 
         return translatedTerms;
     }
+
+    private Map<String, List<String>> parseMultiTargetContent(String translatedContent, List<String> destinationLocales,
+                                                              int expectedCount) {
+        Map<String, List<String>> sections = new LinkedHashMap<>();
+        List<String> current = null;
+        for (String line : translatedContent.split("\n")) {
+            String trimmedLine = line.trim();
+            if (trimmedLine.startsWith(LOCALE_SECTION_PREFIX)) {
+                current = new ArrayList<>();
+                sections.put(trimmedLine.substring(LOCALE_SECTION_PREFIX.length()).trim(), current);
+            } else if (current != null && !trimmedLine.isEmpty()) {
+                current.add(trimmedLine);
+            }
+        }
+
+        Map<String, List<String>> translations = new LinkedHashMap<>();
+        for (String locale : destinationLocales) {
+            List<String> section = sections.get(locale);
+            if (section != null && section.size() == expectedCount) {
+                translations.put(locale, section);
+            } else {
+                logger.warn("Seção do idioma {} ausente ou incompleta na resposta combinada", locale);
+            }
+        }
+        return translations;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
 }
@@ -0,0 +1,114 @@
+package sample_bedrock.translate.service.backend;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+/**
+ * In-process Converse backend that answers every request by echoing the terms of the user message.
+ * The SDK still signs, marshals and unmarshals each call, so it exercises the same code as Bedrock.
+ */
+public class EchoBedrockHttpClient implements SdkHttpClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+        return new ExecutableHttpRequest() {
+            @Override
+            public HttpExecuteResponse call() throws IOException {
+                return ok(converseResponse(readBody(request)));
+            }
+
+            @Override
+            public void abort() {
+            }
+        };
+    }
+
+    @Override
+    public String clientName() {
+        return "echo";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    static JsonNode readBody(HttpExecuteRequest request) throws IOException {
+        if (request.contentStreamProvider().isEmpty()) {
+            return MAPPER.createObjectNode();
+        }
+        try (InputStream content = request.contentStreamProvider().get().newStream()) {
+            return MAPPER.readTree(content);
+        }
+    }
+
+    private byte[] converseResponse(JsonNode converseRequest) throws IOException {
+        String userMessage = lastUserText(converseRequest);
+        String echoed = termsOf(userMessage);
+        return converseResponse(echoed, estimateTokens(userMessage), estimateTokens(echoed), 0);
+    }
+
+    static byte[] converseResponse(String text, int inputTokens, int outputTokens, long latencyMs) throws IOException {
+        ObjectNode response = MAPPER.createObjectNode();
+        ObjectNode message = response.putObject("output").putObject("message");
+        message.put("role", "assistant");
+        message.putArray("content").addObject().put("text", text);
+        response.put("stopReason", "end_turn");
+        response.putObject("usage")
+                .put("inputTokens", inputTokens)
+                .put("outputTokens", outputTokens)
+                .put("totalTokens", inputTokens + outputTokens);
+        response.putObject("metrics").put("latencyMs", latencyMs);
+        return MAPPER.writeValueAsBytes(response);
+    }
+
+    static HttpExecuteResponse ok(byte[] body) {
+        return HttpExecuteResponse.builder()
+                .response(SdkHttpResponse.builder()
+                        .statusCode(200)
+                        .putHeader("Content-Type", "application/json")
+                        .putHeader("Content-Length", String.valueOf(body.length))
+                        .putHeader("x-amzn-RequestId", UUID.randomUUID().toString())
+                        .build())
+                .responseBody(AbortableInputStream.create(new ByteArrayInputStream(body)))
+                .build();
+    }
+
+    static String lastUserText(JsonNode converseRequest) {
+        String text = "";
+        for (JsonNode message : converseRequest.path("messages")) {
+            for (JsonNode block : message.path("content")) {
+                if (block.hasNonNull("text")) {
+                    text = block.get("text").asText();
+                }
+            }
+        }
+        return text;
+    }
+
+    /**
+     * The terms of a translation user message: a header, a blank line and one term per line.
+     */
+    public static String termsOf(String userMessage) {
+        int separator = userMessage.indexOf("\n\n");
+        return separator < 0 ? userMessage : userMessage.substring(separator + 2);
+    }
+
+    static int estimateTokens(String text) {
+        return Math.max(1, text.length() / 4);
+    }
+}
@@ -0,0 +1,128 @@
+package sample_bedrock.translate.service.backend;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import sample_bedrock.translate.capture.CapturedModelCall;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+
+/**
+ * In-process Converse backend that serves the model calls of a traffic capture: a call whose terms
+ * match a recorded call gets the recorded answer after the recorded latency. Repeated terms are
+ * served in recording order, wrapping around. Terms the capture never sent to Bedrock (the cache
+ * or batching differed from production) are echoed after the median latency of recorded calls
+ * with the same number of terms.
+ */
+public class ReplayBedrockHttpClient implements SdkHttpClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplayBedrockHttpClient.class);
+
+    private final Map<String, Recorded> calls = new HashMap<>();
+    private final Map<Integer, Long> medianByTermCount = new HashMap<>();
+    private final long medianLatencyMicros;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ReplayBedrockHttpClient(List<CapturedModelCall> modelCalls) {
+        Map<Integer, List<Long>> latencies = new HashMap<>();
+        List<Long> all = new ArrayList<>();
+        for (CapturedModelCall call : modelCalls) {
+            calls.computeIfAbsent(call.terms(), key -> new Recorded()).calls.add(call);
+            latencies.computeIfAbsent(termCount(call.terms()), key -> new ArrayList<>()).add(call.latencyMicros());
+            all.add(call.latencyMicros());
+        }
+        latencies.forEach((count, values) -> medianByTermCount.put(count, median(values)));
+        medianLatencyMicros = median(all);
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+        return new ExecutableHttpRequest() {
+            @Override
+            public HttpExecuteResponse call() throws IOException {
+                String userMessage = EchoBedrockHttpClient.lastUserText(EchoBedrockHttpClient.readBody(request));
+                String terms = EchoBedrockHttpClient.termsOf(userMessage);
+                Recorded recorded = calls.get(terms);
+                if (recorded == null) {
+                    misses.incrementAndGet();
+                    logger.debug("Termos sem chamada gravada; respondendo em eco");
+                    long latency = medianByTermCount.getOrDefault(termCount(terms), medianLatencyMicros);
+                    pause(latency);
+                    return EchoBedrockHttpClient.ok(EchoBedrockHttpClient.converseResponse(terms,
+                            EchoBedrockHttpClient.estimateTokens(userMessage), EchoBedrockHttpClient.estimateTokens(terms),
+                            TimeUnit.MICROSECONDS.toMillis(latency)));
+                }
+                hits.incrementAndGet();
+                CapturedModelCall call = recorded.next();
+                pause(call.latencyMicros());
+                return EchoBedrockHttpClient.ok(EchoBedrockHttpClient.converseResponse(call.response(),
+                        call.inputTokens(), call.outputTokens(), TimeUnit.MICROSECONDS.toMillis(call.latencyMicros())));
+            }
+
+            @Override
+            public void abort() {
+            }
+        };
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    @Override
+    public String clientName() {
+        return "replay";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static void pause(long micros) throws InterruptedIOException {
+        try {
+            TimeUnit.MICROSECONDS.sleep(micros);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Replay interrompido");
+        }
+    }
+
+    private static int termCount(String terms) {
+        return terms.isEmpty() ? 0 : (int) terms.lines().count();
+    }
+
+    private static long median(List<Long> values) {
+        if (values.isEmpty()) {
+            return 0;
+        }
+        List<Long> sorted = values.stream().sorted().toList();
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static final class Recorded {
+
+        private final List<CapturedModelCall> calls = new ArrayList<>();
+        private final AtomicInteger next = new AtomicInteger();
+
+        private CapturedModelCall next() {
+            return calls.get(Math.floorMod(next.getAndIncrement(), calls.size()));
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package sample_bedrock.translate.service.files;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import sample_bedrock.translate.service.StreamingTranslationService;
+import sample_bedrock.translate.service.files.ResourceReader.Segment;
+
+/**
+ * Translates i18n resource files (JSON, {@code .properties}, PO, XLIFF) as a stream: the file is
+ * read one segment at a time, translatable values go through the chunk window of
+ * {@link StreamingTranslationService}, and the file is written back with its keys, structure and
+ * comments as each chunk completes. Only the segments of in-flight chunks are held in memory.
+ */
+@Service
+public class FileTranslationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileTranslationService.class);
+
+    @Value("${translate.stream.chunk-size:100}")
+    private int chunkSize;
+
+    @Autowired
+    private StreamingTranslationService streamingTranslationService;
+
+    public void translate(ResourceFormat format, String originLocale, String destinationLocale,
+                          InputStream input, Charset inputCharset, OutputStream output) throws IOException {
+        translate(format, originLocale, destinationLocale, input, inputCharset, output, null);
+    }
+
+    /**
+     * Same as above, but values whose key and source text {@code previous} already knows are
+     * written from it instead of going to the model.
+     */
+    public void translate(ResourceFormat format, String originLocale, String destinationLocale,
+                          InputStream input, Charset inputCharset, OutputStream output,
+                          PreviousTranslations previous) throws IOException {
+        Charset charset = format.outputCharset(inputCharset);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, charset));
+        StreamingTranslationService.TermStream stream = null;
+        try (ResourceReader reader = format.reader(input, charset, destinationLocale)) {
+            SegmentWriter segments = new SegmentWriter(reader, writer, previous);
+            stream = streamingTranslationService.open(originLocale, destinationLocale, segments);
+            List<String> chunk = new ArrayList<>(chunkSize);
+            Segment segment;
+            while ((segment = reader.next()) != null) {
+                if (segments.add(segment)) {
+                    chunk.add(segment.value());
+                    if (chunk.size() == chunkSize) {
+                        stream.submit(chunk);
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                stream.submit(chunk);
+            }
+            stream.finish();
+            segments.drain();
+            writer.flush();
+            logger.info("Arquivo {} traduzido: {} valores traduzidos, {} reaproveitados ({} -> {})",
+                        format, segments.translatedCount, segments.reusedCount, originLocale, destinationLocale);
+        } catch (JsonProcessingException e) {
+            cancel(stream);
+            throw new IllegalArgumentException("JSON inválido: " + e.getOriginalMessage(), e);
+        } catch (IOException | RuntimeException e) {
+            cancel(stream);
+            throw e;
+        }
+    }
+
+    private static void cancel(StreamingTranslationService.TermStream stream) {
+        if (stream != null) {
+            // Arquivo malformado ou cliente desconectado: as chamadas pendentes não têm mais destino
+            stream.cancel();
+        }
+    }
+
+    /**
+     * Holds the segments read since the oldest untranslated value and writes them out as chunks
+     * complete. Segments arriving with nothing pending are written straight away; the writer is
+     * only flushed after a chunk, so failures before the first chunk still map to an error status.
+     * Each chunk consumes exactly the values submitted with it: a short model answer leaves the
+     * source text on the missing values instead of shifting the next chunk's translations.
+     */
+    private static final class SegmentWriter implements StreamingTranslationService.ChunkSink {
+
+        private final ResourceReader reader;
+        private final Writer writer;
+        private final PreviousTranslations previous;
+        private final Deque<Pending> pending = new ArrayDeque<>();
+        private long translatedCount;
+        private long reusedCount;
+
+        private SegmentWriter(ResourceReader reader, Writer writer, PreviousTranslations previous) {
+            this.reader = reader;
+            this.writer = writer;
+            this.previous = previous;
+        }
+
+        /**
+         * Queues or writes {@code segment}; returns whether its value must go to the model.
+         */
+        private boolean add(Segment segment) throws IOException {
+            String known = null;
+            if (segment.isTranslatable() && previous != null && segment.key() != null) {
+                known = previous.lookup(segment.key(), segment.value());
+            }
+            boolean translate = segment.isTranslatable() && known == null;
+            String value = segment.isTranslatable() ? known : segment.value();
+            if (known != null) {
+                reusedCount++;
+            }
+            if (pending.isEmpty() && !translate) {
+                write(segment, value);
+            } else {
+                pending.add(new Pending(segment, value, translate));
+            }
+            return translate;
+        }
+
+        @Override
+        public void accept(int offset, List<String> source, List<String> translated, boolean stale) throws IOException {
+            int expected = source.size();
+            if (translated.size() != expected) {
+                logger.warn("Bloco na posição {} voltou com {} de {} valores; os faltantes ficam com o texto de origem",
+                           offset, translated.size(), expected);
+            }
+            int next = 0;
+            while (!pending.isEmpty()) {
+                Pending entry = pending.peek();
+                if (entry.translate()) {
+                    if (next == expected) {
+                        break;
+                    }
+                    if (next < translated.size()) {
+                        write(entry.segment(), translated.get(next));
+                        translatedCount++;
+                    } else {
+                        writeSource(entry.segment());
+                    }
+                    next++;
+                } else {
+                    write(entry.segment(), entry.value());
+                }
+                pending.poll();
+            }
+            writer.flush();
+        }
+
+        private void drain() throws IOException {
+            Pending entry;
+            while ((entry = pending.poll()) != null) {
+                if (entry.translate()) {
+                    writeSource(entry.segment());
+                } else {
+                    write(entry.segment(), entry.value());
+                }
+            }
+        }
+
+        // Valor sem tradução do modelo: sai com o texto de origem e não entra no histórico
+        private void writeSource(Segment segment) throws IOException {
+            writer.write(segment.literal());
+            writer.write(reader.encode(segment.value()));
+            if (previous != null && segment.key() != null) {
+                previous.untranslated(segment.key(), segment.value());
+            }
+        }
+
+        private void write(Segment segment, String value) throws IOException {
+            writer.write(segment.literal());
+            if (value != null) {
+                writer.write(reader.encode(value));
+                if (previous != null && segment.key() != null && segment.isTranslatable()) {
+                    previous.written(segment.key(), segment.value(), value);
+                }
+            }
+        }
+    }
+
+    /**
+     * A queued segment with the value to write, unless it still waits for a chunk ({@code translate}).
+     */
+    private record Pending(Segment segment, String value, boolean translate) {
+    }
+}
@@ -0,0 +1,71 @@
+package sample_bedrock.translate.service.files;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+
+/**
+ * Streams a JSON bundle token by token, copying objects, arrays, keys and non-string values and
+ * yielding every string value for translation. Output is pretty-printed.
+ */
+final class JsonResourceReader implements ResourceReader {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final JsonParser parser;
+    private final StringWriter buffer = new StringWriter();
+    private final JsonGenerator generator;
+    private boolean finished;
+
+    JsonResourceReader(InputStream input) throws IOException {
+        this.parser = FACTORY.createParser(input);
+        this.generator = FACTORY.createGenerator(buffer).setPrettyPrinter(new DefaultPrettyPrinter()
+                .withObjectIndenter(DefaultIndenter.SYSTEM_LINEFEED_INSTANCE.withLinefeed("\n")));
+    }
+
+    @Override
+    public Segment next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (token == JsonToken.VALUE_STRING) {
+                // Valor vazio pelo gerador: grava só separador e indentação; o valor traduzido vem depois
+                generator.writeRawValue("");
+                generator.flush();
+                return new Segment(drain(), parser.getText(), parser.getParsingContext().pathAsPointer().toString());
+            }
+            generator.copyCurrentEvent(parser);
+        }
+        finished = true;
+        generator.close();
+        buffer.write('\n');
+        return new Segment(drain(), null);
+    }
+
+    @Override
+    public String encode(String value) {
+        return '"' + new String(JsonStringEncoder.getInstance().quoteAsString(value)) + '"';
+    }
+
+    private String drain() {
+        StringBuffer text = buffer.getBuffer();
+        String literal = text.toString();
+        text.setLength(0);
+        return literal;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
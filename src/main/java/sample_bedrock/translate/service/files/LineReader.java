@@ -0,0 +1,72 @@
+package sample_bedrock.translate.service.files;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads physical lines keeping their terminators ({@code \n}, {@code \r\n} or {@code \r}), so
+ * line-based formats can be written back byte for byte outside the translated values.
+ */
+final class LineReader implements AutoCloseable {
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private boolean pendingLineFeed;
+
+    LineReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * The next line with its terminator, or {@code null} at end of input.
+     */
+    String readLine() throws IOException {
+        StringBuilder line = new StringBuilder();
+        while (true) {
+            if (position == limit) {
+                limit = reader.read(buffer);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return line.isEmpty() ? null : line.toString();
+                }
+            }
+            char current = buffer[position++];
+            if (pendingLineFeed) {
+                pendingLineFeed = false;
+                if (current == '\n') {
+                    // Continuação de um \r\n cujo \r fechou a linha anterior
+                    line.append(current);
+                    return line.toString();
+                }
+                position--;
+                return line.toString();
+            }
+            line.append(current);
+            if (current == '\n') {
+                return line.toString();
+            }
+            if (current == '\r') {
+                pendingLineFeed = true;
+            }
+        }
+    }
+
+    /**
+     * Length of {@code line} without its terminator.
+     */
+    static int contentLength(String line) {
+        int end = line.length();
+        while (end > 0 && (line.charAt(end - 1) == '\n' || line.charAt(end - 1) == '\r')) {
+            end--;
+        }
+        return end;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
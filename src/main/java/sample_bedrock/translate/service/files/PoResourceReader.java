@@ -0,0 +1,203 @@
+package sample_bedrock.translate.service.files;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Reads a gettext PO file one entry (a block of lines up to a blank line) at a time. Comments,
+ * {@code msgctxt} and {@code msgid} lines are copied; the {@code msgstr} lines are replaced with the
+ * translation of {@code msgid} ({@code msgstr[0]}) and {@code msgid_plural} (other plural forms).
+ * The header entry ({@code msgid ""}) is copied unchanged.
+ */
+final class PoResourceReader implements ResourceReader {
+
+    private final LineReader lines;
+    private final StringBuilder literal = new StringBuilder();
+    private final Deque<Segment> ready = new ArrayDeque<>();
+    private boolean finished;
+
+    PoResourceReader(InputStream input, Charset charset) {
+        this.lines = new LineReader(new InputStreamReader(input, charset));
+    }
+
+    @Override
+    public Segment next() throws IOException {
+        while (ready.isEmpty()) {
+            if (finished) {
+                return null;
+            }
+            List<String> entry = readEntry();
+            if (entry.isEmpty()) {
+                finished = true;
+                ready.add(new Segment(literal.toString(), null));
+                literal.setLength(0);
+            } else {
+                split(entry);
+            }
+        }
+        return ready.poll();
+    }
+
+    /**
+     * Lines of the next entry, ending with the blank line that closes it; blank lines before it go
+     * straight to the literal text.
+     */
+    private List<String> readEntry() throws IOException {
+        List<String> entry = new ArrayList<>();
+        String line;
+        while ((line = lines.readLine()) != null) {
+            if (!line.isBlank()) {
+                entry.add(line);
+            } else if (entry.isEmpty()) {
+                literal.append(line);
+            } else {
+                entry.add(line);
+                break;
+            }
+        }
+        return entry;
+    }
+
+    private void split(List<String> entry) {
+        String msgctxt = null;
+        String msgid = null;
+        String msgidPlural = null;
+        int firstMsgstr = -1;
+        int lastMsgstr = -1;
+        int pluralForms = 0;
+        String keyword = null;
+        StringBuilder value = null;
+
+        for (int index = 0; index < entry.size(); index++) {
+            String line = entry.get(index).strip();
+            if (line.startsWith("\"")) {
+                if (value != null) {
+                    value.append(unquote(line));
+                }
+                if ("msgstr".equals(keyword)) {
+                    lastMsgstr = index;
+                }
+                continue;
+            }
+            if (keyword != null && value != null) {
+                if (keyword.equals("msgctxt")) {
+                    msgctxt = value.toString();
+                } else if (keyword.equals("msgid")) {
+                    msgid = value.toString();
+                } else if (keyword.equals("msgid_plural")) {
+                    msgidPlural = value.toString();
+                }
+            }
+            keyword = null;
+            value = null;
+            if (line.startsWith("#") || line.isEmpty()) {
+                continue;
+            }
+            int space = line.indexOf(' ');
+            String name = space > 0 ? line.substring(0, space) : line;
+            String rest = space > 0 ? line.substring(space + 1).strip() : "";
+            if (name.startsWith("msgstr")) {
+                keyword = "msgstr";
+                if (firstMsgstr < 0) {
+                    firstMsgstr = index;
+                }
+                lastMsgstr = index;
+                pluralForms++;
+                continue;
+            }
+            keyword = name;
+            value = new StringBuilder(rest.startsWith("\"") ? unquote(rest) : "");
+        }
+        if (keyword != null && value != null && keyword.equals("msgid")) {
+            msgid = value.toString();
+        }
+
+        if (msgid == null || msgid.isEmpty() || firstMsgstr < 0) {
+            entry.forEach(literal::append);
+            return;
+        }
+
+        entry.subList(0, firstMsgstr).forEach(literal::append);
+        String indent = leadingWhitespace(entry.get(firstMsgstr));
+        String terminator = entry.get(lastMsgstr).substring(LineReader.contentLength(entry.get(lastMsgstr)));
+        if (terminator.isEmpty()) {
+            terminator = "\n";
+        }
+        // Mesma convenção do gettext: contexto e msgid separados por EOT
+        String key = msgctxt == null ? msgid : msgctxt + '\u0004' + msgid;
+        int forms = msgidPlural == null ? 1 : Math.max(2, pluralForms);
+        for (int form = 0; form < forms; form++) {
+            if (form > 0) {
+                literal.append('"').append(terminator);
+            }
+            literal.append(indent).append(msgidPlural == null ? "msgstr" : "msgstr[" + form + "]").append(" \"");
+            emit(form == 0 ? msgid : msgidPlural, msgidPlural == null ? key : key + "[" + form + "]");
+        }
+        literal.append('"').append(terminator);
+        entry.subList(lastMsgstr + 1, entry.size()).forEach(literal::append);
+    }
+
+    private void emit(String value, String key) {
+        ready.add(new Segment(literal.toString(), value, key));
+        literal.setLength(0);
+    }
+
+    @Override
+    public String encode(String value) {
+        StringBuilder encoded = new StringBuilder(value.length() + 8);
+        for (int index = 0; index < value.length(); index++) {
+            char current = value.charAt(index);
+            switch (current) {
+                case '\\' -> encoded.append("\\\\");
+                case '"' -> encoded.append("\\\"");
+                case '\n' -> encoded.append("\\n");
+                case '\r' -> encoded.append("\\r");
+                case '\t' -> encoded.append("\\t");
+                default -> encoded.append(current);
+            }
+        }
+        return encoded.toString();
+    }
+
+    private static String unquote(String quoted) {
+        int end = quoted.lastIndexOf('"');
+        if (end <= 0) {
+            throw new IllegalArgumentException("String sem aspas de fechamento no arquivo PO: " + quoted);
+        }
+        StringBuilder value = new StringBuilder(end);
+        for (int index = 1; index < end; index++) {
+            char current = quoted.charAt(index);
+            if (current != '\\' || index + 1 == end) {
+                value.append(current);
+                continue;
+            }
+            char escaped = quoted.charAt(++index);
+            switch (escaped) {
+                case 'n' -> value.append('\n');
+                case 'r' -> value.append('\r');
+                case 't' -> value.append('\t');
+                default -> value.append(escaped);
+            }
+        }
+        return value.toString();
+    }
+
+    private static String leadingWhitespace(String line) {
+        int index = 0;
+        while (index < line.length() && (line.charAt(index) == ' ' || line.charAt(index) == '\t')) {
+            index++;
+        }
+        return line.substring(0, index);
+    }
+
+    @Override
+    public void close() throws IOException {
+        lines.close();
+    }
+}
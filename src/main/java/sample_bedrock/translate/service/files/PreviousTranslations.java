@@ -0,0 +1,27 @@
+package sample_bedrock.translate.service.files;
+
+/**
+ * Translations a caller already holds for keyed values of a file; see
+ * {@link FileTranslationService#translate(ResourceFormat, String, String, java.io.InputStream,
+ * java.nio.charset.Charset, java.io.OutputStream, PreviousTranslations)}.
+ */
+public interface PreviousTranslations {
+
+    /**
+     * The stored translation of {@code key} if its source text is still {@code source}, otherwise
+     * {@code null} to have the value translated.
+     */
+    String lookup(String key, String source);
+
+    /**
+     * Called for every keyed value written to the output with a reused or model translation.
+     */
+    void written(String key, String source, String translation);
+
+    /**
+     * Called instead of {@link #written} for a keyed value written with its source text because the
+     * model answer came back without it.
+     */
+    default void untranslated(String key, String source) {
+    }
+}
@@ -0,0 +1,170 @@
+package sample_bedrock.translate.service.files;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+
+/**
+ * Reads a {@code .properties} bundle one logical line at a time. Comments, blank lines, keys and
+ * separators are copied as they are; values (including continuation lines) are unescaped for
+ * translation and written back on a single line, with non-ASCII characters as {@code \\uXXXX} so
+ * the result loads under both ISO-8859-1 and UTF-8.
+ */
+final class PropertiesResourceReader implements ResourceReader {
+
+    private final LineReader lines;
+    private final StringBuilder literal = new StringBuilder();
+    private boolean finished;
+
+    PropertiesResourceReader(InputStream input, Charset charset) {
+        this.lines = new LineReader(new InputStreamReader(input, charset));
+    }
+
+    @Override
+    public Segment next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        String line;
+        while ((line = lines.readLine()) != null) {
+            int end = LineReader.contentLength(line);
+            int start = skipWhitespace(line, 0, end);
+            if (start == end || line.charAt(start) == '#' || line.charAt(start) == '!') {
+                literal.append(line);
+                continue;
+            }
+
+            int keyEnd = keyEnd(line, start, end);
+            int valueStart = valueStart(line, keyEnd, end);
+            literal.append(line, 0, valueStart);
+            StringBuilder rawValue = new StringBuilder(line.substring(valueStart, end));
+            String terminator = line.substring(end);
+            while (endsWithContinuation(rawValue)) {
+                String continuation = lines.readLine();
+                if (continuation == null) {
+                    terminator = "";
+                    break;
+                }
+                int continuationEnd = LineReader.contentLength(continuation);
+                rawValue.setLength(rawValue.length() - 1);
+                rawValue.append(continuation, skipWhitespace(continuation, 0, continuationEnd), continuationEnd);
+                terminator = continuation.substring(continuationEnd);
+            }
+
+            Segment segment = new Segment(literal.toString(), unescape(rawValue), unescape(line.substring(start, keyEnd)));
+            literal.setLength(0);
+            literal.append(terminator);
+            return segment;
+        }
+        finished = true;
+        return new Segment(literal.toString(), null);
+    }
+
+    @Override
+    public String encode(String value) {
+        StringBuilder encoded = new StringBuilder(value.length());
+        for (int index = 0; index < value.length(); index++) {
+            char current = value.charAt(index);
+            switch (current) {
+                case '\\' -> encoded.append("\\\\");
+                case '\n' -> encoded.append("\\n");
+                case '\r' -> encoded.append("\\r");
+                case '\t' -> encoded.append("\\t");
+                case '\f' -> encoded.append("\\f");
+                case ' ' -> encoded.append(index == 0 ? "\\ " : " ");
+                default -> {
+                    if (current < 0x20 || current > 0x7e) {
+                        encoded.append(String.format("\\u%04X", (int) current));
+                    } else {
+                        encoded.append(current);
+                    }
+                }
+            }
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * Index just past the key: the first unescaped whitespace, {@code =} or {@code :}.
+     */
+    private static int keyEnd(String line, int keyStart, int end) {
+        int index = keyStart;
+        while (index < end) {
+            char current = line.charAt(index);
+            if (current == '\\') {
+                index += 2;
+                continue;
+            }
+            if (current == '=' || current == ':' || Character.isWhitespace(current)) {
+                break;
+            }
+            index++;
+        }
+        return Math.min(index, end);
+    }
+
+    /**
+     * Index where the value starts: after the key, optional whitespace, at most one {@code =} or
+     * {@code :}, and more whitespace (the rules of {@link java.util.Properties#load}).
+     */
+    private static int valueStart(String line, int keyEnd, int end) {
+        int index = skipWhitespace(line, keyEnd, end);
+        if (index < end && (line.charAt(index) == '=' || line.charAt(index) == ':')) {
+            index = skipWhitespace(line, index + 1, end);
+        }
+        return index;
+    }
+
+    private static int skipWhitespace(String line, int from, int end) {
+        int index = from;
+        while (index < end && (line.charAt(index) == ' ' || line.charAt(index) == '\t' || line.charAt(index) == '\f')) {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean endsWithContinuation(CharSequence value) {
+        int backslashes = 0;
+        for (int index = value.length() - 1; index >= 0 && value.charAt(index) == '\\'; index--) {
+            backslashes++;
+        }
+        return backslashes % 2 == 1;
+    }
+
+    private static String unescape(CharSequence raw) {
+        StringBuilder value = new StringBuilder(raw.length());
+        for (int index = 0; index < raw.length(); index++) {
+            char current = raw.charAt(index);
+            if (current != '\\' || index + 1 == raw.length()) {
+                value.append(current);
+                continue;
+            }
+            char escaped = raw.charAt(++index);
+            switch (escaped) {
+                case 'n' -> value.append('\n');
+                case 'r' -> value.append('\r');
+                case 't' -> value.append('\t');
+                case 'f' -> value.append('\f');
+                case 'u' -> {
+                    if (index + 4 >= raw.length()) {
+                        throw new IllegalArgumentException("Escape \\u incompleto no arquivo .properties");
+                    }
+                    try {
+                        value.append((char) Integer.parseInt(raw.subSequence(index + 1, index + 5).toString(), 16));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Escape \\u inválido no arquivo .properties");
+                    }
+                    index += 4;
+                }
+                default -> value.append(escaped);
+            }
+        }
+        return value.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        lines.close();
+    }
+}
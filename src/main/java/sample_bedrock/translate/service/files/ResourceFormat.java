@@ -0,0 +1,81 @@
+package sample_bedrock.translate.service.files;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+
+/**
+ * Resource bundle formats accepted by {@code POST /api/v1/translate/file}.
+ */
+public enum ResourceFormat {
+    JSON("application/json", true),
+    PROPERTIES("text/x-java-properties", false),
+    PO("text/x-gettext-translation", false),
+    XLIFF("application/xliff+xml", true);
+
+    private final String contentType;
+    // Formatos que declaram ou detectam a própria codificação: a saída é sempre UTF-8
+    private final boolean selfDescribingCharset;
+
+    ResourceFormat(String contentType, boolean selfDescribingCharset) {
+        this.contentType = contentType;
+        this.selfDescribingCharset = selfDescribingCharset;
+    }
+
+    /**
+     * Resolves the format from the {@code format} parameter or, without one, from the request's
+     * content type.
+     */
+    public static ResourceFormat resolve(String format, String contentType) {
+        if (StringUtils.hasText(format)) {
+            return switch (format.strip().toLowerCase(Locale.ROOT)) {
+                case "json" -> JSON;
+                case "properties" -> PROPERTIES;
+                case "po", "pot" -> PO;
+                case "xliff", "xlf" -> XLIFF;
+                default -> throw new IllegalArgumentException("Formato de arquivo não suportado: " + format);
+            };
+        }
+        if (StringUtils.hasText(contentType)) {
+            String mimeType = MediaType.parseMediaType(contentType).getSubtype().toLowerCase(Locale.ROOT);
+            if (mimeType.equals("json")) {
+                return JSON;
+            }
+            if (mimeType.contains("properties")) {
+                return PROPERTIES;
+            }
+            if (mimeType.contains("gettext") || mimeType.equals("x-po")) {
+                return PO;
+            }
+            if (mimeType.contains("xliff")) {
+                return XLIFF;
+            }
+        }
+        throw new IllegalArgumentException("Informe o parâmetro format: json, properties, po ou xliff");
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    /**
+     * Charset of the translated file: the request's for line-based formats, UTF-8 otherwise.
+     */
+    public Charset outputCharset(Charset requestCharset) {
+        return selfDescribingCharset || requestCharset == null ? StandardCharsets.UTF_8 : requestCharset;
+    }
+
+    ResourceReader reader(InputStream input, Charset charset, String destinationLocale) throws IOException {
+        return switch (this) {
+            case JSON -> new JsonResourceReader(input);
+            case PROPERTIES -> new PropertiesResourceReader(input, charset);
+            case PO -> new PoResourceReader(input, charset);
+            case XLIFF -> new XliffResourceReader(input, destinationLocale);
+        };
+    }
+}
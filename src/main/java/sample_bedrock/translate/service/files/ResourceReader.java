@@ -0,0 +1,40 @@
+package sample_bedrock.translate.service.files;
+
+import java.io.IOException;
+
+/**
+ * Pulls a resource file apart into {@link Segment}s, one translatable value at a time, and knows
+ * how to write a translated value back in the file's own syntax.
+ */
+interface ResourceReader extends AutoCloseable {
+
+    /**
+     * The next segment, or {@code null} after the last one.
+     */
+    Segment next() throws IOException;
+
+    /**
+     * {@code value} escaped for the position it takes in the output.
+     */
+    String encode(String value);
+
+    @Override
+    void close() throws IOException;
+
+    /**
+     * Verbatim output text (structure, keys, comments) followed by an optional value to translate.
+     * {@code value} is {@code null} for the trailing text of the file. {@code key} identifies the
+     * value within the file (JSON pointer, property key, msgid, unit id) or is {@code null} when
+     * the format gives it no stable identity.
+     */
+    record Segment(String literal, String value, String key) {
+
+        Segment(String literal, String value) {
+            this(literal, value, null);
+        }
+
+        boolean isTranslatable() {
+            return value != null && !value.isBlank();
+        }
+    }
+}
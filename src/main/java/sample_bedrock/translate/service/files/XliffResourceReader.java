@@ -0,0 +1,272 @@
+package sample_bedrock.translate.service.files;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+
+/**
+ * Streams an XLIFF 1.2 or 2.0 document with StAX, copying every event (comments and whitespace
+ * included) and writing a {@code <target>} with the translation right after each {@code <source>}
+ * of a {@code trans-unit} (1.2) or {@code segment} (2.0). Existing targets are replaced, and the
+ * target language is set on {@code <file>} (1.2) or {@code <xliff>} (2.0). Sources with inline
+ * markup are copied to the target untranslated, since their tags cannot be re-placed reliably.
+ */
+final class XliffResourceReader implements ResourceReader {
+
+    private static final XMLInputFactory INPUT_FACTORY = newInputFactory();
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+    private static final XMLEventFactory EVENTS = XMLEventFactory.newFactory();
+
+    private final String destinationLocale;
+    private final XMLEventReader reader;
+    private final StringWriter buffer = new StringWriter();
+    private final XMLEventWriter writer;
+    private final Deque<String> path = new ArrayDeque<>();
+    private String fileId;
+    private String unitId;
+    private int segmentIndex;
+    private QName openTarget;
+    private boolean finished;
+
+    XliffResourceReader(InputStream input, String destinationLocale) throws IOException {
+        this.destinationLocale = destinationLocale;
+        try {
+            this.reader = INPUT_FACTORY.createXMLEventReader(input);
+            this.writer = OUTPUT_FACTORY.createXMLEventWriter(buffer);
+        } catch (XMLStreamException e) {
+            throw invalid(e);
+        }
+    }
+
+    @Override
+    public Segment next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        try {
+            if (openTarget != null) {
+                writer.add(EVENTS.createEndElement(openTarget, null));
+                openTarget = null;
+            }
+            while (reader.hasNext()) {
+                XMLEvent event = reader.nextEvent();
+                if (event.isStartDocument()) {
+                    writer.add(EVENTS.createStartDocument("UTF-8", "1.0"));
+                    continue;
+                }
+                if (!event.isStartElement()) {
+                    if (event.isEndElement()) {
+                        path.pop();
+                    }
+                    writer.add(event);
+                    continue;
+                }
+
+                StartElement element = event.asStartElement();
+                String name = element.getName().getLocalPart();
+                if (name.equals("target") && isUnit(path.peek())) {
+                    // O target existente é descartado: o traduzido já foi escrito após o source
+                    skipElement();
+                    continue;
+                }
+                if (name.equals("source") && isUnit(path.peek())) {
+                    Segment segment = copySource(element);
+                    if (segment != null) {
+                        return segment;
+                    }
+                    continue;
+                }
+                track(element);
+                writer.add(withTargetLanguage(element));
+                path.push(name);
+            }
+            writer.close();
+            finished = true;
+            return new Segment(drain(), null);
+        } catch (XMLStreamException e) {
+            throw invalid(e);
+        }
+    }
+
+    /**
+     * Copies a {@code <source>} element and opens the {@code <target>} after it. Returns the
+     * segment whose value fills the target, or {@code null} when the source had inline markup and
+     * was copied into the target as is.
+     */
+    private Segment copySource(StartElement source) throws XMLStreamException {
+        List<XMLEvent> content = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        boolean plain = true;
+        int depth = 0;
+        while (true) {
+            XMLEvent event = reader.nextEvent();
+            if (event.isEndElement() && depth == 0) {
+                break;
+            }
+            if (event.isStartElement()) {
+                depth++;
+                plain = false;
+            } else if (event.isEndElement()) {
+                depth--;
+            } else if (event.isCharacters()) {
+                text.append(event.asCharacters().getData());
+            }
+            content.add(event);
+        }
+
+        writer.add(source);
+        content.forEach(this::write);
+        writer.add(EVENTS.createEndElement(source.getName(), null));
+        QName target = new QName(source.getName().getNamespaceURI(), "target", source.getName().getPrefix());
+        writer.add(EVENTS.createStartElement(target, null, null));
+        if (!plain) {
+            content.forEach(this::write);
+            writer.add(EVENTS.createEndElement(target, null));
+            return null;
+        }
+        // Caracteres vazios fecham a tag de abertura antes de capturar o texto literal
+        writer.add(EVENTS.createCharacters(""));
+        writer.flush();
+        openTarget = target;
+        return new Segment(drain(), text.toString(), key());
+    }
+
+    private void track(StartElement element) {
+        switch (element.getName().getLocalPart()) {
+            case "file" -> {
+                String original = attribute(element, "original");
+                fileId = original != null ? original : attribute(element, "id");
+            }
+            case "trans-unit", "unit" -> {
+                unitId = attribute(element, "id");
+                segmentIndex = 0;
+            }
+            case "segment" -> segmentIndex++;
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * File and unit ids, plus the segment position for XLIFF 2.0; {@code null} for units without id.
+     */
+    private String key() {
+        if (unitId == null) {
+            return null;
+        }
+        String key = (fileId == null ? "" : fileId) + '/' + unitId;
+        return "segment".equals(path.peek()) ? key + '/' + segmentIndex : key;
+    }
+
+    private static String attribute(StartElement element, String name) {
+        Attribute attribute = element.getAttributeByName(new QName(name));
+        return attribute == null ? null : attribute.getValue();
+    }
+
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            XMLEvent event = reader.nextEvent();
+            if (event.isStartElement()) {
+                depth++;
+            } else if (event.isEndElement()) {
+                depth--;
+            }
+        }
+    }
+
+    private XMLEvent withTargetLanguage(StartElement element) {
+        String name = element.getName().getLocalPart();
+        String attribute = name.equals("file") ? "target-language" : name.equals("xliff") && isVersion2(element) ? "trgLang" : null;
+        if (attribute == null) {
+            return element;
+        }
+        List<Attribute> attributes = new ArrayList<>();
+        for (Iterator<Attribute> iterator = element.getAttributes(); iterator.hasNext(); ) {
+            Attribute current = iterator.next();
+            if (!current.getName().getLocalPart().equals(attribute)) {
+                attributes.add(current);
+            }
+        }
+        attributes.add(EVENTS.createAttribute(attribute, destinationLocale));
+        return EVENTS.createStartElement(element.getName(), attributes.iterator(), element.getNamespaces());
+    }
+
+    private static boolean isVersion2(StartElement element) {
+        String version = attribute(element, "version");
+        return version != null && version.startsWith("2");
+    }
+
+    private static boolean isUnit(String name) {
+        return "trans-unit".equals(name) || "segment".equals(name);
+    }
+
+    private void write(XMLEvent event) {
+        try {
+            writer.add(event);
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("XLIFF inválido: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String encode(String value) {
+        StringBuilder encoded = new StringBuilder(value.length() + 8);
+        for (int index = 0; index < value.length(); index++) {
+            char current = value.charAt(index);
+            switch (current) {
+                case '&' -> encoded.append("&amp;");
+                case '<' -> encoded.append("&lt;");
+                case '>' -> encoded.append("&gt;");
+                default -> encoded.append(current);
+            }
+        }
+        return encoded.toString();
+    }
+
+    private String drain() {
+        StringBuffer text = buffer.getBuffer();
+        String literal = text.toString();
+        text.setLength(0);
+        return literal;
+    }
+
+    private static IllegalArgumentException invalid(XMLStreamException e) {
+        return new IllegalArgumentException("XLIFF inválido: " + e.getMessage(), e);
+    }
+
+    // Sem DTD nem entidades externas (XXE)
+    private static XMLInputFactory newInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        return factory;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+}
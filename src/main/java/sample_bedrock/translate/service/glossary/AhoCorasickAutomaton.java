@@ -0,0 +1,154 @@
+package sample_bedrock.translate.service.glossary;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Immutable Aho-Corasick automaton over glossary source terms. Matching is case-insensitive and
+ * only accepts matches on word boundaries; one pass over the text finds every entry it contains.
+ */
+public final class AhoCorasickAutomaton {
+
+    public static final AhoCorasickAutomaton EMPTY = new AhoCorasickAutomaton(List.of());
+
+    private final GlossaryEntry[] entries;
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private int[] failure;
+    // Índice da entrada que termina neste nó (-1 se nenhuma) e próximo nó com saída na cadeia de falhas
+    private int[] output;
+    private int[] dictionarySuffix;
+
+    public AhoCorasickAutomaton(List<GlossaryEntry> glossaryEntries) {
+        Map<String, GlossaryEntry> unique = new LinkedHashMap<>();
+        for (GlossaryEntry entry : glossaryEntries) {
+            String key = normalize(entry.source().strip());
+            if (!key.isEmpty()) {
+                unique.put(key, new GlossaryEntry(entry.source().strip(), entry.target()));
+            }
+        }
+        this.entries = unique.values().toArray(new GlossaryEntry[0]);
+        build(new ArrayList<>(unique.keySet()));
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * Returns the approved translation when the whole term (ignoring case and surrounding spaces) is
+     * a glossary entry, or {@code null} otherwise.
+     */
+    public String exactMatch(String term) {
+        String stripped = term.strip();
+        if (stripped.isEmpty() || entries.length == 0) {
+            return null;
+        }
+        List<Match> matches = findAll(stripped);
+        if (matches.size() == 1 && matches.get(0).start() == 0 && matches.get(0).end() == stripped.length()) {
+            return matches.get(0).entry().target();
+        }
+        return null;
+    }
+
+    /**
+     * Leftmost-longest, non-overlapping entries found in {@code text}.
+     */
+    public List<Match> findAll(String text) {
+        if (entries.length == 0) {
+            return List.of();
+        }
+        List<Match> candidates = new ArrayList<>();
+        int state = 0;
+        for (int index = 0; index < text.length(); index++) {
+            char value = Character.toLowerCase(text.charAt(index));
+            while (state != 0 && !transitions.get(state).containsKey(value)) {
+                state = failure[state];
+            }
+            state = transitions.get(state).getOrDefault(value, 0);
+
+            for (int node = output[state] >= 0 ? state : dictionarySuffix[state]; node > 0; node = dictionarySuffix[node]) {
+                GlossaryEntry entry = entries[output[node]];
+                int start = index + 1 - entry.source().length();
+                if (isBoundary(text, start - 1) && isBoundary(text, index + 1)) {
+                    candidates.add(new Match(start, index + 1, entry));
+                }
+            }
+        }
+
+        candidates.sort(Comparator.comparingInt(Match::start).thenComparing(Comparator.comparingInt(Match::end).reversed()));
+        List<Match> selected = new ArrayList<>();
+        int covered = 0;
+        for (Match candidate : candidates) {
+            if (candidate.start() >= covered) {
+                selected.add(candidate);
+                covered = candidate.end();
+            }
+        }
+        return selected;
+    }
+
+    private void build(List<String> patterns) {
+        transitions.add(new HashMap<>());
+        List<Integer> terminal = new ArrayList<>();
+        terminal.add(-1);
+        for (int patternIndex = 0; patternIndex < patterns.size(); patternIndex++) {
+            int state = 0;
+            for (char value : patterns.get(patternIndex).toCharArray()) {
+                Integer next = transitions.get(state).get(value);
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.add(new HashMap<>());
+                    terminal.add(-1);
+                    transitions.get(state).put(value, next);
+                }
+                state = next;
+            }
+            terminal.set(state, patternIndex);
+        }
+
+        int nodeCount = transitions.size();
+        failure = new int[nodeCount];
+        output = terminal.stream().mapToInt(Integer::intValue).toArray();
+        dictionarySuffix = new int[nodeCount];
+        Arrays.fill(dictionarySuffix, 0);
+
+        Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                int child = edge.getValue();
+                int fallback = failure[state];
+                while (fallback != 0 && !transitions.get(fallback).containsKey(edge.getKey())) {
+                    fallback = failure[fallback];
+                }
+                Integer target = transitions.get(fallback).get(edge.getKey());
+                failure[child] = target != null && target != child ? target : 0;
+                dictionarySuffix[child] = output[failure[child]] >= 0 ? failure[child] : dictionarySuffix[failure[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    private static boolean isBoundary(String text, int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+
+    // Minúsculas caractere a caractere: preserva os índices do texto original
+    private static String normalize(String value) {
+        StringBuilder normalized = new StringBuilder(value.length());
+        for (int index = 0; index < value.length(); index++) {
+            normalized.append(Character.toLowerCase(value.charAt(index)));
+        }
+        return normalized.toString();
+    }
+
+    public record Match(int start, int end, GlossaryEntry entry) {
+    }
+}
@@ -0,0 +1,67 @@
+package sample_bedrock.translate.service.glossary;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of all glossaries, one automaton per {@code origin -> destination} pair.
+ */
+public final class Glossary {
+
+    public static final Glossary EMPTY = new Glossary(Map.of());
+
+    private final Map<String, AhoCorasickAutomaton> automata;
+
+    private Glossary(Map<String, AhoCorasickAutomaton> automata) {
+        this.automata = automata;
+    }
+
+    public static Glossary of(Map<String, List<GlossaryEntry>> entriesByPair) {
+        Map<String, AhoCorasickAutomaton> automata = new HashMap<>();
+        entriesByPair.forEach((pair, entries) -> automata.put(pair, new AhoCorasickAutomaton(entries)));
+        return new Glossary(Map.copyOf(automata));
+    }
+
+    public AhoCorasickAutomaton forPair(String originLocale, String destinationLocale) {
+        return automata.getOrDefault(pairKey(originLocale, destinationLocale), AhoCorasickAutomaton.EMPTY);
+    }
+
+    public int pairCount() {
+        return automata.size();
+    }
+
+    public int entryCount() {
+        return automata.values().stream().mapToInt(AhoCorasickAutomaton::size).sum();
+    }
+
+    static String pairKey(String originLocale, String destinationLocale) {
+        return normalizeLocale(originLocale) + "->" + normalizeLocale(destinationLocale);
+    }
+
+    static String normalizeLocale(String locale) {
+        return locale == null ? "" : locale.strip().replace('_', '-').toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Mutable accumulator used by the loader before the snapshot is published.
+     */
+    static final class Builder {
+
+        private final Map<String, List<GlossaryEntry>> entriesByPair = new HashMap<>();
+
+        void add(String originLocale, String destinationLocale, String source, String target) {
+            if (source == null || target == null || source.isBlank() || target.isBlank()) {
+                return;
+            }
+            entriesByPair.computeIfAbsent(pairKey(originLocale, destinationLocale), key -> new ArrayList<>())
+                    .add(new GlossaryEntry(source.strip(), target.strip()));
+        }
+
+        Glossary build() {
+            return Glossary.of(entriesByPair);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package sample_bedrock.translate.service.glossary;
+
+/**
+ * Approved translation of a source term for one locale pair.
+ */
+public record GlossaryEntry(String source, String target) {
+}
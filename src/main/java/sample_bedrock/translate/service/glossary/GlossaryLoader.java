@@ -0,0 +1,197 @@
+package sample_bedrock.translate.service.glossary;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads glossary files into a {@link Glossary}:
+ * <ul>
+ *   <li>{@code .csv}: header {@code origin_locale,destination_locale,source,target}, RFC 4180 quoting;</li>
+ *   <li>{@code .tmx}: every {@code <tu>} yields an entry for each ordered pair of its {@code <tuv>} languages.</li>
+ * </ul>
+ */
+public final class GlossaryLoader {
+
+    private static final String XML_LANG = "lang";
+
+    private GlossaryLoader() {
+    }
+
+    public static Glossary load(List<Path> files) throws IOException {
+        Glossary.Builder builder = new Glossary.Builder();
+        for (Path file : files) {
+            String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            if (name.endsWith(".csv")) {
+                loadCsv(file, builder);
+            } else if (name.endsWith(".tmx")) {
+                loadTmx(file, builder);
+            }
+        }
+        return builder.build();
+    }
+
+    static boolean isGlossaryFile(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".csv") || name.endsWith(".tmx");
+    }
+
+    private static void loadCsv(Path file, Glossary.Builder builder) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<String> header = readCsvRecord(reader);
+            if (header == null) {
+                return;
+            }
+            int origin = columnIndex(header, "origin_locale", file);
+            int destination = columnIndex(header, "destination_locale", file);
+            int source = columnIndex(header, "source", file);
+            int target = columnIndex(header, "target", file);
+
+            List<String> record;
+            while ((record = readCsvRecord(reader)) != null) {
+                if (record.size() > Math.max(Math.max(origin, destination), Math.max(source, target))) {
+                    builder.add(record.get(origin), record.get(destination), record.get(source), record.get(target));
+                }
+            }
+        }
+    }
+
+    private static int columnIndex(List<String> header, String column, Path file) throws IOException {
+        for (int index = 0; index < header.size(); index++) {
+            // O primeiro cabeçalho pode vir com BOM
+            if (header.get(index).replace("\uFEFF", "").strip().equalsIgnoreCase(column)) {
+                return index;
+            }
+        }
+        throw new IOException("Coluna '" + column + "' ausente no glossário " + file);
+    }
+
+    private static List<String> readCsvRecord(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        while (line != null && line.isBlank()) {
+            line = reader.readLine();
+        }
+        if (line == null) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int index = 0; index < line.length(); index++) {
+                char value = line.charAt(index);
+                if (quoted) {
+                    if (value == '"' && index + 1 < line.length() && line.charAt(index + 1) == '"') {
+                        field.append('"');
+                        index++;
+                    } else if (value == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(value);
+                    }
+                } else if (value == '"') {
+                    quoted = true;
+                } else if (value == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(value);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            // Campo entre aspas com quebra de linha: continua na próxima linha
+            line = reader.readLine();
+            if (line == null) {
+                break;
+            }
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static void loadTmx(Path file, Glossary.Builder builder) throws IOException {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+        try (InputStream input = Files.newInputStream(file)) {
+            XMLStreamReader reader = factory.createXMLStreamReader(input);
+            try {
+                Map<String, String> segments = null;
+                String language = null;
+                StringBuilder segment = null;
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        switch (reader.getLocalName()) {
+                            case "tu" -> segments = new LinkedHashMap<>();
+                            case "tuv" -> language = tuvLanguage(reader);
+                            case "seg" -> segment = new StringBuilder();
+                            default -> {
+                            }
+                        }
+                    } else if (segment != null && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA)) {
+                        segment.append(reader.getText());
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        switch (reader.getLocalName()) {
+                            case "seg" -> {
+                                if (segments != null && language != null) {
+                                    segments.put(language, segment.toString());
+                                }
+                                segment = null;
+                            }
+                            case "tuv" -> language = null;
+                            case "tu" -> {
+                                addTranslationUnit(segments, builder);
+                                segments = null;
+                            }
+                            default -> {
+                            }
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("TMX inválido em " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String tuvLanguage(XMLStreamReader reader) {
+        String language = reader.getAttributeValue(XMLConstants.XML_NS_URI, XML_LANG);
+        // TMX 1.1 usava o atributo lang sem namespace
+        return language != null ? language : reader.getAttributeValue(null, XML_LANG);
+    }
+
+    private static void addTranslationUnit(Map<String, String> segments, Glossary.Builder builder) {
+        if (segments == null) {
+            return;
+        }
+        for (Map.Entry<String, String> source : segments.entrySet()) {
+            for (Map.Entry<String, String> target : segments.entrySet()) {
+                if (!source.getKey().equals(target.getKey())) {
+                    builder.add(source.getKey(), target.getKey(), source.getValue(), target.getValue());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package sample_bedrock.translate.service.glossary;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Holds the current glossary snapshot. Reloads build a new snapshot off the request path and publish
+ * it with a single reference swap, so lookups never block and always see one consistent version.
+ */
+@Service
+public class GlossaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlossaryService.class);
+
+    @Value("${translate.glossary.location:}")
+    private String location;
+
+    @Value("${translate.glossary.reload-interval:30s}")
+    private Duration reloadInterval;
+
+    private final AtomicReference<Glossary> current = new AtomicReference<>(Glossary.EMPTY);
+
+    private ScheduledExecutorService scheduler;
+    private String fingerprint;
+
+    @PostConstruct
+    void start() {
+        if (!StringUtils.hasText(location)) {
+            logger.info("Glossário desabilitado: translate.glossary.location não configurado");
+            return;
+        }
+        reloadIfChanged();
+        if (!reloadInterval.isZero() && !reloadInterval.isNegative()) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("glossary-reload").daemon().factory());
+            scheduler.scheduleWithFixedDelay(this::reloadIfChanged,
+                    reloadInterval.toMillis(), reloadInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public AhoCorasickAutomaton forPair(String originLocale, String destinationLocale) {
+        return current.get().forPair(originLocale, destinationLocale);
+    }
+
+    public Glossary current() {
+        return current.get();
+    }
+
+    /**
+     * Rebuilds the snapshot when any glossary file was added, removed or modified. A file that fails
+     * to parse keeps the previous snapshot in place.
+     */
+    public synchronized boolean reloadIfChanged() {
+        try {
+            List<Path> files = listFiles(Path.of(location));
+            String candidate = fingerprint(files);
+            if (candidate.equals(fingerprint)) {
+                return false;
+            }
+            Glossary glossary = GlossaryLoader.load(files);
+            current.set(glossary);
+            fingerprint = candidate;
+            logger.info("Glossário carregado: {} entradas em {} pares de idiomas ({} arquivos)",
+                       glossary.entryCount(), glossary.pairCount(), files.size());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.error("Falha ao carregar o glossário de {}; mantendo a versão anterior: {}", location, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private List<Path> listFiles(Path path) throws IOException {
+        if (Files.isRegularFile(path)) {
+            return List.of(path);
+        }
+        if (!Files.isDirectory(path)) {
+            throw new IOException("Caminho do glossário não encontrado: " + path);
+        }
+        try (Stream<Path> entries = Files.list(path)) {
+            return entries.filter(Files::isRegularFile)
+                    .filter(GlossaryLoader::isGlossaryFile)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private String fingerprint(List<Path> files) throws IOException {
+        StringBuilder value = new StringBuilder();
+        for (Path file : files) {
+            value.append(file).append(':')
+                 .append(Files.getLastModifiedTime(file).toMillis()).append(':')
+                 .append(Files.size(file)).append(';');
+        }
+        return value.toString();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
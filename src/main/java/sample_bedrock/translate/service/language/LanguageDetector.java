@@ -0,0 +1,106 @@
+package sample_bedrock.translate.service.language;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Resolves {@code origin_locale: "auto"} in process. Profiles are built once at startup from the
+ * sample texts in {@code language-profiles/<locale>.txt}; each file name is the locale it detects.
+ * Terms that cannot be decided are grouped under {@link #UNDETERMINED} and left to the model.
+ */
+@Component
+public class LanguageDetector {
+
+    private static final Logger logger = LoggerFactory.getLogger(LanguageDetector.class);
+
+    public static final String AUTO = "auto";
+    // BCP 47 "und": idioma não determinado
+    public static final String UNDETERMINED = "und";
+
+    @Value("${translate.language-detection.profiles:classpath:language-profiles/*.txt}")
+    private String profilesLocation;
+
+    @Value("${translate.language-detection.max-ngrams-per-language:2000}")
+    private int maxNGramsPerLanguage;
+
+    @Value("${translate.language-detection.min-confidence:0.80}")
+    private double minConfidence;
+
+    @Value("${translate.language-detection.min-letters:4}")
+    private int minLetters;
+
+    private NGramLanguageIdentifier identifier;
+
+    public static boolean isAuto(String locale) {
+        return locale != null && AUTO.equalsIgnoreCase(locale.strip());
+    }
+
+    public static boolean isUndetermined(String locale) {
+        return UNDETERMINED.equals(locale);
+    }
+
+    @PostConstruct
+    void loadProfiles() throws IOException {
+        Map<String, String> corpusByLocale = new TreeMap<>();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(profilesLocation)) {
+            String filename = resource.getFilename();
+            if (filename != null && filename.endsWith(".txt")) {
+                corpusByLocale.put(filename.substring(0, filename.length() - ".txt".length()),
+                        resource.getContentAsString(StandardCharsets.UTF_8));
+            }
+        }
+        if (corpusByLocale.isEmpty()) {
+            throw new IllegalStateException("Nenhum perfil de idioma encontrado em " + profilesLocation);
+        }
+        identifier = new NGramLanguageIdentifier(corpusByLocale, maxNGramsPerLanguage);
+        logger.info("Detecção de idioma carregada com {} perfis: {}", corpusByLocale.size(), identifier.locales());
+    }
+
+    /**
+     * Detected locale, or {@code null} when the term is too short or ambiguous to decide.
+     */
+    public String detect(String term) {
+        // Termos muito curtos ("OK", "PIX") existem em vários idiomas: a confiança do modelo não é confiável
+        if (term.codePoints().filter(Character::isLetter).count() < minLetters) {
+            return null;
+        }
+        NGramLanguageIdentifier.Detection detection = identifier.detect(term);
+        return detection.confidence() >= minConfidence ? detection.locale() : null;
+    }
+
+    /**
+     * Groups term positions by detected source locale, in order of first appearance. Undecided terms
+     * go to {@link #UNDETERMINED}, last: guessing a locale for them ("Olá" is too short to tell) could
+     * mark a term as already in the destination language and return it untranslated.
+     */
+    public Map<String, List<Integer>> groupBySourceLocale(List<String> terms) {
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        List<Integer> undecided = new ArrayList<>();
+        for (int index = 0; index < terms.size(); index++) {
+            String locale = detect(terms.get(index));
+            if (locale == null) {
+                undecided.add(index);
+            } else {
+                groups.computeIfAbsent(locale, key -> new ArrayList<>()).add(index);
+            }
+        }
+        if (!undecided.isEmpty()) {
+            groups.put(UNDETERMINED, undecided);
+        }
+        return groups;
+    }
+}
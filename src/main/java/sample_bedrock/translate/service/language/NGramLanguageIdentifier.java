@@ -0,0 +1,127 @@
+package sample_bedrock.translate.service.language;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Naive Bayes language identifier over character 1-3-grams. Each language keeps only its most
+ * frequent n-grams; weights are stored as a single {@code n-gram -> float[language]} table, so a
+ * detection is one hash lookup per n-gram.
+ */
+public final class NGramLanguageIdentifier {
+
+    private static final int MAX_ORDER = 3;
+    private static final double SMOOTHING = 0.5;
+
+    private final String[] locales;
+    private final double[] floors;
+    // Log-probabilidade de cada n-grama acima do piso de suavização do idioma
+    private final Map<String, float[]> weights = new HashMap<>();
+
+    public NGramLanguageIdentifier(Map<String, String> corpusByLocale, int maxNGramsPerLanguage) {
+        this.locales = corpusByLocale.keySet().toArray(new String[0]);
+        this.floors = new double[locales.length];
+
+        List<Map<String, Integer>> countsByLanguage = new ArrayList<>();
+        for (String locale : locales) {
+            Map<String, Integer> counts = new HashMap<>();
+            forEachNGram(normalize(corpusByLocale.get(locale)), gram -> counts.merge(gram, 1, Integer::sum));
+            countsByLanguage.add(counts);
+        }
+
+        for (int language = 0; language < locales.length; language++) {
+            Map<String, Integer> counts = countsByLanguage.get(language);
+            List<Map.Entry<String, Integer>> top = counts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(maxNGramsPerLanguage)
+                    .toList();
+            long total = top.stream().mapToLong(Map.Entry::getValue).sum();
+            double denominator = total + SMOOTHING * (maxNGramsPerLanguage + 1);
+            floors[language] = Math.log(SMOOTHING / denominator);
+            for (Map.Entry<String, Integer> entry : top) {
+                double logProbability = Math.log((entry.getValue() + SMOOTHING) / denominator);
+                weights.computeIfAbsent(entry.getKey(), key -> new float[locales.length])[language] =
+                        (float) (logProbability - floors[language]);
+            }
+        }
+    }
+
+    public List<String> locales() {
+        return List.of(locales);
+    }
+
+    /**
+     * Scores {@code text} against every profile. The confidence is the posterior of the best locale;
+     * text without letters yields a {@code null} locale.
+     */
+    public Detection detect(String text) {
+        String normalized = normalize(text);
+        if (normalized.isBlank()) {
+            return new Detection(null, 0);
+        }
+
+        double[] scores = new double[locales.length];
+        int[] ngramCount = {0};
+        forEachNGram(normalized, gram -> {
+            ngramCount[0]++;
+            float[] gramWeights = weights.get(gram);
+            if (gramWeights != null) {
+                for (int language = 0; language < scores.length; language++) {
+                    scores[language] += gramWeights[language];
+                }
+            }
+        });
+
+        int best = 0;
+        for (int language = 0; language < scores.length; language++) {
+            scores[language] += ngramCount[0] * floors[language];
+            if (scores[language] > scores[best]) {
+                best = language;
+            }
+        }
+
+        double sum = 0;
+        for (double score : scores) {
+            sum += Math.exp(score - scores[best]);
+        }
+        return new Detection(locales[best], 1 / sum);
+    }
+
+    // Minúsculas, só letras e espaços simples, com um espaço em cada ponta para marcar início e fim de palavra
+    static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length() + 2).append(' ');
+        for (int index = 0; index < text.length(); index++) {
+            char value = text.charAt(index);
+            if (Character.isLetter(value)) {
+                normalized.append(Character.toLowerCase(value));
+            } else if (value == '\'' || value == '’') {
+                normalized.append('\'');
+            } else if (normalized.charAt(normalized.length() - 1) != ' ') {
+                normalized.append(' ');
+            }
+        }
+        if (normalized.charAt(normalized.length() - 1) != ' ') {
+            normalized.append(' ');
+        }
+        return normalized.toString();
+    }
+
+    private static void forEachNGram(String normalized, Consumer<String> consumer) {
+        for (int start = 0; start < normalized.length(); start++) {
+            for (int order = 1; order <= MAX_ORDER && start + order <= normalized.length(); order++) {
+                String gram = normalized.substring(start, start + order);
+                if (!gram.isBlank()) {
+                    consumer.accept(gram);
+                }
+            }
+        }
+    }
+
+    public record Detection(String locale, double confidence) {
+    }
+}
@@ -0,0 +1,225 @@
+package sample_bedrock.translate.service.memory;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Near-duplicate lookup over source terms with MinHash and locality-sensitive hashing. Each term is
+ * normalized, split into character trigrams and summarized by {@link #HASHES} min-hashes; the
+ * signature is cut into {@link #BANDS} bands, and terms sharing any band land in the same bucket.
+ * A lookup only compares the few terms in its buckets, so it takes microseconds however large the
+ * index is. With 16 bands of 4 rows, pairs at Jaccard similarity 0.8 share a bucket with
+ * probability above 99.9%, pairs at 0.3 with about 12%.
+ *
+ * <p>Holds at most {@code maxEntries} terms and drops the oldest first. Not thread-safe.
+ */
+final class NearDuplicateIndex<V> {
+
+    static final int HASHES = 64;
+    static final int BANDS = 16;
+    private static final int ROWS = HASHES / BANDS;
+    private static final int MAX_BUCKET_SIZE = 32;
+    private static final int SHINGLE = 3;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long[] SEEDS = new long[HASHES];
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // Só pontuação de frase: chaves, % e afins fazem parte de marcadores e continuam no termo
+    static final String EDGE_CHARS = "[\\s.,;:!?¡¿…。、！？]";
+    private static final Pattern EDGES = Pattern.compile("^" + EDGE_CHARS + "+|" + EDGE_CHARS + "+$");
+
+    static {
+        long seed = 0x9e3779b97f4a7c15L;
+        for (int index = 0; index < HASHES; index++) {
+            seed = mix(seed + 0x9e3779b97f4a7c15L);
+            SEEDS[index] = seed;
+        }
+    }
+
+    private final int maxEntries;
+    private final Map<String, Indexed<V>> entries = new LinkedHashMap<>();
+    private final Map<Long, Deque<String>> buckets = new HashMap<>();
+
+    NearDuplicateIndex(int maxEntries) {
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    /**
+     * Case, Unicode form, repeated whitespace and leading or trailing sentence punctuation removed: terms that
+     * differ only in those normalize to the same string.
+     */
+    static String normalize(String term) {
+        String normalized = Normalizer.normalize(term, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ");
+        return EDGES.matcher(normalized).replaceAll("");
+    }
+
+    /**
+     * Adds or replaces the value stored under {@code scope} (the locale pair) for {@code term}.
+     */
+    void put(String scope, String term, V value) {
+        String normalized = normalize(term);
+        String key = scope + '\u0000' + normalized;
+        Indexed<V> previous = entries.remove(key);
+        long[] signature = previous != null ? previous.signature() : signature(normalized);
+        entries.put(key, new Indexed<>(scope, term, normalized, signature, value));
+        if (previous == null) {
+            for (int band = 0; band < BANDS; band++) {
+                Deque<String> bucket = buckets.computeIfAbsent(bandKey(scope, signature, band), ignored -> new ArrayDeque<>());
+                if (bucket.size() >= MAX_BUCKET_SIZE) {
+                    bucket.pollFirst();
+                }
+                bucket.addLast(key);
+            }
+        }
+        while (entries.size() > maxEntries) {
+            evictOldest();
+        }
+    }
+
+    /**
+     * The stored term of {@code scope} most similar to {@code term}, if its estimated Jaccard
+     * similarity is at least {@code minSimilarity}. A term with the same normalized form is returned
+     * without computing a signature.
+     */
+    Hit<V> find(String scope, String term, double minSimilarity) {
+        String normalized = normalize(term);
+        Indexed<V> exact = entries.get(scope + '\u0000' + normalized);
+        if (exact != null) {
+            return hit(exact, 1.0);
+        }
+        long[] signature = signature(normalized);
+        Indexed<V> best = null;
+        double bestSimilarity = minSimilarity;
+        for (int band = 0; band < BANDS; band++) {
+            Deque<String> bucket = buckets.get(bandKey(scope, signature, band));
+            if (bucket == null) {
+                continue;
+            }
+            for (String key : bucket) {
+                Indexed<V> candidate = entries.get(key);
+                if (candidate == null || candidate == best) {
+                    continue;
+                }
+                double similarity = similarity(signature, candidate.signature());
+                if (similarity >= bestSimilarity) {
+                    best = candidate;
+                    bestSimilarity = similarity;
+                }
+            }
+        }
+        return best != null ? hit(best, bestSimilarity) : null;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static <V> Hit<V> hit(Indexed<V> indexed, double similarity) {
+        return new Hit<>(indexed.term(), indexed.normalized(), indexed.value(), similarity);
+    }
+
+    private void evictOldest() {
+        Map.Entry<String, Indexed<V>> oldest = entries.entrySet().iterator().next();
+        entries.remove(oldest.getKey());
+        for (int band = 0; band < BANDS; band++) {
+            long bandKey = bandKey(oldest.getValue().scope(), oldest.getValue().signature(), band);
+            Deque<String> bucket = buckets.get(bandKey);
+            if (bucket != null) {
+                bucket.remove(oldest.getKey());
+                if (bucket.isEmpty()) {
+                    buckets.remove(bandKey);
+                }
+            }
+        }
+    }
+
+    static long[] signature(String normalized) {
+        long[] signature = new long[HASHES];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (long shingle : shingles(normalized)) {
+            for (int index = 0; index < HASHES; index++) {
+                long value = mix(shingle ^ SEEDS[index]);
+                if (value < signature[index]) {
+                    signature[index] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Fraction of equal min-hashes: an unbiased estimate of the Jaccard similarity of the trigram sets.
+     */
+    static double similarity(long[] first, long[] second) {
+        int equal = 0;
+        for (int index = 0; index < HASHES; index++) {
+            if (first[index] == second[index]) {
+                equal++;
+            }
+        }
+        return (double) equal / HASHES;
+    }
+
+    // Trigramas com um espaço em cada ponta, para que início e fim do termo também contem
+    private static List<Long> shingles(String normalized) {
+        String padded = ' ' + normalized + ' ';
+        List<Long> shingles = new ArrayList<>(Math.max(1, padded.length() - SHINGLE + 1));
+        if (padded.length() <= SHINGLE) {
+            shingles.add(hash(padded));
+            return shingles;
+        }
+        for (int start = 0; start + SHINGLE <= padded.length(); start++) {
+            shingles.add(hash(padded.substring(start, start + SHINGLE)));
+        }
+        return shingles;
+    }
+
+    private static long bandKey(String scope, long[] signature, int band) {
+        long key = hash(scope) ^ band * FNV_PRIME;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            key = mix(key ^ signature[row]);
+        }
+        return key;
+    }
+
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte current : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= current & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    // Finalizador do MurmurHash3
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    /**
+     * A stored term close to the one looked up.
+     */
+    record Hit<V>(String term, String normalized, V value, double similarity) {
+    }
+
+    private record Indexed<V>(String scope, String term, String normalized, long[] signature, V value) {
+    }
+}
@@ -0,0 +1,235 @@
+package sample_bedrock.translate.service.memory;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import sample_bedrock.translate.service.terms.PlaceholderMasker;
+import sample_bedrock.translate.warmup.WarmupContext;
+
+/**
+ * Fuzzy translation memory in front of the model. Every translation the model returns is indexed by
+ * its source term, per locale pair, in a {@link NearDuplicateIndex}. For a term missing from the
+ * cache, the closest stored term decides what happens:
+ * <ul>
+ *   <li>same normalized form (only case, spacing or edge punctuation differ): the stored translation
+ *       is reused with the term's case and edge punctuation, without a model call;</li>
+ *   <li>estimated similarity of at least {@code min-similarity}: the stored pair goes to the model as
+ *       a reference, so wording stays consistent;</li>
+ *   <li>otherwise the term is translated as before.</li>
+ * </ul>
+ * Each replica indexes what it translated itself, which with the shared cache is the keys it owns.
+ */
+@Component
+public class TranslationMemory {
+
+    static final String METRIC_LOOKUPS = "translate.memory.lookups";
+
+    private static final Pattern EDGES = Pattern.compile(
+            "^(" + NearDuplicateIndex.EDGE_CHARS + "*)(.*?)(" + NearDuplicateIndex.EDGE_CHARS + "*)$", Pattern.DOTALL);
+
+    @Value("${translate.memory.enabled:false}")
+    private boolean enabled;
+
+    @Value("${translate.memory.max-entries:50000}")
+    private int maxEntries;
+
+    @Value("${translate.memory.min-similarity:0.7}")
+    private double minSimilarity;
+
+    @Value("${translate.memory.max-references:10}")
+    private int maxReferences;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private NearDuplicateIndex<String> index;
+
+    @PostConstruct
+    void init() {
+        index = new NearDuplicateIndex<>(maxEntries);
+        Gauge.builder("translate.memory.entries", this, memory -> memory.size()).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int maxReferences() {
+        return maxReferences;
+    }
+
+    /**
+     * The closest stored translation of {@code term}, or {@code null} when none is similar enough or
+     * warmup is running.
+     */
+    public Match lookup(String originLocale, String destinationLocale, String term) {
+        // Aquecimento usa o backend echo: nada dele pode responder requisições reais
+        if (!enabled || WarmupContext.isActive()) {
+            return null;
+        }
+        NearDuplicateIndex.Hit<String> hit;
+        lock.readLock().lock();
+        try {
+            hit = index.find(scope(originLocale, destinationLocale), term, minSimilarity);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (hit == null) {
+            meterRegistry.counter(METRIC_LOOKUPS, "result", "miss").increment();
+            return null;
+        }
+        String reused = hit.normalized().equals(NearDuplicateIndex.normalize(term))
+                ? fixUp(hit.term(), hit.value(), term, Locale.forLanguageTag(destinationLocale.replace('_', '-')))
+                : null;
+        meterRegistry.counter(METRIC_LOOKUPS, "result", reused != null ? "reused" : "referenced").increment();
+        return new Match(hit.term(), hit.value(), hit.similarity(), reused);
+    }
+
+    /**
+     * Indexes model output; a count mismatch means the lines cannot be paired, so nothing is stored.
+     * Warmup output is never stored.
+     */
+    public void store(String originLocale, String destinationLocale, List<String> terms, List<String> translations) {
+        if (!enabled || WarmupContext.isActive() || terms.size() != translations.size()) {
+            return;
+        }
+        String scope = scope(originLocale, destinationLocale);
+        lock.writeLock().lock();
+        try {
+            for (int position = 0; position < terms.size(); position++) {
+                index.put(scope, terms.get(position), translations.get(position));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adapts the translation of {@code stored} to {@code term}, which has the same normalized form:
+     * edge punctuation and spacing are swapped where the translation carries the stored ones, and the
+     * case shape (all caps, capitalized, lowercase) is applied. Returns {@code null} when that cannot be
+     * done safely, e.g. the translation ends differently or a placeholder would change case.
+     */
+    static String fixUp(String stored, String translation, String term, Locale destination) {
+        Matcher storedEdges = edges(stored);
+        Matcher termEdges = edges(term);
+        String value = translation;
+
+        String storedLead = storedEdges.group(1);
+        String termLead = termEdges.group(1);
+        if (!storedLead.equals(termLead)) {
+            if (!value.startsWith(storedLead)) {
+                return null;
+            }
+            value = termLead + value.substring(storedLead.length());
+        }
+        String storedTrail = storedEdges.group(3);
+        String termTrail = termEdges.group(3);
+        if (!storedTrail.equals(termTrail)) {
+            if (!value.endsWith(storedTrail)) {
+                return null;
+            }
+            value = value.substring(0, value.length() - storedTrail.length()) + termTrail;
+        }
+
+        // Caixa medida sem os marcadores, que não são texto
+        Shape storedShape = Shape.of(PlaceholderMasker.mask(storedEdges.group(2)).text());
+        PlaceholderMasker.MaskedTerm maskedTerm = PlaceholderMasker.mask(termEdges.group(2));
+        Shape termShape = Shape.of(maskedTerm.text());
+        if (storedShape == termShape) {
+            return value;
+        }
+        // Mudar a caixa poderia quebrar um marcador como {userName}
+        if (maskedTerm.isMasked() || termShape == Shape.NONE || storedShape == Shape.NONE) {
+            return null;
+        }
+        return switch (termShape) {
+            case UPPER -> value.toUpperCase(destination);
+            case CAPITALIZED -> withFirstLetter(storedShape == Shape.UPPER ? value.toLowerCase(destination) : value, true, destination);
+            case LOWER -> storedShape == Shape.UPPER ? value.toLowerCase(destination) : withFirstLetter(value, false, destination);
+            case NONE -> null;
+        };
+    }
+
+    private static Matcher edges(String value) {
+        Matcher matcher = EDGES.matcher(value);
+        matcher.matches();
+        return matcher;
+    }
+
+    private static String withFirstLetter(String value, boolean upper, Locale locale) {
+        for (int offset = 0; offset < value.length(); offset += Character.charCount(value.codePointAt(offset))) {
+            int codePoint = value.codePointAt(offset);
+            if (Character.isLetter(codePoint)) {
+                String letter = value.substring(offset, offset + Character.charCount(codePoint));
+                return value.substring(0, offset)
+                        + (upper ? letter.toUpperCase(locale) : letter.toLowerCase(locale))
+                        + value.substring(offset + letter.length());
+            }
+        }
+        return value;
+    }
+
+    private static String scope(String originLocale, String destinationLocale) {
+        return originLocale.toLowerCase(Locale.ROOT) + "->" + destinationLocale.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A stored translation close to a requested term. {@code reused} is set when the stored
+     * translation answers the term without a model call.
+     */
+    public record Match(String source, String translation, double similarity, String reused) {
+    }
+
+    private enum Shape {
+        UPPER,
+        CAPITALIZED,
+        LOWER,
+        NONE;
+
+        static Shape of(String text) {
+            int letters = 0;
+            boolean allUpper = true;
+            Boolean firstUpper = null;
+            for (int offset = 0; offset < text.length(); offset += Character.charCount(text.codePointAt(offset))) {
+                int codePoint = text.codePointAt(offset);
+                if (!Character.isLetter(codePoint)) {
+                    continue;
+                }
+                letters++;
+                boolean upper = Character.isUpperCase(codePoint);
+                allUpper &= upper;
+                if (firstUpper == null) {
+                    firstUpper = upper;
+                }
+            }
+            if (letters == 0) {
+                return NONE;
+            }
+            if (allUpper && letters > 1) {
+                return UPPER;
+            }
+            return firstUpper ? CAPITALIZED : LOWER;
+        }
+    }
+}
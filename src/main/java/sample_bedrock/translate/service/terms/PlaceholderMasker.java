@@ -0,0 +1,93 @@
+package sample_bedrock.translate.service.terms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Replaces placeholders and markup with compact {@code {n}} tokens before a term is sent to the
+ * model, and puts the originals back in the translation. Tokens are numbered per term.
+ */
+public final class PlaceholderMasker {
+
+    // Ordem importa: ${x} e {{x}} antes de {x}; tags e entidades HTML; formatos printf e MessageFormat
+    static final Pattern PLACEHOLDER = Pattern.compile(
+            "\\$\\{[^{}]*}"
+            + "|\\{\\{[^{}]*}}"
+            + "|\\{[^{}\\s]*(?:,[^{}]*)?}"
+            + "|</?[A-Za-z][^<>]*>"
+            + "|&(?:[A-Za-z]+|#\\d+|#x[0-9A-Fa-f]+);"
+            + "|%(?:\\d+\\$)?[\\-#+0,(]*\\d*(?:\\.\\d+)?[sdfioxXeEgGcb@%]");
+    private static final Pattern TOKEN = Pattern.compile("\\{(\\d{1,4})}");
+    private static final Pattern NOTHING_LEFT = Pattern.compile("[\\p{P}\\p{S}\\s]*");
+
+    private PlaceholderMasker() {
+    }
+
+    public static MaskedTerm mask(String term) {
+        Matcher matcher = PLACEHOLDER.matcher(term);
+        if (!matcher.find()) {
+            return new MaskedTerm(term, List.of());
+        }
+        List<String> placeholders = new ArrayList<>();
+        StringBuilder masked = new StringBuilder(term.length());
+        do {
+            matcher.appendReplacement(masked, "");
+            masked.append('{').append(placeholders.size()).append('}');
+            placeholders.add(matcher.group());
+        } while (matcher.find());
+        matcher.appendTail(masked);
+        return new MaskedTerm(masked.toString(), List.copyOf(placeholders));
+    }
+
+    static boolean isPlaceholderOnly(String term) {
+        Matcher matcher = PLACEHOLDER.matcher(term);
+        if (!matcher.find()) {
+            return false;
+        }
+        return NOTHING_LEFT.matcher(matcher.replaceAll("")).matches();
+    }
+
+    /**
+     * A term with its placeholders replaced by {@code {n}} tokens.
+     */
+    public record MaskedTerm(String text, List<String> placeholders) {
+
+        public boolean isMasked() {
+            return !placeholders.isEmpty();
+        }
+
+        public String original() {
+            return restore(text);
+        }
+
+        /**
+         * Puts the original placeholders back. Returns {@code null} when the translation lost,
+         * duplicated or invented tokens, so the caller can decide how to recover.
+         */
+        public String restore(String translated) {
+            if (placeholders.isEmpty()) {
+                return translated;
+            }
+            boolean[] seen = new boolean[placeholders.size()];
+            Matcher matcher = TOKEN.matcher(translated);
+            StringBuilder restored = new StringBuilder(translated.length() + 16);
+            while (matcher.find()) {
+                int index = Integer.parseInt(matcher.group(1));
+                if (index >= placeholders.size() || seen[index]) {
+                    return null;
+                }
+                seen[index] = true;
+                matcher.appendReplacement(restored, Matcher.quoteReplacement(placeholders.get(index)));
+            }
+            matcher.appendTail(restored);
+            for (boolean present : seen) {
+                if (!present) {
+                    return null;
+                }
+            }
+            return restored.toString();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package sample_bedrock.translate.service.terms;
+
+import java.util.regex.Pattern;
+
+/**
+ * Recognizes terms that have nothing to translate (numbers, URLs, e-mails, SKUs, punctuation and
+ * placeholder-only strings). Their translation is the term itself, so they never reach the model.
+ */
+public final class TermClassifier {
+
+    private static final Pattern NUMBER = Pattern.compile(
+            "[+\\-]?(?:[A-Z]{0,3}\\p{Sc})?\\s?\\d[\\d.,\\s]*(?:%|\\s?\\p{Sc})?");
+    private static final Pattern URL = Pattern.compile(
+            "(?i)(?:https?://|ftp://|www\\.)\\S+");
+    private static final Pattern EMAIL = Pattern.compile(
+            "[\\w.+\\-]+@[\\w\\-]+(?:\\.[\\w\\-]+)+");
+    // Códigos de produto: letras maiúsculas e dígitos, com ao menos um dígito (ABC-1234, SKU_99/B, X12)
+    private static final Pattern SKU = Pattern.compile(
+            "(?=[A-Z0-9\\-_/.#]*\\d)[A-Z0-9]+(?:[\\-_/.#][A-Z0-9]+)*");
+    private static final Pattern PUNCTUATION = Pattern.compile(
+            "[\\p{P}\\p{S}\\s]+");
+
+    private TermClassifier() {
+    }
+
+    public static boolean isNonTranslatable(String term) {
+        String stripped = term.strip();
+        if (stripped.isEmpty()) {
+            return true;
+        }
+        return NUMBER.matcher(stripped).matches()
+                || URL.matcher(stripped).matches()
+                || EMAIL.matcher(stripped).matches()
+                || SKU.matcher(stripped).matches()
+                || PUNCTUATION.matcher(stripped).matches()
+                || PlaceholderMasker.isPlaceholderOnly(stripped);
+    }
+}
@@ -0,0 +1,87 @@
+package sample_bedrock.translate.service.terms;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.regex.Matcher;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Replaces the words and numbers of a term with keyed pseudonyms of the same length and case, so a
+ * captured term keeps its shape (length, whitespace, punctuation, placeholders) but not its content.
+ * The same word always maps to the same pseudonym under one sanitizer, so repeated terms stay
+ * repeated. Placeholders and markup are kept verbatim, which makes sanitizing commute with
+ * {@link PlaceholderMasker#mask}. The key is random and never stored, so pseudonyms cannot be
+ * reversed.
+ */
+public final class TermSanitizer {
+
+    private static final char[] LETTERS = "abcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    private final Mac mac;
+
+    public TermSanitizer() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        try {
+            mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Not thread-safe: meant for the single capture writer thread.
+     */
+    public String sanitize(String text) {
+        StringBuilder sanitized = new StringBuilder(text.length());
+        Matcher placeholders = PlaceholderMasker.PLACEHOLDER.matcher(text);
+        int position = 0;
+        while (placeholders.find()) {
+            sanitizeText(text, position, placeholders.start(), sanitized);
+            sanitized.append(placeholders.group());
+            position = placeholders.end();
+        }
+        sanitizeText(text, position, text.length(), sanitized);
+        return sanitized.toString();
+    }
+
+    private void sanitizeText(String text, int from, int to, StringBuilder sanitized) {
+        int index = from;
+        while (index < to) {
+            int codePoint = text.codePointAt(index);
+            boolean letter = Character.isLetter(codePoint);
+            if (!letter && !Character.isDigit(codePoint)) {
+                sanitized.appendCodePoint(codePoint);
+                index += Character.charCount(codePoint);
+                continue;
+            }
+            int end = index;
+            while (end < to && (letter ? Character.isLetter(text.codePointAt(end)) : Character.isDigit(text.codePointAt(end)))) {
+                end += Character.charCount(text.codePointAt(end));
+            }
+            pseudonym(text.substring(index, end), letter, sanitized);
+            index = end;
+        }
+    }
+
+    // Um caractere do pseudônimo por code point da palavra, na mesma caixa
+    private void pseudonym(String word, boolean letters, StringBuilder sanitized) {
+        byte[] digest = mac.doFinal(word.getBytes(StandardCharsets.UTF_8));
+        int[] codePoints = word.codePoints().toArray();
+        for (int index = 0; index < codePoints.length; index++) {
+            // Palavras maiores que o digest reaproveitam os bytes com deslocamento
+            int value = (digest[index % digest.length] & 0xff) + index / digest.length;
+            if (!letters) {
+                sanitized.append((char) ('0' + value % 10));
+                continue;
+            }
+            char pseudo = LETTERS[value % LETTERS.length];
+            sanitized.append(Character.isUpperCase(codePoints[index]) ? Character.toUpperCase(pseudo) : pseudo);
+        }
+    }
+}
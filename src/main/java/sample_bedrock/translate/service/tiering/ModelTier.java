@@ -0,0 +1,16 @@
+package sample_bedrock.translate.service.tiering;
+
+import java.util.Locale;
+
+/**
+ * Model class a term is routed to: {@code FAST} for short, plain labels and {@code STANDARD}
+ * (the configured {@code aws.bedrock.model-id}) for everything else.
+ */
+public enum ModelTier {
+    FAST,
+    STANDARD;
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
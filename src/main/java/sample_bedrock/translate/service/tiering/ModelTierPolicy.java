@@ -0,0 +1,94 @@
+package sample_bedrock.translate.service.tiering;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import sample_bedrock.translate.service.terms.PlaceholderMasker.MaskedTerm;
+
+/**
+ * Decides which model tier translates each term. A term goes to the fast tier only when it is short,
+ * has no placeholders, markup or sentence structure, and neither locale is on the standard-only list
+ * (scripts and language pairs where the small model is noticeably weaker).
+ */
+@Component
+public class ModelTierPolicy {
+
+    private static final Pattern MARKUP = Pattern.compile("<[^>]+>|&[a-zA-Z#0-9]+;");
+    private static final Pattern SENTENCE_BREAK = Pattern.compile("[.!?;:]\\s+\\S");
+
+    @Value("${translate.tiering.enabled:false}")
+    private boolean enabled;
+
+    @Value("${translate.tiering.fast.model-id:anthropic.claude-3-haiku-20240307-v1:0}")
+    private String fastModelId;
+
+    @Value("${translate.tiering.fast.max-chars:40}")
+    private int fastMaxChars;
+
+    @Value("${translate.tiering.fast.max-words:5}")
+    private int fastMaxWords;
+
+    @Value("${translate.tiering.standard-only-languages:ja,zh,ko,ar,he,th,hi}")
+    private Set<String> standardOnlyLanguages = Set.of();
+
+    public boolean isEnabled() {
+        return enabled && StringUtils.hasText(fastModelId);
+    }
+
+    public String fastModelId() {
+        return fastModelId;
+    }
+
+    public ModelTier classify(String originLocale, String destinationLocale, MaskedTerm term) {
+        if (!isEnabled() || term.isMasked() || isStandardOnly(originLocale) || isStandardOnly(destinationLocale)) {
+            return ModelTier.STANDARD;
+        }
+        String text = term.text().strip();
+        if (text.length() > fastMaxChars || text.indexOf('\n') >= 0 || countWords(text) > fastMaxWords
+                || MARKUP.matcher(text).find() || SENTENCE_BREAK.matcher(text).find()) {
+            return ModelTier.STANDARD;
+        }
+        return ModelTier.FAST;
+    }
+
+    /**
+     * Groups term positions by tier, keeping the original order inside each tier.
+     */
+    public Map<ModelTier, List<Integer>> partition(String originLocale, String destinationLocale, List<MaskedTerm> terms) {
+        Map<ModelTier, List<Integer>> tiers = new EnumMap<>(ModelTier.class);
+        for (int index = 0; index < terms.size(); index++) {
+            ModelTier tier = classify(originLocale, destinationLocale, terms.get(index));
+            tiers.computeIfAbsent(tier, key -> new ArrayList<>()).add(index);
+        }
+        return tiers;
+    }
+
+    private boolean isStandardOnly(String locale) {
+        String normalized = locale.strip().replace('_', '-').toLowerCase(Locale.ROOT);
+        int separator = normalized.indexOf('-');
+        String language = separator > 0 ? normalized.substring(0, separator) : normalized;
+        return standardOnlyLanguages.contains(language);
+    }
+
+    private int countWords(String text) {
+        int words = 0;
+        boolean inWord = false;
+        for (int index = 0; index < text.length(); index++) {
+            boolean whitespace = Character.isWhitespace(text.charAt(index));
+            if (!whitespace && !inWord) {
+                words++;
+            }
+            inWord = !whitespace;
+        }
+        return words;
+    }
+}
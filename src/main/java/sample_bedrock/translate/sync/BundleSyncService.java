@@ -0,0 +1,233 @@
+package sample_bedrock.translate.sync;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import sample_bedrock.translate.service.files.FileTranslationService;
+import sample_bedrock.translate.service.files.PreviousTranslations;
+import sample_bedrock.translate.service.files.ResourceFormat;
+import sample_bedrock.translate.tenant.TenantContext;
+
+/**
+ * Incremental translation of resource bundles. For every (tenant, bundle, destination locale) a
+ * manifest keeps, per key, a hash of the source text and its translation. A sync streams the new
+ * source bundle through {@link FileTranslationService}, sends only added or changed keys to the
+ * model and fills the rest from the manifest; the manifest is replaced once the sync completes, so
+ * keys removed from the source drop out of it. Keys the model answer came back without are written
+ * with their source text and left out of the manifest, so the next sync translates them again.
+ *
+ * <p>Manifests live in {@code manifest-dir}, or only in memory when it is empty; either way they
+ * belong to this replica unless the directory is shared, so a sync routed elsewhere starts over.
+ */
+@Service
+public class BundleSyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BundleSyncService.class);
+
+    static final String METRIC_KEYS = "translate.sync.keys";
+
+    private static final Pattern VALID_NAME = Pattern.compile("[A-Za-z0-9._-]{1,128}");
+
+    @Value("${translate.sync.manifest-dir:}")
+    private String manifestDir;
+
+    @Autowired
+    private FileTranslationService fileTranslationService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Sem diretório configurado os manifestos ficam só em memória
+    private final Map<String, Manifest> inMemory = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        if (!StringUtils.hasText(manifestDir)) {
+            logger.warn("translate.sync.manifest-dir vazio: manifestos de bundle ficam só na memória desta réplica e somem ao reiniciar");
+        }
+    }
+
+    /**
+     * Translates {@code input} into {@code output}, re-translating only keys that are new or whose
+     * source changed since the last sync of this bundle; {@code full} ignores the manifest.
+     */
+    public SyncResult sync(String bundle, ResourceFormat format, String originLocale, String destinationLocale,
+                           boolean full, InputStream input, Charset inputCharset, OutputStream output) throws IOException {
+        String id = manifestId(bundle, destinationLocale);
+        ReentrantLock lock = locks.computeIfAbsent(id, key -> new ReentrantLock());
+        // Syncs simultâneos do mesmo bundle se sobreporiam no manifesto; o segundo espera o primeiro
+        lock.lock();
+        try {
+            Manifest previous = full ? null : load(id);
+            if (previous != null && !previous.originLocale().equalsIgnoreCase(originLocale)) {
+                logger.info("Manifesto {} foi gerado a partir de {}; retraduzindo tudo a partir de {}",
+                           id, previous.originLocale(), originLocale);
+                previous = null;
+            }
+            Tracker tracker = new Tracker(previous == null ? Map.of() : previous.entries());
+            fileTranslationService.translate(format, originLocale, destinationLocale, input, inputCharset, output, tracker);
+
+            SyncResult result = new SyncResult(tracker.written - tracker.reused, tracker.reused, tracker.removed());
+            store(id, new Manifest(originLocale, tracker.next));
+            meterRegistry.counter(METRIC_KEYS, "result", "translated").increment(result.translated());
+            meterRegistry.counter(METRIC_KEYS, "result", "reused").increment(result.reused());
+            meterRegistry.counter(METRIC_KEYS, "result", "removed").increment(result.removed());
+            meterRegistry.counter(METRIC_KEYS, "result", "untranslated").increment(tracker.untranslated.size());
+            logger.info("Bundle {} sincronizado: {} chaves traduzidas, {} reaproveitadas, {} removidas, {} sem tradução",
+                       id, result.translated(), result.reused(), result.removed(), tracker.untranslated.size());
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String manifestId(String bundle, String destinationLocale) {
+        // Os nomes viram caminhos no diretório de manifestos
+        if (!isValidName(bundle)) {
+            throw new IllegalArgumentException("Nome de bundle inválido: use até 128 letras, dígitos, '.', '_' ou '-', sem começar com '.'");
+        }
+        if (!isValidName(destinationLocale)) {
+            throw new IllegalArgumentException("Destination locale inválido: " + destinationLocale);
+        }
+        String tenant = TenantContext.current() != null ? TenantContext.current() : TenantContext.ANONYMOUS;
+        if (!isValidName(tenant)) {
+            throw new IllegalArgumentException("Tenant inválido para sync de bundle: não pode começar com '.'");
+        }
+        return tenant + "/" + bundle + "/" + destinationLocale.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isValidName(String name) {
+        return name != null && VALID_NAME.matcher(name).matches() && !name.startsWith(".");
+    }
+
+    private Manifest load(String id) throws IOException {
+        if (!StringUtils.hasText(manifestDir)) {
+            return inMemory.get(id);
+        }
+        Path file = manifestFile(id);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        return objectMapper.readValue(file.toFile(), Manifest.class);
+    }
+
+    private void store(String id, Manifest manifest) throws IOException {
+        if (!StringUtils.hasText(manifestDir)) {
+            inMemory.put(id, manifest);
+            return;
+        }
+        Path file = manifestFile(id);
+        Files.createDirectories(file.getParent());
+        // Grava ao lado e troca de uma vez: um sync interrompido nunca deixa manifesto pela metade
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        objectMapper.writeValue(temporary.toFile(), manifest);
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path manifestFile(String id) {
+        Path root = Path.of(manifestDir).toAbsolutePath().normalize();
+        Path file = root.resolve(id + ".json").normalize();
+        if (!file.startsWith(root)) {
+            throw new IllegalArgumentException("Manifesto fora de translate.sync.manifest-dir: " + id);
+        }
+        return file;
+    }
+
+    static String hash(String source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Keys translated by the model, reused from the manifest and dropped from the source.
+     */
+    public record SyncResult(long translated, long reused, long removed) {
+    }
+
+    record Manifest(@JsonProperty("origin_locale") String originLocale,
+                    @JsonProperty("entries") Map<String, Entry> entries) {
+    }
+
+    record Entry(@JsonProperty("hash") String hash, @JsonProperty("translation") String translation) {
+    }
+
+    /**
+     * Serves unchanged keys from the previous manifest and collects the next one.
+     */
+    private static final class Tracker implements PreviousTranslations {
+
+        private final Map<String, Entry> previous;
+        private final Map<String, Entry> next = new HashMap<>();
+        private final Set<String> untranslated = new HashSet<>();
+        private long written;
+        private long reused;
+
+        private Tracker(Map<String, Entry> previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public String lookup(String key, String source) {
+            Entry entry = previous.get(key);
+            if (entry == null || !entry.hash().equals(hash(source))) {
+                return null;
+            }
+            reused++;
+            return entry.translation();
+        }
+
+        @Override
+        public void written(String key, String source, String translation) {
+            written++;
+            next.put(key, new Entry(hash(source), translation));
+        }
+
+        @Override
+        public void untranslated(String key, String source) {
+            untranslated.add(key);
+        }
+
+        private long removed() {
+            return previous.keySet().stream()
+                    .filter(key -> !next.containsKey(key) && !untranslated.contains(key))
+                    .count();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package sample_bedrock.translate.tenant;
+
+import java.util.regex.Pattern;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * The tenant a request is accounted to, read from the {@code X-Tenant-Id} header (gRPC metadata
+ * {@code x-tenant-id}). Bound to the request thread and carried into worker threads by
+ * {@link sample_bedrock.translate.service.ContextSnapshot}; background work has no tenant.
+ */
+public final class TenantContext {
+
+    public static final String HEADER = "X-Tenant-Id";
+
+    public static final String ANONYMOUS = "anonymous";
+
+    private static final Pattern VALID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    /**
+     * Requests without the header are accounted to {@value #ANONYMOUS}.
+     */
+    public static String fromHeader(String value) {
+        if (!StringUtils.hasText(value)) {
+            return ANONYMOUS;
+        }
+        String tenant = value.strip();
+        if (!VALID.matcher(tenant).matches()) {
+            throw new IllegalArgumentException("Header " + HEADER + " inválido: use até 64 letras, dígitos, '.', '_' ou '-'");
+        }
+        return tenant;
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public static Scope attach(String tenant) {
+        String previous = CURRENT.get();
+        set(tenant);
+        return new Scope(previous);
+    }
+
+    private static void set(String tenant) {
+        if (tenant == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(tenant);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final String previous;
+
+        private Scope(String previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            set(previous);
+        }
+    }
+}
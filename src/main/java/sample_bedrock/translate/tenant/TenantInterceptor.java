@@ -0,0 +1,46 @@
+package sample_bedrock.translate.tenant;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Binds the request's tenant, as resolved by {@link TenantResolver}, to the handling thread for token
+ * accounting and quota checks.
+ */
+@Component
+public class TenantInterceptor implements HandlerInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = TenantInterceptor.class.getName() + ".scope";
+
+    private static final String PEER_TOKEN_HEADER = "X-Peer-Token";
+
+    @Value("${translate.ratelimit.api-key-header:X-Api-Key}")
+    private String apiKeyHeader;
+
+    @Autowired
+    private TenantResolver tenantResolver;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String tenantHeader = request.getHeader(TenantContext.HEADER);
+        String apiKey = request.getHeader(apiKeyHeader);
+        String peerToken = request.getHeader(PEER_TOKEN_HEADER);
+        String tenant = peerToken != null
+                ? tenantResolver.resolveForwarded(tenantHeader, peerToken, apiKey)
+                : tenantResolver.resolve(tenantHeader, apiKey);
+        request.setAttribute(SCOPE_ATTRIBUTE, TenantContext.attach(tenant));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(SCOPE_ATTRIBUTE) instanceof TenantContext.Scope scope) {
+            scope.close();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package sample_bedrock.translate.tenant;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import jakarta.annotation.PostConstruct;
+import sample_bedrock.translate.exception.TenantMismatchException;
+
+/**
+ * Resolves the tenant a request is accounted to. With {@code translate.tenant.api-keys} set, the
+ * tenant comes from the API key header (the same one the rate limiter reads): requests without a
+ * known key are {@value TenantContext#ANONYMOUS}, and an {@code X-Tenant-Id} naming another tenant
+ * is rejected. Without it the header is taken as sent, which is only good for accounting. Calls between
+ * cache replicas forward the tenant the first replica resolved and are trusted on a valid peer token.
+ */
+@Component
+public class TenantResolver {
+
+    @Value("${translate.tenant.api-keys:}")
+    private String apiKeys;
+
+    @Value("${translate.cache.peer-token:}")
+    private String peerToken;
+
+    private Map<String, String> tenantsByKey = Map.of();
+
+    @PostConstruct
+    void init() {
+        tenantsByKey = parseApiKeys(apiKeys);
+    }
+
+    public String resolve(String tenantHeader, String apiKey) {
+        String declared = TenantContext.fromHeader(tenantHeader);
+        if (tenantsByKey.isEmpty()) {
+            return declared;
+        }
+        String tenant = apiKey != null ? tenantsByKey.getOrDefault(apiKey.strip(), TenantContext.ANONYMOUS)
+                                       : TenantContext.ANONYMOUS;
+        if (StringUtils.hasText(tenantHeader) && !declared.equals(tenant)) {
+            throw new TenantMismatchException("Header " + TenantContext.HEADER + " não corresponde à chave de API");
+        }
+        return tenant;
+    }
+
+    /**
+     * Tenant of a call from another cache replica: the forwarded header is accepted only with the
+     * configured peer token, otherwise the call is resolved like any client request.
+     */
+    public String resolveForwarded(String tenantHeader, String token, String apiKey) {
+        if (StringUtils.hasText(peerToken) && token != null
+                && MessageDigest.isEqual(peerToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            return TenantContext.fromHeader(tenantHeader);
+        }
+        return resolve(tenantHeader, apiKey);
+    }
+
+    // Formato chave=tenant,chave=tenant; a mesma chave não pode apontar para dois tenants
+    static Map<String, String> parseApiKeys(String value) {
+        Map<String, String> parsed = new HashMap<>();
+        if (!StringUtils.hasText(value)) {
+            return parsed;
+        }
+        for (String pair : value.split(",")) {
+            String[] parts = pair.split("=", 2);
+            if (parts.length != 2 || !StringUtils.hasText(parts[0])) {
+                throw new IllegalArgumentException("Chave de tenant inválida em translate.tenant.api-keys");
+            }
+            String tenant = TenantContext.fromHeader(parts[1]);
+            String previous = parsed.putIfAbsent(parts[0].strip(), tenant);
+            if (previous != null && !previous.equals(tenant)) {
+                throw new IllegalArgumentException("Chave de API associada a mais de um tenant em translate.tenant.api-keys");
+            }
+        }
+        return parsed;
+    }
+}
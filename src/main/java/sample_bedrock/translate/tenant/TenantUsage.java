@@ -0,0 +1,372 @@
+package sample_bedrock.translate.tenant;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import sample_bedrock.translate.dto.TenantUsageResponse;
+import sample_bedrock.translate.exception.QuotaExceededException;
+import sample_bedrock.translate.warmup.WarmupContext;
+import software.amazon.awssdk.services.bedrockruntime.model.TokenUsage;
+
+/**
+ * Per-tenant Bedrock token accounting from {@code ConverseResponse.usage()}. Counters are
+ * {@link LongAdder}s, so concurrent model calls never contend on a tenant's tally; deltas are appended
+ * to a local ledger file every {@code flush-interval} and replayed at startup, so quota periods survive
+ * a restart. Quotas are checked before each model call against the tokens already used in the current
+ * period plus an estimate of the call.
+ * <p>
+ * Tallies and the ledger belong to this replica: there is no sharing between replicas, so each one
+ * enforces the full quota on the calls it serves and a tenant spread over N replicas can use up to N
+ * times its quota per period. Size quotas as the per-replica share of the budget. Quotas need tenants
+ * bound to API keys ({@code translate.tenant.api-keys}); otherwise a client could pick any
+ * {@code X-Tenant-Id}, so startup fails.
+ */
+@Component
+public class TenantUsage {
+
+    private static final Logger logger = LoggerFactory.getLogger(TenantUsage.class);
+
+    static final String METRIC_REJECTED = "translate.tenant.quota.rejected";
+
+    // Trabalho sem requisição de origem, como a revalidação do cache
+    static final String SYSTEM = "system";
+
+    @Value("${translate.tenant.ledger-file:}")
+    private String ledgerFile;
+
+    @Value("${translate.tenant.flush-interval:10s}")
+    private Duration flushInterval;
+
+    @Value("${translate.tenant.quota.period:1d}")
+    private Duration quotaPeriod;
+
+    @Value("${translate.tenant.quota.default-tokens:0}")
+    private long defaultQuota;
+
+    @Value("${translate.tenant.quota.tokens:}")
+    private String quotaOverrides;
+
+    @Value("${translate.tenant.api-keys:}")
+    private String tenantApiKeys;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, Tally> tallies = new ConcurrentHashMap<>();
+    private Map<String, Long> quotas = Map.of();
+    private LongSupplier clock = System::currentTimeMillis;
+    private Path ledger;
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void init() {
+        quotas = parseQuotas(quotaOverrides);
+        if ((defaultQuota > 0 || !quotas.isEmpty()) && !StringUtils.hasText(tenantApiKeys)) {
+            throw new IllegalStateException("translate.tenant.api-keys é obrigatório com cotas de tenant: sem ele o "
+                    + "header " + TenantContext.HEADER + " não é autenticado");
+        }
+        if (!StringUtils.hasText(ledgerFile)) {
+            return;
+        }
+        ledger = Path.of(ledgerFile);
+        restore();
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("tenant-ledger").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            flushQuietly();
+        }
+    }
+
+    /**
+     * Rejects the call when the tenant's tokens in the current period plus {@code estimatedTokens}
+     * would go over its quota. Background work ({@code tenant == null}) and warmup are never limited.
+     */
+    public void checkQuota(String tenant, long estimatedTokens) {
+        if (tenant == null || WarmupContext.isActive()) {
+            return;
+        }
+        long quota = quotaOf(tenant);
+        if (quota <= 0) {
+            return;
+        }
+        long now = clock.getAsLong();
+        long periodStart = periodStart(now);
+        long used = tally(tenant).periodTokens(periodStart);
+        if (used + estimatedTokens > quota) {
+            meterRegistry.counter(METRIC_REJECTED).increment();
+            logger.warn("Cota do tenant {} esgotada: {} de {} tokens usados, chamada estimada em {}",
+                       tenant, used, quota, estimatedTokens);
+            long untilNextPeriod = periodStart + quotaPeriod.toMillis() - now;
+            throw new QuotaExceededException(tenant, Duration.ofMillis(Math.max(1000, untilNextPeriod)));
+        }
+    }
+
+    public void record(String tenant, TokenUsage usage) {
+        // Aquecimento chega sem tenant e contaria como anonymous
+        if (usage == null || WarmupContext.isActive()) {
+            return;
+        }
+        // Disponível apenas em versões do SDK com cache de prompt; nas anteriores fica zerado
+        long cacheRead = usage.getValueForField("CacheReadInputTokens", Integer.class).orElse(0);
+        record(tenant, valueOf(usage.inputTokens()), valueOf(usage.outputTokens()), cacheRead);
+    }
+
+    void record(String tenant, long inputTokens, long outputTokens, long cacheReadTokens) {
+        Tally tally = tally(tenant != null ? tenant : SYSTEM);
+        tally.inputTokens.add(inputTokens);
+        tally.outputTokens.add(outputTokens);
+        tally.cacheReadTokens.add(cacheReadTokens);
+        tally.calls.increment();
+        tally.addPeriodTokens(periodStart(clock.getAsLong()), inputTokens + outputTokens);
+    }
+
+    public List<TenantUsageResponse> snapshot() {
+        return tallies.keySet().stream()
+                .sorted(Comparator.naturalOrder())
+                .map(this::snapshot)
+                .toList();
+    }
+
+    /**
+     * Usage of one tenant, or {@code null} when it made no model call since the ledger started.
+     */
+    public TenantUsageResponse snapshot(String tenant) {
+        Tally tally = tallies.get(tenant);
+        if (tally == null) {
+            return null;
+        }
+        long periodStart = periodStart(clock.getAsLong());
+        long quota = quotaOf(tenant);
+        return new TenantUsageResponse(tenant, tally.inputTokens.sum(), tally.outputTokens.sum(),
+                tally.cacheReadTokens.sum(), tally.calls.sum(), Instant.ofEpochMilli(periodStart),
+                tally.periodTokens(periodStart), quota > 0 ? quota : null);
+    }
+
+    /**
+     * Appends one line per tenant with the tokens counted since the previous flush.
+     */
+    synchronized void flush() throws IOException {
+        if (ledger == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        StringBuilder lines = new StringBuilder();
+        for (Map.Entry<String, Tally> entry : tallies.entrySet()) {
+            Tally tally = entry.getValue();
+            LedgerEntry delta = tally.takeDelta(now, entry.getKey());
+            if (delta != null) {
+                lines.append(objectMapper.writeValueAsString(delta)).append('\n');
+            }
+        }
+        if (lines.isEmpty()) {
+            return;
+        }
+        Path parent = ledger.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(ledger, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(lines.toString());
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException | UncheckedIOException e) {
+            logger.warn("Falha ao gravar o ledger de tokens em {}: {}", ledger, e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuilds totals and the current period's usage from the ledger. A torn last line (crash during
+     * a write) is skipped.
+     */
+    private void restore() {
+        if (!Files.exists(ledger)) {
+            return;
+        }
+        long periodStart = periodStart(clock.getAsLong());
+        int restored = 0;
+        try (Stream<String> lines = Files.lines(ledger, StandardCharsets.UTF_8)) {
+            for (String line : (Iterable<String>) lines::iterator) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                LedgerEntry entry;
+                try {
+                    entry = objectMapper.readValue(line, LedgerEntry.class);
+                } catch (IOException e) {
+                    logger.warn("Linha inválida ignorada no ledger de tokens: {}", e.getMessage());
+                    continue;
+                }
+                tally(entry.tenant()).restore(entry, entry.atMillis() >= periodStart ? periodStart : -1);
+                restored++;
+            }
+        } catch (IOException e) {
+            logger.warn("Falha ao ler o ledger de tokens {}: {}", ledger, e.getMessage());
+        }
+        logger.info("Ledger de tokens restaurado: {} registros de {} tenants", restored, tallies.size());
+    }
+
+    private Tally tally(String tenant) {
+        Tally tally = tallies.get(tenant);
+        return tally != null ? tally : tallies.computeIfAbsent(tenant, ignored -> new Tally());
+    }
+
+    private long quotaOf(String tenant) {
+        return quotas.getOrDefault(tenant, defaultQuota);
+    }
+
+    private long periodStart(long nowMillis) {
+        long period = quotaPeriod.toMillis();
+        return nowMillis - Math.floorMod(nowMillis, period);
+    }
+
+    void setClock(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Parses {@code tenant=tokens} pairs separated by commas.
+     */
+    static Map<String, Long> parseQuotas(String value) {
+        Map<String, Long> parsed = new HashMap<>();
+        if (!StringUtils.hasText(value)) {
+            return parsed;
+        }
+        for (String pair : value.split(",")) {
+            String[] parts = pair.split("=", 2);
+            if (parts.length != 2 || !StringUtils.hasText(parts[0])) {
+                throw new IllegalArgumentException("Cota de tenant inválida em translate.tenant.quota.tokens: " + pair.strip());
+            }
+            parsed.put(parts[0].strip(), Long.parseLong(parts[1].strip()));
+        }
+        return parsed;
+    }
+
+    private static long valueOf(Integer tokens) {
+        return tokens != null ? tokens : 0;
+    }
+
+    private static final class Tally {
+
+        private final LongAdder inputTokens = new LongAdder();
+        private final LongAdder outputTokens = new LongAdder();
+        private final LongAdder cacheReadTokens = new LongAdder();
+        private final LongAdder calls = new LongAdder();
+
+        // Tokens do período de cota corrente; zerados na virada do período
+        private final LongAdder periodTokens = new LongAdder();
+        private volatile long periodStart = Long.MIN_VALUE;
+
+        // Totais já gravados no ledger; acessados só sob o lock de flush()
+        private long flushedInput;
+        private long flushedOutput;
+        private long flushedCacheRead;
+        private long flushedCalls;
+
+        long periodTokens(long currentStart) {
+            roll(currentStart);
+            return periodTokens.sum();
+        }
+
+        void addPeriodTokens(long currentStart, long tokens) {
+            roll(currentStart);
+            periodTokens.add(tokens);
+        }
+
+        private void roll(long currentStart) {
+            if (periodStart >= currentStart) {
+                return;
+            }
+            synchronized (this) {
+                if (periodStart < currentStart) {
+                    periodTokens.reset();
+                    periodStart = currentStart;
+                }
+            }
+        }
+
+        LedgerEntry takeDelta(long atMillis, String tenant) {
+            long input = inputTokens.sum();
+            long output = outputTokens.sum();
+            long cacheRead = cacheReadTokens.sum();
+            long callCount = calls.sum();
+            if (callCount == flushedCalls) {
+                return null;
+            }
+            LedgerEntry delta = new LedgerEntry(atMillis, tenant, input - flushedInput, output - flushedOutput,
+                    cacheRead - flushedCacheRead, callCount - flushedCalls);
+            flushedInput = input;
+            flushedOutput = output;
+            flushedCacheRead = cacheRead;
+            flushedCalls = callCount;
+            return delta;
+        }
+
+        // Registros já gravados não são gravados de novo no próximo flush
+        void restore(LedgerEntry entry, long periodStartIfCurrent) {
+            inputTokens.add(entry.inputTokens());
+            outputTokens.add(entry.outputTokens());
+            cacheReadTokens.add(entry.cacheReadTokens());
+            calls.add(entry.calls());
+            flushedInput += entry.inputTokens();
+            flushedOutput += entry.outputTokens();
+            flushedCacheRead += entry.cacheReadTokens();
+            flushedCalls += entry.calls();
+            if (periodStartIfCurrent >= 0) {
+                addPeriodTokens(periodStartIfCurrent, entry.inputTokens() + entry.outputTokens());
+            }
+        }
+    }
+
+    record LedgerEntry(
+        @JsonProperty("at_ms") long atMillis,
+        @JsonProperty("tenant") String tenant,
+        @JsonProperty("input_tokens") long inputTokens,
+        @JsonProperty("output_tokens") long outputTokens,
+        @JsonProperty("cache_read_tokens") long cacheReadTokens,
+        @JsonProperty("calls") long calls
+    ) {}
+}
@@ -0,0 +1,24 @@
+package sample_bedrock.translate.warmup;
+
+/**
+ * Marks the current thread as serving a synthetic warmup request so the no-op backend is used.
+ */
+public final class WarmupContext {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private WarmupContext() {
+    }
+
+    public static boolean isActive() {
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+
+    public static void activate() {
+        ACTIVE.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        ACTIVE.remove();
+    }
+}
@@ -0,0 +1,36 @@
+package sample_bedrock.translate.warmup;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the readiness probe out of service until the warmup phase has finished.
+ */
+@Component("warmup")
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    @Autowired
+    private WarmupRunner warmupRunner;
+
+    @Override
+    public Health health() {
+        if (!warmupRunner.isFinished()) {
+            return Health.outOfService().withDetail("phase", "warming").build();
+        }
+        WarmupReport report = warmupRunner.report();
+        if (report == null) {
+            return Health.up().withDetail("phase", "skipped").build();
+        }
+        return Health.up()
+                .withDetail("phase", "done")
+                .withDetail("durationMs", report.durationMs())
+                .withDetail("rounds", report.rounds())
+                .withDetail("requests", report.requests())
+                .withDetail("stabilized", report.stabilized())
+                .withDetail("p50Ms", report.p50Ms())
+                .withDetail("p99Ms", report.p99Ms())
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package sample_bedrock.translate.warmup;
+
+/**
+ * Outcome of the warmup phase, exposed through the readiness health group.
+ */
+public record WarmupReport(
+    long durationMs,
+    int rounds,
+    int requests,
+    boolean stabilized,
+    double p50Ms,
+    double p99Ms
+) {}
@@ -0,0 +1,43 @@
+package sample_bedrock.translate.warmup;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Routes requests carrying the per-boot warmup token to the in-process backend.
+ */
+@Component
+public class WarmupRequestFilter extends OncePerRequestFilter {
+
+    static final String HEADER_WARMUP_TOKEN = "X-Warmup-Token";
+
+    @Autowired
+    private WarmupRunner warmupRunner;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!warmupRunner.isWarmupToken(request.getHeader(HEADER_WARMUP_TOKEN))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        WarmupContext.activate();
+        MDC.put("warmup", "true");
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove("warmup");
+            WarmupContext.clear();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package sample_bedrock.translate.warmup;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import sample_bedrock.translate.dto.TranslateRequest;
+
+/**
+ * Drives synthetic translations through the HTTP stack against the in-process backend until the
+ * per-round median latency stops moving, then lets the readiness probe report ready.
+ */
+@Component
+public class WarmupRunner implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private static final List<String> SAMPLE_TERMS = List.of(
+            "Olá", "Bem-vindo de volta", "Salvar alterações", "Configurações da conta",
+            "Não foi possível concluir o pagamento", "Ação", "Coração", "Carrinho de compras",
+            "Hello", "Sign in", "Forgot your password?", "Order #{0} was shipped",
+            "Termos e condições", "Preço por unidade", "Você tem %d novas mensagens", "Sair");
+
+    private static final int[] TERM_COUNTS = {1, 3, 10, 25, 100};
+
+    @Value("${translate.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${translate.warmup.requests-per-round:20}")
+    private int requestsPerRound;
+
+    @Value("${translate.warmup.min-rounds:3}")
+    private int minRounds;
+
+    @Value("${translate.warmup.max-rounds:30}")
+    private int maxRounds;
+
+    @Value("${translate.warmup.stable-rounds:2}")
+    private int stableRounds;
+
+    @Value("${translate.warmup.tolerance:0.10}")
+    private double tolerance;
+
+    @Value("${translate.warmup.max-duration:60s}")
+    private Duration maxDuration;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final String token = UUID.randomUUID().toString();
+
+    private volatile boolean finished;
+    private volatile WarmupReport report;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        Integer port = null;
+        if (event.getApplicationContext() instanceof WebServerApplicationContext webContext
+                && webContext.getWebServer() != null) {
+            port = webContext.getWebServer().getPort();
+        }
+
+        if (!enabled || port == null || port <= 0) {
+            finished = true;
+            return;
+        }
+
+        int serverPort = port;
+        Thread.ofPlatform().name("warmup").daemon().start(() -> runWarmup(serverPort));
+    }
+
+    boolean isWarmupToken(String candidate) {
+        return !finished && token.equals(candidate);
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public WarmupReport report() {
+        return report;
+    }
+
+    private void runWarmup(int port) {
+        long startTime = System.nanoTime();
+        long deadline = startTime + maxDuration.toNanos();
+        URI uri = URI.create("http://localhost:" + port + "/api/v1/translate");
+        logger.info("Iniciando aquecimento em {}", uri);
+
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            double previousP50 = -1;
+            int stableStreak = 0;
+            int rounds = 0;
+            int requests = 0;
+            double[] lastRound = new double[0];
+
+            while (rounds < maxRounds && System.nanoTime() < deadline) {
+                lastRound = runRound(httpClient, uri, rounds);
+                rounds++;
+                requests += lastRound.length + 1;
+
+                double p50 = percentile(lastRound, 0.50);
+                if (previousP50 > 0 && Math.abs(p50 - previousP50) / previousP50 <= tolerance) {
+                    stableStreak++;
+                } else {
+                    stableStreak = 0;
+                }
+                previousP50 = p50;
+
+                if (rounds >= minRounds && stableStreak >= stableRounds) {
+                    break;
+                }
+            }
+
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            report = new WarmupReport(durationMs, rounds, requests, stableStreak >= stableRounds,
+                    percentile(lastRound, 0.50), percentile(lastRound, 0.99));
+            logger.info("Aquecimento concluído em {} ms ({} rodadas, {} requisições, estável={}): p50={} ms, p99={} ms",
+                    durationMs, rounds, requests, report.stabilized(),
+                    String.format("%.2f", report.p50Ms()), String.format("%.2f", report.p99Ms()));
+        } catch (Exception e) {
+            logger.warn("Aquecimento interrompido: {}", e.getMessage(), e);
+        } finally {
+            finished = true;
+        }
+    }
+
+    private double[] runRound(HttpClient httpClient, URI uri, int round) throws Exception {
+        double[] latencies = new double[requestsPerRound];
+        for (int index = 0; index < requestsPerRound; index++) {
+            int termCount = TERM_COUNTS[(round + index) % TERM_COUNTS.length];
+            byte[] body = objectMapper.writeValueAsBytes(
+                    new TranslateRequest("pt-BR", "en-US", terms(termCount, round + index)));
+
+            long start = System.nanoTime();
+            HttpResponse<Void> response = httpClient.send(request(uri, body), HttpResponse.BodyHandlers.discarding());
+            latencies[index] = (System.nanoTime() - start) / 1_000_000.0;
+
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Resposta inesperada no aquecimento: HTTP " + response.statusCode());
+            }
+        }
+
+        // Também exercita o caminho de validação e o GlobalExceptionHandler
+        byte[] invalid = objectMapper.writeValueAsBytes(new TranslateRequest("pt-BR", "en-US", List.of()));
+        httpClient.send(request(uri, invalid), HttpResponse.BodyHandlers.discarding());
+
+        return latencies;
+    }
+
+    private HttpRequest request(URI uri, byte[] body) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .header(WarmupRequestFilter.HEADER_WARMUP_TOKEN, token)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+
+    private List<String> terms(int count, int offset) {
+        List<String> terms = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            terms.add(SAMPLE_TERMS.get((offset + index) % SAMPLE_TERMS.size()));
+        }
+        return terms;
+    }
+
+    private double percentile(double[] values, double quantile) {
+        if (values.length == 0) {
+            return 0;
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,189 @@
+package sample_bedrock.translate.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import sample_bedrock.translate.exception.OverloadedException;
+
+@DisplayName("AdmissionController Tests")
+class AdmissionControllerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private AdmissionController admissionController;
+
+    @BeforeEach
+    void setUp() {
+        admissionController = new AdmissionController();
+        ReflectionTestUtils.setField(admissionController, "enabled", true);
+        ReflectionTestUtils.setField(admissionController, "maxConcurrent", 1);
+        ReflectionTestUtils.setField(admissionController, "queueCapacity", 2);
+        ReflectionTestUtils.setField(admissionController, "maxQueueTime", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(admissionController, "codelTarget", Duration.ofMillis(50));
+        ReflectionTestUtils.setField(admissionController, "codelInterval", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(admissionController, "minRetryAfter", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(admissionController, "meterRegistry", meterRegistry);
+        admissionController.registerMetrics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar com Retry-After quando a fila está cheia")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        // Given
+        AdmissionController.Permit running = admissionController.acquire(Priority.INTERACTIVE);
+        CompletableFuture<AdmissionController.Permit> first = acquireAsync(Priority.INTERACTIVE);
+        CompletableFuture<AdmissionController.Permit> second = acquireAsync(Priority.INTERACTIVE);
+        awaitQueued(2);
+
+        // When / Then
+        assertThatThrownBy(() -> admissionController.acquire(Priority.INTERACTIVE))
+            .isInstanceOf(OverloadedException.class)
+            .satisfies(e -> assertThat(((OverloadedException) e).getRetryAfter()).isGreaterThanOrEqualTo(Duration.ofSeconds(1)));
+        assertThat(meterRegistry.counter("translate.admission.rejected", "priority", "interactive", "reason", "queue_full").count())
+            .isEqualTo(1);
+
+        running.close();
+        first.get(5, TimeUnit.SECONDS).close();
+        second.get(5, TimeUnit.SECONDS).close();
+    }
+
+    @Test
+    @DisplayName("Deve atender requisições interativas antes das de batch")
+    void shouldServeInteractiveBeforeBatch() throws Exception {
+        // Given
+        List<Priority> order = new CopyOnWriteArrayList<>();
+        AdmissionController.Permit running = admissionController.acquire(Priority.INTERACTIVE);
+        CompletableFuture<Void> batch = CompletableFuture.runAsync(
+            () -> admissionController.execute(Priority.BATCH, () -> order.add(Priority.BATCH)), executor);
+        awaitQueued(1);
+        CompletableFuture<Void> interactive = CompletableFuture.runAsync(
+            () -> admissionController.execute(Priority.INTERACTIVE, () -> order.add(Priority.INTERACTIVE)), executor);
+        awaitQueued(2);
+
+        // When
+        running.close();
+        CompletableFuture.allOf(batch, interactive).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(order).containsExactly(Priority.INTERACTIVE, Priority.BATCH);
+    }
+
+    @Test
+    @DisplayName("Deve tirar da fila uma requisição batch para dar lugar a uma interativa")
+    void shouldEvictBatchForInteractive() throws Exception {
+        // Given
+        AdmissionController.Permit running = admissionController.acquire(Priority.INTERACTIVE);
+        CompletableFuture<AdmissionController.Permit> batchA = acquireAsync(Priority.BATCH);
+        CompletableFuture<AdmissionController.Permit> batchB = acquireAsync(Priority.BATCH);
+        awaitQueued(2);
+
+        // When
+        CompletableFuture<AdmissionController.Permit> interactive = acquireAsync(Priority.INTERACTIVE);
+
+        // Then
+        assertThatThrownBy(() -> batchB.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(OverloadedException.class);
+        running.close();
+        interactive.get(5, TimeUnit.SECONDS).close();
+        batchA.get(5, TimeUnit.SECONDS).close();
+    }
+
+    @Test
+    @DisplayName("Deve limitar a espera ao alvo do CoDel quando a fila não esvazia")
+    void shouldShortenQueueTimeoutUnderStandingQueue() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(admissionController, "codelInterval", Duration.ofMillis(100));
+        AdmissionController.Permit running = admissionController.acquire(Priority.INTERACTIVE);
+        CompletableFuture<AdmissionController.Permit> standing = acquireAsync(Priority.BATCH);
+        awaitQueued(1);
+        Thread.sleep(200);
+
+        // When
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> admissionController.acquire(Priority.INTERACTIVE)).isInstanceOf(OverloadedException.class);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertThat(waitedMillis).isLessThan(2000);
+        assertThat(meterRegistry.counter("translate.admission.rejected", "priority", "interactive", "reason", "queue_timeout").count())
+            .isEqualTo(1);
+        running.close();
+        standing.get(5, TimeUnit.SECONDS).close();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar de imediato quando a espera estimada excede o limite")
+    void shouldShedWhenExpectedWaitIsTooLong() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(admissionController, "maxQueueTime", Duration.ofMillis(100));
+        admissionController.execute(Priority.INTERACTIVE, () -> sleep(300));
+        AdmissionController.Permit running = admissionController.acquire(Priority.INTERACTIVE);
+
+        // When / Then
+        assertThatThrownBy(() -> admissionController.acquire(Priority.INTERACTIVE))
+            .isInstanceOf(OverloadedException.class);
+        assertThat(meterRegistry.counter("translate.admission.rejected", "priority", "interactive", "reason", "latency").count())
+            .isEqualTo(1);
+        running.close();
+    }
+
+    @Test
+    @DisplayName("Não deve limitar nada quando desabilitado")
+    void shouldAdmitEverythingWhenDisabled() {
+        // Given
+        ReflectionTestUtils.setField(admissionController, "enabled", false);
+
+        // When
+        AdmissionController.Permit first = admissionController.acquire(Priority.BATCH);
+        AdmissionController.Permit second = admissionController.acquire(Priority.BATCH);
+
+        // Then
+        assertThat(meterRegistry.get("translate.admission.in-flight").gauge().value()).isZero();
+        first.close();
+        second.close();
+    }
+
+    private CompletableFuture<AdmissionController.Permit> acquireAsync(Priority priority) {
+        return CompletableFuture.supplyAsync(() -> admissionController.acquire(priority), executor);
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queued() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(queued()).isEqualTo(expected);
+    }
+
+    private double queued() {
+        return meterRegistry.find("translate.admission.queued").gauges().stream().mapToDouble(gauge -> gauge.value()).sum();
+    }
+
+    private Object sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
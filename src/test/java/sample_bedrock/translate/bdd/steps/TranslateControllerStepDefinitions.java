@@ -3,20 +3,29 @@ package sample_bedrock.translate.bdd.steps;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
@@ -27,7 +36,9 @@ import io.cucumber.java.Before;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
+import sample_bedrock.translate.dto.MultiTargetTranslateRequest;
 import sample_bedrock.translate.dto.TranslateRequest;
+import sample_bedrock.translate.exception.OverloadedException;
 import sample_bedrock.translate.service.TranslationService;
 
 public class TranslateControllerStepDefinitions {
@@ -41,6 +52,7 @@ public class TranslateControllerStepDefinitions {
     private String destinationLocale;
     private List<String> requestTerms;
     private List<String> mockedTranslations;
+    private List<String> destinationLocales;
     private ResultActions response;
 
     @Autowired
@@ -60,6 +72,7 @@ public class TranslateControllerStepDefinitions {
         destinationLocale = null;
         requestTerms = new ArrayList<>();
         mockedTranslations = new ArrayList<>();
+        destinationLocales = new ArrayList<>();
         response = null;
         reset(translationService);
     }
@@ -85,6 +98,19 @@ public class TranslateControllerStepDefinitions {
                 .thenReturn(mockedTranslations);
     }
 
+    @Given("the local cache holds:")
+    public void the_local_cache_holds(DataTable translatedTable) {
+        when(translationService.translateLocally(originLocale, destinationLocale, requestTerms))
+                .thenReturn(new ArrayList<>(translatedTable.asList()));
+    }
+
+    @Given("the translation service is overloaded with retry after {int} seconds")
+    public void the_translation_service_is_overloaded(int retryAfterSeconds) {
+        when(translationService.translateTerms(originLocale, destinationLocale, requestTerms))
+                .thenThrow(new OverloadedException("Serviço sobrecarregado, tente novamente mais tarde",
+                        Duration.ofSeconds(retryAfterSeconds)));
+    }
+
     @When("the client calls POST {string}")
     public void the_client_calls_post_translate(String path) throws Exception {
         TranslateRequest requestBody = new TranslateRequest(originLocale, destinationLocale, requestTerms);
@@ -93,6 +119,29 @@ public class TranslateControllerStepDefinitions {
                 .content(objectMapper.writeValueAsString(requestBody)));
     }
 
+    @When("the client calls GET {string} with the request terms")
+    public void the_client_calls_get_with_the_request_terms(String path) throws Exception {
+        response = mockMvc.perform(getTranslation(path));
+    }
+
+    @When("the client calls GET {string}")
+    public void the_client_calls_get(String path) throws Exception {
+        response = mockMvc.perform(get(path));
+    }
+
+    @When("the client repeats the GET with the returned ETag")
+    public void the_client_repeats_the_get_with_the_returned_etag() throws Exception {
+        String etag = response.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        response = mockMvc.perform(getTranslation("/api/v1/translate").header(HttpHeaders.IF_NONE_MATCH, etag));
+    }
+
+    private MockHttpServletRequestBuilder getTranslation(String path) {
+        return get(path)
+                .param("origin_locale", originLocale)
+                .param("destination_locale", destinationLocale)
+                .param("term", requestTerms.toArray(String[]::new));
+    }
+
     @Then("the response status is {int}")
     public void the_response_status_is(int statusCode) throws Exception {
         response.andExpect(status().is(statusCode));
@@ -107,6 +156,11 @@ public class TranslateControllerStepDefinitions {
         }
     }
 
+    @Then("the response header {string} is {string}")
+    public void the_response_header_is(String name, String value) throws Exception {
+        response.andExpect(header().string(name, value));
+    }
+
     @Then("the response JSON has array size {int} for terms")
     public void the_response_json_has_array_size_for_terms(int expectedSize) throws Exception {
         response.andExpect(jsonPath("$.terms_translated", hasSize(expectedSize)));
@@ -117,6 +171,11 @@ public class TranslateControllerStepDefinitions {
         verify(translationService).translateTerms(originLocale, destinationLocale, requestTerms);
     }
 
+    @Then("the translation service is invoked {int} time(s)")
+    public void the_translation_service_is_invoked_times(int times) {
+        verify(translationService, times(times)).translateTerms(originLocale, destinationLocale, requestTerms);
+    }
+
     @Then("no translation service call is performed")
     public void no_translation_service_call_is_performed() {
         verifyNoInteractions(translationService);
@@ -126,4 +185,40 @@ public class TranslateControllerStepDefinitions {
     public void the_response_json_message_contains(String expectedMessageFragment) throws Exception {
         response.andExpect(jsonPath("$.message", containsString(expectedMessageFragment)));
     }
+
+    @Given("a multi-target translation request from {string} to {string} with terms:")
+    public void a_multi_target_translation_request_with_terms(String origin, String destinations, DataTable termsTable) {
+        this.originLocale = origin;
+        this.destinationLocales = Arrays.asList(destinations.split(","));
+        this.requestTerms = new ArrayList<>(termsTable.asList());
+    }
+
+    @Given("the combined translation returns:")
+    public void the_combined_translation_returns(DataTable translatedTable) {
+        Map<String, List<String>> translations = new LinkedHashMap<>();
+        for (List<String> row : translatedTable.asLists()) {
+            translations.put(row.get(0), new ArrayList<>(row.subList(1, row.size())));
+        }
+        when(translationService.translateTermsToLocales(originLocale, destinationLocales, requestTerms))
+                .thenReturn(translations);
+    }
+
+    @When("the client calls POST {string} with the multi-target payload")
+    public void the_client_calls_post_with_the_multi_target_payload(String path) throws Exception {
+        MultiTargetTranslateRequest requestBody = new MultiTargetTranslateRequest(originLocale, destinationLocales, requestTerms);
+        response = mockMvc.perform(post(path)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestBody)));
+    }
+
+    @Then("the response JSON for locale {string} contains translated terms:")
+    public void the_response_json_for_locale_contains_translated_terms(String locale, DataTable expectedTable) throws Exception {
+        List<String> expectedTerms = expectedTable.asList();
+        String base = "$.translations['" + locale + "']";
+        response.andExpect(jsonPath(base + ".status").value("success"));
+        response.andExpect(jsonPath(base + ".terms_translated", hasSize(expectedTerms.size())));
+        for (int index = 0; index < expectedTerms.size(); index++) {
+            response.andExpect(jsonPath(base + ".terms_translated[" + index + "]").value(expectedTerms.get(index)));
+        }
+    }
 }
@@ -0,0 +1,85 @@
+package sample_bedrock.translate.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import sample_bedrock.translate.ratelimit.ClientRateLimiter;
+
+/**
+ * Per-request cost of {@link ClientRateLimiter#tryAcquire}: one bucket lookup plus two CAS updates.
+ * Limits are set high enough that every call is admitted, which is the path every request pays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientRateLimiterBenchmark {
+
+    @Param({"1", "10000"})
+    private int clients;
+
+    private ClientRateLimiter limiter;
+    private String[] clientIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        limiter = new ClientRateLimiter();
+        ReflectionTestUtils.setField(limiter, "enabled", true);
+        ReflectionTestUtils.setField(limiter, "requestsPerSecond", 1e9);
+        ReflectionTestUtils.setField(limiter, "requestBurst", 1_000_000_000L);
+        ReflectionTestUtils.setField(limiter, "tokensPerSecond", 1e9);
+        ReflectionTestUtils.setField(limiter, "tokenBurst", 1_000_000_000L);
+        ReflectionTestUtils.setField(limiter, "stripeCount", 64);
+        ReflectionTestUtils.setField(limiter, "evictionInterval", Duration.ZERO);
+        ReflectionTestUtils.invokeMethod(limiter, "init");
+
+        clientIds = new String[clients];
+        for (int index = 0; index < clients; index++) {
+            clientIds[index] = "ip:10." + (index >> 16 & 0xff) + "." + (index >> 8 & 0xff) + "." + (index & 0xff);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ReflectionTestUtils.invokeMethod(limiter, "shutdown");
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        String nextClient(String[] clientIds) {
+            next = next + 1 == clientIds.length ? 0 : next + 1;
+            return clientIds[next];
+        }
+    }
+
+    @Benchmark
+    public long tryAcquire(Cursor cursor) {
+        return limiter.tryAcquire(cursor.nextClient(clientIds), 250);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long tryAcquireContended(Cursor cursor) {
+        return limiter.tryAcquire(cursor.nextClient(clientIds), 250);
+    }
+}
@@ -0,0 +1,115 @@
+package sample_bedrock.translate.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import sample_bedrock.translate.TranslateApplication;
+import sample_bedrock.translate.dto.TranslateResponse;
+import sample_bedrock.translate.grpc.GrpcServerLifecycle;
+import sample_bedrock.translate.grpc.v1.TranslateGrpc;
+import sample_bedrock.translate.grpc.v1.TranslateRequest;
+
+/**
+ * End-to-end latency of the same translation over REST/JSON and gRPC/protobuf, against the echo
+ * backend so only serialization and transport differ. SampleTime mode reports p50/p99 per payload size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms512m", "-Xmx512m"})
+public class RestVsGrpcBenchmark {
+
+    @Param({"1", "25", "100"})
+    private int termCount;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest restRequest;
+    private ObjectMapper objectMapper;
+    private ManagedChannel channel;
+    private TranslateGrpc.TranslateBlockingStub grpcStub;
+    private TranslateRequest grpcRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // Argumentos de linha de comando: têm precedência sobre o application.properties
+        context = new SpringApplicationBuilder(TranslateApplication.class).run(
+                "--server.port=0",
+                "--translate.grpc.port=0",
+                "--aws.bedrock.backend=echo",
+                "--translate.warmup.enabled=false",
+                "--translate.ratelimit.enabled=false",
+                "--spring.devtools.restart.enabled=false",
+                "--logging.level.sample_bedrock.translate=WARN");
+
+        int httpPort = ((WebServerApplicationContext) context).getWebServer().getPort();
+        int grpcPort = context.getBean(GrpcServerLifecycle.class).getPort();
+
+        List<String> terms = new ArrayList<>(termCount);
+        for (int index = 0; index < termCount; index++) {
+            terms.add("Configurações da conta " + index);
+        }
+
+        objectMapper = new ObjectMapper();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        restRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + httpPort + "/api/v1/translate"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(
+                        new sample_bedrock.translate.dto.TranslateRequest("pt-BR", "en-US", terms))))
+                .build();
+
+        channel = NettyChannelBuilder.forAddress("localhost", grpcPort).usePlaintext().build();
+        grpcStub = TranslateGrpc.newBlockingStub(channel);
+        grpcRequest = TranslateRequest.newBuilder()
+                .setOriginLocale("pt-BR")
+                .setDestinationLocale("en-US")
+                .addAllTerms(terms)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public TranslateResponse restJson() throws Exception {
+        HttpResponse<byte[]> response = httpClient.send(restRequest, HttpResponse.BodyHandlers.ofByteArray());
+        return objectMapper.readValue(response.body(), TranslateResponse.class);
+    }
+
+    @Benchmark
+    public sample_bedrock.translate.grpc.v1.TranslateResponse grpcProtobuf() {
+        return grpcStub.translateTerms(grpcRequest);
+    }
+}
@@ -0,0 +1,121 @@
+package sample_bedrock.translate.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import sample_bedrock.translate.TranslateApplication;
+import sample_bedrock.translate.capture.CaptureFile;
+import sample_bedrock.translate.capture.CapturedRequest;
+import sample_bedrock.translate.dto.TranslateRequest;
+
+/**
+ * Replays a traffic capture against the service running with the {@code replay} backend, which
+ * answers each Converse call with the recorded response after the recorded latency. Requests are
+ * sent at their original offsets divided by the speed factor, and latency is measured from the
+ * scheduled send time, so a slow service is not hidden by requests being sent late.
+ *
+ * <pre>mvn -Preplay test-compile exec:exec -Dreplay.args="data/capture.tcap 2"</pre>
+ */
+public final class TrafficReplay {
+
+    private TrafficReplay() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Uso: TrafficReplay <captura.tcap> [velocidade]");
+            System.exit(2);
+        }
+        Path capture = Path.of(args[0]);
+        double speed = args.length > 1 ? Double.parseDouble(args[1]) : 1.0;
+        List<CapturedRequest> requests = CaptureFile.read(capture).requests();
+        // O restart do devtools relançaria este main com os argumentos do Spring
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TranslateApplication.class).run(
+                "--server.port=0",
+                "--translate.grpc.port=0",
+                "--aws.bedrock.backend=replay",
+                "--translate.replay.file=" + capture.toAbsolutePath(),
+                "--translate.capture.enabled=false",
+                "--translate.warmup.enabled=false",
+                "--translate.ratelimit.enabled=false",
+                "--logging.level.sample_bedrock.translate=WARN")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Report report = replay(URI.create("http://localhost:" + port + "/api/v1/translate"), requests, speed);
+            System.out.println(report.format());
+        }
+    }
+
+    /**
+     * Sends every request at {@code offset / speed} after the start and waits for all responses.
+     */
+    static Report replay(URI endpoint, List<CapturedRequest> requests, double speed) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Recorder latencies = new Recorder(3);
+        Map<Integer, AtomicLong> statuses = new ConcurrentHashMap<>();
+        long start = System.nanoTime();
+        try (HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (CapturedRequest captured : requests) {
+                long scheduled = start + (long) (TimeUnit.MICROSECONDS.toNanos(captured.offsetMicros()) / speed);
+                byte[] body = objectMapper.writeValueAsBytes(new TranslateRequest(
+                        captured.originLocale(), captured.destinationLocale(), captured.terms()));
+                executor.submit(() -> {
+                    long wait = scheduled - System.nanoTime();
+                    if (wait > 0) {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+                    int status;
+                    try {
+                        status = httpClient.send(HttpRequest.newBuilder(endpoint)
+                                        .header("Content-Type", "application/json")
+                                        .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                                        .build(), HttpResponse.BodyHandlers.discarding())
+                                .statusCode();
+                    } catch (IOException e) {
+                        status = -1;
+                    }
+                    latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled));
+                    statuses.computeIfAbsent(status, key -> new AtomicLong()).incrementAndGet();
+                    return null;
+                });
+            }
+        }
+        return new Report(latencies.getIntervalHistogram(), statuses, System.nanoTime() - start, speed);
+    }
+
+    record Report(Histogram latencies, Map<Integer, AtomicLong> statuses, long elapsedNanos, double speed) {
+
+        String format() {
+            double seconds = elapsedNanos / 1e9;
+            return String.format(Locale.ROOT,
+                    "requisições=%d velocidade=%.1fx duração=%.1fs taxa=%.1f/s status=%s%n"
+                            + "latência (ms): p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f max=%.1f",
+                    latencies.getTotalCount(), speed, seconds, latencies.getTotalCount() / seconds, statuses,
+                    latencies.getValueAtPercentile(50) / 1000.0, latencies.getValueAtPercentile(90) / 1000.0,
+                    latencies.getValueAtPercentile(99) / 1000.0, latencies.getValueAtPercentile(99.9) / 1000.0,
+                    latencies.getMaxValue() / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package sample_bedrock.translate.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import sample_bedrock.translate.TranslateApplication;
+
+/**
+ * Three replicas on one machine, sharing the cache through a static peer list.
+ */
+@DisplayName("Cache distribuído entre réplicas")
+class PeerCacheClusterTest {
+
+    private static final int REPLICAS = 3;
+
+    private static final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+    private static final List<Integer> ports = new ArrayList<>();
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void startReplicas() throws IOException {
+        for (int index = 0; index < REPLICAS; index++) {
+            ports.add(freePort());
+        }
+        String peers = String.join(",", ports.stream().map(port -> "http://127.0.0.1:" + port).toList());
+        for (int port : ports) {
+            contexts.add(new SpringApplicationBuilder(TranslateApplication.class).run(
+                    "--server.port=" + port,
+                    "--translate.grpc.enabled=false",
+                    "--aws.bedrock.backend=echo",
+                    "--translate.warmup.enabled=false",
+                    "--translate.cache.peers=" + peers,
+                    "--translate.cache.peer-token=segredo-do-cluster",
+                    "--spring.devtools.restart.enabled=false",
+                    "--logging.level.sample_bedrock.translate=WARN"));
+        }
+    }
+
+    @AfterAll
+    static void stopReplicas() {
+        contexts.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    @DisplayName("Deve traduzir cada termo uma única vez no cluster, qualquer que seja a réplica chamada")
+    void shouldTranslateEachTermOncePerCluster() throws Exception {
+        // Given
+        List<String> terms = IntStream.range(0, 30).mapToObj(index -> "termo distribuído " + index).toList();
+
+        // When
+        List<List<String>> responses = new ArrayList<>();
+        for (int port : ports) {
+            responses.add(translate(port, terms));
+        }
+
+        // Then
+        assertThat(responses).allSatisfy(translated -> assertThat(translated).isEqualTo(responses.get(0)));
+        assertThat(sumCounter("miss")).isEqualTo(terms.size());
+        assertThat(sumCounter("remote")).isPositive();
+        assertThat(contexts).allSatisfy(context ->
+            assertThat(context.getBean(PeerDirectory.class).ring().peers()).hasSize(REPLICAS));
+    }
+
+    private List<String> translate(int port, List<String> terms) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of(
+            "origin_locale", "pt-BR", "destination_locale", "en-US", "terms", terms));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/api/v1/translate"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        JsonNode translated = objectMapper.readTree(response.body()).get("terms_translated");
+        List<String> values = new ArrayList<>();
+        translated.forEach(node -> values.add(node.asText()));
+        return values;
+    }
+
+    private double sumCounter(String result) {
+        return contexts.stream()
+            .map(context -> context.getBean(MeterRegistry.class).find("translate.cache.lookups").tag("result", result).counter())
+            .filter(counter -> counter != null)
+            .mapToDouble(Counter::count)
+            .sum();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
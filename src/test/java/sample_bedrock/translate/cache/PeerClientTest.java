@@ -0,0 +1,88 @@
+package sample_bedrock.translate.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+
+import sample_bedrock.translate.deadline.Deadline;
+import sample_bedrock.translate.deadline.DeadlineInterceptor;
+import sample_bedrock.translate.dto.PeerTranslateRequest;
+
+@DisplayName("PeerClient Tests")
+class PeerClientTest {
+
+    private final AtomicReference<String> receivedTimeout = new AtomicReference<>();
+    private HttpServer server;
+    private PeerClient peerClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(PeerClient.PATH, exchange -> {
+            receivedTimeout.set(exchange.getRequestHeaders().getFirst(DeadlineInterceptor.HEADER));
+            byte[] body = "{\"terms_translated\":[\"house\"]}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        peerClient = new PeerClient();
+        ReflectionTestUtils.setField(peerClient, "timeout", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(peerClient, "peerToken", "");
+        ReflectionTestUtils.setField(peerClient, "objectMapper", new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Deve repassar ao dono da chave o prazo restante da requisição")
+    void shouldForwardRemainingDeadline() throws Exception {
+        // When
+        List<String> translated;
+        try (Deadline.Scope scope = Deadline.attach(Deadline.after(Duration.ofSeconds(5)))) {
+            translated = peerClient.translate(peer(), request());
+        }
+
+        // Then
+        assertThat(translated).containsExactly("house");
+        assertThat(receivedTimeout.get()).endsWith("ms");
+        long forwarded = Long.parseLong(receivedTimeout.get().replace("ms", ""));
+        assertThat(forwarded).isBetween(1L, 5000L);
+    }
+
+    @Test
+    @DisplayName("Não deve enviar prazo quando a requisição não tem limite")
+    void shouldNotSendTimeoutWithoutDeadline() throws Exception {
+        // When
+        try (Deadline.Scope scope = Deadline.attach(Deadline.unbounded())) {
+            peerClient.translate(peer(), request());
+        }
+
+        // Then
+        assertThat(receivedTimeout.get()).isNull();
+    }
+
+    private String peer() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private PeerTranslateRequest request() {
+        return new PeerTranslateRequest("model", "pt-BR", "en-US", List.of("casa"));
+    }
+}
@@ -0,0 +1,77 @@
+package sample_bedrock.translate.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PeerRing Tests")
+class PeerRingTest {
+
+    private static final List<String> PEERS = List.of("http://10.0.0.1:8080", "http://10.0.0.2:8080", "http://10.0.0.3:8080");
+
+    @Test
+    @DisplayName("Deve atribuir o mesmo dono em todas as réplicas, qualquer que seja a ordem dos pares")
+    void shouldAgreeOnOwnerAcrossReplicas() {
+        // Given
+        PeerRing first = new PeerRing("http://10.0.0.1:8080", PEERS, 64);
+        PeerRing second = new PeerRing("http://10.0.0.3:8080/", List.of(PEERS.get(2), PEERS.get(0), PEERS.get(1)), 64);
+
+        // When / Then
+        for (int index = 0; index < 1000; index++) {
+            String key = "model\u0000pt-br\u0000en-us\u0000termo " + index;
+            assertThat(first.ownerOf(key)).isEqualTo(second.ownerOf(key));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve distribuir as chaves de forma equilibrada entre os pares")
+    void shouldSpreadKeysEvenly() {
+        // Given
+        PeerRing ring = new PeerRing(PEERS.get(0), PEERS, 64);
+        Map<String, Integer> owners = new HashMap<>();
+
+        // When
+        for (int index = 0; index < 30000; index++) {
+            owners.merge(ring.ownerOf("termo " + index), 1, Integer::sum);
+        }
+
+        // Then
+        assertThat(owners).hasSize(3);
+        assertThat(owners.values()).allSatisfy(count -> assertThat(count).isBetween(7000, 13000));
+    }
+
+    @Test
+    @DisplayName("Deve mover apenas as chaves do par removido")
+    void shouldOnlyMoveKeysOfRemovedPeer() {
+        // Given
+        PeerRing before = new PeerRing(PEERS.get(0), PEERS, 64);
+        PeerRing after = new PeerRing(PEERS.get(0), PEERS.subList(0, 2), 64);
+
+        // When / Then
+        for (int index = 0; index < 5000; index++) {
+            String key = "termo " + index;
+            if (!before.ownerOf(key).equals(PEERS.get(2))) {
+                assertThat(after.ownerOf(key)).isEqualTo(before.ownerOf(key));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve incluir a própria réplica e ser local quando não há pares")
+    void shouldIncludeSelf() {
+        // Given
+        PeerRing local = PeerRing.localOnly("http://127.0.0.1:8080");
+        PeerRing ring = new PeerRing("http://10.0.0.9:8080", PEERS, 16);
+
+        // Then
+        assertThat(local.isLocalOnly()).isTrue();
+        assertThat(local.isSelf(local.ownerOf("qualquer"))).isTrue();
+        assertThat(ring.peers()).hasSize(4).contains("http://10.0.0.9:8080");
+        assertThat(ring.remotePeers()).containsExactlyElementsOf(PEERS);
+    }
+}
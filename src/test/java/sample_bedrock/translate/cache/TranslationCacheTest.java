@@ -0,0 +1,393 @@
+package sample_bedrock.translate.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import sample_bedrock.translate.dto.PeerTranslateRequest;
+import sample_bedrock.translate.warmup.WarmupContext;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TranslationCache Tests")
+class TranslationCacheTest {
+
+    private static final String SELF = "http://10.0.0.1:8080";
+    private static final String OTHER = "http://10.0.0.2:8080";
+
+    @Mock
+    private PeerDirectory peerDirectory;
+
+    @Mock
+    private PeerClient peerClient;
+
+    @InjectMocks
+    private TranslationCache translationCache;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(translationCache, "enabled", true);
+        ReflectionTestUtils.setField(translationCache, "maxEntries", 1000L);
+        ReflectionTestUtils.setField(translationCache, "ttl", Duration.ofHours(1));
+        ReflectionTestUtils.setField(translationCache, "hotMaxEntries", 100L);
+        ReflectionTestUtils.setField(translationCache, "hotTtl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(translationCache, "staleMaxEntries", 1000L);
+        ReflectionTestUtils.setField(translationCache, "staleTtl", Duration.ofDays(1));
+        ReflectionTestUtils.setField(translationCache, "refreshAfter", Duration.ofHours(1));
+        ReflectionTestUtils.setField(translationCache, "promptVersion", "1");
+        ReflectionTestUtils.setField(translationCache, "fastModelId", "model-fast");
+        ReflectionTestUtils.setField(translationCache, "refreshEnabled", true);
+        // Revalidação só quando o teste chama refreshNow()
+        ReflectionTestUtils.setField(translationCache, "refreshInterval", Duration.ofHours(1));
+        ReflectionTestUtils.setField(translationCache, "refreshBatchSize", 10);
+        ReflectionTestUtils.setField(translationCache, "refreshQueueCapacity", 100);
+        ReflectionTestUtils.setField(translationCache, "modelId", "model-a");
+        ReflectionTestUtils.setField(translationCache, "meterRegistry", meterRegistry);
+        translationCache.init();
+        lenient().when(peerDirectory.ring()).thenReturn(PeerRing.localOnly(SELF));
+    }
+
+    @AfterEach
+    void tearDown() {
+        translationCache.shutdown();
+        WarmupContext.clear();
+    }
+
+    private Function<List<String>, List<String>> upperCaseLoader() {
+        return terms -> {
+            loads.incrementAndGet();
+            return terms.stream().map(String::toUpperCase).toList();
+        };
+    }
+
+    @Test
+    @DisplayName("Deve manter para uso com o modelo indisponível traduções já expiradas do cache")
+    void shouldKeepExpiredTranslationsAsStale() {
+        // Given
+        ReflectionTestUtils.setField(translationCache, "ttl", Duration.ofNanos(1));
+        translationCache.init();
+        translationCache.translate("pt-BR", "en-US", List.of("casa"), true, upperCaseLoader());
+        translationCache.translate("pt-BR", "en-US", List.of("casa"), true, upperCaseLoader());
+
+        // When
+        List<String> stale = translationCache.staleTranslations("pt-BR", "en-US", List.of("casa", "carro"));
+
+        // Then
+        assertThat(loads).hasValue(2);
+        assertThat(stale).containsExactly("CASA", null);
+    }
+
+    @Test
+    @DisplayName("Deve armazenar traduções feitas fora do carregador e ignorar listas de tamanhos diferentes")
+    void shouldStoreTranslationsFromOutsideLoader() {
+        // Given
+        translationCache.storeAll("pt-BR", "en-US", List.of("casa"), List.of("house"));
+        translationCache.storeAll("pt-BR", "en-US", List.of("carro", "porta"), List.of("car"));
+
+        // When
+        List<String> cached = translationCache.cachedTranslations("pt-BR", "en-US", List.of("casa", "carro"));
+
+        // Then
+        assertThat(cached).containsExactly("house", null);
+    }
+
+    @Test
+    @DisplayName("Deve servir na hora a entrada de outra versão do prompt e revalidá-la em segundo plano")
+    void shouldServeOldVersionWhileRevalidating() {
+        // Given
+        translationCache.translate("pt-BR", "en-US", List.of("casa"), true, upperCaseLoader());
+        translationCache.changePromptVersion("2");
+        List<List<String>> refreshed = new ArrayList<>();
+        translationCache.registerRefreshLoader((origin, destination, terms) -> {
+            refreshed.add(terms);
+            return terms.stream().map(term -> "v2 " + term).toList();
+        });
+
+        // When
+        List<String> served = translationCache.translate("pt-BR", "en-US", List.of("casa"), true, upperCaseLoader());
+        translationCache.refreshNow();
+        List<String> revalidated = translationCache.translate("pt-BR", "en-US", List.of("casa"), true, upperCaseLoader());
+
+        // Then
+        assertThat(served).containsExactly("CASA");
+        assertThat(revalidated).containsExactly("v2 casa");
+        assertThat(refreshed).containsExactly(List.of("casa"));
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.counter("translate.cache.refresh", "result", "refreshed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve revalidar entradas expiradas em lotes limitados, sem repetir chaves na fila")
+    void shouldRefreshInBoundedBatches() {
+        // Given
+        ReflectionTestUtils.setField(translationCache, "refreshAfter", Duration.ZERO);
+        ReflectionTestUtils.setField(translationCache, "refreshBatchSize", 2);
+        translationCache.init();
+        List<List<String>> refreshed = new ArrayList<>();
+        translationCache.registerRefreshLoader((origin, destination, terms) -> {
+            refreshed.add(terms);
+            return terms;
+        });
+        List<String> terms = List.of("casa", "carro", "mesa");
+        translationCache.translate("pt-BR", "en-US", terms, true, upperCaseLoader());
+
+        // When
+        translationCache.translate("pt-BR", "en-US", terms, true, upperCaseLoader());
+        translationCache.translate("pt-BR", "en-US", terms, true, upperCaseLoader());
+        translationCache.refreshNow();
+
+        // Then
+        assertThat(meterRegistry.counter("translate.cache.refresh", "result", "queued").count()).isEqualTo(3);
+        assertThat(refreshed).containsExactly(List.of("casa", "carro"));
+        assertThat(meterRegistry.get("translate.cache.refresh.pending").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve servir do cache a segunda tradução do mesmo termo")
+    void shouldServeRepeatedTermsFromCache() {
+        // Given
+        translationCache.translate("pt-BR", "en-US", List.of("casa", "carro"), true, upperCaseLoader());
+
+        // When
+        List<String> result = translationCache.translate("pt-BR", "en-US", List.of("carro", "casa"), true, upperCaseLoader());
+
+        // Then
+        assertThat(result).containsExactly("CARRO", "CASA");
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.counter("translate.cache.lookups", "result", "hit").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve enviar ao modelo apenas os termos ausentes do cache, uma vez cada")
+    void shouldLoadOnlyMissingDistinctTerms() {
+        // Given
+        translationCache.translate("pt-BR", "en-US", List.of("casa"), true, upperCaseLoader());
+        List<List<String>> requested = new ArrayList<>();
+
+        // When
+        List<String> result = translationCache.translate("pt-BR", "en-US", List.of("casa", "mesa", "mesa"), true, terms -> {
+            requested.add(terms);
+            return terms.stream().map(String::toUpperCase).toList();
+        });
+
+        // Then
+        assertThat(result).containsExactly("CASA", "MESA", "MESA");
+        assertThat(requested).containsExactly(List.of("mesa"));
+    }
+
+    @Test
+    @DisplayName("Deve unificar misses simultâneos da mesma chave em uma única chamada")
+    void shouldCoalesceConcurrentMisses() throws Exception {
+        // Given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<List<String>, List<String>> slowLoader = terms -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return terms.stream().map(String::toUpperCase).toList();
+        };
+
+        // When
+        CompletableFuture<List<String>> leader = CompletableFuture.supplyAsync(
+            () -> translationCache.translate("pt-BR", "en-US", List.of("casa"), false, slowLoader));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<List<String>> follower = CompletableFuture.supplyAsync(
+            () -> translationCache.translate("pt-BR", "en-US", List.of("casa"), false, slowLoader));
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).containsExactly("CASA");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).containsExactly("CASA");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Deve buscar no par dono e guardar o valor no cache quente")
+    void shouldFetchFromOwningPeer() throws Exception {
+        // Given
+        PeerRing ring = new PeerRing(SELF, List.of(SELF, OTHER), 64);
+        when(peerDirectory.ring()).thenReturn(ring);
+        String term = termOwnedBy(ring, OTHER);
+        when(peerClient.translate(eq(OTHER), any(PeerTranslateRequest.class))).thenReturn(List.of("remoto"));
+
+        // When
+        List<String> first = translationCache.translate("pt-BR", "en-US", List.of(term), true, upperCaseLoader());
+        List<String> second = translationCache.translate("pt-BR", "en-US", List.of(term), true, upperCaseLoader());
+
+        // Then
+        assertThat(first).containsExactly("remoto");
+        assertThat(second).containsExactly("remoto");
+        assertThat(loads).hasValue(0);
+        verify(peerClient).translate(OTHER, new PeerTranslateRequest("model-a", "pt-BR", "en-US", List.of(term)));
+    }
+
+    @Test
+    @DisplayName("Deve traduzir localmente quando o par dono não responde")
+    void shouldFallBackWhenPeerFails() throws Exception {
+        // Given
+        PeerRing ring = new PeerRing(SELF, List.of(SELF, OTHER), 64);
+        when(peerDirectory.ring()).thenReturn(ring);
+        String term = termOwnedBy(ring, OTHER);
+        when(peerClient.translate(eq(OTHER), any(PeerTranslateRequest.class))).thenThrow(new IOException("Connection refused"));
+
+        // When
+        List<String> result = translationCache.translate("pt-BR", "en-US", List.of(term), true, upperCaseLoader());
+
+        // Then
+        assertThat(result).containsExactly(term.toUpperCase());
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Não deve consultar pares em requisições vindas de outro par")
+    void shouldNotForwardOwnedRequests() throws Exception {
+        // Given
+        PeerRing ring = new PeerRing(SELF, List.of(SELF, OTHER), 64);
+        lenient().when(peerDirectory.ring()).thenReturn(ring);
+        String term = termOwnedBy(ring, OTHER);
+
+        // When
+        List<String> result = translationCache.translate("pt-BR", "en-US", List.of(term), false, upperCaseLoader());
+
+        // Then
+        assertThat(result).containsExactly(term.toUpperCase());
+        verify(peerClient, never()).translate(any(), any());
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar respostas com quantidade de traduções diferente")
+    void shouldNotCacheMisalignedOutput() {
+        // Given
+        Function<List<String>, List<String>> shortLoader = terms -> {
+            loads.incrementAndGet();
+            return List.of("house");
+        };
+
+        // When
+        List<String> result = translationCache.translate("pt-BR", "en-US", List.of("casa", "carro"), true, shortLoader);
+        translationCache.translate("pt-BR", "en-US", List.of("casa", "carro"), true, shortLoader);
+
+        // Then
+        assertThat(result).containsExactly("house");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Não deve usar o cache durante o aquecimento")
+    void shouldBypassCacheDuringWarmup() {
+        // Given
+        WarmupContext.activate();
+
+        // When
+        translationCache.translate("pt-BR", "en-US", List.of("casa"), true, upperCaseLoader());
+        WarmupContext.clear();
+        translationCache.translate("pt-BR", "en-US", List.of("casa"), true, upperCaseLoader());
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve propagar a falha do modelo sem deixar a chave presa")
+    void shouldReleaseKeyAfterFailure() {
+        // Given
+        Function<List<String>, List<String>> failingLoader = terms -> {
+            throw new IllegalStateException("throttled");
+        };
+
+        // When / Then
+        assertThatThrownBy(() -> translationCache.translate("pt-BR", "en-US", List.of("casa"), true, failingLoader))
+            .hasMessage("throttled");
+        assertThat(translationCache.translate("pt-BR", "en-US", List.of("casa"), true, upperCaseLoader()))
+            .containsExactly("CASA");
+    }
+
+    @Test
+    @DisplayName("Deve pré-traduzir só as chaves desta réplica ainda fora do cache, sem contar consultas")
+    void shouldPrefetchOnlyMissingOwnedKeys() {
+        // Given
+        PeerRing ring = new PeerRing(SELF, List.of(SELF, OTHER), 64);
+        when(peerDirectory.ring()).thenReturn(ring);
+        String cached = termOwnedBy(ring, SELF);
+        String remote = termOwnedBy(ring, OTHER);
+        translationCache.translate("pt-BR", "en-US", List.of(cached), true, upperCaseLoader());
+        String missing = cached + " novo";
+        while (!ring.ownerOf(translationCache.key("pt-BR", "en-US", missing)).equals(SELF)) {
+            missing += "!";
+        }
+        List<List<String>> requested = new ArrayList<>();
+
+        // When
+        int translated = translationCache.prefetch("pt-BR", "en-US", List.of(cached, remote, missing), 10, terms -> {
+            requested.add(terms);
+            return terms.stream().map(String::toUpperCase).toList();
+        });
+
+        // Then
+        assertThat(translated).isEqualTo(1);
+        assertThat(requested).containsExactly(List.of(missing));
+        assertThat(meterRegistry.find("translate.cache.lookups").tag("result", "miss").counter().count()).isEqualTo(1);
+        assertThat(translationCache.translate("pt-BR", "en-US", List.of(missing), true, upperCaseLoader()))
+            .containsExactly(missing.toUpperCase());
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Deve devolver só o que já está no cache, sem carregar nem consultar pares")
+    void shouldReturnOnlyCachedTranslations() throws Exception {
+        // Given
+        translationCache.translate("pt-BR", "en-US", List.of("casa"), true, upperCaseLoader());
+
+        // When
+        List<String> cached = translationCache.cachedTranslations("pt-BR", "en-US", List.of("casa", "carro"));
+
+        // Then
+        assertThat(cached).containsExactly("CASA", null);
+        assertThat(loads).hasValue(1);
+        verify(peerClient, never()).translate(any(), any());
+        assertThat(meterRegistry.find("translate.cache.lookups").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    private String termOwnedBy(PeerRing ring, String peer) {
+        for (int index = 0; ; index++) {
+            String term = "termo " + index;
+            if (ring.ownerOf(translationCache.key("pt-BR", "en-US", term)).equals(peer)) {
+                return term;
+            }
+        }
+    }
+}
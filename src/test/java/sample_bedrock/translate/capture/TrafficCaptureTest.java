@@ -0,0 +1,174 @@
+package sample_bedrock.translate.capture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import sample_bedrock.translate.service.backend.ReplayBedrockHttpClient;
+import sample_bedrock.translate.service.terms.PlaceholderMasker;
+import sample_bedrock.translate.service.terms.TermSanitizer;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeClient;
+import software.amazon.awssdk.services.bedrockruntime.model.ContentBlock;
+import software.amazon.awssdk.services.bedrockruntime.model.ConversationRole;
+import software.amazon.awssdk.services.bedrockruntime.model.ConverseRequest;
+import software.amazon.awssdk.services.bedrockruntime.model.ConverseResponse;
+import software.amazon.awssdk.services.bedrockruntime.model.ConverseOutput;
+import software.amazon.awssdk.services.bedrockruntime.model.Message;
+import software.amazon.awssdk.services.bedrockruntime.model.TokenUsage;
+
+@DisplayName("TrafficCapture Tests")
+class TrafficCaptureTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("TermSanitizer")
+    class SanitizerTests {
+
+        private final TermSanitizer sanitizer = new TermSanitizer();
+
+        @Test
+        @DisplayName("Deve trocar palavras e números mantendo tamanho, caixa, pontuação e placeholders")
+        void shouldKeepShapeAndPlaceholders() {
+            // Given
+            String term = "Olá {name}, seu pedido #4821 chegou! <b>Ver</b> %1$s";
+
+            // When
+            String sanitized = sanitizer.sanitize(term);
+
+            // Then
+            assertThat(sanitized).hasSameSizeAs(term).isNotEqualTo(term)
+                .matches("[A-Z][a-z]{2} \\{name}, [a-z]{3} [a-z]{6} #\\d{4} [a-z]{6}! <b>[A-Z][a-z]{2}</b> %1\\$s");
+            assertThat(sanitized).doesNotContain("pedido", "4821", "chegou");
+        }
+
+        @Test
+        @DisplayName("Deve ser determinístico e comutar com o mascaramento de placeholders")
+        void shouldBeDeterministicAndCommuteWithMasking() {
+            // Given
+            String term = "Bem-vindo, {user}! Você tem %d itens";
+
+            // When
+            String maskedThenSanitized = sanitizer.sanitize(PlaceholderMasker.mask(term).text());
+            String sanitizedThenMasked = PlaceholderMasker.mask(sanitizer.sanitize(term)).text();
+
+            // Then
+            assertThat(sanitizer.sanitize(term)).isEqualTo(sanitizer.sanitize(term));
+            assertThat(sanitizer.sanitize("casa")).isNotEqualTo(sanitizer.sanitize("pato"));
+            assertThat(maskedThenSanitized).isEqualTo(sanitizedThenMasked);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gravar requisições e chamadas sanitizadas e lê-las de volta do arquivo")
+    void shouldWriteSanitizedRecordsAndReadThemBack() throws Exception {
+        // Given
+        Path file = tempDir.resolve("capture.tcap");
+        TrafficCapture capture = new TrafficCapture();
+        ReflectionTestUtils.setField(capture, "enabled", true);
+        ReflectionTestUtils.setField(capture, "file", file.toString());
+        ReflectionTestUtils.setField(capture, "maxRecords", 10L);
+        ReflectionTestUtils.setField(capture, "queueCapacity", 10);
+        ReflectionTestUtils.setField(capture, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.invokeMethod(capture, "init");
+
+        // When
+        capture.request("pt-BR", "en-US", List.of("carrinho de {user}", "pagar"));
+        capture.modelCall(converseRequest("carrinho de {0}\npagar"), converseResponse("cart of {0}\npay"), 250_000_000L);
+        ReflectionTestUtils.invokeMethod(capture, "shutdown");
+        CaptureFile.Capture read = CaptureFile.read(file);
+
+        // Then
+        assertThat(read.requests()).singleElement().satisfies(request -> {
+            assertThat(request.originLocale()).isEqualTo("pt-BR");
+            assertThat(request.terms()).hasSize(2);
+            assertThat(request.terms().get(0)).hasSize(18).endsWith(" {user}").doesNotContain("carrinho");
+        });
+        assertThat(read.modelCalls()).singleElement().satisfies(call -> {
+            assertThat(call.latencyMicros()).isEqualTo(250_000);
+            assertThat(call.terms()).matches("[a-z]{8} [a-z]{2} \\{0}\n[a-z]{5}");
+            assertThat(call.response()).matches("[a-z]{4} [a-z]{2} \\{0}\n[a-z]{3}");
+            assertThat(call.inputTokens()).isEqualTo(40);
+        });
+    }
+
+    @Test
+    @DisplayName("Deve ler o arquivo até o último registro completo quando a captura foi interrompida")
+    void shouldReadTruncatedCapture() throws Exception {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        CaptureFile.Writer writer = new CaptureFile.Writer(output);
+        writer.write(new CapturedRequest(10, "pt-BR", "en-US", List.of("xyz")));
+        writer.flush();
+        int firstRecordEnd = output.size();
+        writer.write(new CapturedRequest(20, "pt-BR", "es-ES", List.of("abc", "def")));
+        writer.flush();
+        byte[] bytes = output.toByteArray();
+
+        // When
+        CaptureFile.Capture read = CaptureFile.read(new ByteArrayInputStream(bytes, 0, firstRecordEnd + 4));
+
+        // Then
+        assertThat(read.requests()).containsExactly(new CapturedRequest(10, "pt-BR", "en-US", List.of("xyz")));
+    }
+
+    @Test
+    @DisplayName("Deve servir a resposta gravada para os mesmos termos e eco para termos desconhecidos")
+    void shouldReplayRecordedResponses() {
+        // Given
+        ReplayBedrockHttpClient replay = new ReplayBedrockHttpClient(List.of(
+            new CapturedModelCall(0, 20_000, "xqzv\nbrtp", "wmnk\nhjsd", 30, 6)));
+        BedrockRuntimeClient client = BedrockRuntimeClient.builder()
+            .region(Region.US_EAST_1)
+            .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("in-process", "in-process")))
+            .httpClient(replay)
+            .build();
+
+        // When
+        long start = System.nanoTime();
+        ConverseResponse recorded = client.converse(converseRequest("xqzv\nbrtp"));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        ConverseResponse unknown = client.converse(converseRequest("lkjh"));
+
+        // Then
+        assertThat(recorded.output().message().content().get(0).text()).isEqualTo("wmnk\nhjsd");
+        assertThat(recorded.usage().inputTokens()).isEqualTo(30);
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(20);
+        assertThat(unknown.output().message().content().get(0).text()).isEqualTo("lkjh");
+        assertThat(replay.hits()).isEqualTo(1);
+        assertThat(replay.misses()).isEqualTo(1);
+    }
+
+    private static ConverseRequest converseRequest(String terms) {
+        return ConverseRequest.builder()
+            .modelId("model")
+            .messages(Message.builder()
+                .role(ConversationRole.USER)
+                .content(ContentBlock.fromText("Traduza os termos abaixo:\n\n" + terms))
+                .build())
+            .build();
+    }
+
+    private static ConverseResponse converseResponse(String text) {
+        return ConverseResponse.builder()
+            .output(ConverseOutput.builder()
+                .message(Message.builder().role(ConversationRole.ASSISTANT).content(ContentBlock.fromText(text)).build())
+                .build())
+            .usage(TokenUsage.builder().inputTokens(40).outputTokens(8).totalTokens(48).build())
+            .build();
+    }
+}
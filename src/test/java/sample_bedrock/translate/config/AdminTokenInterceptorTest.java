@@ -0,0 +1,64 @@
+package sample_bedrock.translate.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("AdminTokenInterceptor Tests")
+class AdminTokenInterceptorTest {
+
+    private AdminTokenInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new AdminTokenInterceptor();
+        ReflectionTestUtils.setField(interceptor, "objectMapper", new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    @DisplayName("Deve fechar a API de administração quando nenhum token está configurado")
+    void shouldFailClosedWithoutToken() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(interceptor, "adminToken", "");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean proceed = interceptor.preHandle(request(null), response, null);
+
+        // Then
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(response.getContentAsString()).contains("translate.admin.token");
+    }
+
+    @Test
+    @DisplayName("Deve recusar token ausente ou diferente e aceitar o configurado")
+    void shouldCheckConfiguredToken() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(interceptor, "adminToken", "segredo");
+        MockHttpServletResponse missing = new MockHttpServletResponse();
+        MockHttpServletResponse wrong = new MockHttpServletResponse();
+
+        // When / Then
+        assertThat(interceptor.preHandle(request(null), missing, null)).isFalse();
+        assertThat(missing.getStatus()).isEqualTo(403);
+        assertThat(interceptor.preHandle(request("outro"), wrong, null)).isFalse();
+        assertThat(wrong.getStatus()).isEqualTo(403);
+        assertThat(interceptor.preHandle(request("segredo"), new MockHttpServletResponse(), null)).isTrue();
+    }
+
+    private MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/admin/v1/cache/prompt-version");
+        if (token != null) {
+            request.addHeader(AdminTokenInterceptor.HEADER, token);
+        }
+        return request;
+    }
+}
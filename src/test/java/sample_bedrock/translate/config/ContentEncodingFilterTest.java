@@ -0,0 +1,181 @@
+package sample_bedrock.translate.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+
+import jakarta.servlet.FilterChain;
+
+@DisplayName("ContentEncodingFilter Tests")
+class ContentEncodingFilterTest {
+
+    private static final String BODY = "{\"terms\":[\"Olá\",\"Coração\"]}";
+
+    private ContentEncodingFilter filter;
+    private String receivedBody;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ContentEncodingFilter();
+        ReflectionTestUtils.setField(filter, "objectMapper", new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(filter, "maxDecodedSize", DataSize.ofKilobytes(1));
+    }
+
+    @Test
+    @DisplayName("Deve descomprimir requisição gzip e comprimir resposta zstd")
+    void shouldDecodeGzipRequestAndEncodeZstdResponse() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/translate");
+        request.addHeader("Content-Encoding", "gzip");
+        request.addHeader("Accept-Encoding", "gzip, zstd");
+        request.setContent(gzip(BODY));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, echoChain());
+
+        // Then
+        assertThat(receivedBody).isEqualTo(BODY);
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("zstd");
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(unzstd(response.getContentAsByteArray())).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("Deve descomprimir requisição zstd e comprimir resposta gzip")
+    void shouldDecodeZstdRequestAndEncodeGzipResponse() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/translate");
+        request.addHeader("Content-Encoding", "zstd");
+        request.addHeader("Accept-Encoding", "gzip;q=1.0, zstd;q=0");
+        request.setContent(zstd(BODY));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, echoChain());
+
+        // Then
+        assertThat(receivedBody).isEqualTo(BODY);
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("Não deve comprimir sem Accept-Encoding")
+    void shouldPassThroughWithoutAcceptEncoding() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/translate");
+        request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, echoChain());
+
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar Content-Encoding desconhecido com 415")
+    void shouldRejectUnknownContentEncoding() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/translate");
+        request.addHeader("Content-Encoding", "br");
+        request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, echoChain());
+
+        assertThat(response.getStatus()).isEqualTo(415);
+        assertThat(receivedBody).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar com 413 o corpo que passa do limite depois de descomprimido")
+    void shouldRejectBodyDecodedPastLimit() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/translate");
+        request.addHeader("Content-Encoding", "gzip");
+        request.setContent(gzip(" ".repeat(100_000)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, echoChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(receivedBody).isNull();
+        assertThat(request.getContentAsByteArray()).hasSizeLessThan(1024);
+    }
+
+    @Test
+    @DisplayName("Deve contar os bytes lidos de corpo chunked sem compressão")
+    void shouldCountChunkedBodyBytes() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/translate") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.addHeader("Transfer-Encoding", "chunked");
+        request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, echoChain());
+
+        // Then
+        assertThat(receivedBody).isEqualTo(BODY);
+        assertThat(request.getAttribute(ContentEncodingFilter.BODY_BYTES)).hasToString(
+                String.valueOf(BODY.getBytes(StandardCharsets.UTF_8).length));
+    }
+
+    private FilterChain echoChain() {
+        return (req, res) -> {
+            receivedBody = new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            res.setContentType("application/json");
+            res.setContentLength(receivedBody.length());
+            res.getOutputStream().write(receivedBody.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private byte[] gzip(String value) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (OutputStream encoder = new GZIPOutputStream(output)) {
+            encoder.write(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return output.toByteArray();
+    }
+
+    private byte[] zstd(String value) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (OutputStream encoder = new ZstdOutputStream(output)) {
+            encoder.write(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return output.toByteArray();
+    }
+
+    private String gunzip(byte[] value) throws IOException {
+        return new String(new GZIPInputStream(new ByteArrayInputStream(value)).readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private String unzstd(byte[] value) throws IOException {
+        return new String(new ZstdInputStream(new ByteArrayInputStream(value)).readAllBytes(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,100 @@
+package sample_bedrock.translate.deadline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import sample_bedrock.translate.exception.DeadlineExceededException;
+
+@DisplayName("DeadlineInterceptor Tests")
+class DeadlineInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private DeadlineInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new DeadlineInterceptor();
+        ReflectionTestUtils.setField(interceptor, "meterRegistry", meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Deadline.attach(null);
+    }
+
+    @Test
+    @DisplayName("Deve vincular o prazo do header à requisição e liberá-lo ao final")
+    void shouldAttachDeadlineFromHeader() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/translate");
+        request.addHeader(DeadlineInterceptor.HEADER, "1500");
+
+        // When
+        interceptor.preHandle(request, response, null);
+
+        // Then
+        Deadline deadline = Deadline.current();
+        assertThat(deadline.isBounded()).isTrue();
+        assertThat(deadline.remaining()).isPositive().isLessThanOrEqualTo(Duration.ofMillis(1500));
+
+        interceptor.afterCompletion(request, response, null, null);
+        assertThat(Deadline.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve aceitar durações com unidade e usar prazo ilimitado sem header")
+    void shouldParseDurationsAndDefaultToUnbounded() {
+        // Given
+        MockHttpServletRequest withUnit = new MockHttpServletRequest("POST", "/api/v1/translate");
+        withUnit.addHeader(DeadlineInterceptor.HEADER, "2s");
+        MockHttpServletRequest withoutHeader = new MockHttpServletRequest("POST", "/api/v1/translate");
+
+        // When / Then
+        interceptor.preHandle(withUnit, response, null);
+        assertThat(Deadline.current().remaining()).isGreaterThan(Duration.ofMillis(1500));
+        interceptor.afterCompletion(withUnit, response, null, null);
+
+        interceptor.preHandle(withoutHeader, response, null);
+        assertThat(Deadline.current().isBounded()).isFalse();
+        interceptor.afterCompletion(withoutHeader, response, null, null);
+    }
+
+    @Test
+    @DisplayName("Deve recusar antes de qualquer trabalho a requisição sem prazo restante")
+    void shouldRejectExhaustedBudget() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/translate");
+        request.addHeader(DeadlineInterceptor.HEADER, "0");
+
+        // When / Then
+        assertThatThrownBy(() -> interceptor.preHandle(request, response, null))
+            .isInstanceOf(DeadlineExceededException.class);
+        assertThat(Deadline.current()).isNull();
+        assertThat(meterRegistry.counter("translate.deadline.rejected", "protocol", "http").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve recusar header com formato inválido")
+    void shouldRejectInvalidHeader() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/translate");
+        request.addHeader(DeadlineInterceptor.HEADER, "logo");
+
+        // When / Then
+        assertThatThrownBy(() -> interceptor.preHandle(request, response, null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(DeadlineInterceptor.HEADER);
+    }
+}
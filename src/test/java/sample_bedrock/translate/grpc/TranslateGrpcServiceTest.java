@@ -0,0 +1,188 @@
+package sample_bedrock.translate.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import jakarta.validation.Validation;
+import sample_bedrock.translate.admission.AdmissionController;
+import sample_bedrock.translate.grpc.v1.TranslateChunk;
+import sample_bedrock.translate.grpc.v1.TranslateGrpc;
+import sample_bedrock.translate.grpc.v1.TranslateRequest;
+import sample_bedrock.translate.grpc.v1.TranslateResponse;
+import sample_bedrock.translate.resilience.StaleContext;
+import sample_bedrock.translate.service.StreamingTranslationService;
+import sample_bedrock.translate.service.TranslationService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TranslateGrpcService Tests")
+class TranslateGrpcServiceTest {
+
+    @Mock
+    private TranslationService translationService;
+
+    private StreamingTranslationService streamingTranslationService;
+    private Server server;
+    private ManagedChannel channel;
+    private TranslateGrpc.TranslateBlockingStub stub;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        streamingTranslationService = new StreamingTranslationService();
+        ReflectionTestUtils.setField(streamingTranslationService, "translationService", translationService);
+        ReflectionTestUtils.setField(streamingTranslationService, "admissionController", new AdmissionController());
+        ReflectionTestUtils.setField(streamingTranslationService, "chunkSize", 2);
+        ReflectionTestUtils.setField(streamingTranslationService, "maxInFlightChunks", 2);
+
+        TranslateGrpcService service = new TranslateGrpcService();
+        ReflectionTestUtils.setField(service, "translationService", translationService);
+        ReflectionTestUtils.setField(service, "streamingTranslationService", streamingTranslationService);
+        ReflectionTestUtils.setField(service, "validator", Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(service, "admissionController", new AdmissionController());
+
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+            .directExecutor()
+            .addService(ServerInterceptors.intercept(service, new GrpcPriorityInterceptor(), new GrpcLoggingInterceptor()))
+            .build()
+            .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        stub = TranslateGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+        ReflectionTestUtils.invokeMethod(streamingTranslationService, "shutdown");
+    }
+
+    @Test
+    @DisplayName("Deve traduzir termos pela chamada unária")
+    void shouldTranslateUnary() {
+        // Given
+        when(translationService.translateTerms("pt-BR", "en-US", List.of("Olá", "Casa")))
+            .thenReturn(List.of("Hello", "House"));
+
+        // When
+        TranslateResponse response = stub.translateTerms(request("Olá", "Casa"));
+
+        // Then
+        assertThat(response.getTermsTranslatedList()).containsExactly("Hello", "House");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar requisição inválida com INVALID_ARGUMENT")
+    void shouldRejectInvalidRequest() {
+        TranslateRequest request = TranslateRequest.newBuilder().setDestinationLocale("en-US").addTerms("Olá").build();
+
+        assertThatThrownBy(() -> stub.translateTerms(request))
+            .isInstanceOf(StatusRuntimeException.class)
+            .satisfies(e -> {
+                Status status = ((StatusRuntimeException) e).getStatus();
+                assertThat(status.getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+                assertThat(status.getDescription()).contains("Origin locale é obrigatório");
+            });
+        verifyNoInteractions(translationService);
+    }
+
+    @Test
+    @DisplayName("Deve mapear falhas do serviço para INTERNAL sem expor detalhes")
+    void shouldMapServiceFailureToInternal() {
+        when(translationService.translateTerms(anyString(), anyString(), anyList()))
+            .thenThrow(new RuntimeException("Falha na tradução: AWS Bedrock error"));
+
+        assertThatThrownBy(() -> stub.translateTerms(request("Olá")))
+            .isInstanceOf(StatusRuntimeException.class)
+            .satisfies(e -> {
+                Status status = ((StatusRuntimeException) e).getStatus();
+                assertThat(status.getCode()).isEqualTo(Status.Code.INTERNAL);
+                assertThat(status.getDescription()).isEqualTo("Erro interno do servidor");
+            });
+    }
+
+    @Test
+    @DisplayName("Deve enviar os blocos em ordem com o deslocamento de cada um")
+    void shouldStreamChunksInOrder() {
+        // Given
+        when(translationService.translateTerms("pt-BR", "en-US", List.of("um", "dois"))).thenReturn(List.of("one", "two"));
+        when(translationService.translateTerms("pt-BR", "en-US", List.of("três"))).thenReturn(List.of("three"));
+
+        // When
+        List<TranslateChunk> chunks = new ArrayList<>();
+        Iterator<TranslateChunk> iterator = stub.translateTermsStream(request("um", "dois", "três"));
+        iterator.forEachRemaining(chunks::add);
+
+        // Then
+        assertThat(chunks).extracting(TranslateChunk::getOffset).containsExactly(0, 2);
+        assertThat(chunks.get(1).getTermsTranslatedList()).containsExactly("three");
+    }
+
+    @Test
+    @DisplayName("Deve marcar como stale apenas os blocos respondidos com traduções armazenadas")
+    void shouldMarkStaleChunks() {
+        // Given
+        when(translationService.translateTerms("pt-BR", "en-US", List.of("um", "dois"))).thenReturn(List.of("one", "two"));
+        when(translationService.translateTerms("pt-BR", "en-US", List.of("três"))).thenAnswer(invocation -> {
+            StaleContext.markStale();
+            return List.of("three");
+        });
+
+        // When
+        List<TranslateChunk> chunks = new ArrayList<>();
+        stub.translateTermsStream(request("um", "dois", "três")).forEachRemaining(chunks::add);
+
+        // Then
+        assertThat(chunks).extracting(TranslateChunk::getStale).containsExactly(false, true);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar mais de 100 termos no streaming")
+    void shouldAcceptLargeListsWhenStreaming() {
+        // Given
+        when(translationService.translateTerms(anyString(), anyString(), anyList()))
+            .thenAnswer(invocation -> invocation.getArgument(2));
+        String[] terms = new String[101];
+        for (int index = 0; index < terms.length; index++) {
+            terms[index] = "termo " + index;
+        }
+
+        // When
+        List<String> translated = new ArrayList<>();
+        stub.translateTermsStream(request(terms)).forEachRemaining(chunk -> translated.addAll(chunk.getTermsTranslatedList()));
+
+        // Then
+        assertThat(translated).hasSize(101).endsWith("termo 100");
+    }
+
+    private TranslateRequest request(String... terms) {
+        return TranslateRequest.newBuilder()
+            .setOriginLocale("pt-BR")
+            .setDestinationLocale("en-US")
+            .addAllTerms(List.of(terms))
+            .build();
+    }
+}
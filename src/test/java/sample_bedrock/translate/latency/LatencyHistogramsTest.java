@@ -0,0 +1,153 @@
+package sample_bedrock.translate.latency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.data.Percentage.withPercentage;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import sample_bedrock.translate.dto.LatencySnapshot;
+import sample_bedrock.translate.warmup.WarmupContext;
+
+@DisplayName("LatencyHistograms Tests")
+class LatencyHistogramsTest {
+
+    private static final String MODEL = "anthropic.claude-3-sonnet-20240229-v1:0";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LatencyHistograms histograms;
+
+    @BeforeEach
+    void setUp() {
+        // Janela de três intervalos; a rotação é chamada pelo teste
+        histograms = newHistograms(10);
+    }
+
+    @Test
+    @DisplayName("Deve calcular percentis por etapa, par de idiomas e modelo após fechar o intervalo")
+    void shouldReportPercentilesPerSeries() {
+        // Given
+        for (int millis = 1; millis <= 100; millis++) {
+            histograms.record(LatencyStage.BEDROCK, "pt-BR->en-US", MODEL, TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+        histograms.record(LatencyStage.PARSE, "pt-BR->en-US", MODEL, TimeUnit.MICROSECONDS.toNanos(300));
+        assertThat(histograms.snapshot(null)).isEmpty();
+
+        // When
+        histograms.rotate();
+        List<LatencySnapshot> bedrock = histograms.snapshot(LatencyStage.BEDROCK);
+
+        // Then
+        assertThat(bedrock).singleElement().satisfies(snapshot -> {
+            assertThat(snapshot.localePair()).isEqualTo("pt-BR->en-US");
+            assertThat(snapshot.model()).isEqualTo(MODEL);
+            assertThat(snapshot.count()).isEqualTo(100);
+            assertThat(snapshot.p50Ms()).isCloseTo(50, withPercentage(2));
+            assertThat(snapshot.p99Ms()).isCloseTo(99, withPercentage(2));
+        });
+        assertThat(histograms.snapshot(null)).extracting(LatencySnapshot::stage).containsExactly("bedrock", "parse");
+    }
+
+    @Test
+    @DisplayName("Não deve gravar latências das requisições de aquecimento")
+    void shouldIgnoreWarmupLatencies() {
+        // Given
+        LatencyContext.Tags tags = new LatencyContext.Tags(System.nanoTime());
+
+        // When
+        WarmupContext.activate();
+        try {
+            histograms.record(LatencyStage.BEDROCK, "pt-BR->en-US", MODEL, TimeUnit.MICROSECONDS.toNanos(50));
+            histograms.recordRequest(tags, System.nanoTime());
+        } finally {
+            WarmupContext.clear();
+        }
+        histograms.rotate();
+
+        // Then
+        assertThat(histograms.snapshot(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve descartar intervalos que saíram da janela e remover séries ociosas")
+    void shouldDropIntervalsOutsideWindow() {
+        // Given
+        histograms.record(LatencyStage.HTTP, "pt-BR->en-US", null, TimeUnit.MILLISECONDS.toNanos(5));
+        histograms.rotate();
+        histograms.record(LatencyStage.HTTP, "pt-BR->en-US", null, TimeUnit.MILLISECONDS.toNanos(7));
+        histograms.rotate();
+        assertThat(histograms.snapshot(LatencyStage.HTTP)).singleElement()
+            .satisfies(snapshot -> assertThat(snapshot.count()).isEqualTo(2));
+
+        // When
+        histograms.rotate();
+        histograms.rotate();
+
+        // Then
+        assertThat(histograms.snapshot(LatencyStage.HTTP)).singleElement()
+            .satisfies(snapshot -> assertThat(snapshot.count()).isEqualTo(1));
+        histograms.rotate();
+        assertThat(histograms.snapshot(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve exportar histogramas comprimidos que somam com os de outra réplica")
+    void shouldExportHistogramsMergeableAcrossReplicas() {
+        // Given
+        LatencyHistograms other = newHistograms(10);
+        histograms.record(LatencyStage.QUEUE, "pt-BR->en-US", null, TimeUnit.MILLISECONDS.toNanos(2));
+        other.record(LatencyStage.QUEUE, "pt-BR->en-US", null, TimeUnit.MILLISECONDS.toNanos(400));
+        other.record(LatencyStage.QUEUE, "pt-BR->en-US", null, TimeUnit.MILLISECONDS.toNanos(400));
+        histograms.rotate();
+        other.rotate();
+
+        // When
+        Histogram merged = LatencyHistograms.decode(histograms.snapshot(LatencyStage.QUEUE).get(0).histogram());
+        merged.add(LatencyHistograms.decode(other.snapshot(LatencyStage.QUEUE).get(0).histogram()));
+
+        // Then
+        assertThat(merged.getTotalCount()).isEqualTo(3);
+        assertThat(merged.getValueAtPercentile(50)).isBetween(396_000L, 404_000L);
+        assertThatThrownBy(() -> LatencyHistograms.decode("bm90LWEtaGlzdG9ncmFt"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Histograma comprimido inválido");
+    }
+
+    @Test
+    @DisplayName("Deve juntar pares de idiomas além do limite de séries em other")
+    void shouldFoldSeriesBeyondLimit() {
+        // Given
+        histograms = newHistograms(2);
+
+        // When
+        histograms.record(LatencyStage.HTTP, "pt-BR->en-US", null, 1_000_000);
+        histograms.record(LatencyStage.HTTP, "pt-BR->es-ES", null, 1_000_000);
+        histograms.record(LatencyStage.HTTP, "pt-BR->fr-FR", null, 1_000_000);
+        histograms.record(LatencyStage.HTTP, "pt-BR->de-DE", null, 1_000_000);
+        histograms.rotate();
+
+        // Then
+        assertThat(histograms.snapshot(LatencyStage.HTTP)).extracting(LatencySnapshot::localePair)
+            .containsExactly("other", "pt-BR->en-US", "pt-BR->es-ES");
+        assertThat(meterRegistry.counter(LatencyHistograms.METRIC_OVERFLOW).count()).isEqualTo(2);
+    }
+
+    private LatencyHistograms newHistograms(int maxSeries) {
+        LatencyHistograms latencyHistograms = new LatencyHistograms();
+        ReflectionTestUtils.setField(latencyHistograms, "enabled", true);
+        ReflectionTestUtils.setField(latencyHistograms, "interval", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(latencyHistograms, "window", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(latencyHistograms, "maxSeries", maxSeries);
+        ReflectionTestUtils.setField(latencyHistograms, "meterRegistry", meterRegistry);
+        return latencyHistograms;
+    }
+}
@@ -0,0 +1,173 @@
+package sample_bedrock.translate.prefetch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import sample_bedrock.translate.cache.TranslationCache;
+import sample_bedrock.translate.resilience.CircuitBreaker;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SpeculativeTranslator Tests")
+class SpeculativeTranslatorTest {
+
+    @Mock
+    private TranslationCache translationCache;
+
+    @Mock
+    private CircuitBreaker circuitBreaker;
+
+    @InjectMocks
+    private SpeculativeTranslator speculativeTranslator;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> loaded = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(speculativeTranslator, "enabled", true);
+        // Rodadas só quando o teste chama prefetch()
+        ReflectionTestUtils.setField(speculativeTranslator, "interval", Duration.ofHours(1));
+        ReflectionTestUtils.setField(speculativeTranslator, "decayInterval", Duration.ofHours(1));
+        ReflectionTestUtils.setField(speculativeTranslator, "minCount", 3L);
+        ReflectionTestUtils.setField(speculativeTranslator, "maxHotTerms", 10);
+        ReflectionTestUtils.setField(speculativeTranslator, "maxTargets", 2);
+        ReflectionTestUtils.setField(speculativeTranslator, "batchSize", 5);
+        ReflectionTestUtils.setField(speculativeTranslator, "maxCalls", 5);
+        ReflectionTestUtils.setField(speculativeTranslator, "meterRegistry", meterRegistry);
+        speculativeTranslator.init();
+        speculativeTranslator.registerLoader((origin, destination, terms) -> {
+            terms.forEach(term -> loaded.add(destination + ":" + term));
+            return terms;
+        });
+        lenient().when(circuitBreaker.state()).thenReturn(CircuitBreaker.State.CLOSED);
+        // Cache vazio: tudo o que é pedido vai ao carregador
+        lenient().when(translationCache.prefetch(anyString(), anyString(), anyList(), anyInt(), any()))
+            .thenAnswer(invocation -> invocation.<Function<List<String>, List<String>>>getArgument(4)
+                .apply(invocation.getArgument(2)).size());
+    }
+
+    @AfterEach
+    void tearDown() {
+        speculativeTranslator.shutdown();
+    }
+
+    @Nested
+    @DisplayName("HeavyHitters")
+    class HeavyHittersTests {
+
+        @Test
+        @DisplayName("Deve eleger os termos acima do mínimo, do mais pedido ao menos pedido")
+        void shouldFindHeavyHitters() {
+            // Given
+            HeavyHitters heavyHitters = new HeavyHitters(3, 2);
+
+            // When
+            for (int round = 0; round < 10; round++) {
+                heavyHitters.observe("pt-BR", "en-US", List.of("carrinho"));
+            }
+            for (int round = 0; round < 5; round++) {
+                heavyHitters.observe("pt-BR", "es-ES", List.of("pagar"));
+            }
+            heavyHitters.observe("pt-BR", "fr-FR", List.of("raro", "único"));
+
+            // Then
+            assertThat(heavyHitters.hotTerms())
+                .extracting(HeavyHitters.HotTerm::term)
+                .containsExactly("carrinho", "pagar");
+            assertThat(heavyHitters.hotTerms().get(0).estimate()).isGreaterThanOrEqualTo(10);
+            assertThat(heavyHitters.destinations("PT-br", 2)).containsExactly("en-US", "es-ES");
+        }
+
+        @Test
+        @DisplayName("Deve esquecer termos que deixaram de ser pedidos")
+        void shouldDecayColdTerms() {
+            // Given
+            HeavyHitters heavyHitters = new HeavyHitters(3, 10);
+            for (int round = 0; round < 4; round++) {
+                heavyHitters.observe("pt-BR", "en-US", List.of("promoção"));
+            }
+            for (int round = 0; round < 20; round++) {
+                heavyHitters.observe("pt-BR", "en-US", List.of("carrinho"));
+            }
+
+            // When
+            heavyHitters.decay();
+
+            // Then
+            assertThat(heavyHitters.hotTerms()).extracting(HeavyHitters.HotTerm::term).containsExactly("carrinho");
+            assertThat(heavyHitters.hotTerms().get(0).estimate()).isEqualTo(10);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve pré-traduzir os termos quentes para os destinos mais pedidos da origem")
+    void shouldPrefetchHotTermsIntoCommonDestinations() {
+        // Given
+        for (int round = 0; round < 5; round++) {
+            speculativeTranslator.observe("pt-BR", "en-US", List.of("carrinho", "pagar"));
+            speculativeTranslator.observe("pt-BR", "es-ES", List.of("entrar"));
+        }
+        speculativeTranslator.observe("pt-BR", "en-US", List.of("carrinho", "pagar"));
+        speculativeTranslator.observe("pt-BR", "es-ES", List.of("carrinho"));
+        speculativeTranslator.observe("pt-BR", "fr-FR", List.of("sair"));
+
+        // When
+        int calls = speculativeTranslator.prefetch();
+
+        // Then
+        assertThat(calls).isEqualTo(2);
+        verify(translationCache).prefetch(eq("pt-BR"), eq("en-US"), eq(List.of("carrinho", "pagar", "entrar")), eq(5), any());
+        verify(translationCache).prefetch(eq("pt-BR"), eq("es-ES"), eq(List.of("carrinho", "pagar", "entrar")), eq(5), any());
+        verify(translationCache, never()).prefetch(eq("pt-BR"), eq("fr-FR"), anyList(), anyInt(), any());
+        assertThat(loaded).hasSize(6);
+        assertThat(meterRegistry.counter(SpeculativeTranslator.METRIC_TERMS, "result", "translated").count()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Não deve disputar o modelo com chamadas de clientes em andamento nem com o circuito aberto")
+    void shouldSkipWhileModelIsBusyOrCircuitIsOpen() {
+        // Given
+        for (int round = 0; round < 5; round++) {
+            speculativeTranslator.observe("pt-BR", "en-US", List.of("carrinho"));
+        }
+        speculativeTranslator.modelCallStarted();
+
+        // When
+        int busy = speculativeTranslator.prefetch();
+        speculativeTranslator.modelCallFinished();
+        when(circuitBreaker.state()).thenReturn(CircuitBreaker.State.OPEN);
+        int open = speculativeTranslator.prefetch();
+
+        // Then
+        assertThat(busy).isZero();
+        assertThat(open).isZero();
+        verify(translationCache, never()).prefetch(anyString(), anyString(), anyList(), anyInt(), any());
+        assertThat(meterRegistry.counter(SpeculativeTranslator.METRIC_SKIPPED, "reason", "busy").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter(SpeculativeTranslator.METRIC_SKIPPED, "reason", "circuit").count()).isEqualTo(1);
+    }
+}
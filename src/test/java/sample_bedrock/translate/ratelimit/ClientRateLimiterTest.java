@@ -0,0 +1,173 @@
+package sample_bedrock.translate.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("ClientRateLimiter Tests")
+class ClientRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(1000));
+    private ClientRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new ClientRateLimiter();
+        ReflectionTestUtils.setField(limiter, "enabled", true);
+        ReflectionTestUtils.setField(limiter, "requestsPerSecond", 10.0);
+        ReflectionTestUtils.setField(limiter, "requestBurst", 5L);
+        ReflectionTestUtils.setField(limiter, "tokensPerSecond", 1000.0);
+        ReflectionTestUtils.setField(limiter, "tokenBurst", 2000L);
+        ReflectionTestUtils.setField(limiter, "stripeCount", 8);
+        ReflectionTestUtils.setField(limiter, "evictionInterval", Duration.ZERO);
+        limiter.init();
+        limiter.setClock(now::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        limiter.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve permitir a rajada configurada e rejeitar o excedente com o tempo de espera")
+    void shouldAllowBurstThenReject() {
+        // When
+        for (int index = 0; index < 5; index++) {
+            assertThat(limiter.tryAcquire("ip:10.0.0.1", 1)).isZero();
+        }
+        long wait = limiter.tryAcquire("ip:10.0.0.1", 1);
+
+        // Then
+        assertThat(wait).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    @DisplayName("Deve recuperar a capacidade conforme o tempo passa")
+    void shouldRefillOverTime() {
+        // Given
+        for (int index = 0; index < 5; index++) {
+            limiter.tryAcquire("ip:10.0.0.1", 1);
+        }
+
+        // When
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+        // Then
+        assertThat(limiter.tryAcquire("ip:10.0.0.1", 1)).isZero();
+        assertThat(limiter.tryAcquire("ip:10.0.0.1", 1)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Deve limitar o volume de tokens e devolver a requisição rejeitada")
+    void shouldLimitTokenVolume() {
+        // Given
+        assertThat(limiter.tryAcquire("key:abc", 1500)).isZero();
+
+        // When
+        long wait = limiter.tryAcquire("key:abc", 1000);
+
+        // Then
+        assertThat(wait).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+        for (int index = 0; index < 4; index++) {
+            assertThat(limiter.tryAcquire("key:abc", 0)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter limites independentes por cliente")
+    void shouldIsolateClients() {
+        // Given
+        for (int index = 0; index < 5; index++) {
+            limiter.tryAcquire("ip:10.0.0.1", 1);
+        }
+
+        // Then
+        assertThat(limiter.tryAcquire("ip:10.0.0.1", 1)).isPositive();
+        assertThat(limiter.tryAcquire("ip:10.0.0.2", 1)).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve admitir uma requisição maior que a rajada de tokens quando o balde está cheio")
+    void shouldAdmitOversizedRequestWithFullBucket() {
+        assertThat(limiter.tryAcquire("key:abc", 10_000)).isZero();
+        assertThat(limiter.tryAcquire("key:abc", 1)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Deve cobrar integralmente a requisição maior que a rajada")
+    void shouldChargeOversizedRequestInFull() {
+        // Given
+        assertThat(limiter.tryAcquire("key:abc", 10_000)).isZero();
+
+        // When
+        long wait = limiter.tryAcquire("key:abc", 1);
+
+        // Then
+        assertThat(wait).isEqualTo(TimeUnit.MILLISECONDS.toNanos(8_001));
+        now.addAndGet(wait);
+        assertThat(limiter.tryAcquire("key:abc", 1)).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve cobrar depois os tokens que excederam a estimativa")
+    void shouldDebitTokensFoundAfterAdmission() {
+        // Given
+        assertThat(limiter.tryAcquire("ip:10.0.0.1", 2000)).isZero();
+
+        // When
+        limiter.debit("ip:10.0.0.1", 3000);
+
+        // Then
+        assertThat(limiter.tryAcquire("ip:10.0.0.1", 1)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(3_001));
+    }
+
+    @Test
+    @DisplayName("Deve usar a API key apenas quando configurada e o endereço nos demais casos")
+    void shouldKeyOnlyConfiguredApiKeys() {
+        // Given
+        ReflectionTestUtils.setField(limiter, "apiKeys", Set.of("chave-do-parceiro"));
+
+        // Then
+        assertThat(limiter.clientId(" chave-do-parceiro ", "10.0.0.1")).isEqualTo("key:chave-do-parceiro");
+        assertThat(limiter.clientId("inventada", "10.0.0.1")).isEqualTo("ip:10.0.0.1");
+        assertThat(limiter.clientId(null, "10.0.0.1")).isEqualTo("ip:10.0.0.1");
+    }
+
+    @Test
+    @DisplayName("Deve remover apenas clientes com os baldes cheios")
+    void shouldEvictOnlyIdleClients() {
+        // Given
+        limiter.tryAcquire("ip:10.0.0.1", 1);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        limiter.tryAcquire("ip:10.0.0.2", 1);
+
+        // When
+        int evicted = limiter.evictIdle();
+
+        // Then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(limiter.trackedClients()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve limitar quando desabilitado")
+    void shouldAllowEverythingWhenDisabled() {
+        // Given
+        ReflectionTestUtils.setField(limiter, "enabled", false);
+
+        // Then
+        for (int index = 0; index < 100; index++) {
+            assertThat(limiter.tryAcquire("ip:10.0.0.1", 1_000_000)).isZero();
+        }
+    }
+}
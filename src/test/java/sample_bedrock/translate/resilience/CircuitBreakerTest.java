@@ -0,0 +1,218 @@
+package sample_bedrock.translate.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import sample_bedrock.translate.exception.CircuitOpenException;
+import sample_bedrock.translate.exception.DeadlineExceededException;
+import software.amazon.awssdk.services.bedrockruntime.model.ValidationException;
+
+@DisplayName("CircuitBreaker Tests")
+class CircuitBreakerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong();
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker();
+        ReflectionTestUtils.setField(circuitBreaker, "enabled", true);
+        ReflectionTestUtils.setField(circuitBreaker, "windowSize", 10);
+        ReflectionTestUtils.setField(circuitBreaker, "minimumCalls", 4);
+        ReflectionTestUtils.setField(circuitBreaker, "failureRateThreshold", 50);
+        ReflectionTestUtils.setField(circuitBreaker, "slowCallDuration", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(circuitBreaker, "slowCallRateThreshold", 75);
+        ReflectionTestUtils.setField(circuitBreaker, "openDuration", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(circuitBreaker, "halfOpenProbes", 2);
+        ReflectionTestUtils.setField(circuitBreaker, "meterRegistry", meterRegistry);
+        circuitBreaker.setClock(now::get);
+        circuitBreaker.init();
+    }
+
+    @Test
+    @DisplayName("Deve abrir quando a taxa de falhas atinge o limite e recusar sem executar a chamada")
+    void shouldOpenOnFailureRate() {
+        // Given
+        succeed();
+        succeed();
+        fail();
+        fail();
+        AtomicInteger calls = new AtomicInteger();
+
+        // When / Then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> circuitBreaker.execute(calls::incrementAndGet))
+            .isInstanceOf(CircuitOpenException.class)
+            .satisfies(e -> assertThat(((CircuitOpenException) e).getRetryAfter()).isEqualTo(Duration.ofSeconds(30)));
+        assertThat(calls).hasValue(0);
+        assertThat(meterRegistry.counter("translate.breaker.rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve abrir antes do mínimo de chamadas")
+    void shouldNotOpenBeforeMinimumCalls() {
+        // When
+        fail();
+        fail();
+        fail();
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Deve abrir quando a maioria das chamadas é lenta mesmo sem erros")
+    void shouldOpenOnSlowCallRate() {
+        // When
+        for (int call = 0; call < 4; call++) {
+            circuitBreaker.execute(() -> now.addAndGet(TimeUnit.SECONDS.toNanos(3)));
+        }
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Não deve contar erros de validação do cliente como falha do Bedrock")
+    void shouldIgnoreClientErrors() {
+        // When
+        for (int call = 0; call < 4; call++) {
+            assertThatThrownBy(() -> circuitBreaker.execute(() -> {
+                throw (ValidationException) ValidationException.builder().statusCode(400).message("inválido").build();
+            })).isInstanceOf(ValidationException.class);
+        }
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Deve fechar depois que todas as sondagens do estado meio-aberto têm sucesso")
+    void shouldCloseAfterSuccessfulProbes() {
+        // Given
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // When
+        succeed();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        succeed();
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        fail();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Deve reabrir quando uma sondagem falha")
+    void shouldReopenWhenProbeFails() {
+        // Given
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // When
+        fail();
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(this::succeed).isInstanceOf(CircuitOpenException.class);
+    }
+
+    @Test
+    @DisplayName("Deve limitar as chamadas simultâneas no estado meio-aberto")
+    void shouldLimitConcurrentProbes() {
+        // Given
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // When / Then: duas sondagens em andamento esgotam as vagas
+        circuitBreaker.execute(() -> circuitBreaker.execute(() ->
+            assertThatThrownBy(this::succeed).isInstanceOf(CircuitOpenException.class)));
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Não deve contar como sucesso chamadas interrompidas pelo prazo do cliente antes de ficarem lentas")
+    void shouldIgnoreCallsAbortedByDeadline() {
+        // Given: Bedrock travado, clientes com prazo de 1s, abaixo de slow-call-duration
+        for (int call = 0; call < 3; call++) {
+            abortByDeadline(Duration.ofSeconds(1));
+        }
+        fail();
+        fail();
+
+        // Then: só as duas falhas estão na janela
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        fail();
+        fail();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Deve contar como lenta a chamada interrompida pelo prazo depois de slow-call-duration")
+    void shouldCountLongAbortedCallsAsSlow() {
+        // When
+        for (int call = 0; call < 4; call++) {
+            abortByDeadline(Duration.ofSeconds(3));
+        }
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Sondagem interrompida pelo prazo deve liberar a vaga sem fechar o circuito")
+    void shouldNotCloseOnAbortedProbes() {
+        // Given
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // When
+        abortByDeadline(Duration.ofSeconds(1));
+        abortByDeadline(Duration.ofSeconds(1));
+        abortByDeadline(Duration.ofSeconds(1));
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        succeed();
+        succeed();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private void abortByDeadline(Duration elapsed) {
+        assertThatThrownBy(() -> circuitBreaker.execute(() -> {
+            now.addAndGet(elapsed.toNanos());
+            throw new DeadlineExceededException("Prazo da requisição esgotado durante a chamada ao modelo");
+        })).isInstanceOf(DeadlineExceededException.class);
+    }
+
+    private void openCircuit() {
+        for (int call = 0; call < 4; call++) {
+            fail();
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void succeed() {
+        circuitBreaker.execute(() -> "ok");
+    }
+
+    private void fail() {
+        assertThatThrownBy(() -> circuitBreaker.execute(() -> {
+            throw new IllegalStateException("timeout");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,56 @@
+package sample_bedrock.translate.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import sample_bedrock.translate.capture.TrafficCapture;
+import sample_bedrock.translate.exception.CircuitOpenException;
+
+@DisplayName("BedrockClientProvider Tests")
+class BedrockClientProviderTest {
+
+    private BedrockClientProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = new BedrockClientProvider();
+        ReflectionTestUtils.setField(provider, "awsRegion", "us-east-1");
+        ReflectionTestUtils.setField(provider, "backend", "bedrock");
+        ReflectionTestUtils.setField(provider, "trafficCapture", new TrafficCapture());
+        provider.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        provider.stop();
+    }
+
+    @Test
+    @DisplayName("Deve parar depois do graceful shutdown do servidor web")
+    void shouldStopAfterWebServer() {
+        assertThat(provider.getPhase()).isLessThan(WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1024);
+    }
+
+    @Test
+    @DisplayName("Não deve recriar o cliente depois de parado até o próximo start")
+    void shouldNotRebuildClientWhileStopped() {
+        // Given
+        assertThat(provider.client()).isNotNull();
+
+        // When
+        provider.stop();
+
+        // Then
+        assertThat(provider.isRunning()).isFalse();
+        assertThatThrownBy(provider::client).isInstanceOf(CircuitOpenException.class);
+        provider.start();
+        assertThat(provider.client()).isNotNull();
+    }
+}
@@ -0,0 +1,221 @@
+package sample_bedrock.translate.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import sample_bedrock.translate.dto.LocaleTranslation;
+import sample_bedrock.translate.exception.CircuitOpenException;
+import sample_bedrock.translate.resilience.StaleContext;
+import sample_bedrock.translate.service.language.LanguageDetector;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MultiTargetTranslationService Tests")
+class MultiTargetTranslationServiceTest {
+
+    @Mock
+    private TranslationService translationService;
+
+    @Mock
+    private LanguageDetector languageDetector;
+
+    @InjectMocks
+    private MultiTargetTranslationService multiTargetTranslationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(multiTargetTranslationService, "combinedMaxOutputTokens", 100);
+        ReflectionTestUtils.setField(multiTargetTranslationService, "combinedMaxLocales", 8);
+        ReflectionTestUtils.setField(multiTargetTranslationService, "maxConcurrency", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        multiTargetTranslationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve agrupar vários idiomas em uma chamada quando o payload é pequeno")
+    void shouldCombineLocalesForSmallPayload() {
+        // Given
+        List<String> terms = Arrays.asList("casa", "carro");
+        List<String> locales = Arrays.asList("en-US", "es-ES", "fr-FR");
+        when(translationService.translateTermsToLocales("pt-BR", locales, terms)).thenReturn(Map.of(
+            "en-US", List.of("house", "car"),
+            "es-ES", List.of("casa", "coche"),
+            "fr-FR", List.of("maison", "voiture")));
+
+        // When
+        Map<String, LocaleTranslation> result = multiTargetTranslationService.translate("pt-BR", locales, terms);
+
+        // Then
+        assertThat(result).containsOnlyKeys("en-US", "es-ES", "fr-FR");
+        assertThat(result.get("fr-FR").termsTranslated()).containsExactly("maison", "voiture");
+        verify(translationService, never()).translateTerms(anyString(), anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("Deve traduzir cada idioma separadamente quando o payload é grande")
+    void shouldFanOutForLargePayload() {
+        // Given
+        List<String> terms = Collections.singletonList("x".repeat(500));
+        List<String> locales = Arrays.asList("en-US", "es-ES");
+        when(translationService.translateTerms(eq("pt-BR"), anyString(), eq(terms))).thenReturn(List.of("y"));
+
+        // When
+        Map<String, LocaleTranslation> result = multiTargetTranslationService.translate("pt-BR", locales, terms);
+
+        // Then
+        assertThat(result.values()).extracting(LocaleTranslation::status).containsOnly("success");
+        verify(translationService).translateTerms("pt-BR", "en-US", terms);
+        verify(translationService).translateTerms("pt-BR", "es-ES", terms);
+        verify(translationService, never()).translateTermsToLocales(anyString(), anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("Deve isolar a falha de um idioma dos demais")
+    void shouldIsolateLocaleFailures() {
+        // Given
+        List<String> terms = Collections.singletonList("x".repeat(500));
+        List<String> locales = Arrays.asList("en-US", "es-ES");
+        when(translationService.translateTerms("pt-BR", "en-US", terms)).thenReturn(List.of("y"));
+        when(translationService.translateTerms("pt-BR", "es-ES", terms))
+            .thenThrow(new RuntimeException("Falha na tradução: throttled"));
+
+        // When
+        Map<String, LocaleTranslation> result = multiTargetTranslationService.translate("pt-BR", locales, terms);
+
+        // Then
+        assertThat(result.get("en-US").status()).isEqualTo("success");
+        assertThat(result.get("es-ES").status()).isEqualTo("error");
+        assertThat(result.get("es-ES").error()).contains("throttled");
+    }
+
+    @Test
+    @DisplayName("Deve refazer individualmente os idiomas ausentes da resposta combinada")
+    void shouldFallBackForMissingSections() {
+        // Given
+        List<String> terms = Arrays.asList("casa", "carro");
+        List<String> locales = Arrays.asList("en-US", "es-ES");
+        when(translationService.translateTermsToLocales("pt-BR", locales, terms))
+            .thenReturn(Map.of("en-US", List.of("house", "car")));
+        when(translationService.translateTerms("pt-BR", "es-ES", terms)).thenReturn(List.of("casa", "coche"));
+
+        // When
+        Map<String, LocaleTranslation> result = multiTargetTranslationService.translate("pt-BR", locales, terms);
+
+        // Then
+        assertThat(result.get("es-ES").termsTranslated()).containsExactly("casa", "coche");
+        verify(translationService, never()).translateTerms("pt-BR", "en-US", terms);
+    }
+
+    @Test
+    @DisplayName("Deve falhar o grupo com 503 e Retry-After, sem refazer idioma a idioma, com o circuito aberto")
+    void shouldFailGroupWithStatusWhenCircuitIsOpen() {
+        // Given
+        List<String> terms = Arrays.asList("casa", "carro");
+        List<String> locales = Arrays.asList("en-US", "es-ES");
+        when(translationService.translateTermsToLocales("pt-BR", locales, terms))
+            .thenThrow(new CircuitOpenException("Serviço de tradução temporariamente indisponível", Duration.ofMillis(29_500)));
+
+        // When
+        Map<String, LocaleTranslation> result = multiTargetTranslationService.translate("pt-BR", locales, terms);
+
+        // Then
+        assertThat(result.values()).allSatisfy(translation -> {
+            assertThat(translation.status()).isEqualTo("error");
+            assertThat(translation.httpStatus()).isEqualTo(503);
+            assertThat(translation.retryAfter()).isEqualTo(30);
+        });
+        verify(translationService, never()).translateTerms(anyString(), anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("Deve marcar como stale os idiomas da chamada combinada respondidos com traduções armazenadas")
+    void shouldKeepStaleFlagFromCombinedCall() {
+        // Given
+        List<String> terms = Arrays.asList("casa", "carro");
+        List<String> locales = Arrays.asList("en-US", "es-ES");
+        when(translationService.translateTermsToLocales("pt-BR", locales, terms)).thenAnswer(invocation -> {
+            StaleContext.markStale();
+            return Map.of("en-US", List.of("house", "car"), "es-ES", List.of("casa", "coche"));
+        });
+
+        // When
+        Map<String, LocaleTranslation> result = multiTargetTranslationService.translate("pt-BR", locales, terms);
+
+        // Then
+        assertThat(result.values()).extracting(LocaleTranslation::stale).containsOnly(Boolean.TRUE);
+    }
+
+    @Test
+    @DisplayName("Deve combinar idiomas com o idioma detectado quando todos os termos são do mesmo idioma")
+    void shouldCombineWithDetectedLocale() {
+        // Given
+        List<String> terms = Arrays.asList("casa", "carro");
+        List<String> locales = Arrays.asList("en-US", "es-ES");
+        when(languageDetector.groupBySourceLocale(terms)).thenReturn(Map.of("pt-BR", List.of(0, 1)));
+        when(translationService.translateTermsToLocales("pt-BR", locales, terms)).thenReturn(Map.of(
+            "en-US", List.of("house", "car"),
+            "es-ES", List.of("casa", "coche")));
+
+        // When
+        Map<String, LocaleTranslation> result = multiTargetTranslationService.translate("auto", locales, terms);
+
+        // Then
+        assertThat(result.get("es-ES").termsTranslated()).containsExactly("casa", "coche");
+    }
+
+    @Test
+    @DisplayName("Deve traduzir idioma a idioma quando os termos têm origens diferentes")
+    void shouldFanOutForMixedSourceLocales() {
+        // Given
+        List<String> terms = Arrays.asList("casa", "house");
+        List<String> locales = Arrays.asList("es-ES", "fr-FR");
+        when(languageDetector.groupBySourceLocale(terms)).thenReturn(Map.of("pt-BR", List.of(0), "en-US", List.of(1)));
+        when(translationService.translateTerms(eq("auto"), anyString(), eq(terms))).thenReturn(List.of("x", "y"));
+
+        // When
+        Map<String, LocaleTranslation> result = multiTargetTranslationService.translate("auto", locales, terms);
+
+        // Then
+        assertThat(result.values()).extracting(LocaleTranslation::status).containsOnly("success");
+        verify(translationService, never()).translateTermsToLocales(anyString(), anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de idiomas por chamada combinada")
+    void shouldCapLocalesPerCombinedCall() {
+        // Given
+        ReflectionTestUtils.setField(multiTargetTranslationService, "combinedMaxLocales", 2);
+        List<String> locales = new ArrayList<>(Arrays.asList("en-US", "es-ES", "fr-FR", "de-DE", "it-IT"));
+
+        // When
+        List<List<String>> groups = multiTargetTranslationService.planGroups(locales, List.of("casa"));
+
+        // Then
+        assertThat(groups).containsExactly(
+            List.of("en-US", "es-ES"), List.of("fr-FR", "de-DE"), List.of("it-IT"));
+    }
+}
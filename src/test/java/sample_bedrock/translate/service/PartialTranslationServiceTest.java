@@ -0,0 +1,184 @@
+package sample_bedrock.translate.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import sample_bedrock.translate.admission.AdmissionController;
+import sample_bedrock.translate.admission.Priority;
+import sample_bedrock.translate.dto.TranslateResponse;
+import sample_bedrock.translate.exception.CircuitOpenException;
+import sample_bedrock.translate.exception.ContinuationNotFoundException;
+import sample_bedrock.translate.exception.OverloadedException;
+import sample_bedrock.translate.tenant.TenantContext;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PartialTranslationService Tests")
+class PartialTranslationServiceTest {
+
+    @Mock
+    private TranslationService translationService;
+
+    @Mock
+    private AdmissionController admissionController;
+
+    @InjectMocks
+    private PartialTranslationService partialTranslationService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(partialTranslationService, "ttl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(partialTranslationService, "maxContinuations", 10);
+        ReflectionTestUtils.setField(partialTranslationService, "maxWait", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(partialTranslationService, "meterRegistry", meterRegistry);
+        partialTranslationService.init();
+        lenient().when(admissionController.execute(eq(Priority.BATCH), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
+    @AfterEach
+    void tearDown() {
+        partialTranslationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve responder na hora o que está disponível e entregar o restante pelo token")
+    void shouldAnswerAvailableTermsAndDeliverTheRestByToken() {
+        // Given
+        List<String> terms = List.of("casa", "chave", "carro", "porta");
+        when(translationService.translateLocally("pt-BR", "en-US", terms))
+            .thenReturn(Arrays.asList("house", null, "car", null));
+        when(translationService.translateTerms("pt-BR", "en-US", List.of("chave", "porta")))
+            .thenReturn(List.of("key", "door"));
+
+        // When
+        TranslateResponse partial = partialTranslationService.translate("pt-BR", "en-US", terms);
+        TranslateResponse complete = partialTranslationService.await(partial.continuationToken(), Duration.ofSeconds(5));
+
+        // Then
+        assertThat(partial.termsTranslated()).containsExactly("house", null, "car", null);
+        assertThat(partial.pending()).containsExactly(1, 3);
+        assertThat(partial.continuationToken()).isNotBlank();
+        assertThat(complete.termsTranslated()).containsExactly("house", "key", "car", "door");
+        assertThat(complete.pending()).isNull();
+        assertThat(complete.continuationToken()).isNull();
+        assertThat(meterRegistry.counter(PartialTranslationService.METRIC_TERMS, "result", "immediate").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter(PartialTranslationService.METRIC_TERMS, "result", "deferred").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve devolver a mesma resposta parcial e o mesmo token quando a espera acaba antes da tradução")
+    void shouldReturnSamePartialResultWhenWaitRunsOut() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(translationService.translateLocally("pt-BR", "en-US", List.of("casa", "chave")))
+            .thenReturn(Arrays.asList("house", null));
+        when(translationService.translateTerms("pt-BR", "en-US", List.of("chave"))).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of("key");
+        });
+        TranslateResponse partial = partialTranslationService.translate("pt-BR", "en-US", List.of("casa", "chave"));
+
+        // When
+        TranslateResponse waiting = partialTranslationService.await(partial.continuationToken(), Duration.ofMillis(20));
+        release.countDown();
+        TranslateResponse complete = partialTranslationService.await(partial.continuationToken(), Duration.ofSeconds(5));
+
+        // Then
+        assertThat(waiting).isEqualTo(partial);
+        assertThat(complete.termsTranslated()).containsExactly("house", "key");
+    }
+
+    @Test
+    @DisplayName("Deve responder sem token quando tudo já está disponível ou o limite de continuações foi atingido")
+    void shouldAnswerInFullWithoutContinuation() {
+        // Given
+        when(translationService.translateLocally("pt-BR", "en-US", List.of("casa")))
+            .thenReturn(Arrays.asList("house"));
+        when(translationService.translateLocally("pt-BR", "en-US", List.of("chave")))
+            .thenReturn(Arrays.asList((String) null));
+        when(translationService.translateTerms("pt-BR", "en-US", List.of("chave"))).thenReturn(List.of("key"));
+        ReflectionTestUtils.setField(partialTranslationService, "maxContinuations", 0);
+
+        // When
+        TranslateResponse local = partialTranslationService.translate("pt-BR", "en-US", List.of("casa"));
+        TranslateResponse fallback = partialTranslationService.translate("pt-BR", "en-US", List.of("chave"));
+
+        // Then
+        assertThat(local.termsTranslated()).containsExactly("house");
+        assertThat(local.continuationToken()).isNull();
+        assertThat(fallback.termsTranslated()).containsExactly("key");
+        assertThat(fallback.continuationToken()).isNull();
+        assertThat(meterRegistry.counter(PartialTranslationService.METRIC_FALLBACK).count()).isEqualTo(1);
+        verify(translationService, never()).translateTerms("pt-BR", "en-US", List.of("casa"));
+    }
+
+    @Test
+    @DisplayName("Deve traduzir em segundo plano com vaga de admissão de lote e repassar a recusa no long-poll")
+    void shouldTakeBatchAdmissionSlotInBackground() {
+        // Given
+        when(translationService.translateLocally("pt-BR", "en-US", List.of("chave")))
+            .thenReturn(Arrays.asList((String) null));
+        when(admissionController.execute(eq(Priority.BATCH), any()))
+            .thenThrow(new OverloadedException("Serviço sobrecarregado, tente novamente mais tarde", Duration.ofSeconds(1)));
+
+        // When
+        String token = partialTranslationService.translate("pt-BR", "en-US", List.of("chave")).continuationToken();
+
+        // Then
+        assertThatThrownBy(() -> partialTranslationService.await(token, Duration.ofSeconds(5)))
+            .isInstanceOf(OverloadedException.class);
+        verify(translationService, never()).translateTerms("pt-BR", "en-US", List.of("chave"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar token desconhecido ou de outro tenant e repassar a falha da tradução em segundo plano")
+    void shouldRejectForeignTokensAndRethrowFailures() {
+        // Given
+        when(translationService.translateLocally("pt-BR", "en-US", List.of("chave")))
+            .thenReturn(Arrays.asList((String) null));
+        when(translationService.translateTerms("pt-BR", "en-US", List.of("chave")))
+            .thenThrow(new CircuitOpenException("Circuito do Bedrock aberto", Duration.ofSeconds(30)));
+        String token;
+        try (TenantContext.Scope scope = TenantContext.attach("acme")) {
+            token = partialTranslationService.translate("pt-BR", "en-US", List.of("chave")).continuationToken();
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> partialTranslationService.await("desconhecido", Duration.ZERO))
+            .isInstanceOf(ContinuationNotFoundException.class);
+        try (TenantContext.Scope scope = TenantContext.attach("globex")) {
+            assertThatThrownBy(() -> partialTranslationService.await(token, Duration.ZERO))
+                .isInstanceOf(ContinuationNotFoundException.class);
+        }
+        try (TenantContext.Scope scope = TenantContext.attach("acme")) {
+            assertThatThrownBy(() -> partialTranslationService.await(token, Duration.ofSeconds(5)))
+                .isInstanceOf(CircuitOpenException.class);
+        }
+    }
+}
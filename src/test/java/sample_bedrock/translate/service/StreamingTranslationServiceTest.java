@@ -0,0 +1,178 @@
+package sample_bedrock.translate.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import sample_bedrock.translate.admission.AdmissionController;
+import sample_bedrock.translate.admission.Priority;
+import sample_bedrock.translate.admission.PriorityContext;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StreamingTranslationService Tests")
+class StreamingTranslationServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private TranslationService translationService;
+
+    @Mock
+    private AdmissionController admissionController;
+
+    @InjectMocks
+    private StreamingTranslationService streamingTranslationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(streamingTranslationService, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(streamingTranslationService, "chunkSize", 2);
+        ReflectionTestUtils.setField(streamingTranslationService, "maxInFlightChunks", 2);
+        lenient().when(admissionController.execute(any(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamingTranslationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve traduzir em blocos e devolver na ordem original")
+    void shouldTranslateInChunksPreservingOrder() throws Exception {
+        // Given
+        when(translationService.translateTerms("pt-BR", "en-US", List.of("um", "dois"))).thenReturn(List.of("one", "two"));
+        when(translationService.translateTerms("pt-BR", "en-US", List.of("três", "quatro"))).thenReturn(List.of("three", "four"));
+        when(translationService.translateTerms("pt-BR", "en-US", List.of("cinco"))).thenReturn(List.of("five"));
+        String body = "{\"origin_locale\":\"pt-BR\",\"destination_locale\":\"en-US\",\"extra\":{\"a\":[1]},"
+            + "\"terms\":[\"um\",\"dois\",\"três\",\"quatro\",\"cinco\"]}";
+
+        // When
+        JsonNode result = translate(body);
+
+        // Then
+        assertThat(result.get("terms_translated").toString())
+            .isEqualTo("[\"one\",\"two\",\"three\",\"four\",\"five\"]");
+        assertThat(result.has("error")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve manter o texto de origem nas posições que o modelo deixou de fora em um bloco do meio")
+    void shouldKeepSourceWhenMiddleChunkIsShort() throws Exception {
+        // Given
+        when(translationService.translateTerms("pt-BR", "en-US", List.of("um", "dois"))).thenReturn(List.of("one", "two"));
+        when(translationService.translateTerms("pt-BR", "en-US", List.of("três", "quatro"))).thenReturn(List.of("three"));
+        when(translationService.translateTerms("pt-BR", "en-US", List.of("cinco"))).thenReturn(List.of("five"));
+        String body = "{\"origin_locale\":\"pt-BR\",\"destination_locale\":\"en-US\","
+            + "\"terms\":[\"um\",\"dois\",\"três\",\"quatro\",\"cinco\"]}";
+
+        // When
+        JsonNode result = translate(body);
+
+        // Then
+        assertThat(result.get("terms_translated").toString())
+            .isEqualTo("[\"one\",\"two\",\"three\",\"quatro\",\"five\"]");
+    }
+
+    @Test
+    @DisplayName("Deve pedir uma vaga de admissão por bloco com a prioridade da requisição")
+    void shouldAdmitEachChunkWithRequestPriority() throws Exception {
+        // Given
+        when(translationService.translateTerms(anyString(), anyString(), anyList()))
+            .thenAnswer(invocation -> invocation.<List<String>>getArgument(2));
+        String body = "{\"origin_locale\":\"pt-BR\",\"destination_locale\":\"en-US\","
+            + "\"terms\":[\"um\",\"dois\",\"três\",\"quatro\",\"cinco\"]}";
+
+        // When
+        try (PriorityContext.Scope scope = PriorityContext.attach(Priority.BATCH)) {
+            translate(body);
+        }
+
+        // Then
+        verify(admissionController, times(3)).execute(eq(Priority.BATCH), any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar locales depois da lista de termos")
+    void shouldRejectLocalesAfterTerms() {
+        String body = "{\"terms\":[\"um\"],\"origin_locale\":\"pt-BR\",\"destination_locale\":\"en-US\"}";
+
+        assertThatThrownBy(() -> translate(body))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("devem preceder terms");
+        verifyNoInteractions(translationService);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lista de termos vazia")
+    void shouldRejectEmptyTerms() {
+        String body = "{\"origin_locale\":\"pt-BR\",\"destination_locale\":\"en-US\",\"terms\":[]}";
+
+        assertThatThrownBy(() -> translate(body))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Lista de termos não pode estar vazia");
+    }
+
+    @Test
+    @DisplayName("Deve propagar a falha quando nada foi escrito")
+    void shouldPropagateFailureBeforeFirstChunk() {
+        when(translationService.translateTerms(anyString(), anyString(), anyList()))
+            .thenThrow(new RuntimeException("Falha na tradução: AWS Bedrock error"));
+        String body = "{\"origin_locale\":\"pt-BR\",\"destination_locale\":\"en-US\",\"terms\":[\"um\"]}";
+
+        assertThatThrownBy(() -> translate(body))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("AWS Bedrock error");
+    }
+
+    @Test
+    @DisplayName("Deve encerrar o corpo com erro quando um bloco falha depois do início da resposta")
+    void shouldTerminateBodyWithErrorAfterStart() throws Exception {
+        // Given
+        when(translationService.translateTerms("pt-BR", "en-US", List.of("um", "dois"))).thenReturn(List.of("one", "two"));
+        when(translationService.translateTerms("pt-BR", "en-US", List.of("três")))
+            .thenThrow(new RuntimeException("Falha na tradução: throttled"));
+        String body = "{\"origin_locale\":\"pt-BR\",\"destination_locale\":\"en-US\",\"terms\":[\"um\",\"dois\",\"três\"]}";
+
+        // When
+        JsonNode result = translate(body);
+
+        // Then
+        assertThat(result.get("terms_translated").toString()).isEqualTo("[\"one\",\"two\"]");
+        assertThat(result.get("error").asText()).contains("throttled");
+        verify(translationService).translateTerms("pt-BR", "en-US", List.of("três"));
+    }
+
+    private JsonNode translate(String body) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        streamingTranslationService.translate(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output);
+        return objectMapper.readTree(output.toByteArray());
+    }
+}
@@ -3,28 +3,74 @@ package sample_bedrock.translate.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import sample_bedrock.translate.cache.TranslationCache;
+import sample_bedrock.translate.deadline.Deadline;
+import sample_bedrock.translate.exception.CircuitOpenException;
+import sample_bedrock.translate.exception.DeadlineExceededException;
+import sample_bedrock.translate.exception.QuotaExceededException;
+import sample_bedrock.translate.latency.LatencyContext;
+import sample_bedrock.translate.latency.LatencyHistograms;
+import sample_bedrock.translate.latency.LatencyStage;
+import sample_bedrock.translate.prefetch.SpeculativeTranslator;
+import sample_bedrock.translate.resilience.CircuitBreaker;
+import sample_bedrock.translate.resilience.StaleContext;
+import sample_bedrock.translate.service.glossary.AhoCorasickAutomaton;
+import sample_bedrock.translate.service.glossary.GlossaryEntry;
+import sample_bedrock.translate.service.glossary.GlossaryService;
+import sample_bedrock.translate.service.language.LanguageDetector;
+import sample_bedrock.translate.service.memory.TranslationMemory;
+import sample_bedrock.translate.service.tiering.ModelTierPolicy;
+import sample_bedrock.translate.tenant.TenantContext;
+import sample_bedrock.translate.tenant.TenantUsage;
 import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeClient;
 import software.amazon.awssdk.services.bedrockruntime.model.ContentBlock;
 import software.amazon.awssdk.services.bedrockruntime.model.ConverseRequest;
 import software.amazon.awssdk.services.bedrockruntime.model.ConverseResponse;
+import software.amazon.awssdk.services.bedrockruntime.model.TokenUsage;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +84,38 @@ class TranslationServiceTest {
     @Mock
     private BedrockRuntimeClient bedrockClient;
 
+    @Mock
+    private BedrockClientProvider bedrockClientProvider;
+
+    @Mock
+    private GlossaryService glossaryService;
+
+    @Mock
+    private LanguageDetector languageDetector;
+
+    @Mock
+    private TranslationCache translationCache;
+
+    @Mock
+    private CircuitBreaker circuitBreaker;
+
+    @Mock
+    private TenantUsage tenantUsage;
+
+    @Mock
+    private LatencyHistograms latencyHistograms;
+
+    @Mock
+    private SpeculativeTranslator speculativeTranslator;
+
+    @Mock
+    private TranslationMemory translationMemory;
+
+    @Spy
+    private ModelTierPolicy modelTierPolicy = new ModelTierPolicy();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private TranslationService translationService;
 
@@ -46,7 +124,18 @@ class TranslationServiceTest {
         // Configurar propriedades usando ReflectionTestUtils
         ReflectionTestUtils.setField(translationService, "awsRegion", "us-east-1");
         ReflectionTestUtils.setField(translationService, "modelId", "anthropic.claude-3-sonnet-20240229-v1:0");
-        ReflectionTestUtils.setField(translationService, "bedrockClient", bedrockClient);
+        ReflectionTestUtils.setField(translationService, "meterRegistry", meterRegistry);
+        lenient().when(bedrockClientProvider.client()).thenReturn(bedrockClient);
+        lenient().when(glossaryService.forPair(anyString(), anyString())).thenReturn(AhoCorasickAutomaton.EMPTY);
+        // Cache sem entradas: todo termo pendente vai ao modelo
+        lenient().when(translationCache.translate(anyString(), anyString(), anyList(), anyBoolean(), any()))
+            .thenAnswer(invocation -> invocation.<Function<List<String>, List<String>>>getArgument(4)
+                .apply(invocation.getArgument(2)));
+        lenient().when(translationCache.cachedTranslations(anyString(), anyString(), anyList()))
+            .thenAnswer(invocation -> Arrays.asList(new String[invocation.<List<String>>getArgument(2).size()]));
+        // Circuito fechado: a chamada ao modelo passa direto
+        lenient().when(circuitBreaker.execute(any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
     }
 
     @Nested
@@ -340,6 +429,758 @@ class TranslationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("translateTermsToLocales - Vários idiomas em uma chamada")
+    class TranslateTermsToLocalesTests {
+
+        @Test
+        @DisplayName("Deve separar a resposta combinada por idioma")
+        void shouldSplitCombinedResponseByLocale() {
+            // Given
+            List<String> terms = Arrays.asList("casa", "carro");
+            String combined = "### en-US\nhouse\ncar\n\n### es-ES\ncasa\ncoche";
+
+            ConverseResponse mockResponse = createMockConverseResponse(combined, "request-multi");
+            when(bedrockClient.converse(any(ConverseRequest.class))).thenReturn(mockResponse);
+
+            // When
+            Map<String, List<String>> result = translationService.translateTermsToLocales(
+                "pt-BR", Arrays.asList("en-US", "es-ES"), terms);
+
+            // Then
+            assertThat(result).containsOnlyKeys("en-US", "es-ES");
+            assertThat(result.get("en-US")).containsExactly("house", "car");
+            assertThat(result.get("es-ES")).containsExactly("casa", "coche");
+        }
+
+        @Test
+        @DisplayName("Deve omitir idiomas ausentes ou com número errado de linhas")
+        void shouldOmitMissingOrIncompleteLocales() {
+            // Given
+            List<String> terms = Arrays.asList("casa", "carro");
+            String combined = "### en-US\nhouse\n### es-ES\ncasa\ncoche";
+
+            ConverseResponse mockResponse = createMockConverseResponse(combined, "request-multi-partial");
+            when(bedrockClient.converse(any(ConverseRequest.class))).thenReturn(mockResponse);
+
+            // When
+            Map<String, List<String>> result = translationService.translateTermsToLocales(
+                "pt-BR", Arrays.asList("en-US", "es-ES", "fr-FR"), terms);
+
+            // Then
+            assertThat(result).containsOnlyKeys("es-ES");
+        }
+
+        @Test
+        @DisplayName("Deve propagar o circuito aberto sem embrulhar em RuntimeException")
+        void shouldRethrowCircuitOpen() {
+            // Given
+            CircuitOpenException open = new CircuitOpenException("Serviço de tradução temporariamente indisponível",
+                Duration.ofSeconds(30));
+            doThrow(open).when(circuitBreaker).execute(any());
+
+            // When / Then
+            assertThatThrownBy(() -> translationService.translateTermsToLocales(
+                "pt-BR", Arrays.asList("en-US", "es-ES"), List.of("casa"))).isSameAs(open);
+        }
+
+        @Test
+        @DisplayName("Deve completar todos os idiomas com traduções armazenadas quando o circuito está aberto")
+        void shouldServeStaleLocalesWhenCircuitIsOpen() {
+            // Given
+            doThrow(new CircuitOpenException("Serviço de tradução temporariamente indisponível", Duration.ofSeconds(30)))
+                .when(circuitBreaker).execute(any());
+            when(translationCache.staleTranslations("pt-BR", "en-US", List.of("casa"))).thenReturn(List.of("house"));
+            when(translationCache.staleTranslations("pt-BR", "es-ES", List.of("casa"))).thenReturn(List.of("casa"));
+
+            // When
+            Map<String, List<String>> result;
+            boolean stale;
+            try (StaleContext.Scope scope = StaleContext.open()) {
+                result = translationService.translateTermsToLocales("pt-BR", Arrays.asList("en-US", "es-ES"), List.of("casa"));
+                stale = scope.isStale();
+            }
+
+            // Then
+            assertThat(result.get("en-US")).containsExactly("house");
+            assertThat(result.get("es-ES")).containsExactly("casa");
+            assertThat(stale).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve exigir o glossário de cada idioma no prompt combinado")
+        void shouldApplyGlossaryPerLocale() {
+            // Given
+            when(glossaryService.forPair("pt-BR", "en-US")).thenReturn(new AhoCorasickAutomaton(List.of(
+                new GlossaryEntry("Carrinho de compras", "Shopping cart"))));
+            when(bedrockClient.converse(any(ConverseRequest.class))).thenReturn(createMockConverseResponse(
+                "### en-US\nEmpty shopping cart\n### es-ES\nVaciar carrito", "request-multi-glossary"));
+
+            // When
+            Map<String, List<String>> result = translationService.translateTermsToLocales(
+                "pt-BR", Arrays.asList("en-US", "es-ES"), List.of("Esvaziar carrinho de compras"));
+
+            // Then
+            assertThat(result.get("en-US")).containsExactly("Empty shopping cart");
+            ArgumentCaptor<ConverseRequest> captor = ArgumentCaptor.forClass(ConverseRequest.class);
+            verify(bedrockClient).converse(captor.capture());
+            assertThat(captor.getValue().system().get(0).text())
+                .contains("Na seção ### en-US:")
+                .contains("\"Carrinho de compras\" => \"Shopping cart\"")
+                .doesNotContain("### es-ES:");
+        }
+
+        @Test
+        @DisplayName("Deve responder do cache os idiomas completos e armazenar as traduções novas")
+        void shouldUseAndFillCache() {
+            // Given
+            List<String> terms = List.of("casa", "carro");
+            when(translationCache.cachedTranslations("pt-BR", "en-US", terms)).thenReturn(List.of("house", "car"));
+            when(translationCache.cachedTranslations("pt-BR", "es-ES", terms)).thenReturn(Arrays.asList("casa", null));
+            when(bedrockClient.converse(any(ConverseRequest.class)))
+                .thenReturn(createMockConverseResponse("### es-ES\ncoche", "request-multi-cache"));
+
+            // When
+            Map<String, List<String>> result = translationService.translateTermsToLocales(
+                "pt-BR", Arrays.asList("en-US", "es-ES"), terms);
+
+            // Then
+            assertThat(result.get("en-US")).containsExactly("house", "car");
+            assertThat(result.get("es-ES")).containsExactly("casa", "coche");
+            ArgumentCaptor<ConverseRequest> captor = ArgumentCaptor.forClass(ConverseRequest.class);
+            verify(bedrockClient).converse(captor.capture());
+            assertThat(captor.getValue().messages().get(0).content().get(0).text())
+                .contains("carro").doesNotContain("casa");
+            verify(translationCache).storeAll("pt-BR", "es-ES", List.of("carro"), List.of("coche"));
+        }
+    }
+
+    @Nested
+    @DisplayName("translateTerms - Níveis de modelo")
+    class ModelTieringTests {
+
+        @BeforeEach
+        void enableTiering() {
+            ReflectionTestUtils.setField(modelTierPolicy, "enabled", true);
+            ReflectionTestUtils.setField(modelTierPolicy, "fastModelId", "anthropic.claude-3-haiku-20240307-v1:0");
+            ReflectionTestUtils.setField(modelTierPolicy, "fastMaxChars", 40);
+            ReflectionTestUtils.setField(modelTierPolicy, "fastMaxWords", 5);
+        }
+
+        @Test
+        @DisplayName("Deve enviar termos curtos ao modelo rápido e frases ao modelo padrão, preservando a ordem")
+        void shouldRouteEachTierToItsModel() {
+            // Given
+            String sentence = "Sua assinatura expira amanhã. Renove agora para não perder o acesso.";
+            List<String> terms = Arrays.asList("Salvar", sentence, "Cancelar");
+            when(bedrockClient.converse(any(ConverseRequest.class))).thenAnswer(invocation -> {
+                ConverseRequest request = invocation.getArgument(0);
+                String reply = request.modelId().contains("haiku")
+                    ? "Save\nCancel"
+                    : "Your subscription expires tomorrow. Renew now to keep access.";
+                return createMockConverseResponse(reply, "request-tier");
+            });
+
+            // When
+            List<String> result = translationService.translateTerms("pt-BR", "en-US", terms);
+
+            // Then
+            assertThat(result).containsExactly("Save", "Your subscription expires tomorrow. Renew now to keep access.", "Cancel");
+            ArgumentCaptor<ConverseRequest> captor = ArgumentCaptor.forClass(ConverseRequest.class);
+            verify(bedrockClient, times(2)).converse(captor.capture());
+            assertThat(captor.getAllValues()).extracting(ConverseRequest::modelId)
+                .containsExactlyInAnyOrder("anthropic.claude-3-haiku-20240307-v1:0", "anthropic.claude-3-sonnet-20240229-v1:0");
+            assertThat(meterRegistry.counter("translate.model.terms", "tier", "fast").count()).isEqualTo(2);
+            assertThat(meterRegistry.counter("translate.model.terms", "tier", "standard").count()).isEqualTo(1);
+            assertThat(meterRegistry.find("translate.model.latency").tag("tier", "fast").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve manter o desalinhamento de um nível visível para que o cache não armazene o resultado")
+        void shouldKeepTierMisalignmentVisibleToCache() {
+            // Given
+            String sentence = "Sua assinatura expira amanhã. Renove agora para não perder o acesso.";
+            List<String> terms = Arrays.asList("Salvar", sentence, "Cancelar");
+            when(bedrockClient.converse(any(ConverseRequest.class))).thenAnswer(invocation -> {
+                ConverseRequest request = invocation.getArgument(0);
+                String reply = request.modelId().contains("haiku")
+                    ? "Save"
+                    : "Your subscription expires tomorrow. Renew now to keep access.";
+                return createMockConverseResponse(reply, "request-tier");
+            });
+            List<List<String>> loaded = new ArrayList<>();
+            doAnswer(invocation -> {
+                List<String> translated = invocation.<Function<List<String>, List<String>>>getArgument(4)
+                    .apply(invocation.getArgument(2));
+                loaded.add(translated);
+                return translated;
+            }).when(translationCache).translate(anyString(), anyString(), anyList(), anyBoolean(), any());
+
+            // When
+            translationService.translateTerms("pt-BR", "en-US", terms);
+
+            // Then
+            assertThat(loaded).hasSize(1);
+            assertThat(loaded.get(0)).containsExactly("Save", "Your subscription expires tomorrow. Renew now to keep access.");
+        }
+
+        @Test
+        @DisplayName("Deve usar somente o modelo padrão quando o nível rápido está desabilitado")
+        void shouldUseStandardModelWhenDisabled() {
+            // Given
+            ReflectionTestUtils.setField(modelTierPolicy, "enabled", false);
+            when(bedrockClient.converse(any(ConverseRequest.class)))
+                .thenReturn(createMockConverseResponse("Save", "request-standard"));
+
+            // When
+            translationService.translateTerms("pt-BR", "en-US", List.of("Salvar"));
+
+            // Then
+            ArgumentCaptor<ConverseRequest> captor = ArgumentCaptor.forClass(ConverseRequest.class);
+            verify(bedrockClient).converse(captor.capture());
+            assertThat(captor.getValue().modelId()).isEqualTo("anthropic.claude-3-sonnet-20240229-v1:0");
+        }
+    }
+
+    @Nested
+    @DisplayName("translateTerms - Glossário")
+    class GlossaryTests {
+
+        @BeforeEach
+        void setUpGlossary() {
+            lenient().when(glossaryService.forPair("pt-BR", "en-US")).thenReturn(new AhoCorasickAutomaton(List.of(
+                new GlossaryEntry("Carrinho de compras", "Shopping cart"),
+                new GlossaryEntry("Pix", "Pix"))));
+        }
+
+        @Test
+        @DisplayName("Deve responder correspondências exatas sem chamar o modelo")
+        void shouldAnswerExactMatchesWithoutModel() {
+            // When
+            List<String> result = translationService.translateTerms("pt-BR", "en-US", List.of("carrinho de compras ", "PIX"));
+
+            // Then
+            assertThat(result).containsExactly("Shopping cart", "Pix");
+            verify(bedrockClient, never()).converse(any(ConverseRequest.class));
+        }
+
+        @Test
+        @DisplayName("Deve enviar só os termos pendentes e exigir o glossário no prompt")
+        void shouldSendPendingTermsWithGlossaryConstraints() {
+            // Given
+            when(bedrockClient.converse(any(ConverseRequest.class)))
+                .thenReturn(createMockConverseResponse("Empty shopping cart\nHello", "request-glossary"));
+
+            // When
+            List<String> result = translationService.translateTerms("pt-BR", "en-US",
+                List.of("Esvaziar carrinho de compras", "Pix", "Olá"));
+
+            // Then
+            assertThat(result).containsExactly("Empty shopping cart", "Pix", "Hello");
+            ArgumentCaptor<ConverseRequest> captor = ArgumentCaptor.forClass(ConverseRequest.class);
+            verify(bedrockClient).converse(captor.capture());
+            assertThat(captor.getValue().system().get(0).text()).contains("\"Carrinho de compras\" => \"Shopping cart\"");
+            assertThat(captor.getValue().messages().get(0).content().get(0).text())
+                .contains("Esvaziar carrinho de compras\nOlá\n")
+                .doesNotContain("Pix");
+        }
+
+        @Test
+        @DisplayName("Deve manter o termo original quando o modelo devolve menos linhas que o pendente")
+        void shouldKeepOriginalWhenModelReturnsFewerLines() {
+            // Given
+            when(bedrockClient.converse(any(ConverseRequest.class)))
+                .thenReturn(createMockConverseResponse("Hello", "request-glossary-short"));
+
+            // When
+            List<String> result = translationService.translateTerms("pt-BR", "en-US", List.of("Olá", "Pix", "Tchau"));
+
+            // Then
+            assertThat(result).containsExactly("Hello", "Pix", "Tchau");
+        }
+    }
+
+    @Nested
+    @DisplayName("translateTerms - Caminho local e marcadores")
+    class LocalFastPathTests {
+
+        @Test
+        @DisplayName("Deve responder termos não traduzíveis sem chamar o modelo")
+        void shouldAnswerNonTranslatableTermsLocally() {
+            // When
+            List<String> result = translationService.translateTerms("pt-BR", "en-US",
+                List.of("42", "https://exemplo.com", "SKU-991", "{0}", "..."));
+
+            // Then
+            assertThat(result).containsExactly("42", "https://exemplo.com", "SKU-991", "{0}", "...");
+            verify(bedrockClient, never()).converse(any(ConverseRequest.class));
+        }
+
+        @Test
+        @DisplayName("Deve mascarar marcadores no prompt e restaurá-los na resposta")
+        void shouldMaskAndRestorePlaceholders() {
+            // Given
+            when(bedrockClient.converse(any(ConverseRequest.class)))
+                .thenReturn(createMockConverseResponse("You have {0} new {1}messages{2}", "request-mask"));
+
+            // When
+            List<String> result = translationService.translateTerms("pt-BR", "en-US",
+                List.of("suporte@exemplo.com", "Você tem %d novas <b>mensagens</b>"));
+
+            // Then
+            assertThat(result).containsExactly("suporte@exemplo.com", "You have %d new <b>messages</b>");
+            ArgumentCaptor<ConverseRequest> captor = ArgumentCaptor.forClass(ConverseRequest.class);
+            verify(bedrockClient).converse(captor.capture());
+            assertThat(captor.getValue().messages().get(0).content().get(0).text())
+                .endsWith("Você tem {0} novas {1}mensagens{2}\n")
+                .doesNotContain("suporte@exemplo.com");
+            assertThat(captor.getValue().system().get(0).text()).contains("Marcadores no formato {0}");
+        }
+
+        @Test
+        @DisplayName("Deve manter o termo original quando a tradução perde um marcador")
+        void shouldKeepOriginalWhenTokenIsLost() {
+            // Given
+            when(bedrockClient.converse(any(ConverseRequest.class)))
+                .thenReturn(createMockConverseResponse("Hello", "request-mask-lost"));
+
+            // When
+            List<String> result = translationService.translateTerms("pt-BR", "en-US", List.of("Olá {name}"));
+
+            // Then
+            assertThat(result).containsExactly("Olá {name}");
+        }
+    }
+
+    @Nested
+    @DisplayName("translateTerms - Idioma de origem automático")
+    class AutoDetectionTests {
+
+        @Test
+        @DisplayName("Deve traduzir cada idioma detectado em um sub-lote e devolver na ordem original")
+        void shouldTranslateSubBatchesPerDetectedLocale() {
+            // Given
+            List<String> terms = List.of("Sair da conta", "Cerrar sesión", "Salvar alterações");
+            when(languageDetector.groupBySourceLocale(terms)).thenReturn(Map.of(
+                "pt-BR", List.of(0, 2),
+                "es-ES", List.of(1)));
+            when(bedrockClient.converse(any(ConverseRequest.class))).thenAnswer(invocation -> {
+                ConverseRequest request = invocation.getArgument(0);
+                String system = request.system().get(0).text();
+                return createMockConverseResponse(system.contains("'es-ES'") ? "Sign out" : "Log out\nSave changes", "request-auto");
+            });
+
+            // When
+            List<String> result = translationService.translateTerms("auto", "en-US", terms);
+
+            // Then
+            assertThat(result).containsExactly("Log out", "Sign out", "Save changes");
+        }
+
+        @Test
+        @DisplayName("Deve enviar ao modelo sem idioma de origem os termos que a detecção não decidiu")
+        void shouldSendUndecidedTermsWithoutSourceLocale() {
+            // Given
+            List<String> terms = List.of("Olá", "Your order has shipped");
+            when(languageDetector.groupBySourceLocale(terms)).thenReturn(Map.of(
+                "en-US", List.of(1),
+                LanguageDetector.UNDETERMINED, List.of(0)));
+            when(bedrockClient.converse(any(ConverseRequest.class)))
+                .thenReturn(createMockConverseResponse("Hello", "request-und"));
+
+            // When
+            List<String> result = translationService.translateTerms("auto", "en-US", terms);
+
+            // Then
+            assertThat(result).containsExactly("Hello", "Your order has shipped");
+            ArgumentCaptor<ConverseRequest> captor = ArgumentCaptor.forClass(ConverseRequest.class);
+            verify(bedrockClient).converse(captor.capture());
+            assertThat(captor.getValue().system().get(0).text())
+                .contains("idioma não informado")
+                .doesNotContain("'und'");
+        }
+
+        @Test
+        @DisplayName("Deve devolver sem chamar o modelo os termos já no idioma de destino")
+        void shouldKeepTermsAlreadyInDestinationLanguage() {
+            // Given
+            List<String> terms = List.of("Save changes", "Your order has shipped");
+            when(languageDetector.groupBySourceLocale(terms)).thenReturn(Map.of("en-US", List.of(0, 1)));
+
+            // When
+            List<String> result = translationService.translateTerms("AUTO", "en-GB", terms);
+
+            // Then
+            assertThat(result).containsExactlyElementsOf(terms);
+            verify(bedrockClient, never()).converse(any(ConverseRequest.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("translateTerms - Circuito do Bedrock aberto")
+    class CircuitOpenTests {
+
+        @BeforeEach
+        void openCircuit() {
+            doThrow(new CircuitOpenException("Serviço de tradução temporariamente indisponível", Duration.ofSeconds(30)))
+                .when(circuitBreaker).execute(any());
+        }
+
+        @Test
+        @DisplayName("Deve responder com traduções armazenadas e marcar a resposta como stale")
+        void shouldServeStaleTranslations() {
+            // Given
+            List<String> terms = List.of("casa", "carro");
+            when(translationCache.staleTranslations("pt-BR", "en-US", terms)).thenReturn(Arrays.asList("house", "car"));
+
+            // When
+            List<String> result;
+            boolean stale;
+            try (StaleContext.Scope scope = StaleContext.open()) {
+                result = translationService.translateTerms("pt-BR", "en-US", terms);
+                stale = scope.isStale();
+            }
+
+            // Then
+            assertThat(result).containsExactly("house", "car");
+            assertThat(stale).isTrue();
+            assertThat(meterRegistry.counter("translate.breaker.stale-terms").count()).isEqualTo(2);
+            verify(bedrockClient, never()).converse(any(ConverseRequest.class));
+        }
+
+        @Test
+        @DisplayName("Deve falhar rápido quando falta tradução armazenada para algum termo")
+        void shouldFailFastWithoutStaleForEveryTerm() {
+            // Given
+            List<String> terms = List.of("casa", "carro");
+            when(translationCache.staleTranslations("pt-BR", "en-US", terms)).thenReturn(Arrays.asList("house", null));
+
+            // When / Then
+            assertThatThrownBy(() -> translationService.translateTerms("pt-BR", "en-US", terms))
+                .isInstanceOf(CircuitOpenException.class);
+        }
+
+        @Test
+        @DisplayName("Não deve responder com traduções armazenadas a pedidos de outras réplicas")
+        void shouldNotServeStaleToPeers() {
+            // When / Then
+            assertThatThrownBy(() -> translationService.translateOwnedTerms("pt-BR", "en-US", List.of("casa")))
+                .isInstanceOf(CircuitOpenException.class);
+            verify(translationCache, never()).staleTranslations(anyString(), anyString(), anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("refreshTerms - Revalidação do cache")
+    class RefreshTermsTests {
+
+        @Test
+        @DisplayName("Deve retraduzir os termos com o circuito fechado")
+        void shouldRefreshWithClosedCircuit() {
+            // Given
+            when(circuitBreaker.state()).thenReturn(CircuitBreaker.State.CLOSED);
+            when(bedrockClient.converse(any(ConverseRequest.class)))
+                .thenReturn(createMockConverseResponse("house\ncar", "request-refresh"));
+
+            // When
+            List<String> result = translationService.refreshTerms("pt-BR", "en-US", List.of("casa", "carro"));
+
+            // Then
+            assertThat(result).containsExactly("house", "car");
+        }
+
+        @Test
+        @DisplayName("Deve revalidar só os termos pendentes, mantendo as correspondências exatas do glossário")
+        void shouldRefreshOnlyPendingTerms() {
+            // Given
+            when(circuitBreaker.state()).thenReturn(CircuitBreaker.State.CLOSED);
+            when(glossaryService.forPair("pt-BR", "en-US")).thenReturn(new AhoCorasickAutomaton(List.of(
+                new GlossaryEntry("Pix", "Pix"))));
+            when(bedrockClient.converse(any(ConverseRequest.class)))
+                .thenReturn(createMockConverseResponse("house", "request-refresh-glossary"));
+
+            // When
+            List<String> result = translationService.refreshTerms("pt-BR", "en-US", List.of("Pix", "casa"));
+
+            // Then
+            assertThat(result).containsExactly("Pix", "house");
+            ArgumentCaptor<ConverseRequest> captor = ArgumentCaptor.forClass(ConverseRequest.class);
+            verify(bedrockClient).converse(captor.capture());
+            assertThat(captor.getValue().messages().get(0).content().get(0).text()).doesNotContain("Pix");
+            verify(translationMemory).store("pt-BR", "en-US", List.of("casa"), List.of("house"));
+        }
+
+        @Test
+        @DisplayName("Não deve chamar o modelo para revalidar enquanto o circuito não está fechado")
+        void shouldSkipRefreshUnlessCircuitClosed() {
+            // Given
+            when(circuitBreaker.state()).thenReturn(CircuitBreaker.State.HALF_OPEN);
+
+            // When / Then
+            assertThatThrownBy(() -> translationService.refreshTerms("pt-BR", "en-US", List.of("casa")))
+                .isInstanceOf(IllegalStateException.class);
+            verify(bedrockClient, never()).converse(any(ConverseRequest.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("translateTerms - Prazo da requisição")
+    class DeadlineTests {
+
+        @Test
+        @DisplayName("Deve recusar sem chamar o modelo quando o prazo já expirou")
+        void shouldRejectExpiredDeadlineBeforeCallingModel() {
+            // Given
+            Deadline deadline = Deadline.after(Duration.ZERO);
+
+            // When / Then
+            try (Deadline.Scope scope = Deadline.attach(deadline)) {
+                assertThatThrownBy(() -> translationService.translateTerms("pt-BR", "en-US", List.of("casa")))
+                    .isInstanceOf(DeadlineExceededException.class);
+            }
+            verify(bedrockClient, never()).converse(any(ConverseRequest.class));
+        }
+
+        @Test
+        @DisplayName("Deve limitar a chamada ao Bedrock ao tempo restante do prazo")
+        void shouldBoundApiCallTimeoutByRemainingBudget() {
+            // Given
+            ArgumentCaptor<ConverseRequest> captor = ArgumentCaptor.forClass(ConverseRequest.class);
+            when(bedrockClient.converse(captor.capture())).thenReturn(createMockConverseResponse("house", "request-deadline"));
+
+            // When
+            try (Deadline.Scope scope = Deadline.attach(Deadline.after(Duration.ofSeconds(5)))) {
+                translationService.translateTerms("pt-BR", "en-US", List.of("casa"));
+            }
+
+            // Then
+            Duration apiCallTimeout = captor.getValue().overrideConfiguration().orElseThrow().apiCallTimeout().orElseThrow();
+            assertThat(apiCallTimeout).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(5));
+        }
+
+        @Test
+        @DisplayName("Deve abortar a chamada em andamento quando o cliente cancela e contar o desperdício")
+        void shouldAbortInFlightCallOnCancel() {
+            // Given
+            Deadline deadline = Deadline.unbounded();
+            CountDownLatch started = new CountDownLatch(1);
+            when(bedrockClient.converse(any(ConverseRequest.class))).thenAnswer(invocation -> {
+                started.countDown();
+                Thread.sleep(Duration.ofSeconds(30));
+                return createMockConverseResponse("house", "request-abandoned");
+            });
+            Thread.ofVirtual().start(() -> {
+                try {
+                    started.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                deadline.cancel();
+            });
+
+            // When / Then
+            try (Deadline.Scope scope = Deadline.attach(deadline)) {
+                assertThatThrownBy(() -> translationService.translateTerms("pt-BR", "en-US", List.of("casa")))
+                    .isInstanceOf(DeadlineExceededException.class)
+                    .hasMessageContaining("cancelada");
+            }
+            assertThat(meterRegistry.counter("translate.model.wasted", "reason", "cancelled").count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("translateTerms - Contabilização por tenant")
+    class TenantAccountingTests {
+
+        @Test
+        @DisplayName("Deve contabilizar o uso de tokens da resposta para o tenant da requisição")
+        void shouldRecordUsageForTenant() {
+            // Given
+            TokenUsage usage = TokenUsage.builder().inputTokens(120).outputTokens(30).totalTokens(150).build();
+            when(bedrockClient.converse(any(ConverseRequest.class)))
+                .thenReturn(createMockConverseResponse("house", "request-tenant").toBuilder().usage(usage).build());
+
+            // When
+            try (TenantContext.Scope scope = TenantContext.attach("acme")) {
+                translationService.translateTerms("pt-BR", "en-US", List.of("casa"));
+            }
+
+            // Then
+            verify(tenantUsage).checkQuota(eq("acme"), anyLong());
+            verify(tenantUsage).record("acme", usage);
+        }
+
+        @Test
+        @DisplayName("Deve recusar antes de chamar o modelo quando a cota do tenant se esgotaria")
+        void shouldRejectBeforeCallingModelWhenQuotaWouldRunOut() {
+            // Given
+            doThrow(new QuotaExceededException("acme", Duration.ofHours(1)))
+                .when(tenantUsage).checkQuota(eq("acme"), anyLong());
+
+            // When / Then
+            try (TenantContext.Scope scope = TenantContext.attach("acme")) {
+                assertThatThrownBy(() -> translationService.translateTerms("pt-BR", "en-US", List.of("casa")))
+                    .isInstanceOf(QuotaExceededException.class);
+            }
+            verify(bedrockClient, never()).converse(any(ConverseRequest.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("translateTerms - Eventos do Flight Recorder")
+    class FlightRecorderTests {
+
+        @Test
+        @DisplayName("Deve gravar eventos de lote, prompt, chamada Converse e parsing")
+        void shouldRecordPipelineEvents() throws Exception {
+            // Given
+            TokenUsage usage = TokenUsage.builder().inputTokens(80).outputTokens(12).totalTokens(92).build();
+            when(bedrockClient.converse(any(ConverseRequest.class)))
+                .thenReturn(createMockConverseResponse("house\ncar", "request-jfr").toBuilder().usage(usage).build());
+            Path file = Files.createTempFile("translate", ".jfr");
+
+            // When
+            try (Recording recording = new Recording()) {
+                recording.enable("sample_bedrock.translate.Translation");
+                recording.enable("sample_bedrock.translate.PromptBuild");
+                recording.enable("sample_bedrock.translate.ModelCall");
+                recording.enable("sample_bedrock.translate.ResponseParse");
+                recording.start();
+                translationService.translateTerms("pt-BR", "en-US", List.of("casa", "carro", "42"));
+                recording.stop();
+                recording.dump(file);
+            }
+
+            // Then
+            Map<String, RecordedEvent> events = new HashMap<>();
+            RecordingFile.readAllEvents(file).forEach(event -> events.put(event.getEventType().getName(), event));
+            Files.delete(file);
+            RecordedEvent modelCall = events.get("sample_bedrock.translate.ModelCall");
+            assertThat(modelCall.getString("model")).isEqualTo("anthropic.claude-3-sonnet-20240229-v1:0");
+            assertThat(modelCall.getString("region")).isEqualTo("us-east-1");
+            assertThat(modelCall.getInt("inputTokens")).isEqualTo(80);
+            assertThat(modelCall.getInt("outputTokens")).isEqualTo(12);
+            assertThat(modelCall.getString("outcome")).isEqualTo("ok");
+            assertThat(events.get("sample_bedrock.translate.PromptBuild").getInt("terms")).isEqualTo(2);
+            assertThat(events.get("sample_bedrock.translate.ResponseParse").getInt("parsedTerms")).isEqualTo(2);
+            RecordedEvent translation = events.get("sample_bedrock.translate.Translation");
+            assertThat(translation.getInt("terms")).isEqualTo(3);
+            assertThat(translation.getInt("resolvedLocally")).isEqualTo(1);
+            assertThat(translation.getString("outcome")).isEqualTo("ok");
+        }
+    }
+
+    @Nested
+    @DisplayName("translateTerms - Pré-tradução especulativa")
+    class SpeculativeTranslationTests {
+
+        @Test
+        @DisplayName("Deve contar só os termos pendentes de clientes e marcar a chamada ao modelo em andamento")
+        void shouldObserveClientDemandAndTrackModelCalls() {
+            // Given
+            when(bedrockClient.converse(any(ConverseRequest.class)))
+                .thenReturn(createMockConverseResponse("house", "request-prefetch"));
+
+            // When
+            translationService.translateTerms("pt-BR", "en-US", List.of("casa", "123"));
+            translationService.translateOwnedTerms("pt-BR", "es-ES", List.of("casa"));
+
+            // Then
+            verify(speculativeTranslator).observe("pt-BR", "en-US", List.of("casa"));
+            verify(speculativeTranslator, never()).observe(eq("pt-BR"), eq("es-ES"), anyList());
+            verify(speculativeTranslator, times(2)).modelCallStarted();
+            verify(speculativeTranslator, times(2)).modelCallFinished();
+        }
+    }
+
+    @Nested
+    @DisplayName("translateTerms - Memória de tradução")
+    class TranslationMemoryTests {
+
+        @Test
+        @DisplayName("Deve reaproveitar quase duplicatas, mandar parecidos como referência e memorizar o resultado")
+        void shouldReuseNearDuplicatesAndReferenceSimilarTerms() {
+            // Given
+            when(translationMemory.isEnabled()).thenReturn(true);
+            when(translationMemory.maxReferences()).thenReturn(10);
+            when(translationMemory.lookup("pt-BR", "en-US", "SALVAR!"))
+                .thenReturn(new TranslationMemory.Match("Salvar", "Save", 1.0, "SAVE!"));
+            when(translationMemory.lookup("pt-BR", "en-US", "Salvar arquivos"))
+                .thenReturn(new TranslationMemory.Match("Salvar arquivo", "Save file", 0.8, null));
+            when(bedrockClient.converse(any(ConverseRequest.class)))
+                .thenReturn(createMockConverseResponse("Save files", "request-memory"));
+
+            // When
+            List<String> result = translationService.translateTerms("pt-BR", "en-US", List.of("SALVAR!", "Salvar arquivos"));
+
+            // Then
+            assertThat(result).containsExactly("SAVE!", "Save files");
+            ArgumentCaptor<ConverseRequest> captor = ArgumentCaptor.forClass(ConverseRequest.class);
+            verify(bedrockClient).converse(captor.capture());
+            assertThat(captor.getValue().system().get(0).text()).contains("\"Salvar arquivo\" => \"Save file\"");
+            assertThat(captor.getValue().messages().get(0).content().get(0).text())
+                .doesNotContain("SALVAR!")
+                .contains("Salvar arquivos");
+            verify(translationMemory).store("pt-BR", "en-US", List.of("Salvar arquivos"), List.of("Save files"));
+        }
+    }
+
+    @Nested
+    @DisplayName("translateLocally - Modo parcial")
+    class TranslateLocallyTests {
+
+        @Test
+        @DisplayName("Deve responder só com glossário, termos sem conteúdo e cache, deixando null nas demais posições")
+        void shouldAnswerOnlyWhatIsAvailableLocally() {
+            // Given
+            when(glossaryService.forPair("pt-BR", "en-US")).thenReturn(new AhoCorasickAutomaton(List.of(
+                new GlossaryEntry("Pix", "Pix"))));
+            when(translationCache.cachedTranslations("pt-BR", "en-US", List.of("casa", "carro")))
+                .thenReturn(Arrays.asList("house", null));
+
+            // When
+            List<String> result = translationService.translateLocally("pt-BR", "en-US", List.of("casa", "123", "Pix", "carro"));
+
+            // Then
+            assertThat(result).containsExactly("house", "123", "Pix", null);
+            verify(bedrockClient, never()).converse(any(ConverseRequest.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("translateTerms - Histogramas de latência")
+    class LatencyTests {
+
+        @Test
+        @DisplayName("Deve gravar as etapas Bedrock e parsing por par de idiomas e modelo e marcar a requisição")
+        void shouldRecordStagesByLocalePairAndModel() {
+            // Given
+            when(bedrockClient.converse(any(ConverseRequest.class)))
+                .thenReturn(createMockConverseResponse("house", "request-latency"));
+            LatencyContext.Tags tags = new LatencyContext.Tags(System.nanoTime());
+
+            // When
+            try (LatencyContext.Scope scope = LatencyContext.attach(tags)) {
+                translationService.translateTerms("pt-BR", "en-US", List.of("casa"));
+            }
+
+            // Then
+            String model = "anthropic.claude-3-sonnet-20240229-v1:0";
+            verify(latencyHistograms).record(eq(LatencyStage.BEDROCK), eq("pt-BR->en-US"), eq(model), anyLong());
+            verify(latencyHistograms).record(eq(LatencyStage.PARSE), eq("pt-BR->en-US"), eq(model), anyLong());
+            LatencyHistograms histograms = new LatencyHistograms();
+            ReflectionTestUtils.setField(histograms, "enabled", true);
+            ReflectionTestUtils.setField(histograms, "interval", Duration.ofMinutes(1));
+            ReflectionTestUtils.setField(histograms, "window", Duration.ofMinutes(5));
+            ReflectionTestUtils.setField(histograms, "maxSeries", 10);
+            histograms.recordRequest(tags, System.nanoTime());
+            ReflectionTestUtils.invokeMethod(histograms, "rotate");
+            assertThat(histograms.snapshot(LatencyStage.HTTP))
+                .singleElement()
+                .satisfies(snapshot -> assertThat(snapshot.localePair()).isEqualTo("pt-BR->en-US"));
+        }
+    }
+
     // Método auxiliar para criar ConverseResponse usando builders
     private ConverseResponse createMockConverseResponse(String translatedText, String requestId) {
         ContentBlock contentBlock = ContentBlock.fromText(translatedText);
@@ -0,0 +1,240 @@
+package sample_bedrock.translate.service.files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import sample_bedrock.translate.admission.AdmissionController;
+import sample_bedrock.translate.service.StreamingTranslationService;
+import sample_bedrock.translate.service.TranslationService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FileTranslationService Tests")
+class FileTranslationServiceTest {
+
+    @Mock
+    private TranslationService translationService;
+
+    private StreamingTranslationService streamingTranslationService;
+    private FileTranslationService fileTranslationService;
+
+    @BeforeEach
+    void setUp() {
+        // "Tradução" previsível: maiúsculas, para conferir onde cada valor foi parar
+        lenient().when(translationService.translateTerms(anyString(), anyString(), anyList()))
+            .thenAnswer(invocation -> invocation.<List<String>>getArgument(2).stream()
+                .map(term -> term.toUpperCase(Locale.ROOT))
+                .toList());
+
+        streamingTranslationService = new StreamingTranslationService();
+        ReflectionTestUtils.setField(streamingTranslationService, "translationService", translationService);
+        ReflectionTestUtils.setField(streamingTranslationService, "admissionController", new AdmissionController());
+        ReflectionTestUtils.setField(streamingTranslationService, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(streamingTranslationService, "chunkSize", 2);
+        ReflectionTestUtils.setField(streamingTranslationService, "maxInFlightChunks", 2);
+
+        fileTranslationService = new FileTranslationService();
+        ReflectionTestUtils.setField(fileTranslationService, "streamingTranslationService", streamingTranslationService);
+        ReflectionTestUtils.setField(fileTranslationService, "chunkSize", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(streamingTranslationService, "shutdown");
+    }
+
+    @Nested
+    @DisplayName("JSON")
+    class JsonTests {
+
+        @Test
+        @DisplayName("Deve traduzir as strings mantendo chaves, aninhamento e valores não textuais")
+        void shouldTranslateStringsPreservingStructure() throws Exception {
+            // Given
+            String file = "{\"cart\":{\"title\":\"carrinho\",\"count\":3,\"empty\":\"\"},"
+                + "\"steps\":[\"pagar\",\"enviar\",\"aspas \\\"x\\\"\"],\"enabled\":true}";
+
+            // When
+            String result = translate(ResourceFormat.JSON, file);
+
+            // Then
+            assertThat(new ObjectMapper().readTree(result)).isEqualTo(new ObjectMapper().readTree(
+                "{\"cart\":{\"title\":\"CARRINHO\",\"count\":3,\"empty\":\"\"},"
+                    + "\"steps\":[\"PAGAR\",\"ENVIAR\",\"ASPAS \\\"X\\\"\"],\"enabled\":true}"));
+        }
+
+        @Test
+        @DisplayName("Deve manter o texto de origem nos valores faltantes sem deslocar o bloco seguinte")
+        void shouldKeepChunkBoundariesOnMisalignedResponse() throws Exception {
+            // Given: o modelo devolve só o primeiro valor do primeiro bloco
+            when(translationService.translateTerms("pt-BR", "en-US", List.of("um", "dois")))
+                .thenReturn(List.of("ONE"));
+            String file = "{\"a\":\"um\",\"b\":\"dois\",\"c\":\"tres\",\"d\":\"quatro\"}";
+
+            // When
+            String result = translate(ResourceFormat.JSON, file);
+
+            // Then
+            assertThat(new ObjectMapper().readTree(result)).isEqualTo(new ObjectMapper().readTree(
+                "{\"a\":\"ONE\",\"b\":\"dois\",\"c\":\"TRES\",\"d\":\"QUATRO\"}"));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar JSON malformado como argumento inválido")
+        void shouldRejectMalformedJson() {
+            assertThatThrownBy(() -> translate(ResourceFormat.JSON, "{\"a\":\"b\""))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("JSON inválido");
+        }
+    }
+
+    @Nested
+    @DisplayName(".properties")
+    class PropertiesTests {
+
+        @Test
+        @DisplayName("Deve preservar comentários, chaves e separadores e juntar linhas de continuação")
+        void shouldPreserveCommentsAndJoinContinuations() throws Exception {
+            // Given
+            String file = "# Mensagens da loja\n"
+                + "cart.title = carrinho\n"
+                + "\n"
+                + "! outro comentário\n"
+                + "cart.help:adicione \\\n"
+                + "    itens\n"
+                + "cart.empty=\n"
+                + "greeting=olá\\tmundo\n";
+
+            // When
+            String result = translate(ResourceFormat.PROPERTIES, file);
+
+            // Then
+            assertThat(result).isEqualTo("# Mensagens da loja\n"
+                + "cart.title = CARRINHO\n"
+                + "\n"
+                + "! outro comentário\n"
+                + "cart.help:ADICIONE ITENS\n"
+                + "cart.empty=\n"
+                + "greeting=OL\\u00C1\\tMUNDO\n");
+        }
+    }
+
+    @Nested
+    @DisplayName("PO")
+    class PoTests {
+
+        @Test
+        @DisplayName("Deve preencher msgstr e formas plurais copiando o cabeçalho e os comentários")
+        void shouldFillMsgstrAndPluralForms() throws Exception {
+            // Given
+            String file = "msgid \"\"\n"
+                + "msgstr \"\"\n"
+                + "\"Language: pt_BR\\n\"\n"
+                + "\n"
+                + "#: src/cart.js:10\n"
+                + "msgctxt \"menu\"\n"
+                + "msgid \"carrinho\"\n"
+                + "msgstr \"\"\n"
+                + "\n"
+                + "msgid \"\"\n"
+                + "\"um \"\n"
+                + "\"item\"\n"
+                + "msgid_plural \"vários itens\"\n"
+                + "msgstr[0] \"\"\n"
+                + "msgstr[1] \"\"\n";
+
+            // When
+            String result = translate(ResourceFormat.PO, file);
+
+            // Then
+            assertThat(result).isEqualTo("msgid \"\"\n"
+                + "msgstr \"\"\n"
+                + "\"Language: pt_BR\\n\"\n"
+                + "\n"
+                + "#: src/cart.js:10\n"
+                + "msgctxt \"menu\"\n"
+                + "msgid \"carrinho\"\n"
+                + "msgstr \"CARRINHO\"\n"
+                + "\n"
+                + "msgid \"\"\n"
+                + "\"um \"\n"
+                + "\"item\"\n"
+                + "msgid_plural \"vários itens\"\n"
+                + "msgstr[0] \"UM ITEM\"\n"
+                + "msgstr[1] \"VÁRIOS ITENS\"\n");
+        }
+    }
+
+    @Nested
+    @DisplayName("XLIFF")
+    class XliffTests {
+
+        @Test
+        @DisplayName("Deve inserir ou substituir o target de cada unidade e gravar o idioma de destino")
+        void shouldInsertTargetsAndSetTargetLanguage() throws Exception {
+            // Given
+            String file = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<xliff version=\"1.2\" xmlns=\"urn:oasis:names:tc:xliff:document:1.2\">\n"
+                + "  <file source-language=\"pt-BR\" datatype=\"plaintext\" original=\"app\">\n"
+                + "    <body>\n"
+                + "      <!-- carrinho -->\n"
+                + "      <trans-unit id=\"1\"><source>carrinho &amp; caixa</source></trans-unit>\n"
+                + "      <trans-unit id=\"2\"><source>pagar</source><target>antigo</target><note>n</note></trans-unit>\n"
+                + "      <trans-unit id=\"3\"><source>ver <g id=\"b\">tudo</g></source></trans-unit>\n"
+                + "    </body>\n"
+                + "  </file>\n"
+                + "</xliff>\n";
+
+            // When
+            String result = translate(ResourceFormat.XLIFF, file);
+
+            // Then
+            assertThat(result)
+                .contains("target-language=\"en-US\"")
+                .contains("<!-- carrinho -->")
+                .contains("<source>carrinho &amp; caixa</source><target>CARRINHO &amp; CAIXA</target></trans-unit>")
+                .contains("<source>pagar</source><target>PAGAR</target><note>n</note></trans-unit>")
+                .contains("<target>ver <g id=\"b\">tudo</g></target>")
+                .doesNotContain("antigo");
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar documentos com DTD")
+        void shouldRejectDoctype() {
+            String file = "<?xml version=\"1.0\"?><!DOCTYPE x [<!ENTITY e SYSTEM \"file:///etc/passwd\">]>"
+                + "<xliff version=\"1.2\"><file><body><trans-unit id=\"1\"><source>&e;</source></trans-unit></body></file></xliff>";
+
+            assertThatThrownBy(() -> translate(ResourceFormat.XLIFF, file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("XLIFF inválido");
+        }
+    }
+
+    private String translate(ResourceFormat format, String file) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        fileTranslationService.translate(format, "pt-BR", "en-US",
+            new ByteArrayInputStream(file.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, output);
+        return output.toString(format.outputCharset(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,48 @@
+package sample_bedrock.translate.service.glossary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AhoCorasickAutomaton Tests")
+class AhoCorasickAutomatonTest {
+
+    private final AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(List.of(
+        new GlossaryEntry("carrinho", "cart"),
+        new GlossaryEntry("Carrinho de compras", "Shopping cart"),
+        new GlossaryEntry("compras", "purchases"),
+        new GlossaryEntry("Pix", "Pix")));
+
+    @Test
+    @DisplayName("Deve reconhecer o termo inteiro ignorando maiúsculas e espaços nas pontas")
+    void shouldMatchWholeTerm() {
+        assertThat(automaton.exactMatch("  CARRINHO DE COMPRAS ")).isEqualTo("Shopping cart");
+        assertThat(automaton.exactMatch("Carrinho de compras vazio")).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve preferir a correspondência mais longa sem sobreposição")
+    void shouldPreferLeftmostLongestMatch() {
+        List<AhoCorasickAutomaton.Match> matches = automaton.findAll("Seu carrinho de compras e suas compras");
+
+        assertThat(matches).extracting(match -> match.entry().target()).containsExactly("Shopping cart", "purchases");
+        assertThat(matches.get(0).start()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar correspondências no meio de palavras")
+    void shouldRespectWordBoundaries() {
+        assertThat(automaton.findAll("Pixel e carrinhos")).isEmpty();
+        assertThat(automaton.findAll("Pague com Pix.")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Autômato vazio não encontra nada")
+    void emptyAutomatonMatchesNothing() {
+        assertThat(AhoCorasickAutomaton.EMPTY.exactMatch("carrinho")).isNull();
+        assertThat(AhoCorasickAutomaton.EMPTY.findAll("carrinho")).isEmpty();
+    }
+}
@@ -0,0 +1,106 @@
+package sample_bedrock.translate.service.glossary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("GlossaryService Tests")
+class GlossaryServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private final GlossaryService glossaryService = new GlossaryService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(glossaryService, "location", directory.toString());
+        ReflectionTestUtils.setField(glossaryService, "reloadInterval", Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        glossaryService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve carregar CSV com aspas e separar por par de idiomas")
+    void shouldLoadCsvByLocalePair() throws Exception {
+        // Given
+        Files.writeString(directory.resolve("produto.csv"), """
+            origin_locale,destination_locale,source,target
+            pt-BR,en-US,"Carrinho de compras","Shopping cart"
+            pt_BR,es-ES,"Frete, grátis","Envío, gratis"
+            """);
+
+        // When
+        glossaryService.start();
+
+        // Then
+        assertThat(glossaryService.forPair("pt-BR", "en-US").exactMatch("carrinho de compras")).isEqualTo("Shopping cart");
+        assertThat(glossaryService.forPair("pt-br", "es-es").exactMatch("Frete, grátis")).isEqualTo("Envío, gratis");
+        assertThat(glossaryService.forPair("pt-BR", "fr-FR").size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve gerar todos os pares de idiomas de cada unidade TMX")
+    void shouldLoadTmxPairs() throws Exception {
+        // Given
+        Files.writeString(directory.resolve("memoria.tmx"), """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <tmx version="1.4"><header srclang="pt-BR"/><body>
+              <tu>
+                <tuv xml:lang="pt-BR"><seg>Sair</seg></tuv>
+                <tuv xml:lang="en-US"><seg>Sign out</seg></tuv>
+                <tuv xml:lang="es-ES"><seg>Cerrar sesión</seg></tuv>
+              </tu>
+            </body></tmx>
+            """);
+
+        // When
+        glossaryService.start();
+
+        // Then
+        assertThat(glossaryService.forPair("pt-BR", "es-ES").exactMatch("Sair")).isEqualTo("Cerrar sesión");
+        assertThat(glossaryService.forPair("en-US", "pt-BR").exactMatch("Sign out")).isEqualTo("Sair");
+        assertThat(glossaryService.current().pairCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Deve trocar o snapshot quando o arquivo muda e mantê-lo se o novo for inválido")
+    void shouldSwapSnapshotOnChangeAndKeepItOnFailure() throws Exception {
+        // Given
+        Path file = directory.resolve("produto.csv");
+        Files.writeString(file, "origin_locale,destination_locale,source,target\npt-BR,en-US,Sair,Exit\n");
+        glossaryService.start();
+        Glossary first = glossaryService.current();
+
+        // When
+        Files.writeString(file, "origin_locale,destination_locale,source,target\npt-BR,en-US,Sair,Sign out\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 5_000));
+
+        // Then
+        assertThat(glossaryService.reloadIfChanged()).isTrue();
+        assertThat(glossaryService.current()).isNotSameAs(first);
+        assertThat(glossaryService.forPair("pt-BR", "en-US").exactMatch("Sair")).isEqualTo("Sign out");
+        assertThat(glossaryService.reloadIfChanged()).isFalse();
+
+        // When
+        Files.writeString(file, "source,target\nSair,Quit\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+        // Then
+        assertThat(glossaryService.reloadIfChanged()).isFalse();
+        assertThat(glossaryService.forPair("pt-BR", "en-US").exactMatch("Sair")).isEqualTo("Sign out");
+    }
+}
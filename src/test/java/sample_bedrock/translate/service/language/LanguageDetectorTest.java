@@ -0,0 +1,91 @@
+package sample_bedrock.translate.service.language;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("LanguageDetector Tests")
+class LanguageDetectorTest {
+
+    private final LanguageDetector languageDetector = new LanguageDetector();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(languageDetector, "profilesLocation", "classpath:language-profiles/*.txt");
+        ReflectionTestUtils.setField(languageDetector, "maxNGramsPerLanguage", 2000);
+        ReflectionTestUtils.setField(languageDetector, "minConfidence", 0.80);
+        ReflectionTestUtils.setField(languageDetector, "minLetters", 4);
+        languageDetector.loadProfiles();
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "Não foi possível salvar as alterações|pt-BR",
+        "Sua assinatura expira amanhã|pt-BR",
+        "Your subscription expires tomorrow|en-US",
+        "Unable to save your changes|en-US",
+        "Tu suscripción caduca mañana|es-ES",
+        "No se han podido guardar los cambios|es-ES",
+        "Votre abonnement expire demain|fr-FR",
+        "Impossible d'enregistrer les modifications|fr-FR",
+        "Ihr Abonnement läuft morgen ab|de-DE",
+        "Änderungen konnten nicht gespeichert werden|de-DE",
+        "Il tuo abbonamento scade domani|it-IT",
+        "Impossibile salvare le modifiche|it-IT"
+    })
+    @DisplayName("Deve identificar o idioma de frases curtas de interface")
+    void shouldDetectShortSentences(String term, String expectedLocale) {
+        assertThat(languageDetector.detect(term)).isEqualTo(expectedLocale);
+    }
+
+    @Test
+    @DisplayName("Não deve decidir sem letras")
+    void shouldNotDecideWithoutLetters() {
+        assertThat(languageDetector.detect("12345 !!")).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve agrupar por idioma e deixar os indecisos sem idioma de origem")
+    void shouldGroupBySourceLocale() {
+        // Given
+        List<String> terms = List.of(
+            "Não foi possível concluir o pagamento", "Your order has been shipped", "OK",
+            "Configurações da conta", "Esqueceu sua senha?");
+
+        // When
+        Map<String, List<Integer>> groups = languageDetector.groupBySourceLocale(terms);
+
+        // Then
+        assertThat(groups).containsOnlyKeys("pt-BR", "en-US", LanguageDetector.UNDETERMINED);
+        assertThat(groups.get("pt-BR")).containsExactly(0, 3, 4);
+        assertThat(groups.get("en-US")).containsExactly(1);
+        assertThat(groups.get(LanguageDetector.UNDETERMINED)).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("Deve detectar cada termo em microssegundos")
+    void shouldDetectInMicroseconds() {
+        String term = "Não foi possível concluir o pagamento";
+        for (int index = 0; index < 20_000; index++) {
+            languageDetector.detect(term);
+        }
+
+        long start = System.nanoTime();
+        int iterations = 20_000;
+        for (int index = 0; index < iterations; index++) {
+            languageDetector.detect(term);
+        }
+        double microsPerTerm = (System.nanoTime() - start) / 1_000.0 / iterations;
+
+        // Limite folgado para ambientes de CI lentos; o valor típico fica na casa de poucos microssegundos
+        assertThat(microsPerTerm).isLessThan(200);
+    }
+}
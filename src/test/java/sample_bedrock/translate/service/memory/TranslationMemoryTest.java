@@ -0,0 +1,142 @@
+package sample_bedrock.translate.service.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import sample_bedrock.translate.warmup.WarmupContext;
+
+@DisplayName("TranslationMemory Tests")
+class TranslationMemoryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TranslationMemory memory;
+
+    @BeforeEach
+    void setUp() {
+        memory = new TranslationMemory();
+        ReflectionTestUtils.setField(memory, "enabled", true);
+        ReflectionTestUtils.setField(memory, "maxEntries", 100);
+        ReflectionTestUtils.setField(memory, "minSimilarity", 0.6);
+        ReflectionTestUtils.setField(memory, "maxReferences", 10);
+        ReflectionTestUtils.setField(memory, "meterRegistry", meterRegistry);
+        memory.init();
+    }
+
+    @Nested
+    @DisplayName("NearDuplicateIndex")
+    class IndexTests {
+
+        @Test
+        @DisplayName("Deve normalizar caixa, espaços e pontuação das pontas sem tocar em marcadores")
+        void shouldNormalizeTerms() {
+            assertThat(NearDuplicateIndex.normalize("  Salvar   Arquivo!! ")).isEqualTo("salvar arquivo");
+            assertThat(NearDuplicateIndex.normalize("¿Ｏｌá?")).isEqualTo("olá");
+            assertThat(NearDuplicateIndex.normalize("{name}.")).isEqualTo("{name}");
+        }
+
+        @Test
+        @DisplayName("Deve achar o termo mais parecido do mesmo par e descartar os mais antigos acima do limite")
+        void shouldFindClosestTermAndEvictOldest() {
+            // Given
+            NearDuplicateIndex<String> index = new NearDuplicateIndex<>(3);
+            index.put("pt-br->en-us", "Finalizar pedido", "Place order");
+            index.put("pt-br->en-us", "Cancelar assinatura", "Cancel subscription");
+            index.put("pt-br->es-es", "Finalizar pedido", "Finalizar pedido");
+
+            // When
+            NearDuplicateIndex.Hit<String> close = index.find("pt-br->en-us", "Finalizar pedidos", 0.6);
+            NearDuplicateIndex.Hit<String> unrelated = index.find("pt-br->en-us", "Alterar senha", 0.6);
+            index.put("pt-br->en-us", "Alterar senha", "Change password");
+
+            // Then
+            assertThat(close.value()).isEqualTo("Place order");
+            assertThat(close.similarity()).isBetween(0.6, 0.99);
+            assertThat(unrelated).isNull();
+            assertThat(index.size()).isEqualTo(3);
+            assertThat(index.find("pt-br->en-us", "Finalizar pedido", 0.6)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar a tradução de um termo igual após normalização, ajustando caixa e pontuação")
+    void shouldReuseNormalizedDuplicates() {
+        // Given
+        memory.store("pt-BR", "en-US", List.of("Salvar arquivo"), List.of("Save file"));
+
+        // When
+        TranslationMemory.Match match = memory.lookup("pt-BR", "en-US", "SALVAR ARQUIVO!");
+
+        // Then
+        assertThat(match.reused()).isEqualTo("SAVE FILE!");
+        assertThat(match.similarity()).isEqualTo(1.0);
+        assertThat(memory.lookup("pt-BR", "en-US", "salvar  arquivo").reused()).isEqualTo("save file");
+        assertThat(meterRegistry.counter(TranslationMemory.METRIC_LOOKUPS, "result", "reused").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve devolver termos parecidos só como referência e nada para termos sem semelhança")
+    void shouldReferenceSimilarTerms() {
+        // Given
+        memory.store("pt-BR", "en-US", List.of("Salvar arquivo"), List.of("Save file"));
+
+        // When
+        TranslationMemory.Match similar = memory.lookup("pt-BR", "en-US", "Salvar arquivos");
+        TranslationMemory.Match otherPair = memory.lookup("pt-BR", "es-ES", "Salvar arquivo");
+
+        // Then
+        assertThat(similar.reused()).isNull();
+        assertThat(similar.source()).isEqualTo("Salvar arquivo");
+        assertThat(similar.translation()).isEqualTo("Save file");
+        assertThat(otherPair).isNull();
+        assertThat(meterRegistry.counter(TranslationMemory.METRIC_LOOKUPS, "result", "referenced").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve memorizar nem responder traduções durante o aquecimento")
+    void shouldIgnoreWarmupTraffic() {
+        // Given
+        WarmupContext.activate();
+        try {
+            memory.store("pt-BR", "en-US", List.of("Carrinho"), List.of("Carrinho"));
+            memory.store("pt-BR", "en-US", List.of("Salvar arquivo"), List.of("Save file"));
+        } finally {
+            WarmupContext.clear();
+        }
+        memory.store("pt-BR", "en-US", List.of("Pedido"), List.of("Order"));
+
+        // When
+        TranslationMemory.Match duringWarmup;
+        WarmupContext.activate();
+        try {
+            duringWarmup = memory.lookup("pt-BR", "en-US", "Pedido");
+        } finally {
+            WarmupContext.clear();
+        }
+
+        // Then
+        assertThat(memory.lookup("pt-BR", "en-US", "carrinho")).isNull();
+        assertThat(memory.size()).isEqualTo(1);
+        assertThat(duringWarmup).isNull();
+        assertThat(memory.lookup("pt-BR", "en-US", "pedido").reused()).isEqualTo("order");
+    }
+
+    @Test
+    @DisplayName("Não deve reaproveitar quando o ajuste não é seguro")
+    void shouldRefuseUnsafeFixUps() {
+        Locale english = Locale.forLanguageTag("en-US");
+        // Tradução não termina com a pontuação do original
+        assertThat(TranslationMemory.fixUp("Pronto.", "準備完了。", "Pronto!", english)).isNull();
+        // Mudar a caixa alteraria o marcador
+        assertThat(TranslationMemory.fixUp("Olá {name}", "Hello {name}", "OLÁ {name}", english)).isNull();
+        assertThat(TranslationMemory.fixUp("¿Salvar?", "¿Guardar?", "¿salvar?", english)).isEqualTo("¿guardar?");
+    }
+}
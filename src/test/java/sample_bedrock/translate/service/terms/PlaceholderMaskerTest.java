@@ -0,0 +1,49 @@
+package sample_bedrock.translate.service.terms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import sample_bedrock.translate.service.terms.PlaceholderMasker.MaskedTerm;
+
+@DisplayName("PlaceholderMasker Tests")
+class PlaceholderMaskerTest {
+
+    @Test
+    @DisplayName("Deve mascarar placeholders e marcação em tokens numerados")
+    void shouldMaskPlaceholdersAndMarkup() {
+        MaskedTerm masked = PlaceholderMasker.mask("Olá <b class=\"x\">${user.name}</b>, você tem %1$d itens em {cart}");
+
+        assertThat(masked.text()).isEqualTo("Olá {0}{1}{2}, você tem {3} itens em {4}");
+        assertThat(masked.placeholders()).containsExactly("<b class=\"x\">", "${user.name}", "</b>", "%1$d", "{cart}");
+    }
+
+    @Test
+    @DisplayName("Deve restaurar os originais mesmo com a ordem alterada pela tradução")
+    void shouldRestoreReorderedTokens() {
+        MaskedTerm masked = PlaceholderMasker.mask("{name} comprou {count} itens");
+
+        assertThat(masked.restore("{1} items bought by {0}")).isEqualTo("{count} items bought by {name}");
+    }
+
+    @Test
+    @DisplayName("Deve sinalizar token perdido, duplicado ou inventado")
+    void shouldRejectBrokenTokens() {
+        MaskedTerm masked = PlaceholderMasker.mask("Olá %s, até {0}");
+
+        assertThat(masked.restore("Hello {0}")).isNull();
+        assertThat(masked.restore("Hello {0} {0} {1}")).isNull();
+        assertThat(masked.restore("Hello {0}, see you {1} {2}")).isNull();
+        assertThat(masked.original()).isEqualTo("Olá %s, até {0}");
+    }
+
+    @Test
+    @DisplayName("Termo sem placeholders não é alterado")
+    void shouldLeavePlainTermsUntouched() {
+        MaskedTerm masked = PlaceholderMasker.mask("Preço: 100% garantido");
+
+        assertThat(masked.isMasked()).isFalse();
+        assertThat(masked.restore("Price: 100% guaranteed")).isEqualTo("Price: 100% guaranteed");
+    }
+}
@@ -0,0 +1,30 @@
+package sample_bedrock.translate.service.terms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("TermClassifier Tests")
+class TermClassifierTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "42", "1.234,56", "-3.5%", "R$ 10,00", "€99", "https://example.com/a?b=1", "www.exemplo.com.br",
+        "suporte@exemplo.com", "SKU-12345", "AB12/X", "X12", "...", " -- ", "→", "{0}", "%s", "<br/>", "{0} / {1}", "&nbsp;", ""
+    })
+    @DisplayName("Deve reconhecer termos sem conteúdo traduzível")
+    void shouldRecognizeNonTranslatableTerms(String term) {
+        assertThat(TermClassifier.isNonTranslatable(term)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "casa", "Olá {0}", "PIX", "Sair", "Você tem %d mensagens", "<b>Salvar</b>", "100 reais", "iPhone 15", "e-mail"
+    })
+    @DisplayName("Deve enviar ao modelo termos com texto traduzível")
+    void shouldKeepTranslatableTerms(String term) {
+        assertThat(TermClassifier.isNonTranslatable(term)).isFalse();
+    }
+}
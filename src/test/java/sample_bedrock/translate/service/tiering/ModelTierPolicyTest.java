@@ -0,0 +1,87 @@
+package sample_bedrock.translate.service.tiering;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import sample_bedrock.translate.service.terms.PlaceholderMasker;
+
+@DisplayName("ModelTierPolicy Tests")
+class ModelTierPolicyTest {
+
+    private final ModelTierPolicy policy = new ModelTierPolicy();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(policy, "enabled", true);
+        ReflectionTestUtils.setField(policy, "fastModelId", "anthropic.claude-3-haiku-20240307-v1:0");
+        ReflectionTestUtils.setField(policy, "fastMaxChars", 40);
+        ReflectionTestUtils.setField(policy, "fastMaxWords", 5);
+        ReflectionTestUtils.setField(policy, "standardOnlyLanguages", Set.of("ja", "zh"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Salvar", "Minha conta", "Esqueci minha senha", "Configurações avançadas"})
+    @DisplayName("Deve enviar rótulos curtos ao nível rápido")
+    void shouldRouteShortLabelsToFastTier(String term) {
+        assertThat(classify("pt-BR", "en-US", term)).isEqualTo(ModelTier.FAST);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "Sua assinatura expira amanhã. Renove agora.",
+        "Clique em <b>Salvar</b>",
+        "Olá, {name}",
+        "Esta é uma frase longa com muitas palavras diferentes",
+        "Linha um\nLinha dois"
+    })
+    @DisplayName("Deve enviar frases, marcação e placeholders ao nível padrão")
+    void shouldRouteComplexTermsToStandardTier(String term) {
+        assertThat(classify("pt-BR", "en-US", term)).isEqualTo(ModelTier.STANDARD);
+    }
+
+    @Test
+    @DisplayName("Deve usar o nível padrão para idiomas configurados como exclusivos")
+    void shouldRouteStandardOnlyLanguagesToStandardTier() {
+        assertThat(classify("pt-BR", "ja-JP", "Salvar")).isEqualTo(ModelTier.STANDARD);
+        assertThat(classify("zh_CN", "en-US", "保存")).isEqualTo(ModelTier.STANDARD);
+    }
+
+    @Test
+    @DisplayName("Deve usar apenas o nível padrão quando o roteamento está desabilitado")
+    void shouldUseStandardTierWhenDisabled() {
+        // Given
+        ReflectionTestUtils.setField(policy, "enabled", false);
+
+        // Then
+        assertThat(classify("pt-BR", "en-US", "Salvar")).isEqualTo(ModelTier.STANDARD);
+    }
+
+    @Test
+    @DisplayName("Deve agrupar as posições por nível mantendo a ordem")
+    void shouldPartitionPositionsByTier() {
+        // Given
+        List<PlaceholderMasker.MaskedTerm> terms = List.of("Salvar", "Olá, {name}", "Cancelar").stream()
+            .map(PlaceholderMasker::mask)
+            .toList();
+
+        // When
+        Map<ModelTier, List<Integer>> tiers = policy.partition("pt-BR", "en-US", terms);
+
+        // Then
+        assertThat(tiers).containsEntry(ModelTier.FAST, List.of(0, 2)).containsEntry(ModelTier.STANDARD, List.of(1));
+    }
+
+    private ModelTier classify(String originLocale, String destinationLocale, String term) {
+        return policy.classify(originLocale, destinationLocale, PlaceholderMasker.mask(term));
+    }
+}
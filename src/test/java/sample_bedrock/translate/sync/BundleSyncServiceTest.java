@@ -0,0 +1,204 @@
+package sample_bedrock.translate.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import sample_bedrock.translate.admission.AdmissionController;
+import sample_bedrock.translate.service.StreamingTranslationService;
+import sample_bedrock.translate.service.TranslationService;
+import sample_bedrock.translate.service.files.FileTranslationService;
+import sample_bedrock.translate.service.files.ResourceFormat;
+import sample_bedrock.translate.sync.BundleSyncService.SyncResult;
+import sample_bedrock.translate.tenant.TenantContext;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BundleSyncService Tests")
+class BundleSyncServiceTest {
+
+    private static final String BUNDLE_V1 = "cart.title=carrinho\ncart.pay=pagar\ncart.ship=enviar\n";
+
+    @Mock
+    private TranslationService translationService;
+
+    @TempDir
+    Path tempDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private StreamingTranslationService streamingTranslationService;
+    private BundleSyncService bundleSyncService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(translationService.translateTerms(anyString(), anyString(), anyList()))
+            .thenAnswer(invocation -> invocation.<List<String>>getArgument(2).stream()
+                .map(term -> term.toUpperCase(Locale.ROOT))
+                .toList());
+
+        streamingTranslationService = new StreamingTranslationService();
+        ReflectionTestUtils.setField(streamingTranslationService, "translationService", translationService);
+        ReflectionTestUtils.setField(streamingTranslationService, "admissionController", new AdmissionController());
+        ReflectionTestUtils.setField(streamingTranslationService, "chunkSize", 2);
+        ReflectionTestUtils.setField(streamingTranslationService, "maxInFlightChunks", 2);
+
+        FileTranslationService fileTranslationService = new FileTranslationService();
+        ReflectionTestUtils.setField(fileTranslationService, "streamingTranslationService", streamingTranslationService);
+        ReflectionTestUtils.setField(fileTranslationService, "chunkSize", 2);
+
+        bundleSyncService = newBundleSyncService(fileTranslationService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(streamingTranslationService, "shutdown");
+    }
+
+    @Test
+    @DisplayName("Deve traduzir apenas chaves novas ou alteradas e reaproveitar as demais do manifesto")
+    void shouldTranslateOnlyAddedOrChangedKeys() throws Exception {
+        // Given
+        sync(BUNDLE_V1, false);
+        clearInvocations(translationService);
+        String v2 = "cart.title=carrinho\ncart.pay=pagar agora\ncart.new=novo\n";
+
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        SyncResult result = sync(v2, false, output);
+
+        // Then
+        assertThat(output.toString(StandardCharsets.UTF_8))
+            .isEqualTo("cart.title=CARRINHO\ncart.pay=PAGAR AGORA\ncart.new=NOVO\n");
+        verify(translationService).translateTerms("pt-BR", "en-US", List.of("pagar agora", "novo"));
+        assertThat(result).isEqualTo(new SyncResult(2, 1, 1));
+        assertThat(meterRegistry.counter(BundleSyncService.METRIC_KEYS, "result", "reused").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve servir bundle inalterado inteiramente do manifesto gravado em disco")
+    void shouldServeUnchangedBundleFromPersistedManifest() throws Exception {
+        // Given
+        sync(BUNDLE_V1, false);
+        clearInvocations(translationService);
+        assertThat(tempDir.resolve("anonymous/checkout/en-us.json")).exists();
+
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        SyncResult result = sync(BUNDLE_V1, false, output);
+
+        // Then
+        assertThat(output.toString(StandardCharsets.UTF_8))
+            .isEqualTo("cart.title=CARRINHO\ncart.pay=PAGAR\ncart.ship=ENVIAR\n");
+        verifyNoInteractions(translationService);
+        assertThat(result).isEqualTo(new SyncResult(0, 3, 0));
+    }
+
+    @Test
+    @DisplayName("Deve retraduzir tudo com full e manter o manifesto quando o sync falha")
+    void shouldRetranslateEverythingWhenFullAndKeepManifestOnFailure() throws Exception {
+        // Given
+        sync(BUNDLE_V1, false);
+        String manifest = Files.readString(tempDir.resolve("anonymous/checkout/en-us.json"));
+        clearInvocations(translationService);
+
+        // When
+        SyncResult result = sync(BUNDLE_V1, true);
+
+        // Then
+        assertThat(result).isEqualTo(new SyncResult(3, 0, 0));
+        verify(translationService).translateTerms(eq("pt-BR"), eq("en-US"), eq(List.of("carrinho", "pagar")));
+        assertThatThrownBy(() -> sync("cart.title=\\u12\n", false))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(Files.readString(tempDir.resolve("anonymous/checkout/en-us.json"))).isEqualTo(manifest);
+    }
+
+    @Test
+    @DisplayName("Não deve gravar no manifesto chaves que ficaram com o texto de origem")
+    void shouldLeaveUntranslatedKeysOutOfManifest() throws Exception {
+        // Given: o modelo devolve só a primeira chave do primeiro bloco
+        when(translationService.translateTerms("pt-BR", "en-US", List.of("carrinho", "pagar")))
+            .thenReturn(List.of("CARRINHO"));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        SyncResult first = sync(BUNDLE_V1, false, output);
+        String manifest = Files.readString(tempDir.resolve("anonymous/checkout/en-us.json"));
+        reset(translationService);
+        when(translationService.translateTerms("pt-BR", "en-US", List.of("pagar"))).thenReturn(List.of("PAGAR"));
+
+        // When
+        SyncResult second = sync(BUNDLE_V1, false);
+
+        // Then
+        assertThat(output.toString(StandardCharsets.UTF_8))
+            .isEqualTo("cart.title=CARRINHO\ncart.pay=pagar\ncart.ship=ENVIAR\n");
+        assertThat(first).isEqualTo(new SyncResult(2, 0, 0));
+        assertThat(manifest).contains("cart.title", "cart.ship").doesNotContain("cart.pay");
+        verify(translationService).translateTerms("pt-BR", "en-US", List.of("pagar"));
+        assertThat(second).isEqualTo(new SyncResult(1, 2, 0));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar nomes de bundle que escapariam do diretório de manifestos")
+    void shouldRejectUnsafeBundleNames() {
+        assertThatThrownBy(() -> bundleSyncService.sync("../etc", ResourceFormat.PROPERTIES, "pt-BR", "en-US", false,
+                new ByteArrayInputStream(new byte[0]), StandardCharsets.UTF_8, new ByteArrayOutputStream()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Nome de bundle inválido");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tenant que escaparia do diretório de manifestos")
+    void shouldRejectUnsafeTenant() {
+        try (TenantContext.Scope scope = TenantContext.attach(TenantContext.fromHeader(".."))) {
+            assertThatThrownBy(() -> sync("cart.title=Carrinho\n", false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Tenant inválido");
+        }
+        assertThat(tempDir.getParent().resolve("checkout")).doesNotExist();
+    }
+
+    private SyncResult sync(String bundle, boolean full) throws Exception {
+        return sync(bundle, full, new ByteArrayOutputStream());
+    }
+
+    private SyncResult sync(String bundle, boolean full, ByteArrayOutputStream output) throws Exception {
+        return bundleSyncService.sync("checkout", ResourceFormat.PROPERTIES, "pt-BR", "en-US", full,
+            new ByteArrayInputStream(bundle.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, output);
+    }
+
+    private BundleSyncService newBundleSyncService(FileTranslationService fileTranslationService) {
+        BundleSyncService service = new BundleSyncService();
+        ReflectionTestUtils.setField(service, "manifestDir", tempDir.toString());
+        ReflectionTestUtils.setField(service, "fileTranslationService", fileTranslationService);
+        ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(service, "meterRegistry", meterRegistry);
+        return service;
+    }
+}
@@ -0,0 +1,68 @@
+package sample_bedrock.translate.tenant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import sample_bedrock.translate.exception.TenantMismatchException;
+
+@DisplayName("TenantResolver Tests")
+class TenantResolverTest {
+
+    @Test
+    @DisplayName("Deve aceitar o header como enviado quando não há chaves configuradas")
+    void shouldTrustHeaderWithoutApiKeys() {
+        // Given
+        TenantResolver resolver = newResolver("");
+
+        // When / Then
+        assertThat(resolver.resolve("acme", null)).isEqualTo("acme");
+        assertThat(resolver.resolve(null, null)).isEqualTo(TenantContext.ANONYMOUS);
+    }
+
+    @Test
+    @DisplayName("Deve tirar o tenant da chave de API e tratar chaves desconhecidas como anônimas")
+    void shouldResolveTenantFromApiKey() {
+        // Given
+        TenantResolver resolver = newResolver("chave-acme=acme,chave-beta=beta");
+
+        // When / Then
+        assertThat(resolver.resolve(null, "chave-acme")).isEqualTo("acme");
+        assertThat(resolver.resolve("beta", "chave-beta")).isEqualTo("beta");
+        assertThat(resolver.resolve(null, "outra")).isEqualTo(TenantContext.ANONYMOUS);
+    }
+
+    @Test
+    @DisplayName("Deve recusar header que não corresponde à chave de API")
+    void shouldRejectTenantNotBoundToApiKey() {
+        // Given
+        TenantResolver resolver = newResolver("chave-acme=acme");
+
+        // When / Then
+        assertThatThrownBy(() -> resolver.resolve("beta", "chave-acme")).isInstanceOf(TenantMismatchException.class);
+        assertThatThrownBy(() -> resolver.resolve("acme", null)).isInstanceOf(TenantMismatchException.class);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar o tenant repassado por outra réplica só com o token de par válido")
+    void shouldTrustForwardedTenantOnlyFromPeers() {
+        // Given
+        TenantResolver resolver = newResolver("chave-acme=acme");
+
+        // When / Then
+        assertThat(resolver.resolveForwarded("beta", "segredo-par", null)).isEqualTo("beta");
+        assertThatThrownBy(() -> resolver.resolveForwarded("beta", "outro", null))
+            .isInstanceOf(TenantMismatchException.class);
+    }
+
+    private TenantResolver newResolver(String apiKeys) {
+        TenantResolver resolver = new TenantResolver();
+        ReflectionTestUtils.setField(resolver, "apiKeys", apiKeys);
+        ReflectionTestUtils.setField(resolver, "peerToken", "segredo-par");
+        resolver.init();
+        return resolver;
+    }
+}
@@ -0,0 +1,162 @@
+package sample_bedrock.translate.tenant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import sample_bedrock.translate.dto.TenantUsageResponse;
+import sample_bedrock.translate.exception.QuotaExceededException;
+import sample_bedrock.translate.warmup.WarmupContext;
+import software.amazon.awssdk.services.bedrockruntime.model.TokenUsage;
+
+@DisplayName("TenantUsage Tests")
+class TenantUsageTest {
+
+    private static final long DAY = Duration.ofDays(1).toMillis();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong(10 * DAY + 1000);
+
+    @TempDir
+    Path tempDir;
+
+    private TenantUsage tenantUsage;
+
+    @BeforeEach
+    void setUp() {
+        tenantUsage = newTenantUsage(tempDir.resolve("tenant-usage.jsonl"));
+    }
+
+    @Test
+    @DisplayName("Deve somar tokens de entrada, saída e chamadas por tenant")
+    void shouldAccumulateUsagePerTenant() {
+        // When
+        tenantUsage.record("acme", TokenUsage.builder().inputTokens(100).outputTokens(40).build());
+        tenantUsage.record("acme", TokenUsage.builder().inputTokens(50).outputTokens(10).build());
+        tenantUsage.record("beta", TokenUsage.builder().inputTokens(7).outputTokens(3).build());
+
+        // Then
+        TenantUsageResponse acme = tenantUsage.snapshot("acme");
+        assertThat(acme.inputTokens()).isEqualTo(150);
+        assertThat(acme.outputTokens()).isEqualTo(50);
+        assertThat(acme.modelCalls()).isEqualTo(2);
+        assertThat(acme.periodTokens()).isEqualTo(200);
+        assertThat(acme.quotaTokens()).isEqualTo(1000);
+        assertThat(tenantUsage.snapshot()).extracting(TenantUsageResponse::tenant).containsExactly("acme", "beta");
+    }
+
+    @Test
+    @DisplayName("Deve recusar quando o uso do período mais a estimativa passaria da cota")
+    void shouldRejectWhenQuotaIsProjectedToRunOut() {
+        // Given
+        tenantUsage.record("acme", 700, 200, 0);
+
+        // When / Then
+        tenantUsage.checkQuota("acme", 100);
+        assertThatThrownBy(() -> tenantUsage.checkQuota("acme", 101))
+            .isInstanceOf(QuotaExceededException.class)
+            .satisfies(e -> assertThat(((QuotaExceededException) e).getRetryAfter())
+                .isEqualTo(Duration.ofMillis(DAY - 1000)));
+        assertThat(meterRegistry.counter(TenantUsage.METRIC_REJECTED).count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve zerar o uso da cota na virada do período e não limitar tenants sem cota")
+    void shouldResetQuotaOnNewPeriod() {
+        // Given
+        tenantUsage.record("acme", 1000, 0, 0);
+        tenantUsage.record("beta", 1_000_000, 0, 0);
+
+        // When
+        now.addAndGet(DAY);
+
+        // Then
+        tenantUsage.checkQuota("acme", 1000);
+        tenantUsage.checkQuota("beta", 1_000_000);
+        assertThat(tenantUsage.snapshot("acme").inputTokens()).isEqualTo(1000);
+        assertThat(tenantUsage.snapshot("acme").periodTokens()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve gravar apenas os incrementos no ledger e restaurar o uso ao reiniciar")
+    void shouldFlushDeltasAndRestoreFromLedger() throws Exception {
+        // Given
+        Path ledger = tempDir.resolve("tenant-usage.jsonl");
+        tenantUsage.record("acme", 600, 100, 0);
+        tenantUsage.flush();
+        tenantUsage.flush();
+        tenantUsage.record("acme", 200, 0, 0);
+        tenantUsage.flush();
+
+        // When
+        TenantUsage restarted = newTenantUsage(ledger);
+
+        // Then
+        assertThat(Files.readAllLines(ledger)).hasSize(2);
+        assertThat(restarted.snapshot("acme").inputTokens()).isEqualTo(800);
+        assertThat(restarted.snapshot("acme").modelCalls()).isEqualTo(2);
+        assertThatThrownBy(() -> restarted.checkQuota("acme", 101)).isInstanceOf(QuotaExceededException.class);
+        restarted.flush();
+        assertThat(Files.readAllLines(ledger)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Não deve contabilizar nem limitar chamadas do aquecimento")
+    void shouldIgnoreWarmupCalls() {
+        // Given
+        tenantUsage.record("acme", 1000, 0, 0);
+
+        // When
+        WarmupContext.activate();
+        try {
+            tenantUsage.checkQuota("acme", 1);
+            tenantUsage.record("anonymous", TokenUsage.builder().inputTokens(100).outputTokens(40).build());
+        } finally {
+            WarmupContext.clear();
+        }
+
+        // Then
+        assertThat(tenantUsage.snapshot()).extracting(TenantUsageResponse::tenant).containsExactly("acme");
+    }
+
+    @Test
+    @DisplayName("Deve exigir tenants associados a chaves de API para aplicar cotas")
+    void shouldRequireApiKeysForQuotas() {
+        // Given
+        TenantUsage usage = new TenantUsage();
+        ReflectionTestUtils.setField(usage, "defaultQuota", 1000L);
+
+        // When / Then
+        assertThatThrownBy(usage::init)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("translate.tenant.api-keys");
+    }
+
+    private TenantUsage newTenantUsage(Path ledger) {
+        TenantUsage usage = new TenantUsage();
+        ReflectionTestUtils.setField(usage, "ledgerFile", ledger.toString());
+        ReflectionTestUtils.setField(usage, "flushInterval", Duration.ofHours(1));
+        ReflectionTestUtils.setField(usage, "quotaPeriod", Duration.ofDays(1));
+        ReflectionTestUtils.setField(usage, "defaultQuota", 0L);
+        ReflectionTestUtils.setField(usage, "quotaOverrides", "acme=1000");
+        ReflectionTestUtils.setField(usage, "tenantApiKeys", "chave-acme=acme");
+        ReflectionTestUtils.setField(usage, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(usage, "meterRegistry", meterRegistry);
+        usage.setClock(now::get);
+        usage.init();
+        return usage;
+    }
+}
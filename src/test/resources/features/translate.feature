@@ -33,3 +33,57 @@ Feature: Translation endpoint behaviour
     Then the response status is 400
     And the response JSON message contains "Lista de termos não pode estar vazia"
     And no translation service call is performed
+
+  Scenario: Tradução para vários idiomas de destino
+    Given a multi-target translation request from "pt-BR" to "en-US,es-ES" with terms:
+      | Bom dia |
+      | Obrigado |
+    And the combined translation returns:
+      | en-US | Good morning | Thank you |
+      | es-ES | Buenos días  | Gracias   |
+    When the client calls POST "/api/v1/translate/multi" with the multi-target payload
+    Then the response status is 200
+    And the response JSON for locale "es-ES" contains translated terms:
+      | Buenos días |
+      | Gracias |
+
+  Scenario: Rejeitar requisição quando o serviço está sobrecarregado
+    Given a translation request from "pt-BR" to "en-US" with terms:
+      | Bom dia |
+    And the translation service is overloaded with retry after 3 seconds
+    When the client calls POST "/api/v1/translate"
+    Then the response status is 429
+    And the response header "Retry-After" is "3"
+
+  Scenario: Tradução via GET com ETag e revalidação sem nova tradução
+    Given a translation request from "pt-BR" to "en-US" with terms:
+      | Carrinho de compras |
+      | Finalizar pedido |
+    And the translation service returns:
+      | Shopping cart |
+      | Checkout |
+    When the client calls GET "/api/v1/translate" with the request terms
+    Then the response status is 200
+    And the response header "Cache-Control" is "max-age=3600, public"
+    And the response JSON contains translated terms:
+      | Shopping cart |
+      | Checkout |
+    When the client repeats the GET with the returned ETag
+    Then the response status is 304
+    And the translation service is invoked 1 time
+
+  Scenario: Tradução via GET respondida pelo cache local sem tradução
+    Given a translation request from "pt-BR" to "en-US" with terms:
+      | Meus pedidos |
+    And the local cache holds:
+      | My orders |
+    When the client calls GET "/api/v1/translate" with the request terms
+    Then the response status is 200
+    And the response JSON contains translated terms:
+      | My orders |
+    And the translation service is invoked 0 times
+
+  Scenario: Rejeitar GET sem termos
+    When the client calls GET "/api/v1/translate?origin_locale=pt-BR&destination_locale=en-US"
+    Then the response status is 400
+    And no translation service call is performed